@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.bench;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.RandomMatrixGenerator;
+
+/**
+ * Common utilities for micro-benchmarks, in particular reproducible 
+ * data generation via the regular rand data generator (LibMatrixDatagen).
+ */
+public class BenchUtils 
+{
+	//fixed seed for reproducible inputs across builds
+	public static final long SEED = 7;
+	public static final int BLOCKSIZE = 1000;
+	
+	/**
+	 * Creates a uniform random matrix in [0,1] with the given sparsity. 
+	 * 
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @param sparsity sparsity
+	 * @param seed seed of the pseudo-random number generator
+	 * @return matrix block
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock generate(int rows, int cols, double sparsity, long seed) 
+		throws DMLRuntimeException 
+	{
+		RandomMatrixGenerator rgen = new RandomMatrixGenerator("uniform", 
+			rows, cols, BLOCKSIZE, BLOCKSIZE, sparsity, 0, 1);
+		MatrixBlock ret = MatrixBlock.randOperations(rgen, seed);
+		ret.examSparsity();
+		return ret;
+	}
+	
+	/**
+	 * Parses a shape parameter of the form "rowsxcols".
+	 * 
+	 * @param shape shape parameter
+	 * @return array of rows and columns
+	 */
+	public static int[] parseShape(String shape) {
+		String[] parts = shape.split("x");
+		return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+	}
+	
+	/**
+	 * Obtains the degree of parallelism, where values &lt;=0 refer
+	 * to the number of virtual cores.
+	 * 
+	 * @param threads thread parameter
+	 * @return degree of parallelism
+	 */
+	public static int getNumThreads(int threads) {
+		return (threads > 0) ? threads : 
+			InfrastructureAnalyzer.getLocalParallelism();
+	}
+	
+	/**
+	 * Creates a copy of the given matrix block in dense or sparse format.
+	 * 
+	 * @param mb matrix block
+	 * @param sparse true for sparse representation
+	 * @return matrix block
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock convert(MatrixBlock mb, boolean sparse) 
+		throws DMLRuntimeException 
+	{
+		MatrixBlock ret = new MatrixBlock();
+		ret.copy(mb, sparse);
+		return ret;
+	}
+}
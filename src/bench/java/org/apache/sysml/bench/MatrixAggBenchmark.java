@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.data.MatrixValue;
+import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks of LibMatrixAgg for full, row, and column aggregates
+ * (sum, max) over dense/sparse, tall-skinny/wide inputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MatrixAggBenchmark 
+{
+	@Param({"100000x100", "10000x1000", "1000x10000"})
+	public String shape;
+	
+	@Param({"1.0", "0.1", "0.01"})
+	public double sparsity;
+	
+	@Param({"uak+", "uark+", "uack+", "uamax"})
+	public String opcode;
+	
+	//degree of parallelism, <=0 refers to the number of virtual cores
+	@Param({"1", "-1"})
+	public int threads;
+	
+	private MatrixBlock _in;
+	private AggregateUnaryOperator _op;
+	
+	@Setup
+	public void setup() throws Exception {
+		int[] dims = BenchUtils.parseShape(shape);
+		_in = BenchUtils.generate(dims[0], dims[1], sparsity, BenchUtils.SEED);
+		AggregateUnaryOperator op = InstructionUtils.parseBasicAggregateUnaryOperator(opcode);
+		_op = new AggregateUnaryOperator(op.aggOp, op.indexFn, BenchUtils.getNumThreads(threads));
+	}
+	
+	@Benchmark
+	public MatrixValue aggregateUnary() throws Exception {
+		return _in.aggregateUnaryOperations(_op, new MatrixBlock(),
+			BenchUtils.BLOCKSIZE, BenchUtils.BLOCKSIZE, new MatrixIndexes(1, 1), true);
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main entry point of the executable benchmark jar (see profile jmh), which 
+ * runs the JMH micro-benchmarks of core matrix kernels. All regular JMH command 
+ * line options are supported (e.g., a benchmark regex, -p threads=1, -f, -wi, -i), 
+ * but unless specified otherwise, all benchmarks of this package are executed 
+ * and the results are written in JSON format to systemml-jmh-results.json for
+ * comparing benchmark results between builds.
+ * 
+ * Example: java -jar systemml-*-benchmarks.jar MatrixMult -p sparsity=1.0 -rff base.json
+ */
+public class MatrixKernelBenchmarks 
+{
+	public static final String DEFAULT_RESULT_FILE = "systemml-jmh-results.json";
+	
+	public static void main(String[] args) 
+		throws Exception 
+	{
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		ChainedOptionsBuilder opts = new OptionsBuilder().parent(cmd);
+		
+		//defaults for benchmark selection and machine-readable results
+		if( cmd.getIncludes().isEmpty() )
+			opts.include(MatrixKernelBenchmarks.class.getPackage().getName()+".*");
+		if( !cmd.getResultFormat().hasValue() )
+			opts.resultFormat(ResultFormatType.JSON);
+		if( !cmd.getResult().hasValue() )
+			opts.result(DEFAULT_RESULT_FILE);
+		
+		new Runner(opts.build()).run();
+	}
+}
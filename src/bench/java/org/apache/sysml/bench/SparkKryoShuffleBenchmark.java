@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.spark.SparkConf;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.scheduler.SparkListener;
+import org.apache.spark.scheduler.SparkListenerTaskEnd;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
+import org.apache.sysml.runtime.instructions.spark.utils.RDDAggregateUtils;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scala.Tuple2;
+
+/**
+ * Local-mode benchmark of a spark shuffle of matrix blocks (sum by key) with 
+ * java and kryo serialization. The elapsed time per shuffle is measured by JMH,
+ * while the shuffle write bytes per shuffle are obtained via a spark listener
+ * and reported at the end of each trial, e.g.,
+ * java -jar systemml-*-benchmarks.jar SparkKryoShuffle
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SparkKryoShuffleBenchmark 
+{
+	private static final int NUM_BLOCKS = 48;
+	private static final int NUM_KEYS = 4;
+	
+	@Param({"java", "kryo"})
+	public String serializer;
+	
+	@Param({"1.0", "0.05"})
+	public double sparsity;
+	
+	private JavaSparkContext _sc;
+	private JavaPairRDD<MatrixIndexes,MatrixBlock> _in;
+	private ShuffleBytesListener _listener;
+	private long _numShuffles;
+	
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		//spark context w/ serializer as configured by systemml
+		boolean kryo = serializer.equals("kryo");
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.SPARK_KRYO, String.valueOf(kryo));
+		ConfigurationManager.setLocalConfig(conf);
+		try {
+			SparkConf sconf = SparkExecutionContext.createSystemMLSparkConf()
+				.setMaster("local[4]").setAppName("Kryo shuffle benchmark")
+				.set("spark.ui.enabled", "false");
+			_sc = new JavaSparkContext(sconf);
+		}
+		finally {
+			ConfigurationManager.clearLocalConfigs();
+		}
+		
+		//cached input blocks (excluded from measurements)
+		List<Tuple2<MatrixIndexes,MatrixBlock>> blocks = new ArrayList<>();
+		for( int i=0; i<NUM_BLOCKS; i++ )
+			blocks.add(new Tuple2<>(new MatrixIndexes(i%NUM_KEYS+1, 1),
+				BenchUtils.generate(BenchUtils.BLOCKSIZE, BenchUtils.BLOCKSIZE, sparsity, BenchUtils.SEED+i)));
+		_in = _sc.parallelizePairs(blocks, 8).persist(StorageLevel.MEMORY_ONLY());
+		_in.count();
+		
+		//register listener after input materialization
+		_listener = new ShuffleBytesListener();
+		_sc.sc().addSparkListener(_listener);
+		_numShuffles = 0;
+	}
+	
+	@Benchmark
+	public long shuffleSumByKey() {
+		_numShuffles++;
+		return RDDAggregateUtils.sumByKeyStable(_in, NUM_KEYS, false).count();
+	}
+	
+	@TearDown(Level.Trial)
+	public void teardown() {
+		//stopping the context drains all pending listener events
+		_sc.stop();
+		System.out.println("Shuffle write w/ " + serializer + " serialization (sparsity=" + sparsity + "): "
+			+ (_listener.bytes.get() / Math.max(_numShuffles, 1)) + " bytes per shuffle");
+	}
+	
+	private static class ShuffleBytesListener extends SparkListener {
+		private final AtomicLong bytes = new AtomicLong(0);
+		
+		@Override
+		public void onTaskEnd(SparkListenerTaskEnd taskEnd) {
+			if( taskEnd.taskMetrics() != null )
+				bytes.addAndGet(taskEnd.taskMetrics().shuffleWriteMetrics().bytesWritten());
+		}
+	}
+}
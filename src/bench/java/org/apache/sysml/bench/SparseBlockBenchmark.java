@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockFactory;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks of the SparseBlock implementations (MCSR, CSR, COO) for
+ * row-wise scans, point lookups, and incremental construction via appends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SparseBlockBenchmark 
+{
+	@Param({"100000x100", "10000x1000", "1000x10000"})
+	public String shape;
+	
+	@Param({"0.1", "0.01", "0.001"})
+	public double sparsity;
+	
+	@Param({"MCSR", "CSR", "COO"})
+	public String type;
+	
+	private static final int NUM_LOOKUPS = 100000;
+	
+	private SparseBlock _sblock;
+	private SparseBlock.Type _type;
+	private int[] _lookupRows;
+	private int[] _lookupCols;
+	
+	@Setup
+	public void setup() throws Exception {
+		int[] dims = BenchUtils.parseShape(shape);
+		MatrixBlock mb = BenchUtils.convert(
+			BenchUtils.generate(dims[0], dims[1], sparsity, BenchUtils.SEED), true);
+		_type = SparseBlock.Type.valueOf(type);
+		_sblock = SparseBlockFactory.copySparseBlock(_type, mb.getSparseBlock(), true);
+		
+		//reproducible random lookup positions
+		Random rand = new Random(BenchUtils.SEED);
+		_lookupRows = new int[NUM_LOOKUPS];
+		_lookupCols = new int[NUM_LOOKUPS];
+		for( int i=0; i<NUM_LOOKUPS; i++ ) {
+			_lookupRows[i] = rand.nextInt(dims[0]);
+			_lookupCols[i] = rand.nextInt(dims[1]);
+		}
+	}
+	
+	@Benchmark
+	public double scan() {
+		double sum = 0;
+		int rlen = _sblock.numRows();
+		for( int i=0; i<rlen; i++ ) {
+			if( _sblock.isEmpty(i) )
+				continue;
+			int apos = _sblock.pos(i);
+			int alen = _sblock.size(i);
+			int[] aix = _sblock.indexes(i);
+			double[] avals = _sblock.values(i);
+			for( int j=apos; j<apos+alen; j++ )
+				sum += avals[j] * aix[j];
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public void get(Blackhole bh) {
+		for( int i=0; i<NUM_LOOKUPS; i++ )
+			bh.consume(_sblock.get(_lookupRows[i], _lookupCols[i]));
+	}
+	
+	@Benchmark
+	public SparseBlock append() {
+		int rlen = _sblock.numRows();
+		SparseBlock ret = SparseBlockFactory.createSparseBlock(_type, rlen);
+		for( int i=0; i<rlen; i++ ) {
+			if( _sblock.isEmpty(i) )
+				continue;
+			int apos = _sblock.pos(i);
+			int alen = _sblock.size(i);
+			int[] aix = _sblock.indexes(i);
+			double[] avals = _sblock.values(i);
+			for( int j=apos; j<apos+alen; j++ )
+				ret.append(i, aix[j], avals[j]);
+		}
+		return ret;
+	}
+}
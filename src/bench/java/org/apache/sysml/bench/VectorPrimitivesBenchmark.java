@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.codegen.VectorPrimitives;
+import org.apache.sysml.runtime.codegen.VectorPrimitivesScalar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks of the dense codegen vector primitives, comparing the
+ * scalar implementation with the SIMD implementation (Java Vector API). 
+ * The simd configuration requires a build with the vector-api profile and
+ * a JDK 16+ fork with the incubating vector module, e.g.,
+ * java -jar systemml-*-benchmarks.jar VectorPrimitives 
+ * -jvmArgsAppend "--add-modules jdk.incubator.vector"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VectorPrimitivesBenchmark 
+{
+	@Param({"scalar", "simd"})
+	public String impl;
+	
+	//vector lengths w/ and w/o remaining tails
+	@Param({"1024", "1031", "65536"})
+	public int len;
+	
+	private VectorPrimitives _vp;
+	private double[] _a;
+	private double[] _b;
+	private double[] _c;
+	
+	@Setup
+	public void setup() throws Exception {
+		_vp = impl.equals("simd") ? (VectorPrimitives) 
+			Class.forName(VectorPrimitives.SIMD_CLASS).newInstance() :
+			new VectorPrimitivesScalar();
+		Random rand = new Random(BenchUtils.SEED);
+		_a = new double[len];
+		_b = new double[len];
+		_c = new double[len];
+		for( int i=0; i<len; i++ ) {
+			_a[i] = rand.nextDouble() * 2 - 1;
+			_b[i] = rand.nextDouble() + 0.5;
+		}
+	}
+	
+	@Benchmark
+	public double vectSum() {
+		return _vp.vectSum(_a, 0, len);
+	}
+	
+	@Benchmark
+	public double vectMin() {
+		return _vp.vectMin(_a, 0, len);
+	}
+	
+	@Benchmark
+	public double vectMax() {
+		return _vp.vectMax(_a, 0, len);
+	}
+	
+	@Benchmark
+	public double[] vectMultAdd() {
+		_vp.vectMultAdd(_a, 0.7, _c, 0, 0, len);
+		return _c;
+	}
+	
+	@Benchmark
+	public double[] vectMultWriteScalar() {
+		_vp.vectMultWrite(_a, 0.7, _c, 0, 0, len);
+		return _c;
+	}
+	
+	@Benchmark
+	public double[] vectMultWriteVector() {
+		_vp.vectMultWrite(_a, _b, _c, 0, 0, 0, len);
+		return _c;
+	}
+	
+	@Benchmark
+	public double[] vectExpWrite() {
+		_vp.vectExpWrite(_a, _c, 0, 0, len);
+		return _c;
+	}
+}
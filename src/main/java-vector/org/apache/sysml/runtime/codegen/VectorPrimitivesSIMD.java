@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.codegen;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * SIMD implementation of selected dense vector primitives via the incubating 
+ * Java Vector API, which maps to the widest available vector registers 
+ * (e.g., AVX-512). This class is only compiled with the vector-api profile 
+ * (JDK 16+) and loaded via reflection if the JVM is started with 
+ * --add-modules jdk.incubator.vector. 
+ * <p>
+ * Note: aggregates use per-lane partial results (e.g., multiple partial sums),
+ * which may cause differences in floating point rounding compared to the
+ * scalar implementation in {@link VectorPrimitivesScalar}. Except for exp, 
+ * all element-wise primitives produce bitwise equal results (no fused 
+ * multiply-add). The vectorized exp (VectorOperators.EXP) is accurate to 1 ulp,
+ * but not bitwise equal to FastMath.exp; the scalar tails use FastMath.exp.
+ */
+public class VectorPrimitivesSIMD implements VectorPrimitives
+{
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	private static final int VLEN = SPECIES.length();
+	
+	public VectorPrimitivesSIMD() {
+		//fallback to scalar primitives if no vector registers available
+		if( VLEN < 2 )
+			throw new RuntimeException("Unsupported vector species: "+SPECIES);
+	}
+	
+	@Override
+	public double vectSum(double[] a, int ai, int len) {
+		final int bn = SPECIES.loopBound(len);
+		
+		//vectorized partial sums w/ two accumulators (for instruction-level parallelism)
+		DoubleVector acc1 = DoubleVector.zero(SPECIES);
+		DoubleVector acc2 = DoubleVector.zero(SPECIES);
+		int i = 0;
+		for( ; i < bn - VLEN; i+=2*VLEN ) {
+			acc1 = acc1.add(DoubleVector.fromArray(SPECIES, a, ai+i));
+			acc2 = acc2.add(DoubleVector.fromArray(SPECIES, a, ai+i+VLEN));
+		}
+		for( ; i < bn; i+=VLEN )
+			acc1 = acc1.add(DoubleVector.fromArray(SPECIES, a, ai+i));
+		double val = acc1.add(acc2).reduceLanes(VectorOperators.ADD);
+		
+		//compute rest
+		for( ; i < len; i++ )
+			val += a[ai+i];
+		return val;
+	}
+	
+	@Override
+	public double vectMin(double[] a, int ai, int len) {
+		final int bn = SPECIES.loopBound(len);
+		DoubleVector acc = DoubleVector.broadcast(SPECIES, Double.MAX_VALUE);
+		int i = 0;
+		for( ; i < bn; i+=VLEN )
+			acc = acc.min(DoubleVector.fromArray(SPECIES, a, ai+i));
+		double val = acc.reduceLanes(VectorOperators.MIN);
+		for( ; i < len; i++ )
+			val = Math.min(a[ai+i], val);
+		return val;
+	}
+	
+	@Override
+	public double vectMax(double[] a, int ai, int len) {
+		final int bn = SPECIES.loopBound(len);
+		DoubleVector acc = DoubleVector.broadcast(SPECIES, -Double.MAX_VALUE);
+		int i = 0;
+		for( ; i < bn; i+=VLEN )
+			acc = acc.max(DoubleVector.fromArray(SPECIES, a, ai+i));
+		double val = acc.reduceLanes(VectorOperators.MAX);
+		for( ; i < len; i++ )
+			val = Math.max(a[ai+i], val);
+		return val;
+	}
+	
+	@Override
+	public void vectMultAdd(double[] a, double bval, double[] c, int ai, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		final DoubleVector bvec = DoubleVector.broadcast(SPECIES, bval);
+		int j = 0;
+		for( ; j < bn; j+=VLEN )
+			DoubleVector.fromArray(SPECIES, a, ai+j).mul(bvec)
+				.add(DoubleVector.fromArray(SPECIES, c, ci+j)).intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] += a[ai+j] * bval;
+	}
+	
+	@Override
+	public void vectMultWrite(double[] a, double bval, double[] c, int ai, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		final DoubleVector bvec = DoubleVector.broadcast(SPECIES, bval);
+		int j = 0;
+		for( ; j < bn; j+=VLEN )
+			DoubleVector.fromArray(SPECIES, a, ai+j).mul(bvec).intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] = a[ai+j] * bval;
+	}
+	
+	@Override
+	public void vectMultWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < bn; j+=VLEN )
+			DoubleVector.fromArray(SPECIES, a, ai+j)
+				.mul(DoubleVector.fromArray(SPECIES, b, bi+j)).intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] = a[ai+j] * b[bi+j];
+	}
+	
+	@Override
+	public void vectExpWrite(double[] a, double[] c, int ai, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < bn; j+=VLEN )
+			DoubleVector.fromArray(SPECIES, a, ai+j)
+				.lanewise(VectorOperators.EXP).intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] = FastMath.exp(a[ai+j]);
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName()+"["+SPECIES+"]";
+	}
+}
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map.Entry;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -30,10 +31,12 @@ import org.apache.sysml.api.DMLException;
 import org.apache.sysml.conf.CompilerConfig;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.conf.CompilerConfig.ConfigType;
+import org.apache.sysml.conf.DMLConfig;
 import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.hops.ipa.FunctionCallGraph;
 import org.apache.sysml.parser.DMLProgram;
 import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.ExternalFunctionProgramBlock;
 import org.apache.sysml.runtime.controlprogram.FunctionProgramBlock;
 import org.apache.sysml.runtime.controlprogram.LocalVariableMap;
 import org.apache.sysml.runtime.controlprogram.Program;
@@ -41,6 +44,7 @@ import org.apache.sysml.runtime.controlprogram.caching.FrameObject;
 import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContextFactory;
+import org.apache.sysml.runtime.controlprogram.parfor.ProgramConverter;
 import org.apache.sysml.runtime.instructions.cp.BooleanObject;
 import org.apache.sysml.runtime.instructions.cp.Data;
 import org.apache.sysml.runtime.instructions.cp.DoubleObject;
@@ -58,6 +62,11 @@ import org.apache.sysml.utils.Explain;
 
 /**
  * Representation of a prepared (precompiled) DML/PyDML script.
+ * 
+ * A prepared script is not thread-safe because it holds the bound inputs
+ * and outputs of its current execution. For concurrent scoring, compile the
+ * script once and obtain a cheap per-thread copy via {@link #clone(boolean)}, 
+ * which shares the compiled runtime program but maintains its own bindings.
  */
 public class PreparedScript 
 {
@@ -72,6 +81,10 @@ public class PreparedScript
 	private Program _prog = null;
 	private LocalVariableMap _vars = null; 
 	
+	//configurations of the compiling connection
+	private DMLConfig _dmlconf = null;
+	private CompilerConfig _cconf = null;
+	
 	/**
 	 * Meant to be invoked only from Connection.
 	 * 
@@ -90,6 +103,29 @@ public class PreparedScript
 		_outVarnames = new HashSet<>();
 		Collections.addAll(_outVarnames, outputs);
 		_inVarReuse = new HashMap<>();
+		
+		//keep thread-local configs for execution in other threads
+		_dmlconf = ConfigurationManager.getDMLConfig();
+		_cconf = ConfigurationManager.getCompilerConfig();
+	}
+	
+	/**
+	 * Internal copy constructor, which shares the immutable input/output 
+	 * specification, configurations, and reused inputs but creates an
+	 * independent symbol table for the given runtime program.
+	 * 
+	 * @param that the prepared script to copy
+	 * @param prog the (potentially shared) runtime program
+	 */
+	private PreparedScript( PreparedScript that, Program prog ) 
+	{
+		_prog = prog;
+		_vars = new LocalVariableMap();
+		_inVarnames = that._inVarnames;
+		_outVarnames = that._outVarnames;
+		_inVarReuse = new HashMap<>(that._inVarReuse);
+		_dmlconf = that._dmlconf;
+		_cconf = that._cconf;
 	}
 	
 	/**
@@ -383,6 +419,13 @@ public class PreparedScript
 	public ResultVariables executeScript() 
 		throws DMLException
 	{
+		//set configurations of the compiling connection, which
+		//allows for execution in threads other than the connection
+		ConfigurationManager.setLocalConfig(_dmlconf);
+		ConfigurationManager.setLocalConfig(_cconf);
+		if( ConfigurationManager.isDynamicRecompilation() )
+			JMLCProxy.setActive(_outVarnames.toArray(new String[0]));
+		
 		//add reused variables
 		_vars.putAll(_inVarReuse);
 		
@@ -405,6 +448,49 @@ public class PreparedScript
 		return rvars;
 	}
 	
+	/**
+	 * Creates a copy of this prepared script for concurrent execution in
+	 * a different thread, without the costs of parsing and compilation.
+	 * The copy has its own symbol table (i.e., bound inputs and outputs)
+	 * but shares the registered inputs/outputs, reused inputs, and the 
+	 * compiled runtime program. Since functions with enabled function 
+	 * recompilation are recompiled in place, these functions are always
+	 * deep-copied. A deep copy additionally creates private copies of 
+	 * all program blocks and instructions (e.g., for programs with parfor). 
+	 * Function recompilation should be enabled before creating copies.
+	 * 
+	 * @param deep if {@code true}, deep copy of the entire runtime program
+	 * @return new prepared script with independent symbol table
+	 * @throws DMLException if DMLException occurs
+	 */
+	public PreparedScript clone(boolean deep) 
+		throws DMLException
+	{
+		try {
+			Program prog = new Program();
+			
+			//copy or share main program blocks
+			prog._programBlocks = !deep ? _prog.getProgramBlocks() :
+				ProgramConverter.rcreateDeepCopyProgramBlocks(_prog.getProgramBlocks(), 
+					0, -1, new HashSet<String>(), new HashSet<String>(), true, true);
+			
+			//copy or share function program blocks
+			for( Entry<String, FunctionProgramBlock> e : _prog.getFunctionProgramBlocks().entrySet() ) {
+				String[] fkey = DMLProgram.splitFunctionKey(e.getKey());
+				FunctionProgramBlock fpb = e.getValue();
+				if( (deep || fpb.isRecompileOnce()) && !(fpb instanceof ExternalFunctionProgramBlock) )
+					fpb = ProgramConverter.createDeepCopyFunctionProgramBlock(
+						fpb, new HashSet<String>(), new HashSet<String>());
+				prog.addFunctionProgramBlock(fkey[0], fkey[1], fpb);
+			}
+			
+			return new PreparedScript(this, prog);
+		}
+		catch(Exception ex) {
+			throw new DMLException(ex);
+		}
+	}
+	
 	/**
 	 * Explain the DML/PyDML program and view result as a string.
 	 * 
@@ -437,9 +523,10 @@ public class PreparedScript
 		
 		//enable dynamic recompilation (note that this does not globally enable
 		//dynamic recompilation because the program has been compiled already)
-		CompilerConfig cconf = ConfigurationManager.getCompilerConfig();
-		cconf.set(ConfigType.ALLOW_DYN_RECOMPILATION, true);
-		ConfigurationManager.setLocalConfig(cconf);
+		//(copy-on-write because the config might be shared with other scripts)
+		_cconf = _cconf.clone();
+		_cconf.set(ConfigType.ALLOW_DYN_RECOMPILATION, true);
+		ConfigurationManager.setLocalConfig(_cconf);
 		
 		//build function call graph (to probe for recursive functions)
 		FunctionCallGraph fgraph = _prog.getProgramBlocks().isEmpty() ? null :
@@ -42,6 +42,8 @@ public class CompilerConfig
 		PARALLEL_CP_WRITE_TEXTFORMATS,
 		PARALLEL_CP_READ_BINARYFORMATS,
 		PARALLEL_CP_WRITE_BINARYFORMATS,
+		//Enables byte-level tokenization and number parsing for csv reads
+		FAST_CSV_PARSING,
 		//Enables multi-threaded operations for mm, mmchain, and tsmm, rand, wdivmm, 
 		//wsloss, wumm, wcemm, uagg, tak, and groupedaggregate.
 		PARALLEL_CP_MATRIX_OPERATIONS,
@@ -91,6 +93,7 @@ public class CompilerConfig
 		_bmap.put(ConfigType.PARALLEL_CP_WRITE_TEXTFORMATS, FLAG_PARREADWRITE_TEXT);
 		_bmap.put(ConfigType.PARALLEL_CP_READ_BINARYFORMATS, FLAG_PARREADWRITE_BINARY);
 		_bmap.put(ConfigType.PARALLEL_CP_WRITE_BINARYFORMATS, FLAG_PARREADWRITE_BINARY);
+		_bmap.put(ConfigType.FAST_CSV_PARSING, true);
 		_bmap.put(ConfigType.PARALLEL_CP_MATRIX_OPERATIONS, true);
 		_bmap.put(ConfigType.PARALLEL_LOCAL_OR_REMOTE_PARFOR, true);
 		_bmap.put(ConfigType.ALLOW_DYN_RECOMPILATION,          FLAG_DYN_RECOMPILE);
@@ -45,6 +45,7 @@ import org.apache.sysml.hops.codegen.SpoofCompiler.PlanSelector;
 import org.apache.sysml.lops.Compression;
 import org.apache.sysml.parser.ParseException;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
 import org.apache.sysml.runtime.io.IOUtilFunctions;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -74,13 +75,22 @@ public class DMLConfig
 	public static final String YARN_APPQUEUE        = "sysml.yarn.app.queue"; 
 	public static final String CP_PARALLEL_OPS      = "sysml.cp.parallel.ops";
 	public static final String CP_PARALLEL_IO       = "sysml.cp.parallel.io";
+	public static final String CP_CSV_FASTPARSE     = "sysml.cp.csv.fastparse"; //boolean
+	public static final String CACHING_BUFFER_POLICY = "sysml.caching.policy"; //see LazyWriteBuffer.RPolicy
+	public static final String CACHING_OFFHEAP_SIZE = "sysml.caching.offheap.size"; //in MB, 0 disables off-heap buffer
+	public static final String CACHING_PREFETCH     = "sysml.caching.prefetch"; //boolean
 	public static final String COMPRESSED_LINALG    = "sysml.compressed.linalg"; //auto, true, false
+	public static final String COMPRESSED_BROADCAST = "sysml.compressed.broadcast"; //boolean
+	public static final String SPARK_KRYO           = "sysml.spark.kryo"; //boolean
 	public static final String NATIVE_BLAS          = "sysml.native.blas";
 	public static final String CODEGEN              = "sysml.codegen.enabled"; //boolean
 	public static final String CODEGEN_COMPILER     = "sysml.codegen.compiler"; //see SpoofCompiler.CompilerType
 	public static final String CODEGEN_OPTIMIZER    = "sysml.codegen.optimizer"; //see SpoofCompiler.PlanSelector
 	public static final String CODEGEN_PLANCACHE    = "sysml.codegen.plancache"; //boolean
 	public static final String CODEGEN_LITERALS     = "sysml.codegen.literals"; //1..heuristic, 2..always
+	public static final String CODEGEN_CLASSCACHE   = "sysml.codegen.classcache"; //local dir, empty disables
+	public static final String CODEGEN_CLASSCACHE_SIZE = "sysml.codegen.classcache.size"; //in MB
+	public static final String CODEGEN_ASYNC        = "sysml.codegen.async"; //boolean
 	
 	public static final String EXTRA_FINEGRAINED_STATS = "sysml.stats.finegrained"; //boolean
 	public static final String STATS_MAX_WRAP_LEN   = "sysml.stats.maxWrapLength"; //int
@@ -124,12 +134,21 @@ public class DMLConfig
 		_defaultVals.put(YARN_APPQUEUE,    	     "default" );
 		_defaultVals.put(CP_PARALLEL_OPS,        "true" );
 		_defaultVals.put(CP_PARALLEL_IO,         "true" );
+		_defaultVals.put(CP_CSV_FASTPARSE,       "true" );
+		_defaultVals.put(CACHING_BUFFER_POLICY,  RPolicy.FIFO.name() );
+		_defaultVals.put(CACHING_OFFHEAP_SIZE,   "0" );
+		_defaultVals.put(CACHING_PREFETCH,       "false" );
 		_defaultVals.put(COMPRESSED_LINALG,      Compression.CompressConfig.AUTO.name() );
+		_defaultVals.put(COMPRESSED_BROADCAST,   "false" );
+		_defaultVals.put(SPARK_KRYO,             "false" );
 		_defaultVals.put(CODEGEN,                "false" );
 		_defaultVals.put(CODEGEN_COMPILER,       CompilerType.AUTO.name() );
 		_defaultVals.put(CODEGEN_OPTIMIZER,      PlanSelector.FUSE_COST_BASED_V2.name() );
 		_defaultVals.put(CODEGEN_PLANCACHE,      "true" );
 		_defaultVals.put(CODEGEN_LITERALS,       "1" );
+		_defaultVals.put(CODEGEN_CLASSCACHE,     "" );
+		_defaultVals.put(CODEGEN_CLASSCACHE_SIZE,"64" );
+		_defaultVals.put(CODEGEN_ASYNC,          "false" );
 		_defaultVals.put(NATIVE_BLAS,            "none" );
 		_defaultVals.put(EXTRA_FINEGRAINED_STATS,"false" );
 		_defaultVals.put(STATS_MAX_WRAP_LEN,     "30" );
@@ -417,9 +436,10 @@ public class DMLConfig
 				LOCAL_TMP_DIR,SCRATCH_SPACE,OPTIMIZATION_LEVEL,
 				NUM_REDUCERS, DEFAULT_BLOCK_SIZE,
 				YARN_APPMASTER, YARN_APPMASTERMEM, YARN_MAPREDUCEMEM, 
-				CP_PARALLEL_OPS, CP_PARALLEL_IO, NATIVE_BLAS,
-				COMPRESSED_LINALG, 
+				CP_PARALLEL_OPS, CP_PARALLEL_IO, CP_CSV_FASTPARSE, NATIVE_BLAS,
+				COMPRESSED_LINALG, COMPRESSED_BROADCAST, SPARK_KRYO,
 				CODEGEN, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
+				CODEGEN_CLASSCACHE, CODEGEN_CLASSCACHE_SIZE, CODEGEN_ASYNC,
 				EXTRA_GPU_STATS, EXTRA_DNN_STATS, EXTRA_FINEGRAINED_STATS, STATS_MAX_WRAP_LEN,
 				AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE
 		}; 
@@ -21,6 +21,7 @@ package org.apache.sysml.hops;
 
 import java.util.ArrayList;
 
+import org.apache.sysml.hops.Hop.MultiThreadedHop;
 import org.apache.sysml.lops.FunctionCallCP;
 import org.apache.sysml.lops.FunctionCallCPSingle;
 import org.apache.sysml.lops.Lop;
@@ -38,7 +39,7 @@ import org.apache.sysml.runtime.controlprogram.parfor.opt.CostEstimatorHops;
  * Note: Currently, we support expressions in function arguments along with function calls
  * in expressions with single outputs, leaving multiple outputs handling as it is.
  */
-public class FunctionOp extends Hop
+public class FunctionOp extends Hop implements MultiThreadedHop
 {
 	public enum FunctionType{
 		DML,
@@ -56,6 +57,7 @@ public class FunctionOp extends Hop
 	private String[] _outputs = null; 
 	private ArrayList<Hop> _outputHops = null;
 	private boolean _singleOutFun = false;
+	private int _maxNumThreads = -1; //-1 for unlimited
 	
 	private FunctionOp() {
 		//default constructor for clone
@@ -86,6 +88,16 @@ public class FunctionOp extends Hop
 	@Override
 	public void checkArity() throws HopsException {}
 	
+	@Override
+	public void setMaxNumThreads( int k ) {
+		_maxNumThreads = k;
+	}
+	
+	@Override
+	public int getMaxNumThreads() {
+		return _maxNumThreads;
+	}
+	
 	public String getFunctionKey() {
 		return DMLProgram.constructFunctionKey(
 			getFunctionNamespace(), getFunctionName());
@@ -240,9 +252,11 @@ public class FunctionOp extends Hop
 		for( Hop in : getInput() )
 			tmp.add( in.constructLops() );
 		 
-		//construct function call
+		//construct function call (incl num threads for multi-return builtins)
+		int k = (getFunctionType() == FunctionType.MULTIRETURN_BUILTIN && et == ExecType.CP) ? 
+			OptimizerUtils.getConstrainedNumThreads( _maxNumThreads ) : 1;
 		Lop fcall = _singleOutFun ? new FunctionCallCPSingle( tmp, _fnamespace, _fname, et ) :
-			new FunctionCallCP(tmp, _fnamespace, _fname, _outputs, _outputHops, et);
+			new FunctionCallCP(tmp, _fnamespace, _fname, _outputs, _outputHops, et, k);
 		setLineNumbers(fcall);
 		setLops(fcall);
 		
@@ -307,6 +321,7 @@ public class FunctionOp extends Hop
 		ret._fnamespace = _fnamespace;
 		ret._fname = _fname;
 		ret._outputs = _outputs.clone();
+		ret._maxNumThreads = _maxNumThreads;
 		if( _outputHops != null )
 			ret._outputHops = (ArrayList<Hop>) _outputHops.clone();
 		
@@ -371,6 +371,11 @@ public class OptimizerUtils
 			cconf.set(ConfigType.PARALLEL_CP_READ_TEXTFORMATS, false);
 		}
 
+		//handle byte-level csv parsing
+		if (!dmlconf.getBooleanValue(DMLConfig.CP_CSV_FASTPARSE)) {
+			cconf.set(ConfigType.FAST_CSV_PARSING, false);
+		}
+		
 		//handle parallel matrix mult / rand configuration
 		if (!dmlconf.getBooleanValue(DMLConfig.CP_PARALLEL_OPS)) {
 			cconf.set(ConfigType.PARALLEL_CP_MATRIX_OPERATIONS, false);
@@ -28,6 +28,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -86,6 +90,7 @@ import org.apache.sysml.parser.WhileStatement;
 import org.apache.sysml.parser.WhileStatementBlock;
 import org.apache.sysml.parser.Expression.DataType;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.codegen.CodegenClassCache;
 import org.apache.sysml.runtime.codegen.CodegenUtils;
 import org.apache.sysml.runtime.codegen.SpoofCellwise.CellType;
 import org.apache.sysml.runtime.codegen.SpoofRowwise.RowType;
@@ -114,6 +119,8 @@ public class SpoofCompiler
 	public static final boolean PRUNE_REDUNDANT_PLANS = true;
 	public static PlanCachePolicy PLAN_CACHE_POLICY   = PlanCachePolicy.CSLH;
 	public static final int PLAN_CACHE_SIZE           = 1024; //max 1K classes 
+	public static boolean ASYNC_COMPILE               = false; //background class compilation during recompile
+	public static final int ASYNC_COMPILE_THREADS     = 2;
 	
 	public enum CompilerType {
 		AUTO,
@@ -161,6 +168,11 @@ public class SpoofCompiler
 	//note: if PLAN_CACHE_SIZE is exceeded, we evict the least-recently-used plan (LRU policy)
 	private static final PlanCache planCache = new PlanCache(PLAN_CACHE_SIZE);
 	
+	//pending background class compilations (cplan->future) for asynchronous compilation,
+	//where dynamic recompilation proceeds with the unfused plan until the class is available
+	private static final ConcurrentHashMap<CNode, Future<?>> asyncCompile = new ConcurrentHashMap<>();
+	private static ExecutorService asyncPool = null;
+	
 	private static ProgramRewriter rewriteCSE = new ProgramRewriter(
 			new RewriteCommonSubexpressionElimination(true),
 			new RewriteRemoveUnnecessaryCasts());
@@ -407,13 +419,19 @@ public class SpoofCompiler
 						LOG.info(src);
 					}
 					
-					//compile generated java source code
-					cla = CodegenUtils.compileClass("codegen."+
-							tmp.getValue().getClassname(), src);
-					
-					//maintain plan cache
-					if( PLAN_CACHE_POLICY!=PlanCachePolicy.NONE )
-						planCache.putPlan(tmp.getValue(), cla);
+					//compile generated java source code, either asynchronously in the
+					//background (keep unfused plan until the class is ready) or inline
+					if( ASYNC_COMPILE && recompile && PLAN_CACHE_POLICY!=PlanCachePolicy.NONE ) {
+						compileClassAsync(tmp.getValue(), src);
+					}
+					else {
+						cla = CodegenUtils.compileClass("codegen."+
+								tmp.getValue().getClassname(), src);
+						
+						//maintain plan cache
+						if( PLAN_CACHE_POLICY!=PlanCachePolicy.NONE )
+							planCache.putPlan(tmp.getValue(), cla);
+					}
 				}
 				else if( DMLScript.STATISTICS ) {
 					Statistics.incrementCodegenPlanCacheHits();
@@ -457,7 +475,59 @@ public class SpoofCompiler
 		return ret;
 	}
 
+	private static void compileClassAsync(CNodeTpl cplan, String src) {
+		//submit at most one compilation task per distinct cplan
+		asyncCompile.computeIfAbsent(cplan, key -> getAsyncPool().submit(() -> {
+			try {
+				long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+				Class<?> cla = CodegenUtils.compileClass(
+					"codegen."+cplan.getClassname(), src);
+				planCache.putPlan(cplan, cla);
+				if( DMLScript.STATISTICS ) {
+					Statistics.incrementCodegenAsyncCompile();
+					Statistics.incrementCodegenAsyncCompileTime(System.nanoTime()-t0);
+				}
+			}
+			catch(Exception ex) {
+				//keep the unfused plan, but remove the failed cplan to allow retry
+				LOG.error("Codegen failed to asynchronously compile class "
+					+ cplan.getClassname() + ":\n" + src, ex);
+			}
+			finally {
+				asyncCompile.remove(cplan);
+			}
+		}));
+	}
+	
+	private static synchronized ExecutorService getAsyncPool() {
+		if( asyncPool == null ) {
+			//daemon threads in order to not block JVM shutdown
+			asyncPool = Executors.newFixedThreadPool(ASYNC_COMPILE_THREADS, r -> {
+				Thread t = new Thread(r, "codegen-async-compile");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return asyncPool;
+	}
+	
+	/**
+	 * Waits for all pending asynchronous class compilations, which
+	 * is used on cleanup and for deterministic tests.
+	 */
+	public static void waitForAsyncCompile() {
+		for( Future<?> f : asyncCompile.values() ) {
+			try {
+				f.get();
+			}
+			catch(Exception ex) {
+				LOG.warn("Codegen asynchronous compilation failed.", ex);
+			}
+		}
+	}
+	
 	public static void cleanupCodeGenerator() {
+		waitForAsyncCompile();
 		if( PLAN_CACHE_POLICY != PlanCachePolicy.NONE ) {
 			CodegenUtils.clearClassCache(); //class cache
 			planCache.clear(); //plan cache
@@ -492,6 +562,12 @@ public class SpoofCompiler
 		PLAN_SEL_POLICY = type;
 	}
 	
+	public static void setConfiguredClassCache() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		CodegenClassCache.configure(conf.getTextValue(DMLConfig.CODEGEN_CLASSCACHE),
+			conf.getIntValue(DMLConfig.CODEGEN_CLASSCACHE_SIZE));
+	}
+	
 	public static void setExecTypeSpecificJavaCompiler() {
 		DMLConfig conf = ConfigurationManager.getDMLConfig();
 		String compiler = conf.getTextValue(DMLConfig.CODEGEN_COMPILER);
@@ -1069,7 +1069,8 @@ public class HopRewriteUtils
 	public static boolean alwaysRequiresReblock(Hop hop) {
 		return (hop instanceof DataOp
 			&& ((DataOp)hop).getDataOpType()==DataOpTypes.PERSISTENTREAD
-			 && ((DataOp)hop).getInputFormatType()!=FileFormatTypes.BINARY);
+			 && ((DataOp)hop).getInputFormatType()!=FileFormatTypes.BINARY
+			 && ((DataOp)hop).getInputFormatType()!=FileFormatTypes.COMPRESSED);
 	}
 	
 	public static boolean containsOp(ArrayList<Hop> candidates, Class<? extends Hop> clazz) {
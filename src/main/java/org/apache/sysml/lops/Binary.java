@@ -202,7 +202,8 @@ public class Binary extends Lop
 		sb.append( this.prepOutputOperand(output));
 		
 		//append degree of parallelism for matrix multiplications
-		if( operation == OperationTypes.MATMULT && getExecType()==ExecType.CP ) {
+		//and cp binary cell-wise operations
+		if( getExecType()==ExecType.CP ) {
 			sb.append( OPERAND_DELIMITOR );
 			sb.append( numThreads );
 		}
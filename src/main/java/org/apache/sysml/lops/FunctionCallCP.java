@@ -38,11 +38,19 @@ public class FunctionCallCP extends Lop
 	private String _fname;
 	private String[] _outputs;
 	private ArrayList<Lop> _outputLops = null;
+	private int _numThreads = 1;
 
 	public FunctionCallCP(ArrayList<Lop> inputs, String fnamespace, String fname, String[] outputs, ArrayList<Hop> outputHops, ExecType et) 
 		throws HopsException, LopsException 
+	{
+		this(inputs, fnamespace, fname, outputs, outputHops, et, 1);
+	}
+	
+	public FunctionCallCP(ArrayList<Lop> inputs, String fnamespace, String fname, String[] outputs, ArrayList<Hop> outputHops, ExecType et, int numThreads) 
+		throws HopsException, LopsException 
 	{
 		this(inputs, fnamespace, fname, outputs, et);
+		_numThreads = numThreads;
 		if(outputHops != null) {
 			_outputLops = new ArrayList<>();
 			for(Hop h : outputHops)
@@ -99,6 +107,12 @@ public class FunctionCallCP extends Lop
 			sb.append(_outputs[i]);
 		}
 		
+		//num threads for cp multi-return builtins
+		if( getExecType() == ExecType.CP ) {
+			sb.append(Lop.OPERAND_DELIMITOR);
+			sb.append(_numThreads);
+		}
+		
 		return sb.toString();
 	}
 	
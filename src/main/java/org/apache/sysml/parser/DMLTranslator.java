@@ -299,6 +299,8 @@ public class DMLTranslator
 				dmlconf.getIntValue(DMLConfig.CODEGEN_LITERALS)==2);
 			SpoofCompiler.setConfiguredPlanSelector();
 			SpoofCompiler.setExecTypeSpecificJavaCompiler();
+			SpoofCompiler.setConfiguredClassCache();
+			SpoofCompiler.ASYNC_COMPILE = dmlconf.getBooleanValue(DMLConfig.CODEGEN_ASYNC);
 			if( SpoofCompiler.INTEGRATION==IntegrationType.HOPS )
 				codgenHopsDAG(dmlp);
 		}
@@ -1272,7 +1274,8 @@ public class DMLTranslator
 						break;
 						
 					case BINARY:
-						// write output in binary block format
+					case COMPRESSED:
+						// write output in (compressed) binary block format
 					    ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), ConfigurationManager.getBlocksize(), ConfigurationManager.getBlocksize());
 					    break;
 						
@@ -72,6 +72,7 @@ public class DataExpression extends DataIdentifier
 	public static final String FORMAT_TYPE_VALUE_BINARY 		= "binary";
 	public static final String FORMAT_TYPE_VALUE_CSV			= "csv";
 	public static final String FORMAT_TYPE_VALUE_MATRIXMARKET	= "mm";
+	public static final String FORMAT_TYPE_VALUE_COMPRESSED		= "compressed";
 	
 	public static final String ROWBLOCKCOUNTPARAM = "rows_in_block";
 	public static final String COLUMNBLOCKCOUNTPARAM = "cols_in_block";
@@ -893,6 +894,9 @@ public class DataExpression extends DataIdentifier
 				} else if ( fmt.equalsIgnoreCase("binary") ) {
 					getOutput().setFormatType(FormatType.BINARY);
 					format = 2;
+				} else if ( fmt.equalsIgnoreCase(FORMAT_TYPE_VALUE_COMPRESSED) ) {
+					getOutput().setFormatType(FormatType.COMPRESSED);
+					format = 2;
 				} else if ( fmt.equalsIgnoreCase(FORMAT_TYPE_VALUE_CSV)) 
 				{
 					getOutput().setFormatType(FormatType.CSV);
@@ -1010,7 +1014,8 @@ public class DataExpression extends DataIdentifier
 			//validate read filename
 			if (getVarParam(FORMAT_TYPE) == null || getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase("text"))
 				getOutput().setBlockDimensions(-1, -1);
-			else if (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase("binary"))
+			else if (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase("binary")
+				|| getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_COMPRESSED))
 				getOutput().setBlockDimensions(ConfigurationManager.getBlocksize(), ConfigurationManager.getBlocksize());
 			else if (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_MATRIXMARKET) || (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_CSV)))
 				getOutput().setBlockDimensions(-1, -1);
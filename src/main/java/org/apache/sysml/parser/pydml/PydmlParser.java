@@ -0,0 +1,3090 @@
+// Generated from org/apache/sysml/parser/pydml/Pydml.g4 by ANTLR 4.5.3
+package org.apache.sysml.parser.pydml;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class PydmlParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
+		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
+		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
+		T__38=39, ID=40, INT=41, DOUBLE=42, DIGIT=43, ALPHABET=44, COMMANDLINE_NAMED_ID=45, 
+		COMMANDLINE_POSITION_ID=46, STRING=47, OPEN_BRACK=48, CLOSE_BRACK=49, 
+		OPEN_PAREN=50, CLOSE_PAREN=51, NEWLINE=52, SKIP_WS=53, INDENT=54, DEDENT=55;
+	public static final int
+		RULE_programroot = 0, RULE_statement = 1, RULE_elifBranch = 2, RULE_iterablePredicate = 3, 
+		RULE_functionStatement = 4, RULE_dataIdentifier = 5, RULE_expression = 6, 
+		RULE_typedArgNoAssign = 7, RULE_parameterizedExpression = 8, RULE_strictParameterizedExpression = 9, 
+		RULE_strictParameterizedKeyValueString = 10, RULE_ml_type = 11, RULE_valueType = 12, 
+		RULE_dataType = 13;
+	public static final String[] ruleNames = {
+		"programroot", "statement", "elifBranch", "iterablePredicate", "functionStatement", 
+		"dataIdentifier", "expression", "typedArgNoAssign", "parameterizedExpression", 
+		"strictParameterizedExpression", "strictParameterizedKeyValueString", 
+		"ml_type", "valueType", "dataType"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'source'", "'as'", "'setwd'", "'='", "'ifdef'", "','", "'if'", 
+		"':'", "'else'", "'for'", "'in'", "'parfor'", "'while'", "'elif'", "'def'", 
+		"'->'", "'defExternal'", "'implemented'", "'**'", "'-'", "'+'", "'//'", 
+		"'%'", "'*'", "'/'", "'>'", "'>='", "'<'", "'<='", "'=='", "'!='", "'!'", 
+		"'&'", "'and'", "'|'", "'or'", "';'", "'True'", "'False'", null, null, 
+		null, null, null, null, null, null, "'['", "']'", "'('", "')'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, "ID", "INT", "DOUBLE", "DIGIT", "ALPHABET", "COMMANDLINE_NAMED_ID", 
+		"COMMANDLINE_POSITION_ID", "STRING", "OPEN_BRACK", "CLOSE_BRACK", "OPEN_PAREN", 
+		"CLOSE_PAREN", "NEWLINE", "SKIP_WS", "INDENT", "DEDENT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Pydml.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public PydmlParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class ProgramrootContext extends ParserRuleContext {
+		public StatementContext statement;
+		public List<StatementContext> blocks = new ArrayList<StatementContext>();
+		public FunctionStatementContext functionStatement;
+		public List<FunctionStatementContext> functionBlocks = new ArrayList<FunctionStatementContext>();
+		public TerminalNode EOF() { return getToken(PydmlParser.EOF, 0); }
+		public List<TerminalNode> NEWLINE() { return getTokens(PydmlParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(PydmlParser.NEWLINE, i);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public List<FunctionStatementContext> functionStatement() {
+			return getRuleContexts(FunctionStatementContext.class);
+		}
+		public FunctionStatementContext functionStatement(int i) {
+			return getRuleContext(FunctionStatementContext.class,i);
+		}
+		public ProgramrootContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_programroot; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterProgramroot(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitProgramroot(this);
+		}
+	}
+
+	public final ProgramrootContext programroot() throws RecognitionException {
+		ProgramrootContext _localctx = new ProgramrootContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_programroot);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(32);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(30);
+					switch (_input.LA(1)) {
+					case T__0:
+					case T__2:
+					case T__6:
+					case T__9:
+					case T__11:
+					case T__12:
+					case ID:
+					case COMMANDLINE_NAMED_ID:
+					case COMMANDLINE_POSITION_ID:
+					case OPEN_BRACK:
+					case NEWLINE:
+						{
+						setState(28);
+						((ProgramrootContext)_localctx).statement = statement();
+						((ProgramrootContext)_localctx).blocks.add(((ProgramrootContext)_localctx).statement);
+						}
+						break;
+					case T__14:
+					case T__16:
+						{
+						setState(29);
+						((ProgramrootContext)_localctx).functionStatement = functionStatement();
+						((ProgramrootContext)_localctx).functionBlocks.add(((ProgramrootContext)_localctx).functionStatement);
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					} 
+				}
+				setState(34);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+			}
+			setState(38);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==NEWLINE) {
+				{
+				{
+				setState(35);
+				match(NEWLINE);
+				}
+				}
+				setState(40);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(41);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public org.apache.sysml.parser.common.StatementInfo info;
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+	 
+		public StatementContext() { }
+		public void copyFrom(StatementContext ctx) {
+			super.copyFrom(ctx);
+			this.info = ctx.info;
+		}
+	}
+	public static class IfStatementContext extends StatementContext {
+		public ExpressionContext predicate;
+		public StatementContext statement;
+		public List<StatementContext> ifBody = new ArrayList<StatementContext>();
+		public ElifBranchContext elifBranch;
+		public List<ElifBranchContext> elifBranches = new ArrayList<ElifBranchContext>();
+		public List<StatementContext> elseBody = new ArrayList<StatementContext>();
+		public List<TerminalNode> NEWLINE() { return getTokens(PydmlParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(PydmlParser.NEWLINE, i);
+		}
+		public List<TerminalNode> INDENT() { return getTokens(PydmlParser.INDENT); }
+		public TerminalNode INDENT(int i) {
+			return getToken(PydmlParser.INDENT, i);
+		}
+		public List<TerminalNode> DEDENT() { return getTokens(PydmlParser.DEDENT); }
+		public TerminalNode DEDENT(int i) {
+			return getToken(PydmlParser.DEDENT, i);
+		}
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public List<ElifBranchContext> elifBranch() {
+			return getRuleContexts(ElifBranchContext.class);
+		}
+		public ElifBranchContext elifBranch(int i) {
+			return getRuleContext(ElifBranchContext.class,i);
+		}
+		public IfStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterIfStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitIfStatement(this);
+		}
+	}
+	public static class IgnoreNewLineContext extends StatementContext {
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public IgnoreNewLineContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterIgnoreNewLine(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitIgnoreNewLine(this);
+		}
+	}
+	public static class AssignmentStatementContext extends StatementContext {
+		public DataIdentifierContext targetList;
+		public ExpressionContext source;
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public DataIdentifierContext dataIdentifier() {
+			return getRuleContext(DataIdentifierContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AssignmentStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterAssignmentStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitAssignmentStatement(this);
+		}
+	}
+	public static class IfdefAssignmentStatementContext extends StatementContext {
+		public DataIdentifierContext targetList;
+		public DataIdentifierContext commandLineParam;
+		public ExpressionContext source;
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public List<DataIdentifierContext> dataIdentifier() {
+			return getRuleContexts(DataIdentifierContext.class);
+		}
+		public DataIdentifierContext dataIdentifier(int i) {
+			return getRuleContext(DataIdentifierContext.class,i);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public IfdefAssignmentStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterIfdefAssignmentStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitIfdefAssignmentStatement(this);
+		}
+	}
+	public static class FunctionCallMultiAssignmentStatementContext extends StatementContext {
+		public DataIdentifierContext dataIdentifier;
+		public List<DataIdentifierContext> targetList = new ArrayList<DataIdentifierContext>();
+		public Token name;
+		public ParameterizedExpressionContext parameterizedExpression;
+		public List<ParameterizedExpressionContext> paramExprs = new ArrayList<ParameterizedExpressionContext>();
+		public TerminalNode OPEN_BRACK() { return getToken(PydmlParser.OPEN_BRACK, 0); }
+		public TerminalNode CLOSE_BRACK() { return getToken(PydmlParser.CLOSE_BRACK, 0); }
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public List<DataIdentifierContext> dataIdentifier() {
+			return getRuleContexts(DataIdentifierContext.class);
+		}
+		public DataIdentifierContext dataIdentifier(int i) {
+			return getRuleContext(DataIdentifierContext.class,i);
+		}
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public List<ParameterizedExpressionContext> parameterizedExpression() {
+			return getRuleContexts(ParameterizedExpressionContext.class);
+		}
+		public ParameterizedExpressionContext parameterizedExpression(int i) {
+			return getRuleContext(ParameterizedExpressionContext.class,i);
+		}
+		public FunctionCallMultiAssignmentStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterFunctionCallMultiAssignmentStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitFunctionCallMultiAssignmentStatement(this);
+		}
+	}
+	public static class ParForStatementContext extends StatementContext {
+		public Token iterVar;
+		public IterablePredicateContext iterPred;
+		public StrictParameterizedExpressionContext strictParameterizedExpression;
+		public List<StrictParameterizedExpressionContext> parForParams = new ArrayList<StrictParameterizedExpressionContext>();
+		public StatementContext statement;
+		public List<StatementContext> body = new ArrayList<StatementContext>();
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode INDENT() { return getToken(PydmlParser.INDENT, 0); }
+		public TerminalNode DEDENT() { return getToken(PydmlParser.DEDENT, 0); }
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public IterablePredicateContext iterablePredicate() {
+			return getRuleContext(IterablePredicateContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public List<StrictParameterizedExpressionContext> strictParameterizedExpression() {
+			return getRuleContexts(StrictParameterizedExpressionContext.class);
+		}
+		public StrictParameterizedExpressionContext strictParameterizedExpression(int i) {
+			return getRuleContext(StrictParameterizedExpressionContext.class,i);
+		}
+		public ParForStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterParForStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitParForStatement(this);
+		}
+	}
+	public static class ImportStatementContext extends StatementContext {
+		public Token filePath;
+		public Token namespace;
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode STRING() { return getToken(PydmlParser.STRING, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public ImportStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterImportStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitImportStatement(this);
+		}
+	}
+	public static class PathStatementContext extends StatementContext {
+		public Token pathValue;
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode STRING() { return getToken(PydmlParser.STRING, 0); }
+		public PathStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterPathStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitPathStatement(this);
+		}
+	}
+	public static class WhileStatementContext extends StatementContext {
+		public ExpressionContext predicate;
+		public StatementContext statement;
+		public List<StatementContext> body = new ArrayList<StatementContext>();
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode INDENT() { return getToken(PydmlParser.INDENT, 0); }
+		public TerminalNode DEDENT() { return getToken(PydmlParser.DEDENT, 0); }
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public WhileStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterWhileStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitWhileStatement(this);
+		}
+	}
+	public static class ForStatementContext extends StatementContext {
+		public Token iterVar;
+		public IterablePredicateContext iterPred;
+		public StrictParameterizedExpressionContext strictParameterizedExpression;
+		public List<StrictParameterizedExpressionContext> parForParams = new ArrayList<StrictParameterizedExpressionContext>();
+		public StatementContext statement;
+		public List<StatementContext> body = new ArrayList<StatementContext>();
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode INDENT() { return getToken(PydmlParser.INDENT, 0); }
+		public TerminalNode DEDENT() { return getToken(PydmlParser.DEDENT, 0); }
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public IterablePredicateContext iterablePredicate() {
+			return getRuleContext(IterablePredicateContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public List<StrictParameterizedExpressionContext> strictParameterizedExpression() {
+			return getRuleContexts(StrictParameterizedExpressionContext.class);
+		}
+		public StrictParameterizedExpressionContext strictParameterizedExpression(int i) {
+			return getRuleContext(StrictParameterizedExpressionContext.class,i);
+		}
+		public ForStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterForStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitForStatement(this);
+		}
+	}
+	public static class FunctionCallAssignmentStatementContext extends StatementContext {
+		public DataIdentifierContext targetList;
+		public Token name;
+		public ParameterizedExpressionContext parameterizedExpression;
+		public List<ParameterizedExpressionContext> paramExprs = new ArrayList<ParameterizedExpressionContext>();
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public DataIdentifierContext dataIdentifier() {
+			return getRuleContext(DataIdentifierContext.class,0);
+		}
+		public List<ParameterizedExpressionContext> parameterizedExpression() {
+			return getRuleContexts(ParameterizedExpressionContext.class);
+		}
+		public ParameterizedExpressionContext parameterizedExpression(int i) {
+			return getRuleContext(ParameterizedExpressionContext.class,i);
+		}
+		public FunctionCallAssignmentStatementContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterFunctionCallAssignmentStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitFunctionCallAssignmentStatement(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_statement);
+
+		       // This actions occurs regardless of how many alternatives in this rule
+		       ((StatementContext)_localctx).info =  new org.apache.sysml.parser.common.StatementInfo();
+
+		int _la;
+		try {
+			setState(242);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+			case 1:
+				_localctx = new ImportStatementContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(43);
+				match(T__0);
+				setState(44);
+				match(OPEN_PAREN);
+				setState(45);
+				((ImportStatementContext)_localctx).filePath = match(STRING);
+				setState(46);
+				match(CLOSE_PAREN);
+				setState(47);
+				match(T__1);
+				setState(48);
+				((ImportStatementContext)_localctx).namespace = match(ID);
+				setState(49);
+				match(NEWLINE);
+				}
+				break;
+			case 2:
+				_localctx = new PathStatementContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(50);
+				match(T__2);
+				setState(51);
+				match(OPEN_PAREN);
+				setState(52);
+				((PathStatementContext)_localctx).pathValue = match(STRING);
+				setState(53);
+				match(CLOSE_PAREN);
+				setState(54);
+				match(NEWLINE);
+				}
+				break;
+			case 3:
+				_localctx = new IfdefAssignmentStatementContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(55);
+				((IfdefAssignmentStatementContext)_localctx).targetList = dataIdentifier();
+				setState(56);
+				match(T__3);
+				setState(57);
+				match(T__4);
+				setState(58);
+				match(OPEN_PAREN);
+				setState(59);
+				((IfdefAssignmentStatementContext)_localctx).commandLineParam = dataIdentifier();
+				setState(60);
+				match(T__5);
+				setState(61);
+				((IfdefAssignmentStatementContext)_localctx).source = expression(0);
+				setState(62);
+				match(CLOSE_PAREN);
+				setState(63);
+				match(NEWLINE);
+				}
+				break;
+			case 4:
+				_localctx = new FunctionCallAssignmentStatementContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(68);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+				case 1:
+					{
+					setState(65);
+					((FunctionCallAssignmentStatementContext)_localctx).targetList = dataIdentifier();
+					setState(66);
+					match(T__3);
+					}
+					break;
+				}
+				setState(70);
+				((FunctionCallAssignmentStatementContext)_localctx).name = match(ID);
+				setState(71);
+				match(OPEN_PAREN);
+				setState(80);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__19) | (1L << T__20) | (1L << T__31) | (1L << T__37) | (1L << T__38) | (1L << ID) | (1L << INT) | (1L << DOUBLE) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << STRING) | (1L << OPEN_PAREN))) != 0)) {
+					{
+					setState(72);
+					((FunctionCallAssignmentStatementContext)_localctx).parameterizedExpression = parameterizedExpression();
+					((FunctionCallAssignmentStatementContext)_localctx).paramExprs.add(((FunctionCallAssignmentStatementContext)_localctx).parameterizedExpression);
+					setState(77);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(73);
+						match(T__5);
+						setState(74);
+						((FunctionCallAssignmentStatementContext)_localctx).parameterizedExpression = parameterizedExpression();
+						((FunctionCallAssignmentStatementContext)_localctx).paramExprs.add(((FunctionCallAssignmentStatementContext)_localctx).parameterizedExpression);
+						}
+						}
+						setState(79);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(82);
+				match(CLOSE_PAREN);
+				setState(83);
+				match(NEWLINE);
+				}
+				break;
+			case 5:
+				_localctx = new FunctionCallMultiAssignmentStatementContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(84);
+				match(OPEN_BRACK);
+				setState(85);
+				((FunctionCallMultiAssignmentStatementContext)_localctx).dataIdentifier = dataIdentifier();
+				((FunctionCallMultiAssignmentStatementContext)_localctx).targetList.add(((FunctionCallMultiAssignmentStatementContext)_localctx).dataIdentifier);
+				setState(90);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__5) {
+					{
+					{
+					setState(86);
+					match(T__5);
+					setState(87);
+					((FunctionCallMultiAssignmentStatementContext)_localctx).dataIdentifier = dataIdentifier();
+					((FunctionCallMultiAssignmentStatementContext)_localctx).targetList.add(((FunctionCallMultiAssignmentStatementContext)_localctx).dataIdentifier);
+					}
+					}
+					setState(92);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(93);
+				match(CLOSE_BRACK);
+				setState(94);
+				match(T__3);
+				setState(95);
+				((FunctionCallMultiAssignmentStatementContext)_localctx).name = match(ID);
+				setState(96);
+				match(OPEN_PAREN);
+				setState(105);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__19) | (1L << T__20) | (1L << T__31) | (1L << T__37) | (1L << T__38) | (1L << ID) | (1L << INT) | (1L << DOUBLE) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << STRING) | (1L << OPEN_PAREN))) != 0)) {
+					{
+					setState(97);
+					((FunctionCallMultiAssignmentStatementContext)_localctx).parameterizedExpression = parameterizedExpression();
+					((FunctionCallMultiAssignmentStatementContext)_localctx).paramExprs.add(((FunctionCallMultiAssignmentStatementContext)_localctx).parameterizedExpression);
+					setState(102);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(98);
+						match(T__5);
+						setState(99);
+						((FunctionCallMultiAssignmentStatementContext)_localctx).parameterizedExpression = parameterizedExpression();
+						((FunctionCallMultiAssignmentStatementContext)_localctx).paramExprs.add(((FunctionCallMultiAssignmentStatementContext)_localctx).parameterizedExpression);
+						}
+						}
+						setState(104);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(107);
+				match(CLOSE_PAREN);
+				setState(108);
+				match(NEWLINE);
+				}
+				break;
+			case 6:
+				_localctx = new AssignmentStatementContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(110);
+				((AssignmentStatementContext)_localctx).targetList = dataIdentifier();
+				setState(111);
+				match(T__3);
+				setState(112);
+				((AssignmentStatementContext)_localctx).source = expression(0);
+				setState(113);
+				match(NEWLINE);
+				}
+				break;
+			case 7:
+				_localctx = new IfStatementContext(_localctx);
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(115);
+				match(T__6);
+				setState(121);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+				case 1:
+					{
+					setState(116);
+					match(OPEN_PAREN);
+					setState(117);
+					((IfStatementContext)_localctx).predicate = expression(0);
+					setState(118);
+					match(CLOSE_PAREN);
+					}
+					break;
+				case 2:
+					{
+					setState(120);
+					((IfStatementContext)_localctx).predicate = expression(0);
+					}
+					break;
+				}
+				setState(123);
+				match(T__7);
+				setState(124);
+				match(NEWLINE);
+				setState(125);
+				match(INDENT);
+				setState(127); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(126);
+					((IfStatementContext)_localctx).statement = statement();
+					((IfStatementContext)_localctx).ifBody.add(((IfStatementContext)_localctx).statement);
+					}
+					}
+					setState(129); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__2) | (1L << T__6) | (1L << T__9) | (1L << T__11) | (1L << T__12) | (1L << ID) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << OPEN_BRACK) | (1L << NEWLINE))) != 0) );
+				setState(131);
+				match(DEDENT);
+				setState(135);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__13) {
+					{
+					{
+					setState(132);
+					((IfStatementContext)_localctx).elifBranch = elifBranch();
+					((IfStatementContext)_localctx).elifBranches.add(((IfStatementContext)_localctx).elifBranch);
+					}
+					}
+					setState(137);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(149);
+				_la = _input.LA(1);
+				if (_la==T__8) {
+					{
+					setState(138);
+					match(T__8);
+					setState(139);
+					match(T__7);
+					setState(140);
+					match(NEWLINE);
+					setState(141);
+					match(INDENT);
+					setState(143); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
+						{
+						setState(142);
+						((IfStatementContext)_localctx).statement = statement();
+						((IfStatementContext)_localctx).elseBody.add(((IfStatementContext)_localctx).statement);
+						}
+						}
+						setState(145); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__2) | (1L << T__6) | (1L << T__9) | (1L << T__11) | (1L << T__12) | (1L << ID) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << OPEN_BRACK) | (1L << NEWLINE))) != 0) );
+					setState(147);
+					match(DEDENT);
+					}
+				}
+
+				}
+				break;
+			case 8:
+				_localctx = new ForStatementContext(_localctx);
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(151);
+				match(T__9);
+				setState(175);
+				switch (_input.LA(1)) {
+				case OPEN_PAREN:
+					{
+					setState(152);
+					match(OPEN_PAREN);
+					setState(153);
+					((ForStatementContext)_localctx).iterVar = match(ID);
+					setState(154);
+					match(T__10);
+					setState(155);
+					((ForStatementContext)_localctx).iterPred = iterablePredicate();
+					setState(160);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(156);
+						match(T__5);
+						setState(157);
+						((ForStatementContext)_localctx).strictParameterizedExpression = strictParameterizedExpression();
+						((ForStatementContext)_localctx).parForParams.add(((ForStatementContext)_localctx).strictParameterizedExpression);
+						}
+						}
+						setState(162);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(163);
+					match(CLOSE_PAREN);
+					}
+					break;
+				case ID:
+					{
+					setState(165);
+					((ForStatementContext)_localctx).iterVar = match(ID);
+					setState(166);
+					match(T__10);
+					setState(167);
+					((ForStatementContext)_localctx).iterPred = iterablePredicate();
+					setState(172);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(168);
+						match(T__5);
+						setState(169);
+						((ForStatementContext)_localctx).strictParameterizedExpression = strictParameterizedExpression();
+						((ForStatementContext)_localctx).parForParams.add(((ForStatementContext)_localctx).strictParameterizedExpression);
+						}
+						}
+						setState(174);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(177);
+				match(T__7);
+				setState(178);
+				match(NEWLINE);
+				setState(179);
+				match(INDENT);
+				setState(181); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(180);
+					((ForStatementContext)_localctx).statement = statement();
+					((ForStatementContext)_localctx).body.add(((ForStatementContext)_localctx).statement);
+					}
+					}
+					setState(183); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__2) | (1L << T__6) | (1L << T__9) | (1L << T__11) | (1L << T__12) | (1L << ID) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << OPEN_BRACK) | (1L << NEWLINE))) != 0) );
+				setState(185);
+				match(DEDENT);
+				}
+				break;
+			case 9:
+				_localctx = new ParForStatementContext(_localctx);
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(187);
+				match(T__11);
+				setState(211);
+				switch (_input.LA(1)) {
+				case OPEN_PAREN:
+					{
+					setState(188);
+					match(OPEN_PAREN);
+					setState(189);
+					((ParForStatementContext)_localctx).iterVar = match(ID);
+					setState(190);
+					match(T__10);
+					setState(191);
+					((ParForStatementContext)_localctx).iterPred = iterablePredicate();
+					setState(196);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(192);
+						match(T__5);
+						setState(193);
+						((ParForStatementContext)_localctx).strictParameterizedExpression = strictParameterizedExpression();
+						((ParForStatementContext)_localctx).parForParams.add(((ParForStatementContext)_localctx).strictParameterizedExpression);
+						}
+						}
+						setState(198);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(199);
+					match(CLOSE_PAREN);
+					}
+					break;
+				case ID:
+					{
+					setState(201);
+					((ParForStatementContext)_localctx).iterVar = match(ID);
+					setState(202);
+					match(T__10);
+					setState(203);
+					((ParForStatementContext)_localctx).iterPred = iterablePredicate();
+					setState(208);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(204);
+						match(T__5);
+						setState(205);
+						((ParForStatementContext)_localctx).strictParameterizedExpression = strictParameterizedExpression();
+						((ParForStatementContext)_localctx).parForParams.add(((ParForStatementContext)_localctx).strictParameterizedExpression);
+						}
+						}
+						setState(210);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(213);
+				match(T__7);
+				setState(214);
+				match(NEWLINE);
+				setState(215);
+				match(INDENT);
+				setState(217); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(216);
+					((ParForStatementContext)_localctx).statement = statement();
+					((ParForStatementContext)_localctx).body.add(((ParForStatementContext)_localctx).statement);
+					}
+					}
+					setState(219); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__2) | (1L << T__6) | (1L << T__9) | (1L << T__11) | (1L << T__12) | (1L << ID) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << OPEN_BRACK) | (1L << NEWLINE))) != 0) );
+				setState(221);
+				match(DEDENT);
+				}
+				break;
+			case 10:
+				_localctx = new WhileStatementContext(_localctx);
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(223);
+				match(T__12);
+				setState(229);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+				case 1:
+					{
+					setState(224);
+					match(OPEN_PAREN);
+					setState(225);
+					((WhileStatementContext)_localctx).predicate = expression(0);
+					setState(226);
+					match(CLOSE_PAREN);
+					}
+					break;
+				case 2:
+					{
+					setState(228);
+					((WhileStatementContext)_localctx).predicate = expression(0);
+					}
+					break;
+				}
+				setState(231);
+				match(T__7);
+				setState(232);
+				match(NEWLINE);
+				setState(233);
+				match(INDENT);
+				setState(235); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(234);
+					((WhileStatementContext)_localctx).statement = statement();
+					((WhileStatementContext)_localctx).body.add(((WhileStatementContext)_localctx).statement);
+					}
+					}
+					setState(237); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__2) | (1L << T__6) | (1L << T__9) | (1L << T__11) | (1L << T__12) | (1L << ID) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << OPEN_BRACK) | (1L << NEWLINE))) != 0) );
+				setState(239);
+				match(DEDENT);
+				}
+				break;
+			case 11:
+				_localctx = new IgnoreNewLineContext(_localctx);
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(241);
+				match(NEWLINE);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElifBranchContext extends ParserRuleContext {
+		public org.apache.sysml.parser.common.StatementInfo info;
+		public ExpressionContext predicate;
+		public StatementContext statement;
+		public List<StatementContext> elifBody = new ArrayList<StatementContext>();
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode INDENT() { return getToken(PydmlParser.INDENT, 0); }
+		public TerminalNode DEDENT() { return getToken(PydmlParser.DEDENT, 0); }
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public ElifBranchContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elifBranch; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterElifBranch(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitElifBranch(this);
+		}
+	}
+
+	public final ElifBranchContext elifBranch() throws RecognitionException {
+		ElifBranchContext _localctx = new ElifBranchContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_elifBranch);
+
+		        // This actions occurs regardless of how many alternatives in this rule
+		        ((ElifBranchContext)_localctx).info =  new org.apache.sysml.parser.common.StatementInfo();
+		  
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(244);
+			match(T__13);
+			setState(250);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			case 1:
+				{
+				setState(245);
+				match(OPEN_PAREN);
+				setState(246);
+				((ElifBranchContext)_localctx).predicate = expression(0);
+				setState(247);
+				match(CLOSE_PAREN);
+				}
+				break;
+			case 2:
+				{
+				setState(249);
+				((ElifBranchContext)_localctx).predicate = expression(0);
+				}
+				break;
+			}
+			setState(252);
+			match(T__7);
+			setState(253);
+			match(NEWLINE);
+			setState(254);
+			match(INDENT);
+			setState(256); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(255);
+				((ElifBranchContext)_localctx).statement = statement();
+				((ElifBranchContext)_localctx).elifBody.add(((ElifBranchContext)_localctx).statement);
+				}
+				}
+				setState(258); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__2) | (1L << T__6) | (1L << T__9) | (1L << T__11) | (1L << T__12) | (1L << ID) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << OPEN_BRACK) | (1L << NEWLINE))) != 0) );
+			setState(260);
+			match(DEDENT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IterablePredicateContext extends ParserRuleContext {
+		public org.apache.sysml.parser.common.ExpressionInfo info;
+		public IterablePredicateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_iterablePredicate; }
+	 
+		public IterablePredicateContext() { }
+		public void copyFrom(IterablePredicateContext ctx) {
+			super.copyFrom(ctx);
+			this.info = ctx.info;
+		}
+	}
+	public static class IterablePredicateColonExpressionContext extends IterablePredicateContext {
+		public ExpressionContext from;
+		public ExpressionContext to;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public IterablePredicateColonExpressionContext(IterablePredicateContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterIterablePredicateColonExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitIterablePredicateColonExpression(this);
+		}
+	}
+	public static class IterablePredicateSeqExpressionContext extends IterablePredicateContext {
+		public ExpressionContext from;
+		public ExpressionContext to;
+		public ExpressionContext increment;
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public IterablePredicateSeqExpressionContext(IterablePredicateContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterIterablePredicateSeqExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitIterablePredicateSeqExpression(this);
+		}
+	}
+
+	public final IterablePredicateContext iterablePredicate() throws RecognitionException {
+		IterablePredicateContext _localctx = new IterablePredicateContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_iterablePredicate);
+
+		         // This actions occurs regardless of how many alternatives in this rule
+		         ((IterablePredicateContext)_localctx).info =  new org.apache.sysml.parser.common.ExpressionInfo();
+		  
+		int _la;
+		try {
+			setState(277);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			case 1:
+				_localctx = new IterablePredicateColonExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(262);
+				((IterablePredicateColonExpressionContext)_localctx).from = expression(0);
+				setState(263);
+				match(T__7);
+				setState(264);
+				((IterablePredicateColonExpressionContext)_localctx).to = expression(0);
+				}
+				break;
+			case 2:
+				_localctx = new IterablePredicateSeqExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(266);
+				match(ID);
+				setState(267);
+				match(OPEN_PAREN);
+				setState(268);
+				((IterablePredicateSeqExpressionContext)_localctx).from = expression(0);
+				setState(269);
+				match(T__5);
+				setState(270);
+				((IterablePredicateSeqExpressionContext)_localctx).to = expression(0);
+				setState(273);
+				_la = _input.LA(1);
+				if (_la==T__5) {
+					{
+					setState(271);
+					match(T__5);
+					setState(272);
+					((IterablePredicateSeqExpressionContext)_localctx).increment = expression(0);
+					}
+				}
+
+				setState(275);
+				match(CLOSE_PAREN);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionStatementContext extends ParserRuleContext {
+		public org.apache.sysml.parser.common.StatementInfo info;
+		public FunctionStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionStatement; }
+	 
+		public FunctionStatementContext() { }
+		public void copyFrom(FunctionStatementContext ctx) {
+			super.copyFrom(ctx);
+			this.info = ctx.info;
+		}
+	}
+	public static class ExternalFunctionDefExpressionContext extends FunctionStatementContext {
+		public Token name;
+		public TypedArgNoAssignContext typedArgNoAssign;
+		public List<TypedArgNoAssignContext> inputParams = new ArrayList<TypedArgNoAssignContext>();
+		public List<TypedArgNoAssignContext> outputParams = new ArrayList<TypedArgNoAssignContext>();
+		public StrictParameterizedKeyValueStringContext strictParameterizedKeyValueString;
+		public List<StrictParameterizedKeyValueStringContext> otherParams = new ArrayList<StrictParameterizedKeyValueStringContext>();
+		public List<TerminalNode> OPEN_PAREN() { return getTokens(PydmlParser.OPEN_PAREN); }
+		public TerminalNode OPEN_PAREN(int i) {
+			return getToken(PydmlParser.OPEN_PAREN, i);
+		}
+		public List<TerminalNode> CLOSE_PAREN() { return getTokens(PydmlParser.CLOSE_PAREN); }
+		public TerminalNode CLOSE_PAREN(int i) {
+			return getToken(PydmlParser.CLOSE_PAREN, i);
+		}
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public List<TypedArgNoAssignContext> typedArgNoAssign() {
+			return getRuleContexts(TypedArgNoAssignContext.class);
+		}
+		public TypedArgNoAssignContext typedArgNoAssign(int i) {
+			return getRuleContext(TypedArgNoAssignContext.class,i);
+		}
+		public List<StrictParameterizedKeyValueStringContext> strictParameterizedKeyValueString() {
+			return getRuleContexts(StrictParameterizedKeyValueStringContext.class);
+		}
+		public StrictParameterizedKeyValueStringContext strictParameterizedKeyValueString(int i) {
+			return getRuleContext(StrictParameterizedKeyValueStringContext.class,i);
+		}
+		public ExternalFunctionDefExpressionContext(FunctionStatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterExternalFunctionDefExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitExternalFunctionDefExpression(this);
+		}
+	}
+	public static class InternalFunctionDefExpressionContext extends FunctionStatementContext {
+		public Token name;
+		public TypedArgNoAssignContext typedArgNoAssign;
+		public List<TypedArgNoAssignContext> inputParams = new ArrayList<TypedArgNoAssignContext>();
+		public List<TypedArgNoAssignContext> outputParams = new ArrayList<TypedArgNoAssignContext>();
+		public StatementContext statement;
+		public List<StatementContext> body = new ArrayList<StatementContext>();
+		public List<TerminalNode> OPEN_PAREN() { return getTokens(PydmlParser.OPEN_PAREN); }
+		public TerminalNode OPEN_PAREN(int i) {
+			return getToken(PydmlParser.OPEN_PAREN, i);
+		}
+		public List<TerminalNode> CLOSE_PAREN() { return getTokens(PydmlParser.CLOSE_PAREN); }
+		public TerminalNode CLOSE_PAREN(int i) {
+			return getToken(PydmlParser.CLOSE_PAREN, i);
+		}
+		public TerminalNode NEWLINE() { return getToken(PydmlParser.NEWLINE, 0); }
+		public TerminalNode INDENT() { return getToken(PydmlParser.INDENT, 0); }
+		public TerminalNode DEDENT() { return getToken(PydmlParser.DEDENT, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public List<TypedArgNoAssignContext> typedArgNoAssign() {
+			return getRuleContexts(TypedArgNoAssignContext.class);
+		}
+		public TypedArgNoAssignContext typedArgNoAssign(int i) {
+			return getRuleContext(TypedArgNoAssignContext.class,i);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public InternalFunctionDefExpressionContext(FunctionStatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterInternalFunctionDefExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitInternalFunctionDefExpression(this);
+		}
+	}
+
+	public final FunctionStatementContext functionStatement() throws RecognitionException {
+		FunctionStatementContext _localctx = new FunctionStatementContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_functionStatement);
+
+		       // This actions occurs regardless of how many alternatives in this rule
+		       ((FunctionStatementContext)_localctx).info =  new org.apache.sysml.parser.common.StatementInfo();
+
+		int _la;
+		try {
+			setState(362);
+			switch (_input.LA(1)) {
+			case T__14:
+				_localctx = new InternalFunctionDefExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(279);
+				match(T__14);
+				setState(280);
+				((InternalFunctionDefExpressionContext)_localctx).name = match(ID);
+				setState(281);
+				match(OPEN_PAREN);
+				setState(290);
+				_la = _input.LA(1);
+				if (_la==ID) {
+					{
+					setState(282);
+					((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+					((InternalFunctionDefExpressionContext)_localctx).inputParams.add(((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+					setState(287);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(283);
+						match(T__5);
+						setState(284);
+						((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+						((InternalFunctionDefExpressionContext)_localctx).inputParams.add(((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+						}
+						}
+						setState(289);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(292);
+				match(CLOSE_PAREN);
+				setState(306);
+				_la = _input.LA(1);
+				if (_la==T__15) {
+					{
+					setState(293);
+					match(T__15);
+					setState(294);
+					match(OPEN_PAREN);
+					setState(303);
+					_la = _input.LA(1);
+					if (_la==ID) {
+						{
+						setState(295);
+						((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+						((InternalFunctionDefExpressionContext)_localctx).outputParams.add(((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+						setState(300);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						while (_la==T__5) {
+							{
+							{
+							setState(296);
+							match(T__5);
+							setState(297);
+							((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+							((InternalFunctionDefExpressionContext)_localctx).outputParams.add(((InternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+							}
+							}
+							setState(302);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+						}
+						}
+					}
+
+					setState(305);
+					match(CLOSE_PAREN);
+					}
+				}
+
+				setState(308);
+				match(T__7);
+				setState(309);
+				match(NEWLINE);
+				setState(310);
+				match(INDENT);
+				setState(312); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(311);
+					((InternalFunctionDefExpressionContext)_localctx).statement = statement();
+					((InternalFunctionDefExpressionContext)_localctx).body.add(((InternalFunctionDefExpressionContext)_localctx).statement);
+					}
+					}
+					setState(314); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__2) | (1L << T__6) | (1L << T__9) | (1L << T__11) | (1L << T__12) | (1L << ID) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << OPEN_BRACK) | (1L << NEWLINE))) != 0) );
+				setState(316);
+				match(DEDENT);
+				}
+				break;
+			case T__16:
+				_localctx = new ExternalFunctionDefExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(318);
+				match(T__16);
+				setState(319);
+				((ExternalFunctionDefExpressionContext)_localctx).name = match(ID);
+				setState(320);
+				match(OPEN_PAREN);
+				setState(329);
+				_la = _input.LA(1);
+				if (_la==ID) {
+					{
+					setState(321);
+					((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+					((ExternalFunctionDefExpressionContext)_localctx).inputParams.add(((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+					setState(326);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(322);
+						match(T__5);
+						setState(323);
+						((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+						((ExternalFunctionDefExpressionContext)_localctx).inputParams.add(((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+						}
+						}
+						setState(328);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(331);
+				match(CLOSE_PAREN);
+				setState(345);
+				_la = _input.LA(1);
+				if (_la==T__15) {
+					{
+					setState(332);
+					match(T__15);
+					setState(333);
+					match(OPEN_PAREN);
+					setState(342);
+					_la = _input.LA(1);
+					if (_la==ID) {
+						{
+						setState(334);
+						((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+						((ExternalFunctionDefExpressionContext)_localctx).outputParams.add(((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+						setState(339);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						while (_la==T__5) {
+							{
+							{
+							setState(335);
+							match(T__5);
+							setState(336);
+							((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign = typedArgNoAssign();
+							((ExternalFunctionDefExpressionContext)_localctx).outputParams.add(((ExternalFunctionDefExpressionContext)_localctx).typedArgNoAssign);
+							}
+							}
+							setState(341);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+						}
+						}
+					}
+
+					setState(344);
+					match(CLOSE_PAREN);
+					}
+				}
+
+				setState(347);
+				match(T__17);
+				setState(348);
+				match(T__10);
+				setState(349);
+				match(OPEN_PAREN);
+				setState(358);
+				_la = _input.LA(1);
+				if (_la==ID) {
+					{
+					setState(350);
+					((ExternalFunctionDefExpressionContext)_localctx).strictParameterizedKeyValueString = strictParameterizedKeyValueString();
+					((ExternalFunctionDefExpressionContext)_localctx).otherParams.add(((ExternalFunctionDefExpressionContext)_localctx).strictParameterizedKeyValueString);
+					setState(355);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(351);
+						match(T__5);
+						setState(352);
+						((ExternalFunctionDefExpressionContext)_localctx).strictParameterizedKeyValueString = strictParameterizedKeyValueString();
+						((ExternalFunctionDefExpressionContext)_localctx).otherParams.add(((ExternalFunctionDefExpressionContext)_localctx).strictParameterizedKeyValueString);
+						}
+						}
+						setState(357);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(360);
+				match(CLOSE_PAREN);
+				setState(361);
+				match(NEWLINE);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DataIdentifierContext extends ParserRuleContext {
+		public org.apache.sysml.parser.common.ExpressionInfo dataInfo;
+		public DataIdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dataIdentifier; }
+	 
+		public DataIdentifierContext() { }
+		public void copyFrom(DataIdentifierContext ctx) {
+			super.copyFrom(ctx);
+			this.dataInfo = ctx.dataInfo;
+		}
+	}
+	public static class IndexedExpressionContext extends DataIdentifierContext {
+		public Token name;
+		public ExpressionContext rowLower;
+		public Token rowImplicitSlice;
+		public ExpressionContext rowUpper;
+		public ExpressionContext colLower;
+		public Token colImplicitSlice;
+		public ExpressionContext colUpper;
+		public TerminalNode OPEN_BRACK() { return getToken(PydmlParser.OPEN_BRACK, 0); }
+		public TerminalNode CLOSE_BRACK() { return getToken(PydmlParser.CLOSE_BRACK, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public IndexedExpressionContext(DataIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterIndexedExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitIndexedExpression(this);
+		}
+	}
+	public static class CommandlinePositionExpressionContext extends DataIdentifierContext {
+		public TerminalNode COMMANDLINE_POSITION_ID() { return getToken(PydmlParser.COMMANDLINE_POSITION_ID, 0); }
+		public CommandlinePositionExpressionContext(DataIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterCommandlinePositionExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitCommandlinePositionExpression(this);
+		}
+	}
+	public static class SimpleDataIdentifierExpressionContext extends DataIdentifierContext {
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public SimpleDataIdentifierExpressionContext(DataIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterSimpleDataIdentifierExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitSimpleDataIdentifierExpression(this);
+		}
+	}
+	public static class CommandlineParamExpressionContext extends DataIdentifierContext {
+		public TerminalNode COMMANDLINE_NAMED_ID() { return getToken(PydmlParser.COMMANDLINE_NAMED_ID, 0); }
+		public CommandlineParamExpressionContext(DataIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterCommandlineParamExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitCommandlineParamExpression(this);
+		}
+	}
+
+	public final DataIdentifierContext dataIdentifier() throws RecognitionException {
+		DataIdentifierContext _localctx = new DataIdentifierContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_dataIdentifier);
+
+		       // This actions occurs regardless of how many alternatives in this rule
+		       ((DataIdentifierContext)_localctx).dataInfo =  new org.apache.sysml.parser.common.ExpressionInfo();
+		       // _localctx.dataInfo.expr = new org.apache.sysml.parser.DataIdentifier();
+
+		int _la;
+		try {
+			setState(391);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+			case 1:
+				_localctx = new IndexedExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(364);
+				((IndexedExpressionContext)_localctx).name = match(ID);
+				setState(365);
+				match(OPEN_BRACK);
+				setState(367);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__19) | (1L << T__20) | (1L << T__31) | (1L << T__37) | (1L << T__38) | (1L << ID) | (1L << INT) | (1L << DOUBLE) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << STRING) | (1L << OPEN_PAREN))) != 0)) {
+					{
+					setState(366);
+					((IndexedExpressionContext)_localctx).rowLower = expression(0);
+					}
+				}
+
+				setState(373);
+				_la = _input.LA(1);
+				if (_la==T__7) {
+					{
+					setState(369);
+					((IndexedExpressionContext)_localctx).rowImplicitSlice = match(T__7);
+					setState(371);
+					_la = _input.LA(1);
+					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__19) | (1L << T__20) | (1L << T__31) | (1L << T__37) | (1L << T__38) | (1L << ID) | (1L << INT) | (1L << DOUBLE) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << STRING) | (1L << OPEN_PAREN))) != 0)) {
+						{
+						setState(370);
+						((IndexedExpressionContext)_localctx).rowUpper = expression(0);
+						}
+					}
+
+					}
+				}
+
+				setState(385);
+				_la = _input.LA(1);
+				if (_la==T__5) {
+					{
+					setState(375);
+					match(T__5);
+					setState(377);
+					_la = _input.LA(1);
+					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__19) | (1L << T__20) | (1L << T__31) | (1L << T__37) | (1L << T__38) | (1L << ID) | (1L << INT) | (1L << DOUBLE) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << STRING) | (1L << OPEN_PAREN))) != 0)) {
+						{
+						setState(376);
+						((IndexedExpressionContext)_localctx).colLower = expression(0);
+						}
+					}
+
+					setState(383);
+					_la = _input.LA(1);
+					if (_la==T__7) {
+						{
+						setState(379);
+						((IndexedExpressionContext)_localctx).colImplicitSlice = match(T__7);
+						setState(381);
+						_la = _input.LA(1);
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__19) | (1L << T__20) | (1L << T__31) | (1L << T__37) | (1L << T__38) | (1L << ID) | (1L << INT) | (1L << DOUBLE) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << STRING) | (1L << OPEN_PAREN))) != 0)) {
+							{
+							setState(380);
+							((IndexedExpressionContext)_localctx).colUpper = expression(0);
+							}
+						}
+
+						}
+					}
+
+					}
+				}
+
+				setState(387);
+				match(CLOSE_BRACK);
+				}
+				break;
+			case 2:
+				_localctx = new SimpleDataIdentifierExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(388);
+				match(ID);
+				}
+				break;
+			case 3:
+				_localctx = new CommandlineParamExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(389);
+				match(COMMANDLINE_NAMED_ID);
+				}
+				break;
+			case 4:
+				_localctx = new CommandlinePositionExpressionContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(390);
+				match(COMMANDLINE_POSITION_ID);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public org.apache.sysml.parser.common.ExpressionInfo info;
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+			this.info = ctx.info;
+		}
+	}
+	public static class ModIntDivExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ModIntDivExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterModIntDivExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitModIntDivExpression(this);
+		}
+	}
+	public static class RelationalExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public RelationalExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterRelationalExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitRelationalExpression(this);
+		}
+	}
+	public static class BooleanNotExpressionContext extends ExpressionContext {
+		public Token op;
+		public ExpressionContext left;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public BooleanNotExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterBooleanNotExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitBooleanNotExpression(this);
+		}
+	}
+	public static class PowerExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public PowerExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterPowerExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitPowerExpression(this);
+		}
+	}
+	public static class BuiltinFunctionExpressionContext extends ExpressionContext {
+		public Token name;
+		public ParameterizedExpressionContext parameterizedExpression;
+		public List<ParameterizedExpressionContext> paramExprs = new ArrayList<ParameterizedExpressionContext>();
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public List<ParameterizedExpressionContext> parameterizedExpression() {
+			return getRuleContexts(ParameterizedExpressionContext.class);
+		}
+		public ParameterizedExpressionContext parameterizedExpression(int i) {
+			return getRuleContext(ParameterizedExpressionContext.class,i);
+		}
+		public BuiltinFunctionExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterBuiltinFunctionExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitBuiltinFunctionExpression(this);
+		}
+	}
+	public static class ConstIntIdExpressionContext extends ExpressionContext {
+		public TerminalNode INT() { return getToken(PydmlParser.INT, 0); }
+		public ConstIntIdExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterConstIntIdExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitConstIntIdExpression(this);
+		}
+	}
+	public static class AtomicExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public TerminalNode OPEN_PAREN() { return getToken(PydmlParser.OPEN_PAREN, 0); }
+		public TerminalNode CLOSE_PAREN() { return getToken(PydmlParser.CLOSE_PAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AtomicExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterAtomicExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitAtomicExpression(this);
+		}
+	}
+	public static class ConstStringIdExpressionContext extends ExpressionContext {
+		public TerminalNode STRING() { return getToken(PydmlParser.STRING, 0); }
+		public ConstStringIdExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterConstStringIdExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitConstStringIdExpression(this);
+		}
+	}
+	public static class ConstTrueExpressionContext extends ExpressionContext {
+		public ConstTrueExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterConstTrueExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitConstTrueExpression(this);
+		}
+	}
+	public static class UnaryExpressionContext extends ExpressionContext {
+		public Token op;
+		public ExpressionContext left;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public UnaryExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterUnaryExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitUnaryExpression(this);
+		}
+	}
+	public static class MultDivExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public MultDivExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterMultDivExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitMultDivExpression(this);
+		}
+	}
+	public static class ConstFalseExpressionContext extends ExpressionContext {
+		public ConstFalseExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterConstFalseExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitConstFalseExpression(this);
+		}
+	}
+	public static class DataIdExpressionContext extends ExpressionContext {
+		public DataIdentifierContext dataIdentifier() {
+			return getRuleContext(DataIdentifierContext.class,0);
+		}
+		public DataIdExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterDataIdExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitDataIdExpression(this);
+		}
+	}
+	public static class AddSubExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public AddSubExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterAddSubExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitAddSubExpression(this);
+		}
+	}
+	public static class ConstDoubleIdExpressionContext extends ExpressionContext {
+		public TerminalNode DOUBLE() { return getToken(PydmlParser.DOUBLE, 0); }
+		public ConstDoubleIdExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterConstDoubleIdExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitConstDoubleIdExpression(this);
+		}
+	}
+	public static class BooleanAndExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public BooleanAndExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterBooleanAndExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitBooleanAndExpression(this);
+		}
+	}
+	public static class BooleanOrExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public BooleanOrExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterBooleanOrExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitBooleanOrExpression(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 12;
+		enterRecursionRule(_localctx, 12, RULE_expression, _p);
+
+		       // This actions occurs regardless of how many alternatives in this rule
+		       ((ExpressionContext)_localctx).info =  new org.apache.sysml.parser.common.ExpressionInfo();
+		       // _localctx.info.expr = new org.apache.sysml.parser.BinaryExpression(org.apache.sysml.parser.Expression.BinaryOp.INVALID);
+
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(427);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
+			case 1:
+				{
+				_localctx = new UnaryExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(394);
+				((UnaryExpressionContext)_localctx).op = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !(_la==T__19 || _la==T__20) ) {
+					((UnaryExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+				} else {
+					consume();
+				}
+				setState(395);
+				((UnaryExpressionContext)_localctx).left = expression(16);
+				}
+				break;
+			case 2:
+				{
+				_localctx = new BooleanNotExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(396);
+				((BooleanNotExpressionContext)_localctx).op = match(T__31);
+				setState(397);
+				((BooleanNotExpressionContext)_localctx).left = expression(11);
+				}
+				break;
+			case 3:
+				{
+				_localctx = new BuiltinFunctionExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(398);
+				((BuiltinFunctionExpressionContext)_localctx).name = match(ID);
+				setState(399);
+				match(OPEN_PAREN);
+				setState(408);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__19) | (1L << T__20) | (1L << T__31) | (1L << T__37) | (1L << T__38) | (1L << ID) | (1L << INT) | (1L << DOUBLE) | (1L << COMMANDLINE_NAMED_ID) | (1L << COMMANDLINE_POSITION_ID) | (1L << STRING) | (1L << OPEN_PAREN))) != 0)) {
+					{
+					setState(400);
+					((BuiltinFunctionExpressionContext)_localctx).parameterizedExpression = parameterizedExpression();
+					((BuiltinFunctionExpressionContext)_localctx).paramExprs.add(((BuiltinFunctionExpressionContext)_localctx).parameterizedExpression);
+					setState(405);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__5) {
+						{
+						{
+						setState(401);
+						match(T__5);
+						setState(402);
+						((BuiltinFunctionExpressionContext)_localctx).parameterizedExpression = parameterizedExpression();
+						((BuiltinFunctionExpressionContext)_localctx).paramExprs.add(((BuiltinFunctionExpressionContext)_localctx).parameterizedExpression);
+						}
+						}
+						setState(407);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(410);
+				match(CLOSE_PAREN);
+				setState(414);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,53,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(411);
+						match(T__36);
+						}
+						} 
+					}
+					setState(416);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,53,_ctx);
+				}
+				}
+				break;
+			case 4:
+				{
+				_localctx = new AtomicExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(417);
+				match(OPEN_PAREN);
+				setState(418);
+				((AtomicExpressionContext)_localctx).left = expression(0);
+				setState(419);
+				match(CLOSE_PAREN);
+				}
+				break;
+			case 5:
+				{
+				_localctx = new ConstTrueExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(421);
+				match(T__37);
+				}
+				break;
+			case 6:
+				{
+				_localctx = new ConstFalseExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(422);
+				match(T__38);
+				}
+				break;
+			case 7:
+				{
+				_localctx = new ConstIntIdExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(423);
+				match(INT);
+				}
+				break;
+			case 8:
+				{
+				_localctx = new ConstDoubleIdExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(424);
+				match(DOUBLE);
+				}
+				break;
+			case 9:
+				{
+				_localctx = new ConstStringIdExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(425);
+				match(STRING);
+				}
+				break;
+			case 10:
+				{
+				_localctx = new DataIdExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(426);
+				dataIdentifier();
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(452);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(450);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
+					case 1:
+						{
+						_localctx = new PowerExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((PowerExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(429);
+						if (!(precpred(_ctx, 17))) throw new FailedPredicateException(this, "precpred(_ctx, 17)");
+						setState(430);
+						((PowerExpressionContext)_localctx).op = match(T__18);
+						setState(431);
+						((PowerExpressionContext)_localctx).right = expression(17);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ModIntDivExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((ModIntDivExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(432);
+						if (!(precpred(_ctx, 15))) throw new FailedPredicateException(this, "precpred(_ctx, 15)");
+						setState(433);
+						((ModIntDivExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__21 || _la==T__22) ) {
+							((ModIntDivExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(434);
+						((ModIntDivExpressionContext)_localctx).right = expression(16);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new MultDivExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((MultDivExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(435);
+						if (!(precpred(_ctx, 14))) throw new FailedPredicateException(this, "precpred(_ctx, 14)");
+						setState(436);
+						((MultDivExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__23 || _la==T__24) ) {
+							((MultDivExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(437);
+						((MultDivExpressionContext)_localctx).right = expression(15);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new AddSubExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((AddSubExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(438);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(439);
+						((AddSubExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__19 || _la==T__20) ) {
+							((AddSubExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(440);
+						((AddSubExpressionContext)_localctx).right = expression(14);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new RelationalExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((RelationalExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(441);
+						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
+						setState(442);
+						((RelationalExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30))) != 0)) ) {
+							((RelationalExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(443);
+						((RelationalExpressionContext)_localctx).right = expression(13);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new BooleanAndExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BooleanAndExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(444);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(445);
+						((BooleanAndExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__32 || _la==T__33) ) {
+							((BooleanAndExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(446);
+						((BooleanAndExpressionContext)_localctx).right = expression(11);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new BooleanOrExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BooleanOrExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(447);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(448);
+						((BooleanOrExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__34 || _la==T__35) ) {
+							((BooleanOrExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						} else {
+							consume();
+						}
+						setState(449);
+						((BooleanOrExpressionContext)_localctx).right = expression(10);
+						}
+						break;
+					}
+					} 
+				}
+				setState(454);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class TypedArgNoAssignContext extends ParserRuleContext {
+		public Token paramName;
+		public Ml_typeContext paramType;
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public Ml_typeContext ml_type() {
+			return getRuleContext(Ml_typeContext.class,0);
+		}
+		public TypedArgNoAssignContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typedArgNoAssign; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterTypedArgNoAssign(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitTypedArgNoAssign(this);
+		}
+	}
+
+	public final TypedArgNoAssignContext typedArgNoAssign() throws RecognitionException {
+		TypedArgNoAssignContext _localctx = new TypedArgNoAssignContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_typedArgNoAssign);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(455);
+			((TypedArgNoAssignContext)_localctx).paramName = match(ID);
+			setState(456);
+			match(T__7);
+			setState(457);
+			((TypedArgNoAssignContext)_localctx).paramType = ml_type();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParameterizedExpressionContext extends ParserRuleContext {
+		public Token paramName;
+		public ExpressionContext paramVal;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public ParameterizedExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameterizedExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterParameterizedExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitParameterizedExpression(this);
+		}
+	}
+
+	public final ParameterizedExpressionContext parameterizedExpression() throws RecognitionException {
+		ParameterizedExpressionContext _localctx = new ParameterizedExpressionContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_parameterizedExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(461);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
+			case 1:
+				{
+				setState(459);
+				((ParameterizedExpressionContext)_localctx).paramName = match(ID);
+				setState(460);
+				match(T__3);
+				}
+				break;
+			}
+			setState(463);
+			((ParameterizedExpressionContext)_localctx).paramVal = expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StrictParameterizedExpressionContext extends ParserRuleContext {
+		public Token paramName;
+		public ExpressionContext paramVal;
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StrictParameterizedExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_strictParameterizedExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterStrictParameterizedExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitStrictParameterizedExpression(this);
+		}
+	}
+
+	public final StrictParameterizedExpressionContext strictParameterizedExpression() throws RecognitionException {
+		StrictParameterizedExpressionContext _localctx = new StrictParameterizedExpressionContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_strictParameterizedExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(465);
+			((StrictParameterizedExpressionContext)_localctx).paramName = match(ID);
+			setState(466);
+			match(T__3);
+			setState(467);
+			((StrictParameterizedExpressionContext)_localctx).paramVal = expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StrictParameterizedKeyValueStringContext extends ParserRuleContext {
+		public Token paramName;
+		public Token paramVal;
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public TerminalNode STRING() { return getToken(PydmlParser.STRING, 0); }
+		public StrictParameterizedKeyValueStringContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_strictParameterizedKeyValueString; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterStrictParameterizedKeyValueString(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitStrictParameterizedKeyValueString(this);
+		}
+	}
+
+	public final StrictParameterizedKeyValueStringContext strictParameterizedKeyValueString() throws RecognitionException {
+		StrictParameterizedKeyValueStringContext _localctx = new StrictParameterizedKeyValueStringContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_strictParameterizedKeyValueString);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(469);
+			((StrictParameterizedKeyValueStringContext)_localctx).paramName = match(ID);
+			setState(470);
+			match(T__3);
+			setState(471);
+			((StrictParameterizedKeyValueStringContext)_localctx).paramVal = match(STRING);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Ml_typeContext extends ParserRuleContext {
+		public ValueTypeContext valueType() {
+			return getRuleContext(ValueTypeContext.class,0);
+		}
+		public DataTypeContext dataType() {
+			return getRuleContext(DataTypeContext.class,0);
+		}
+		public TerminalNode OPEN_BRACK() { return getToken(PydmlParser.OPEN_BRACK, 0); }
+		public TerminalNode CLOSE_BRACK() { return getToken(PydmlParser.CLOSE_BRACK, 0); }
+		public Ml_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ml_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterMl_type(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitMl_type(this);
+		}
+	}
+
+	public final Ml_typeContext ml_type() throws RecognitionException {
+		Ml_typeContext _localctx = new Ml_typeContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_ml_type);
+		try {
+			setState(479);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(473);
+				valueType();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(474);
+				dataType();
+				setState(475);
+				match(OPEN_BRACK);
+				setState(476);
+				valueType();
+				setState(477);
+				match(CLOSE_BRACK);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ValueTypeContext extends ParserRuleContext {
+		public ValueTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_valueType; }
+	 
+		public ValueTypeContext() { }
+		public void copyFrom(ValueTypeContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ValueDataTypeCheckContext extends ValueTypeContext {
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public ValueDataTypeCheckContext(ValueTypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterValueDataTypeCheck(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitValueDataTypeCheck(this);
+		}
+	}
+
+	public final ValueTypeContext valueType() throws RecognitionException {
+		ValueTypeContext _localctx = new ValueTypeContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_valueType);
+		try {
+			_localctx = new ValueDataTypeCheckContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(481);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DataTypeContext extends ParserRuleContext {
+		public DataTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dataType; }
+	 
+		public DataTypeContext() { }
+		public void copyFrom(DataTypeContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class MatrixDataTypeCheckContext extends DataTypeContext {
+		public TerminalNode ID() { return getToken(PydmlParser.ID, 0); }
+		public MatrixDataTypeCheckContext(DataTypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).enterMatrixDataTypeCheck(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof PydmlListener ) ((PydmlListener)listener).exitMatrixDataTypeCheck(this);
+		}
+	}
+
+	public final DataTypeContext dataType() throws RecognitionException {
+		DataTypeContext _localctx = new DataTypeContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_dataType);
+		try {
+			_localctx = new MatrixDataTypeCheckContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(483);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 6:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 17);
+		case 1:
+			return precpred(_ctx, 15);
+		case 2:
+			return precpred(_ctx, 14);
+		case 3:
+			return precpred(_ctx, 13);
+		case 4:
+			return precpred(_ctx, 12);
+		case 5:
+			return precpred(_ctx, 10);
+		case 6:
+			return precpred(_ctx, 9);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\39\u01e8\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\3\2\3\2\7\2!\n\2\f\2\16\2$\13"+
+		"\2\3\2\7\2\'\n\2\f\2\16\2*\13\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\5\3G\n\3\3\3\3\3\3\3\3\3\3\3\7\3N\n\3\f\3\16\3Q\13\3\5\3S\n\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\7\3[\n\3\f\3\16\3^\13\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\7"+
+		"\3g\n\3\f\3\16\3j\13\3\5\3l\n\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\3\5\3|\n\3\3\3\3\3\3\3\3\3\6\3\u0082\n\3\r\3\16\3\u0083"+
+		"\3\3\3\3\7\3\u0088\n\3\f\3\16\3\u008b\13\3\3\3\3\3\3\3\3\3\3\3\6\3\u0092"+
+		"\n\3\r\3\16\3\u0093\3\3\3\3\5\3\u0098\n\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\7\3\u00a1\n\3\f\3\16\3\u00a4\13\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\7\3\u00ad"+
+		"\n\3\f\3\16\3\u00b0\13\3\5\3\u00b2\n\3\3\3\3\3\3\3\3\3\6\3\u00b8\n\3\r"+
+		"\3\16\3\u00b9\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\7\3\u00c5\n\3\f\3\16"+
+		"\3\u00c8\13\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\7\3\u00d1\n\3\f\3\16\3\u00d4"+
+		"\13\3\5\3\u00d6\n\3\3\3\3\3\3\3\3\3\6\3\u00dc\n\3\r\3\16\3\u00dd\3\3\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3\u00e8\n\3\3\3\3\3\3\3\3\3\6\3\u00ee\n\3"+
+		"\r\3\16\3\u00ef\3\3\3\3\3\3\5\3\u00f5\n\3\3\4\3\4\3\4\3\4\3\4\3\4\5\4"+
+		"\u00fd\n\4\3\4\3\4\3\4\3\4\6\4\u0103\n\4\r\4\16\4\u0104\3\4\3\4\3\5\3"+
+		"\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\5\5\u0114\n\5\3\5\3\5\5\5\u0118"+
+		"\n\5\3\6\3\6\3\6\3\6\3\6\3\6\7\6\u0120\n\6\f\6\16\6\u0123\13\6\5\6\u0125"+
+		"\n\6\3\6\3\6\3\6\3\6\3\6\3\6\7\6\u012d\n\6\f\6\16\6\u0130\13\6\5\6\u0132"+
+		"\n\6\3\6\5\6\u0135\n\6\3\6\3\6\3\6\3\6\6\6\u013b\n\6\r\6\16\6\u013c\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\7\6\u0147\n\6\f\6\16\6\u014a\13\6\5\6\u014c"+
+		"\n\6\3\6\3\6\3\6\3\6\3\6\3\6\7\6\u0154\n\6\f\6\16\6\u0157\13\6\5\6\u0159"+
+		"\n\6\3\6\5\6\u015c\n\6\3\6\3\6\3\6\3\6\3\6\3\6\7\6\u0164\n\6\f\6\16\6"+
+		"\u0167\13\6\5\6\u0169\n\6\3\6\3\6\5\6\u016d\n\6\3\7\3\7\3\7\5\7\u0172"+
+		"\n\7\3\7\3\7\5\7\u0176\n\7\5\7\u0178\n\7\3\7\3\7\5\7\u017c\n\7\3\7\3\7"+
+		"\5\7\u0180\n\7\5\7\u0182\n\7\5\7\u0184\n\7\3\7\3\7\3\7\3\7\5\7\u018a\n"+
+		"\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\7\b\u0196\n\b\f\b\16\b\u0199"+
+		"\13\b\5\b\u019b\n\b\3\b\3\b\7\b\u019f\n\b\f\b\16\b\u01a2\13\b\3\b\3\b"+
+		"\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\5\b\u01ae\n\b\3\b\3\b\3\b\3\b\3\b\3\b"+
+		"\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\7\b\u01c5"+
+		"\n\b\f\b\16\b\u01c8\13\b\3\t\3\t\3\t\3\t\3\n\3\n\5\n\u01d0\n\n\3\n\3\n"+
+		"\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\5\r\u01e2"+
+		"\n\r\3\16\3\16\3\17\3\17\3\17\2\3\16\20\2\4\6\b\n\f\16\20\22\24\26\30"+
+		"\32\34\2\b\3\2\26\27\3\2\30\31\3\2\32\33\3\2\34!\3\2#$\3\2%&\u022c\2\""+
+		"\3\2\2\2\4\u00f4\3\2\2\2\6\u00f6\3\2\2\2\b\u0117\3\2\2\2\n\u016c\3\2\2"+
+		"\2\f\u0189\3\2\2\2\16\u01ad\3\2\2\2\20\u01c9\3\2\2\2\22\u01cf\3\2\2\2"+
+		"\24\u01d3\3\2\2\2\26\u01d7\3\2\2\2\30\u01e1\3\2\2\2\32\u01e3\3\2\2\2\34"+
+		"\u01e5\3\2\2\2\36!\5\4\3\2\37!\5\n\6\2 \36\3\2\2\2 \37\3\2\2\2!$\3\2\2"+
+		"\2\" \3\2\2\2\"#\3\2\2\2#(\3\2\2\2$\"\3\2\2\2%\'\7\66\2\2&%\3\2\2\2\'"+
+		"*\3\2\2\2(&\3\2\2\2()\3\2\2\2)+\3\2\2\2*(\3\2\2\2+,\7\2\2\3,\3\3\2\2\2"+
+		"-.\7\3\2\2./\7\64\2\2/\60\7\61\2\2\60\61\7\65\2\2\61\62\7\4\2\2\62\63"+
+		"\7*\2\2\63\u00f5\7\66\2\2\64\65\7\5\2\2\65\66\7\64\2\2\66\67\7\61\2\2"+
+		"\678\7\65\2\28\u00f5\7\66\2\29:\5\f\7\2:;\7\6\2\2;<\7\7\2\2<=\7\64\2\2"+
+		"=>\5\f\7\2>?\7\b\2\2?@\5\16\b\2@A\7\65\2\2AB\7\66\2\2B\u00f5\3\2\2\2C"+
+		"D\5\f\7\2DE\7\6\2\2EG\3\2\2\2FC\3\2\2\2FG\3\2\2\2GH\3\2\2\2HI\7*\2\2I"+
+		"R\7\64\2\2JO\5\22\n\2KL\7\b\2\2LN\5\22\n\2MK\3\2\2\2NQ\3\2\2\2OM\3\2\2"+
+		"\2OP\3\2\2\2PS\3\2\2\2QO\3\2\2\2RJ\3\2\2\2RS\3\2\2\2ST\3\2\2\2TU\7\65"+
+		"\2\2U\u00f5\7\66\2\2VW\7\62\2\2W\\\5\f\7\2XY\7\b\2\2Y[\5\f\7\2ZX\3\2\2"+
+		"\2[^\3\2\2\2\\Z\3\2\2\2\\]\3\2\2\2]_\3\2\2\2^\\\3\2\2\2_`\7\63\2\2`a\7"+
+		"\6\2\2ab\7*\2\2bk\7\64\2\2ch\5\22\n\2de\7\b\2\2eg\5\22\n\2fd\3\2\2\2g"+
+		"j\3\2\2\2hf\3\2\2\2hi\3\2\2\2il\3\2\2\2jh\3\2\2\2kc\3\2\2\2kl\3\2\2\2"+
+		"lm\3\2\2\2mn\7\65\2\2no\7\66\2\2o\u00f5\3\2\2\2pq\5\f\7\2qr\7\6\2\2rs"+
+		"\5\16\b\2st\7\66\2\2t\u00f5\3\2\2\2u{\7\t\2\2vw\7\64\2\2wx\5\16\b\2xy"+
+		"\7\65\2\2y|\3\2\2\2z|\5\16\b\2{v\3\2\2\2{z\3\2\2\2|}\3\2\2\2}~\7\n\2\2"+
+		"~\177\7\66\2\2\177\u0081\78\2\2\u0080\u0082\5\4\3\2\u0081\u0080\3\2\2"+
+		"\2\u0082\u0083\3\2\2\2\u0083\u0081\3\2\2\2\u0083\u0084\3\2\2\2\u0084\u0085"+
+		"\3\2\2\2\u0085\u0089\79\2\2\u0086\u0088\5\6\4\2\u0087\u0086\3\2\2\2\u0088"+
+		"\u008b\3\2\2\2\u0089\u0087\3\2\2\2\u0089\u008a\3\2\2\2\u008a\u0097\3\2"+
+		"\2\2\u008b\u0089\3\2\2\2\u008c\u008d\7\13\2\2\u008d\u008e\7\n\2\2\u008e"+
+		"\u008f\7\66\2\2\u008f\u0091\78\2\2\u0090\u0092\5\4\3\2\u0091\u0090\3\2"+
+		"\2\2\u0092\u0093\3\2\2\2\u0093\u0091\3\2\2\2\u0093\u0094\3\2\2\2\u0094"+
+		"\u0095\3\2\2\2\u0095\u0096\79\2\2\u0096\u0098\3\2\2\2\u0097\u008c\3\2"+
+		"\2\2\u0097\u0098\3\2\2\2\u0098\u00f5\3\2\2\2\u0099\u00b1\7\f\2\2\u009a"+
+		"\u009b\7\64\2\2\u009b\u009c\7*\2\2\u009c\u009d\7\r\2\2\u009d\u00a2\5\b"+
+		"\5\2\u009e\u009f\7\b\2\2\u009f\u00a1\5\24\13\2\u00a0\u009e\3\2\2\2\u00a1"+
+		"\u00a4\3\2\2\2\u00a2\u00a0\3\2\2\2\u00a2\u00a3\3\2\2\2\u00a3\u00a5\3\2"+
+		"\2\2\u00a4\u00a2\3\2\2\2\u00a5\u00a6\7\65\2\2\u00a6\u00b2\3\2\2\2\u00a7"+
+		"\u00a8\7*\2\2\u00a8\u00a9\7\r\2\2\u00a9\u00ae\5\b\5\2\u00aa\u00ab\7\b"+
+		"\2\2\u00ab\u00ad\5\24\13\2\u00ac\u00aa\3\2\2\2\u00ad\u00b0\3\2\2\2\u00ae"+
+		"\u00ac\3\2\2\2\u00ae\u00af\3\2\2\2\u00af\u00b2\3\2\2\2\u00b0\u00ae\3\2"+
+		"\2\2\u00b1\u009a\3\2\2\2\u00b1\u00a7\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3"+
+		"\u00b4\7\n\2\2\u00b4\u00b5\7\66\2\2\u00b5\u00b7\78\2\2\u00b6\u00b8\5\4"+
+		"\3\2\u00b7\u00b6\3\2\2\2\u00b8\u00b9\3\2\2\2\u00b9\u00b7\3\2\2\2\u00b9"+
+		"\u00ba\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb\u00bc\79\2\2\u00bc\u00f5\3\2"+
+		"\2\2\u00bd\u00d5\7\16\2\2\u00be\u00bf\7\64\2\2\u00bf\u00c0\7*\2\2\u00c0"+
+		"\u00c1\7\r\2\2\u00c1\u00c6\5\b\5\2\u00c2\u00c3\7\b\2\2\u00c3\u00c5\5\24"+
+		"\13\2\u00c4\u00c2\3\2\2\2\u00c5\u00c8\3\2\2\2\u00c6\u00c4\3\2\2\2\u00c6"+
+		"\u00c7\3\2\2\2\u00c7\u00c9\3\2\2\2\u00c8\u00c6\3\2\2\2\u00c9\u00ca\7\65"+
+		"\2\2\u00ca\u00d6\3\2\2\2\u00cb\u00cc\7*\2\2\u00cc\u00cd\7\r\2\2\u00cd"+
+		"\u00d2\5\b\5\2\u00ce\u00cf\7\b\2\2\u00cf\u00d1\5\24\13\2\u00d0\u00ce\3"+
+		"\2\2\2\u00d1\u00d4\3\2\2\2\u00d2\u00d0\3\2\2\2\u00d2\u00d3\3\2\2\2\u00d3"+
+		"\u00d6\3\2\2\2\u00d4\u00d2\3\2\2\2\u00d5\u00be\3\2\2\2\u00d5\u00cb\3\2"+
+		"\2\2\u00d6\u00d7\3\2\2\2\u00d7\u00d8\7\n\2\2\u00d8\u00d9\7\66\2\2\u00d9"+
+		"\u00db\78\2\2\u00da\u00dc\5\4\3\2\u00db\u00da\3\2\2\2\u00dc\u00dd\3\2"+
+		"\2\2\u00dd\u00db\3\2\2\2\u00dd\u00de\3\2\2\2\u00de\u00df\3\2\2\2\u00df"+
+		"\u00e0\79\2\2\u00e0\u00f5\3\2\2\2\u00e1\u00e7\7\17\2\2\u00e2\u00e3\7\64"+
+		"\2\2\u00e3\u00e4\5\16\b\2\u00e4\u00e5\7\65\2\2\u00e5\u00e8\3\2\2\2\u00e6"+
+		"\u00e8\5\16\b\2\u00e7\u00e2\3\2\2\2\u00e7\u00e6\3\2\2\2\u00e8\u00e9\3"+
+		"\2\2\2\u00e9\u00ea\7\n\2\2\u00ea\u00eb\7\66\2\2\u00eb\u00ed\78\2\2\u00ec"+
+		"\u00ee\5\4\3\2\u00ed\u00ec\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00ed\3\2"+
+		"\2\2\u00ef\u00f0\3\2\2\2\u00f0\u00f1\3\2\2\2\u00f1\u00f2\79\2\2\u00f2"+
+		"\u00f5\3\2\2\2\u00f3\u00f5\7\66\2\2\u00f4-\3\2\2\2\u00f4\64\3\2\2\2\u00f4"+
+		"9\3\2\2\2\u00f4F\3\2\2\2\u00f4V\3\2\2\2\u00f4p\3\2\2\2\u00f4u\3\2\2\2"+
+		"\u00f4\u0099\3\2\2\2\u00f4\u00bd\3\2\2\2\u00f4\u00e1\3\2\2\2\u00f4\u00f3"+
+		"\3\2\2\2\u00f5\5\3\2\2\2\u00f6\u00fc\7\20\2\2\u00f7\u00f8\7\64\2\2\u00f8"+
+		"\u00f9\5\16\b\2\u00f9\u00fa\7\65\2\2\u00fa\u00fd\3\2\2\2\u00fb\u00fd\5"+
+		"\16\b\2\u00fc\u00f7\3\2\2\2\u00fc\u00fb\3\2\2\2\u00fd\u00fe\3\2\2\2\u00fe"+
+		"\u00ff\7\n\2\2\u00ff\u0100\7\66\2\2\u0100\u0102\78\2\2\u0101\u0103\5\4"+
+		"\3\2\u0102\u0101\3\2\2\2\u0103\u0104\3\2\2\2\u0104\u0102\3\2\2\2\u0104"+
+		"\u0105\3\2\2\2\u0105\u0106\3\2\2\2\u0106\u0107\79\2\2\u0107\7\3\2\2\2"+
+		"\u0108\u0109\5\16\b\2\u0109\u010a\7\n\2\2\u010a\u010b\5\16\b\2\u010b\u0118"+
+		"\3\2\2\2\u010c\u010d\7*\2\2\u010d\u010e\7\64\2\2\u010e\u010f\5\16\b\2"+
+		"\u010f\u0110\7\b\2\2\u0110\u0113\5\16\b\2\u0111\u0112\7\b\2\2\u0112\u0114"+
+		"\5\16\b\2\u0113\u0111\3\2\2\2\u0113\u0114\3\2\2\2\u0114\u0115\3\2\2\2"+
+		"\u0115\u0116\7\65\2\2\u0116\u0118\3\2\2\2\u0117\u0108\3\2\2\2\u0117\u010c"+
+		"\3\2\2\2\u0118\t\3\2\2\2\u0119\u011a\7\21\2\2\u011a\u011b\7*\2\2\u011b"+
+		"\u0124\7\64\2\2\u011c\u0121\5\20\t\2\u011d\u011e\7\b\2\2\u011e\u0120\5"+
+		"\20\t\2\u011f\u011d\3\2\2\2\u0120\u0123\3\2\2\2\u0121\u011f\3\2\2\2\u0121"+
+		"\u0122\3\2\2\2\u0122\u0125\3\2\2\2\u0123\u0121\3\2\2\2\u0124\u011c\3\2"+
+		"\2\2\u0124\u0125\3\2\2\2\u0125\u0126\3\2\2\2\u0126\u0134\7\65\2\2\u0127"+
+		"\u0128\7\22\2\2\u0128\u0131\7\64\2\2\u0129\u012e\5\20\t\2\u012a\u012b"+
+		"\7\b\2\2\u012b\u012d\5\20\t\2\u012c\u012a\3\2\2\2\u012d\u0130\3\2\2\2"+
+		"\u012e\u012c\3\2\2\2\u012e\u012f\3\2\2\2\u012f\u0132\3\2\2\2\u0130\u012e"+
+		"\3\2\2\2\u0131\u0129\3\2\2\2\u0131\u0132\3\2\2\2\u0132\u0133\3\2\2\2\u0133"+
+		"\u0135\7\65\2\2\u0134\u0127\3\2\2\2\u0134\u0135\3\2\2\2\u0135\u0136\3"+
+		"\2\2\2\u0136\u0137\7\n\2\2\u0137\u0138\7\66\2\2\u0138\u013a\78\2\2\u0139"+
+		"\u013b\5\4\3\2\u013a\u0139\3\2\2\2\u013b\u013c\3\2\2\2\u013c\u013a\3\2"+
+		"\2\2\u013c\u013d\3\2\2\2\u013d\u013e\3\2\2\2\u013e\u013f\79\2\2\u013f"+
+		"\u016d\3\2\2\2\u0140\u0141\7\23\2\2\u0141\u0142\7*\2\2\u0142\u014b\7\64"+
+		"\2\2\u0143\u0148\5\20\t\2\u0144\u0145\7\b\2\2\u0145\u0147\5\20\t\2\u0146"+
+		"\u0144\3\2\2\2\u0147\u014a\3\2\2\2\u0148\u0146\3\2\2\2\u0148\u0149\3\2"+
+		"\2\2\u0149\u014c\3\2\2\2\u014a\u0148\3\2\2\2\u014b\u0143\3\2\2\2\u014b"+
+		"\u014c\3\2\2\2\u014c\u014d\3\2\2\2\u014d\u015b\7\65\2\2\u014e\u014f\7"+
+		"\22\2\2\u014f\u0158\7\64\2\2\u0150\u0155\5\20\t\2\u0151\u0152\7\b\2\2"+
+		"\u0152\u0154\5\20\t\2\u0153\u0151\3\2\2\2\u0154\u0157\3\2\2\2\u0155\u0153"+
+		"\3\2\2\2\u0155\u0156\3\2\2\2\u0156\u0159\3\2\2\2\u0157\u0155\3\2\2\2\u0158"+
+		"\u0150\3\2\2\2\u0158\u0159\3\2\2\2\u0159\u015a\3\2\2\2\u015a\u015c\7\65"+
+		"\2\2\u015b\u014e\3\2\2\2\u015b\u015c\3\2\2\2\u015c\u015d\3\2\2\2\u015d"+
+		"\u015e\7\24\2\2\u015e\u015f\7\r\2\2\u015f\u0168\7\64\2\2\u0160\u0165\5"+
+		"\26\f\2\u0161\u0162\7\b\2\2\u0162\u0164\5\26\f\2\u0163\u0161\3\2\2\2\u0164"+
+		"\u0167\3\2\2\2\u0165\u0163\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0169\3\2"+
+		"\2\2\u0167\u0165\3\2\2\2\u0168\u0160\3\2\2\2\u0168\u0169\3\2\2\2\u0169"+
+		"\u016a\3\2\2\2\u016a\u016b\7\65\2\2\u016b\u016d\7\66\2\2\u016c\u0119\3"+
+		"\2\2\2\u016c\u0140\3\2\2\2\u016d\13\3\2\2\2\u016e\u016f\7*\2\2\u016f\u0171"+
+		"\7\62\2\2\u0170\u0172\5\16\b\2\u0171\u0170\3\2\2\2\u0171\u0172\3\2\2\2"+
+		"\u0172\u0177\3\2\2\2\u0173\u0175\7\n\2\2\u0174\u0176\5\16\b\2\u0175\u0174"+
+		"\3\2\2\2\u0175\u0176\3\2\2\2\u0176\u0178\3\2\2\2\u0177\u0173\3\2\2\2\u0177"+
+		"\u0178\3\2\2\2\u0178\u0183\3\2\2\2\u0179\u017b\7\b\2\2\u017a\u017c\5\16"+
+		"\b\2\u017b\u017a\3\2\2\2\u017b\u017c\3\2\2\2\u017c\u0181\3\2\2\2\u017d"+
+		"\u017f\7\n\2\2\u017e\u0180\5\16\b\2\u017f\u017e\3\2\2\2\u017f\u0180\3"+
+		"\2\2\2\u0180\u0182\3\2\2\2\u0181\u017d\3\2\2\2\u0181\u0182\3\2\2\2\u0182"+
+		"\u0184\3\2\2\2\u0183\u0179\3\2\2\2\u0183\u0184\3\2\2\2\u0184\u0185\3\2"+
+		"\2\2\u0185\u018a\7\63\2\2\u0186\u018a\7*\2\2\u0187\u018a\7/\2\2\u0188"+
+		"\u018a\7\60\2\2\u0189\u016e\3\2\2\2\u0189\u0186\3\2\2\2\u0189\u0187\3"+
+		"\2\2\2\u0189\u0188\3\2\2\2\u018a\r\3\2\2\2\u018b\u018c\b\b\1\2\u018c\u018d"+
+		"\t\2\2\2\u018d\u01ae\5\16\b\22\u018e\u018f\7\"\2\2\u018f\u01ae\5\16\b"+
+		"\r\u0190\u0191\7*\2\2\u0191\u019a\7\64\2\2\u0192\u0197\5\22\n\2\u0193"+
+		"\u0194\7\b\2\2\u0194\u0196\5\22\n\2\u0195\u0193\3\2\2\2\u0196\u0199\3"+
+		"\2\2\2\u0197\u0195\3\2\2\2\u0197\u0198\3\2\2\2\u0198\u019b\3\2\2\2\u0199"+
+		"\u0197\3\2\2\2\u019a\u0192\3\2\2\2\u019a\u019b\3\2\2\2\u019b\u019c\3\2"+
+		"\2\2\u019c\u01a0\7\65\2\2\u019d\u019f\7\'\2\2\u019e\u019d\3\2\2\2\u019f"+
+		"\u01a2\3\2\2\2\u01a0\u019e\3\2\2\2\u01a0\u01a1\3\2\2\2\u01a1\u01ae\3\2"+
+		"\2\2\u01a2\u01a0\3\2\2\2\u01a3\u01a4\7\64\2\2\u01a4\u01a5\5\16\b\2\u01a5"+
+		"\u01a6\7\65\2\2\u01a6\u01ae\3\2\2\2\u01a7\u01ae\7(\2\2\u01a8\u01ae\7)"+
+		"\2\2\u01a9\u01ae\7+\2\2\u01aa\u01ae\7,\2\2\u01ab\u01ae\7\61\2\2\u01ac"+
+		"\u01ae\5\f\7\2\u01ad\u018b\3\2\2\2\u01ad\u018e\3\2\2\2\u01ad\u0190\3\2"+
+		"\2\2\u01ad\u01a3\3\2\2\2\u01ad\u01a7\3\2\2\2\u01ad\u01a8\3\2\2\2\u01ad"+
+		"\u01a9\3\2\2\2\u01ad\u01aa\3\2\2\2\u01ad\u01ab\3\2\2\2\u01ad\u01ac\3\2"+
+		"\2\2\u01ae\u01c6\3\2\2\2\u01af\u01b0\f\23\2\2\u01b0\u01b1\7\25\2\2\u01b1"+
+		"\u01c5\5\16\b\23\u01b2\u01b3\f\21\2\2\u01b3\u01b4\t\3\2\2\u01b4\u01c5"+
+		"\5\16\b\22\u01b5\u01b6\f\20\2\2\u01b6\u01b7\t\4\2\2\u01b7\u01c5\5\16\b"+
+		"\21\u01b8\u01b9\f\17\2\2\u01b9\u01ba\t\2\2\2\u01ba\u01c5\5\16\b\20\u01bb"+
+		"\u01bc\f\16\2\2\u01bc\u01bd\t\5\2\2\u01bd\u01c5\5\16\b\17\u01be\u01bf"+
+		"\f\f\2\2\u01bf\u01c0\t\6\2\2\u01c0\u01c5\5\16\b\r\u01c1\u01c2\f\13\2\2"+
+		"\u01c2\u01c3\t\7\2\2\u01c3\u01c5\5\16\b\f\u01c4\u01af\3\2\2\2\u01c4\u01b2"+
+		"\3\2\2\2\u01c4\u01b5\3\2\2\2\u01c4\u01b8\3\2\2\2\u01c4\u01bb\3\2\2\2\u01c4"+
+		"\u01be\3\2\2\2\u01c4\u01c1\3\2\2\2\u01c5\u01c8\3\2\2\2\u01c6\u01c4\3\2"+
+		"\2\2\u01c6\u01c7\3\2\2\2\u01c7\17\3\2\2\2\u01c8\u01c6\3\2\2\2\u01c9\u01ca"+
+		"\7*\2\2\u01ca\u01cb\7\n\2\2\u01cb\u01cc\5\30\r\2\u01cc\21\3\2\2\2\u01cd"+
+		"\u01ce\7*\2\2\u01ce\u01d0\7\6\2\2\u01cf\u01cd\3\2\2\2\u01cf\u01d0\3\2"+
+		"\2\2\u01d0\u01d1\3\2\2\2\u01d1\u01d2\5\16\b\2\u01d2\23\3\2\2\2\u01d3\u01d4"+
+		"\7*\2\2\u01d4\u01d5\7\6\2\2\u01d5\u01d6\5\16\b\2\u01d6\25\3\2\2\2\u01d7"+
+		"\u01d8\7*\2\2\u01d8\u01d9\7\6\2\2\u01d9\u01da\7\61\2\2\u01da\27\3\2\2"+
+		"\2\u01db\u01e2\5\32\16\2\u01dc\u01dd\5\34\17\2\u01dd\u01de\7\62\2\2\u01de"+
+		"\u01df\5\32\16\2\u01df\u01e0\7\63\2\2\u01e0\u01e2\3\2\2\2\u01e1\u01db"+
+		"\3\2\2\2\u01e1\u01dc\3\2\2\2\u01e2\31\3\2\2\2\u01e3\u01e4\7*\2\2\u01e4"+
+		"\33\3\2\2\2\u01e5\u01e6\7*\2\2\u01e6\35\3\2\2\2= \"(FOR\\hk{\u0083\u0089"+
+		"\u0093\u0097\u00a2\u00ae\u00b1\u00b9\u00c6\u00d2\u00d5\u00dd\u00e7\u00ef"+
+		"\u00f4\u00fc\u0104\u0113\u0117\u0121\u0124\u012e\u0131\u0134\u013c\u0148"+
+		"\u014b\u0155\u0158\u015b\u0165\u0168\u016c\u0171\u0175\u0177\u017b\u017f"+
+		"\u0181\u0183\u0189\u0197\u019a\u01a0\u01ad\u01c4\u01c6\u01cf\u01e1";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.hops.codegen.SpoofCompiler;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.Pair;
+import org.apache.sysml.utils.Statistics;
+
+/**
+ * Persistent, cross-JVM cache of compiled codegen operator classes. Classes 
+ * are stored as class files in a local directory, where the file name is a 
+ * canonical hash of the generated source code (independent of process-specific
+ * variable and class names), the java compiler, and a content hash of the 
+ * runtime build (jar checksum or hash of the operator base classes). Cached 
+ * classes are defined via {@link ByteClassLoader}, and the cache is bounded 
+ * in size by evicting the least recently used class files. 
+ * <p>
+ * Since the canonical class name is derived from the hash, equal class names 
+ * refer to equal classes across processes, which allows concurrent processes
+ * to share the cache directory (class files are written atomically).
+ */
+public class CodegenClassCache 
+{
+	private static final Log LOG = LogFactory.getLog(CodegenClassCache.class.getName());
+	
+	private static final String CLASS_PREFIX = "TMPH";
+	private static final String FILE_SUFFIX = ".class";
+	private static final Pattern VAR_PATTERN = Pattern.compile("\\bTMP\\d+"); //incl. TMP11vals
+	
+	//runtime classes generated operators are compiled against (incl nested classes)
+	private static final Class<?>[] TEMPLATE_CLASSES = new Class<?>[] {
+		SpoofOperator.class, SpoofOperator.SideInput.class,
+		SpoofOperator.SideInputSparseRow.class, SpoofOperator.SideInputSparseCell.class,
+		SpoofCellwise.class, SpoofCellwise.AggOp.class, SpoofCellwise.CellType.class,
+		SpoofRowwise.class, SpoofRowwise.RowType.class, SpoofMultiAggregate.class,
+		SpoofOuterProduct.class, SpoofOuterProduct.OutProdType.class, LibSpoofPrimitives.class};
+	
+	//cache directory and max size (null if disabled)
+	private static String _dir = null;
+	private static long _maxSize = -1;
+	private static String _fingerprint = null;
+	
+	/**
+	 * Configures the persistent class cache.
+	 * 
+	 * @param dir local cache directory, disabled if null or empty
+	 * @param maxSizeMB maximum cache size in MB
+	 */
+	public static synchronized void configure(String dir, long maxSizeMB) {
+		if( dir == null || dir.trim().isEmpty() ) {
+			_dir = null;
+			return;
+		}
+		File fdir = new File(dir.trim());
+		if( !fdir.exists() && !fdir.mkdirs() ) {
+			LOG.warn("Failed to create codegen class cache directory: "+dir);
+			_dir = null;
+			return;
+		}
+		_dir = fdir.getAbsolutePath();
+		_maxSize = maxSizeMB * 1024 * 1024;
+		if( _fingerprint == null )
+			_fingerprint = createFingerprint();
+	}
+	
+	public static boolean isEnabled() {
+		return _dir != null;
+	}
+	
+	/**
+	 * Creates the canonical class name and source code of a generated class,
+	 * where all generated variable names are renumbered in order of appearance
+	 * and the class name is derived from the hash of the canonical source.
+	 * 
+	 * @param name fully qualified class name
+	 * @param src generated source code
+	 * @return pair of canonical class name and source code
+	 * @throws DMLRuntimeException if the hash cannot be computed
+	 */
+	public static Pair<String,String> canonicalize(String name, String src) 
+		throws DMLRuntimeException
+	{
+		//replace class name by placeholder and renumber variable names
+		int pos = name.lastIndexOf('.');
+		String pkg = name.substring(0, pos+1);
+		String cname = name.substring(pos+1);
+		String tmp = src.replaceAll("\\b"+cname+"\\b", "%TMP%");
+		HashMap<String,String> names = new HashMap<>();
+		Matcher m = VAR_PATTERN.matcher(tmp);
+		StringBuffer sb = new StringBuffer();
+		while( m.find() ) {
+			String var = names.get(m.group());
+			if( var == null )
+				names.put(m.group(), var = "TMP"+names.size());
+			m.appendReplacement(sb, var);
+		}
+		m.appendTail(sb);
+		tmp = sb.toString();
+		
+		//derive class name from hash (incl compiler settings)
+		String cname2 = CLASS_PREFIX + hash(tmp + "|" 
+			+ SpoofCompiler.JAVA_COMPILER.name() + "|" + _fingerprint);
+		return new Pair<>(pkg + cname2, tmp.replace("%TMP%", cname2));
+	}
+	
+	/**
+	 * Obtains the class file of the given canonical class name, if available.
+	 * 
+	 * @param name canonical class name
+	 * @return class bytes or null if not cached
+	 */
+	public static byte[] getClassBytes(String name) {
+		if( !isEnabled() )
+			return null;
+		File file = getFile(name);
+		byte[] ret = null;
+		try {
+			if( file.exists() ) {
+				ret = Files.readAllBytes(file.toPath());
+				file.setLastModified(System.currentTimeMillis()); //LRU
+			}
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to read cached class file: "+file, ex);
+		}
+		if( DMLScript.STATISTICS ) {
+			if( ret != null )
+				Statistics.incrementCodegenClassCacheHits();
+			Statistics.incrementCodegenClassCacheTotal();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Writes the class file of the given canonical class name to the cache,
+	 * and evicts the least recently used class files if the cache exceeds 
+	 * its maximum size.
+	 * 
+	 * @param name canonical class name
+	 * @param classBytes class bytes
+	 */
+	public static void putClassBytes(String name, byte[] classBytes) {
+		if( !isEnabled() || classBytes == null )
+			return;
+		File file = getFile(name);
+		File ftmp = new File(_dir, UUID.randomUUID().toString()+".tmp");
+		try {
+			//atomic write via temporary file
+			Files.write(ftmp.toPath(), classBytes);
+			Files.move(ftmp.toPath(), file.toPath(), 
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to write cached class file: "+file, ex);
+			ftmp.delete();
+		}
+		evict();
+	}
+	
+	public static void clear() {
+		if( !isEnabled() )
+			return;
+		for( File f : listClassFiles() )
+			f.delete();
+	}
+	
+	private static synchronized void evict() {
+		File[] files = listClassFiles();
+		long size = 0;
+		for( File f : files )
+			size += f.length();
+		if( size <= _maxSize )
+			return;
+		
+		//remove least recently used class files
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for( int i=0; i<files.length && size > _maxSize; i++ ) {
+			long len = files[i].length();
+			if( files[i].delete() )
+				size -= len;
+		}
+	}
+	
+	private static File[] listClassFiles() {
+		File[] ret = new File(_dir).listFiles(
+			(dir, fname) -> fname.startsWith(CLASS_PREFIX) && fname.endsWith(FILE_SUFFIX));
+		return (ret != null) ? ret : new File[0];
+	}
+	
+	private static File getFile(String name) {
+		return new File(_dir, name.substring(name.lastIndexOf('.')+1) + FILE_SUFFIX);
+	}
+	
+	private static String createFingerprint() {
+		//java version and content hash of the runtime build, i.e., the checksum
+		//of the jar or (for class directories) the classes generated code uses
+		try {
+			MessageDigest md = MessageDigest.getInstance("MD5");
+			md.update(System.getProperty("java.specification.version").getBytes(StandardCharsets.UTF_8));
+			Path runDir = Paths.get(CodegenClassCache.class
+				.getProtectionDomain().getCodeSource().getLocation().toURI());
+			if( Files.isRegularFile(runDir) ) {
+				try( InputStream in = Files.newInputStream(runDir) ) {
+					updateDigest(md, in);
+				}
+			}
+			else {
+				ClassLoader loader = CodegenClassCache.class.getClassLoader();
+				for( Class<?> cla : TEMPLATE_CLASSES ) {
+					try( InputStream in = loader.getResourceAsStream(
+						cla.getName().replace('.', '/') + FILE_SUFFIX) ) {
+						updateDigest(md, in);
+					}
+				}
+			}
+			return toHexString(md.digest());
+		}
+		catch(Exception ex) {
+			//unique fingerprint, i.e., no reuse of classes of other processes
+			LOG.warn("Failed to create codegen class cache fingerprint.", ex);
+			return UUID.randomUUID().toString();
+		}
+	}
+	
+	private static void updateDigest(MessageDigest md, InputStream in) 
+		throws IOException 
+	{
+		byte[] buff = new byte[64 * 1024];
+		for( int len = in.read(buff); len > 0; len = in.read(buff) )
+			md.update(buff, 0, len);
+	}
+	
+	private static String toHexString(byte[] digest) {
+		StringBuilder sb = new StringBuilder();
+		for( byte b : digest )
+			sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+	
+	private static String hash(String str) 
+		throws DMLRuntimeException 
+	{
+		try {
+			return toHexString(MessageDigest.getInstance("MD5")
+				.digest(str.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+}
@@ -22,8 +22,10 @@ package org.apache.sysml.runtime.codegen;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -47,9 +49,15 @@ import org.apache.sysml.hops.codegen.SpoofCompiler;
 import org.apache.sysml.hops.codegen.SpoofCompiler.CompilerType;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.matrix.data.Pair;
 import org.apache.sysml.runtime.util.LocalFileUtils;
 import org.apache.sysml.utils.Statistics;
+import org.codehaus.janino.ClassLoaderIClassLoader;
+import org.codehaus.janino.Parser;
+import org.codehaus.janino.Scanner;
 import org.codehaus.janino.SimpleCompiler;
+import org.codehaus.janino.UnitCompiler;
+import org.codehaus.janino.util.ClassFile;
 
 public class CodegenUtils 
 {
@@ -61,21 +69,47 @@ public class CodegenUtils
 	//janino-specific map of source code transfer/recompile on-demand
 	private static ConcurrentHashMap<String, String> _src = new ConcurrentHashMap<>();
 	
+	//map of class bytes of classes loaded from the persistent class cache
+	private static ConcurrentHashMap<String, byte[]> _bytes = new ConcurrentHashMap<>();
+	
 	//javac-specific working directory for src/class files
-	private static String _workingDir = null;
+	private static volatile String _workingDir = null;
 	
 	public static Class<?> compileClass(String name, String src) 
 			throws DMLRuntimeException
 	{
+		//use canonical class name and source for persistent class cache
+		if( CodegenClassCache.isEnabled() ) {
+			Pair<String,String> tmp = CodegenClassCache.canonicalize(name, src);
+			name = tmp.getKey();
+			src = tmp.getValue();
+		}
+		
 		//reuse existing compiled class
 		Class<?> ret = _cache.get(name);
 		if( ret != null ) 
 			return ret;
 		
+		//reuse class from persistent class cache
+		if( CodegenClassCache.isEnabled() ) {
+			byte[] classBytes = CodegenClassCache.getClassBytes(name);
+			if( classBytes != null ) {
+				ret = loadFromClassBytes(name, src, classBytes);
+				_cache.put(name, ret);
+				return ret;
+			}
+		}
+		
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 		
 		//compile java source w/ specific compiler
-		if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
+		if( CodegenClassCache.isEnabled() ) {
+			byte[] classBytes = (SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO) ?
+				compileClassBytesJanino(name, src) : compileClassBytesJavac(name, src);
+			ret = loadFromClassBytes(name, src, classBytes);
+			CodegenClassCache.putClassBytes(name, classBytes);
+		}
+		else if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
 			ret = compileClassJanino(name, src);
 		else
 			ret = compileClassJavac(name, src);
@@ -120,6 +154,8 @@ public class CodegenUtils
 		//get class in a compiler-specific manner
 		if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
 			return _src.get(name).getBytes();
+		else if( _bytes.containsKey(name) )
+			return _bytes.get(name);
 		else
 			return getClassAsByteArray(name);
 	}
@@ -127,6 +163,7 @@ public class CodegenUtils
 	public static void clearClassCache() {
 		_cache.clear();
 		_src.clear();
+		_bytes.clear();
 	}
 	
 	public static void clearClassCache(Class<?> cla) {
@@ -176,11 +213,66 @@ public class CodegenUtils
 		}
 	}	
 	
+	private static byte[] compileClassBytesJanino(String name, String src) 
+		throws DMLRuntimeException
+	{
+		try {
+			//compile source code into class files
+			Parser parser = new Parser(new Scanner(null, new StringReader(src)));
+			ClassFile[] cfs = new UnitCompiler(parser.parseCompilationUnit(), 
+				new ClassLoaderIClassLoader(CodegenUtils.class.getClassLoader()))
+				.compileUnit(true, true, true);
+			if( cfs.length != 1 )
+				throw new RuntimeException("Unexpected number of classes: "+cfs.length);
+			return cfs[0].toByteArray();
+		}
+		catch(Exception ex) {
+			LOG.error("Failed to compile class "+name+": \n"+src);
+			throw new DMLRuntimeException("Failed to compile class "+name+".", ex);
+		}
+	}
+	
 	////////////////////////////
 	//JAVAC-specific methods (used for hadoop environments)
 
 	private static Class<?> compileClassJavac(String name, String src) 
 		throws DMLRuntimeException
+	{
+		//compile source code into class file of working dir
+		compileClassFileJavac(name, src);
+		
+		//dynamically load compiled class
+		URLClassLoader classLoader = null;
+		try {
+			URL runDir = CodegenUtils.class.getProtectionDomain().getCodeSource().getLocation(); 
+			classLoader = new URLClassLoader(
+				new URL[]{new File(_workingDir).toURI().toURL(), runDir}, 
+				CodegenUtils.class.getClassLoader());
+			return classLoader.loadClass(name);
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException("Failed to load class "+name+".", ex);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(classLoader);
+		}
+	}
+	
+	private static byte[] compileClassBytesJavac(String name, String src) 
+		throws DMLRuntimeException
+	{
+		//compile source code and read class file (loaded once from these bytes)
+		File fclass = compileClassFileJavac(name, src);
+		try {
+			return Files.readAllBytes(fclass.toPath());
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to read class file "+fclass+".", ex);
+		}
+	}
+	
+	private static File compileClassFileJavac(String name, String src) 
+		throws DMLRuntimeException
 	{
 		try
 		{
@@ -224,17 +316,8 @@ public class CodegenUtils
 			if( success == null || !success )
 				throw new RuntimeException("Failed to compile class "+name);
 			
-			//dynamically load compiled class
-			URLClassLoader classLoader = null;
-			try {
-				classLoader = new URLClassLoader(
-					new URL[]{new File(_workingDir).toURI().toURL(), runDir}, 
-					CodegenUtils.class.getClassLoader());
-				return classLoader.loadClass(name);
-			}
-			finally {
-				IOUtilFunctions.closeSilently(classLoader);
-			}
+			//class file next to the source file (no -d option)
+			return new File(_workingDir+"/"+name.replace(".", "/")+".class");
 		}
 		catch(Exception ex) {
 			LOG.error("Failed to compile class "+name+": \n"+src);
@@ -242,6 +325,25 @@ public class CodegenUtils
 		}
 	}
 	
+	private static Class<?> loadFromClassBytes(String name, String src, byte[] classBytes) 
+		throws DMLRuntimeException 
+	{
+		//keep source code or class bytes for later re-construction
+		if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
+			_src.put(name, src);
+		else
+			_bytes.put(name, classBytes);
+		
+		try(ByteClassLoader byteLoader = new ByteClassLoader(new URL[]{}, 
+			CodegenUtils.class.getClassLoader(), classBytes)) 
+		{
+			return byteLoader.findClass(name);
+		} 
+		catch (Exception e) {
+			throw new DMLRuntimeException(e);
+		}
+	}
+	
 	private static Class<?> loadFromClassFile(String name, byte[] classBytes) 
 		throws DMLRuntimeException 
 	{
@@ -296,7 +398,7 @@ public class CodegenUtils
 		}
 	}
 	
-	private static void createWorkingDir() throws DMLRuntimeException  {
+	private static synchronized void createWorkingDir() throws DMLRuntimeException  {
 		if( _workingDir != null )
 			return;
 		String tmp = LocalFileUtils.getWorkingDir(LocalFileUtils.CATEGORY_CODEGEN);
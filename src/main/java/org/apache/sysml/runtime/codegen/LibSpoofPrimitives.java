@@ -21,6 +21,8 @@ package org.apache.sysml.runtime.codegen;
 
 import java.util.Arrays;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.sysml.runtime.functionobjects.IntegerDivide;
 import org.apache.sysml.runtime.functionobjects.Modulus;
@@ -35,9 +37,15 @@ import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
  */
 public class LibSpoofPrimitives 
 {
+	private static final Log LOG = LogFactory.getLog(LibSpoofPrimitives.class.getName());
+	
 	private static IntegerDivide intDiv = IntegerDivide.getFnObject();
 	private static Modulus mod = Modulus.getFnObject();
 	
+	//SIMD implementation of selected dense primitives if available, otherwise scalar;
+	//note: as a static final field, the interface calls are devirtualized by the JIT
+	private static final VectorPrimitives vprim = loadVectorPrimitives();
+	
 	//global pool of reusable vectors, individual operations set up their own thread-local
 	//ring buffers of reusable vectors with specific number of vectors and vector sizes 
 	private static ThreadLocal<VectorBuffer> memPool = new ThreadLocal<VectorBuffer>() {
@@ -120,12 +128,11 @@ public class LibSpoofPrimitives
 	
 	public static void vectMultAdd(double[] a, double bval, double[] c, int bi, int ci, int len) {
 		if( a == null || bval == 0 ) return;
-		LibMatrixMult.vectMultiplyAdd(bval, a, c, bi, ci, len);
+		vprim.vectMultAdd(a, bval, c, bi, ci, len);
 	}
 	
 	public static void vectMultAdd(double bval, double[] a, double[] c, int bi, int ci, int len) {
-		if( a == null || bval == 0 ) return;
-		LibMatrixMult.vectMultiplyAdd(bval, a, c, bi, ci, len);
+		vectMultAdd(a, bval, c, bi, ci, len);
 	}
 	
 	public static void vectMultAdd(double[] a, double bval, double[] c, int[] aix, int ai, int ci, int alen, int len) {
@@ -148,7 +155,7 @@ public class LibSpoofPrimitives
 		if( a == null || bval == 0 ) 
 			return allocVector(len, true);
 		double[] c = allocVector(len, false);
-		LibMatrixMult.vectMultiplyWrite(bval, a, c, bi, 0, len);
+		vprim.vectMultWrite(a, bval, c, bi, 0, len);
 		return c;
 	}
 	
@@ -160,7 +167,7 @@ public class LibSpoofPrimitives
 		if( a == null || b == null )
 			return allocVector(len, true);
 		double[] c = allocVector(len, false);
-		LibMatrixMult.vectMultiplyWrite(a, b, c, ai, bi, 0, len);
+		vprim.vectMultWrite(a, b, c, ai, bi, 0, len);
 		return c;
 	}
 	
@@ -229,22 +236,7 @@ public class LibSpoofPrimitives
 	 * @return sum value
 	 */
 	public static double vectSum(double[] a, int ai, int len) { 
-		double val = 0;
-		final int bn = len%8;
-		
-		//compute rest
-		for( int i = ai; i < ai+bn; i++ )
-			val += a[ i ];
-		
-		//unrolled 8-block (for better instruction-level parallelism)
-		for( int i = ai+bn; i < ai+len; i+=8 ) {
-			//read 64B cacheline of a, compute cval' = sum(a) + cval
-			val += a[ i+0 ] + a[ i+1 ] + a[ i+2 ] + a[ i+3 ]
-			     + a[ i+4 ] + a[ i+5 ] + a[ i+6 ] + a[ i+7 ];
-		}
-		
-		//scalar result
-		return val; 
+		return vprim.vectSum(a, ai, len);
 	} 
 	
 	public static double vectSum(double[] avals, int[] aix, int ai, int alen, int len) {
@@ -253,10 +245,7 @@ public class LibSpoofPrimitives
 	}
 	
 	public static double vectMin(double[] a, int ai, int len) { 
-		double val = Double.MAX_VALUE;
-		for( int i = ai; i < ai+len; i++ )
-			val = Math.min(a[i], val);
-		return val; 
+		return vprim.vectMin(a, ai, len);
 	}
 	
 	public static double vectMin(double[] avals, int[] aix, int ai, int alen, int len) {
@@ -265,10 +254,7 @@ public class LibSpoofPrimitives
 	}
 	
 	public static double vectMax(double[] a, int ai, int len) { 
-		double val = -Double.MAX_VALUE;
-		for( int i = ai; i < ai+len; i++ )
-			val = Math.max(a[i], val);
-		return val; 
+		return vprim.vectMax(a, ai, len);
 	} 
 	
 	public static double vectMax(double[] avals, int[] aix, int ai, int alen, int len) {
@@ -678,8 +664,7 @@ public class LibSpoofPrimitives
 	
 	public static double[] vectExpWrite(double[] a, int ai, int len) {
 		double[] c = allocVector(len, false);
-		for( int j = 0; j < len; j++)
-			c[j] = FastMath.exp(a[ai+j]);
+		vprim.vectExpWrite(a, c, ai, 0, len);
 		return c;
 	}
 
@@ -1715,6 +1700,22 @@ public class LibSpoofPrimitives
 		return (len1 > 64 * len2);
 	}
 	
+	private static VectorPrimitives loadVectorPrimitives() {
+		try {
+			//reflective loading because the SIMD implementation is only compiled
+			//w/ the vector-api profile and requires the jdk.incubator.vector module
+			VectorPrimitives ret = (VectorPrimitives) Class
+				.forName(VectorPrimitives.SIMD_CLASS).newInstance();
+			LOG.info("Using SIMD vector primitives for codegen: "+ret);
+			return ret;
+		}
+		catch(Throwable ex) {
+			LOG.debug("SIMD vector primitives for codegen not available, "
+				+ "using scalar fallback: "+ex.getMessage());
+			return new VectorPrimitivesScalar();
+		}
+	}
+	
 	//dynamic memory management
 	
 	public static void setupThreadLocalMemory(int numVectors, int len) {
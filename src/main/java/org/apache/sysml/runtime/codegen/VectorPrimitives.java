@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.codegen;
+
+/**
+ * Selected dense vector primitives of {@link LibSpoofPrimitives}, with a
+ * default scalar implementation ({@link VectorPrimitivesScalar}) and an 
+ * alternative implementation with explicit SIMD instructions. The SIMD
+ * implementation is loaded on startup if available (i.e., compiled with the 
+ * vector-api profile and a JVM with the jdk.incubator.vector module), otherwise 
+ * all primitives fall back to the scalar implementation.
+ * <p>
+ * All write primitives write the output into c starting at ci, which
+ * allows the caller to reuse vectors from its thread-local ring buffers.
+ * Element-wise primitives of both implementations produce equal results, 
+ * except for vectExpWrite (see {@link #vectExpWrite}). Aggregates may differ
+ * in floating point rounding due to a different order of additions.
+ */
+public interface VectorPrimitives 
+{
+	public static final String SIMD_CLASS = 
+		"org.apache.sysml.runtime.codegen.VectorPrimitivesSIMD";
+	
+	public double vectSum(double[] a, int ai, int len);
+	
+	public double vectMin(double[] a, int ai, int len);
+	
+	public double vectMax(double[] a, int ai, int len);
+	
+	public void vectMultAdd(double[] a, double bval, double[] c, int ai, int ci, int len);
+	
+	public void vectMultWrite(double[] a, double bval, double[] c, int ai, int ci, int len);
+	
+	public void vectMultWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len);
+	
+	/**
+	 * Computes c = exp(a) for a dense vector a. The scalar implementation uses
+	 * FastMath.exp, while SIMD implementations may use vectorized approximations
+	 * with an error of at most 1 ulp (e.g., VectorOperators.EXP), which is why 
+	 * the results of both implementations may differ by up to 2 ulps.
+	 * 
+	 * @param a dense input vector a
+	 * @param c dense output vector c
+	 * @param ai start position in a
+	 * @param ci start position in c
+	 * @param len number of processed elements
+	 */
+	public void vectExpWrite(double[] a, double[] c, int ai, int ci, int len);
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.codegen;
+
+import org.apache.commons.math3.util.FastMath;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+
+/**
+ * Default scalar implementation of the dense vector primitives, which is
+ * used by {@link LibSpoofPrimitives} if no SIMD implementation is available,
+ * and serves as the reference for the SIMD implementation.
+ */
+public class VectorPrimitivesScalar implements VectorPrimitives
+{
+	@Override
+	public double vectSum(double[] a, int ai, int len) {
+		double val = 0;
+		final int bn = len%8;
+		
+		//compute rest
+		for( int i = ai; i < ai+bn; i++ )
+			val += a[ i ];
+		
+		//unrolled 8-block (for better instruction-level parallelism)
+		for( int i = ai+bn; i < ai+len; i+=8 ) {
+			//read 64B cacheline of a, compute cval' = sum(a) + cval
+			val += a[ i+0 ] + a[ i+1 ] + a[ i+2 ] + a[ i+3 ]
+			     + a[ i+4 ] + a[ i+5 ] + a[ i+6 ] + a[ i+7 ];
+		}
+		
+		//scalar result
+		return val; 
+	}
+	
+	@Override
+	public double vectMin(double[] a, int ai, int len) {
+		double val = Double.MAX_VALUE;
+		for( int i = ai; i < ai+len; i++ )
+			val = Math.min(a[i], val);
+		return val; 
+	}
+	
+	@Override
+	public double vectMax(double[] a, int ai, int len) {
+		double val = -Double.MAX_VALUE;
+		for( int i = ai; i < ai+len; i++ )
+			val = Math.max(a[i], val);
+		return val; 
+	}
+	
+	@Override
+	public void vectMultAdd(double[] a, double bval, double[] c, int ai, int ci, int len) {
+		LibMatrixMult.vectMultiplyAdd(bval, a, c, ai, ci, len);
+	}
+	
+	@Override
+	public void vectMultWrite(double[] a, double bval, double[] c, int ai, int ci, int len) {
+		LibMatrixMult.vectMultiplyWrite(bval, a, c, ai, ci, len);
+	}
+	
+	@Override
+	public void vectMultWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len) {
+		LibMatrixMult.vectMultiplyWrite(a, b, c, ai, bi, ci, len);
+	}
+	
+	@Override
+	public void vectExpWrite(double[] a, double[] c, int ai, int ci, int len) {
+		for( int j = 0; j < len; j++ )
+			c[ci+j] = FastMath.exp(a[ai+j]);
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+}
@@ -23,6 +23,7 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -30,7 +31,9 @@ import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.IJV;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class that stores information about a column group within a compressed matrix
@@ -46,7 +49,10 @@ public abstract class ColGroup implements Serializable
 		RLE_BITMAP,  //RLE bitmap
 		OLE_BITMAP,  //OLE bitmap
 		DDC1, //DDC 1 byte
-		DDC2; //DDC 2 byte
+		DDC2, //DDC 2 byte
+		CONST, //constant value tuple
+		SDC,  //sparse dictionary w/ default tuple
+		FOR;  //frame-of-reference, bit-packed
 	}
 	
 	/**
@@ -178,6 +184,44 @@ public abstract class ColGroup implements Serializable
 	 * @param colpos  column to decompress, error if larger or equal numCols
 	 */
 	public abstract void decompressToBlock(MatrixBlock target, int colpos);
+	
+	/**
+	 * Decompress the given row and column range of this column group into
+	 * the specified target block, where cell (rl, cl) of the matrix maps to
+	 * cell (0, 0) of the target. Values are appended, which requires sorting
+	 * of sparse target blocks after all column groups have been processed.
+	 * 
+	 * @param target
+	 *            a matrix block of at least (ru-rl) x (cu-cl) cells
+	 * @param rl
+	 *            row lower index, inclusive
+	 * @param ru
+	 *            row upper index, exclusive
+	 * @param cl
+	 *            column lower index, inclusive
+	 * @param cu
+	 *            column upper index, exclusive
+	 */
+	public abstract void decompressToBlock(MatrixBlock target, int rl, int ru, int cl, int cu);
+	
+	/**
+	 * Obtain the positions of all columns of this column group that
+	 * fall into the given column range.
+	 * 
+	 * @param cl
+	 *            column lower index, inclusive
+	 * @param cu
+	 *            column upper index, exclusive
+	 * @return positions of the columns in the given range
+	 */
+	protected int[] getColPositions(int cl, int cu) {
+		int[] tmp = new int[_colIndexes.length];
+		int len = 0;
+		for( int j = 0; j < _colIndexes.length; j++ )
+			if( _colIndexes[j] >= cl && _colIndexes[j] < cu )
+				tmp[len++] = j;
+		return Arrays.copyOf(tmp, len);
+	}
 
 
 	/**
@@ -246,6 +290,34 @@ public abstract class ColGroup implements Serializable
 	public abstract void leftMultByRowVector(MatrixBlock vector,
 			MatrixBlock result) throws DMLRuntimeException;
 
+	/**
+	 * Multiply the slice of the matrix that this column group represents by a
+	 * dense matrix on the right, and add the results to the rows rl to ru of
+	 * the dense result (number of columns of the matrix).
+	 *
+	 * @param matrix dense matrix to multiply by (number of rows equals the
+	 *            number of columns of the entire compressed matrix)
+	 * @param result dense accumulator for holding the result
+	 * @param rl row lower
+	 * @param ru row upper
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract void rightMultByMatrix(MatrixBlock matrix,
+			MatrixBlock result, int rl, int ru) throws DMLRuntimeException;
+
+	/**
+	 * Multiply the slice of the matrix that this column group represents by a
+	 * dense matrix on the left (i.e., the transposed matrix of size mxn, where
+	 * n is the number of rows of this column group) and write the results to
+	 * the columns of this group in the dense result.
+	 *
+	 * @param matrix dense matrix to multiply by
+	 * @param result dense matrix block result
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract void leftMultByMatrix(MatrixBlock matrix,
+			MatrixBlock result) throws DMLRuntimeException;
+
 	/**
 	 * Perform the specified scalar operation directly on the compressed column
 	 * group, without decompressing individual cells if possible.
@@ -257,6 +329,34 @@ public abstract class ColGroup implements Serializable
 	 */
 	public abstract ColGroup scalarOperation(ScalarOperator op)
 			throws DMLRuntimeException;
+	
+	/**
+	 * Perform the specified cell-wise unary operation directly on the 
+	 * compressed column group, without decompressing individual cells 
+	 * if possible.
+	 * 
+	 * @param op
+	 *            operation to perform
+	 * @return version of this column group with the operation applied
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract ColGroup unaryOperation(UnaryOperator op)
+			throws DMLRuntimeException;
+	
+	/**
+	 * Perform the specified binary operation with a row vector (i.e.,
+	 * a matrix-row vector broadcast) directly on the compressed column 
+	 * group, without decompressing individual cells if possible.
+	 * 
+	 * @param op
+	 *            operation to perform
+	 * @param v
+	 *            dense row vector over all columns of the matrix
+	 * @return version of this column group with the operation applied
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract ColGroup binaryRowVectorOperation(BinaryOperator op, double[] v)
+			throws DMLRuntimeException;
 
 	public abstract void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock result)
 		throws DMLRuntimeException;
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.compress;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.ConverterUtils;
+import org.apache.sysml.runtime.functionobjects.Builtin;
+import org.apache.sysml.runtime.functionobjects.KahanFunction;
+import org.apache.sysml.runtime.functionobjects.KahanPlus;
+import org.apache.sysml.runtime.instructions.cp.KahanObject;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Class to encapsulate information about a column group that is encoded
+ * as a single constant value tuple (CONST), i.e., all rows share the same
+ * values. Hence, there is no data per row and all operations reduce to 
+ * operations over the value tuple and the number of rows.
+ */
+public class ColGroupConst extends ColGroupDDC 
+{
+	private static final long serialVersionUID = -7387793538322386611L;
+
+	public ColGroupConst() {
+		super();
+	}
+	
+	public ColGroupConst(int[] colIndices, int numRows, UncompressedBitmap ubm) {
+		super(colIndices, numRows, ubm);
+		
+		//sanity check for a single value tuple that covers all rows
+		if( ubm.getNumValues() != 1 || ubm.getNumOffsets() < numRows )
+			throw new RuntimeException("Invalid construction of CONST "
+				+ "column group with "+ubm.getNumValues()+" distinct values.");
+	}
+	
+	public ColGroupConst(int[] colIndices, int numRows, double[] values) {
+		super(colIndices, numRows, values);
+	}
+
+	@Override
+	public CompressionType getCompType() {
+		return CompressionType.CONST;
+	}
+	
+	@Override
+	protected double getData(int r) {
+		return _values[0];
+	}
+	
+	@Override
+	protected double getData(int r, int colIx) {
+		return _values[colIx];
+	}
+	
+	@Override
+	protected void setData(int r, int code) {
+		throw new RuntimeException("Set data not supported for CONST column groups.");
+	}
+	
+	@Override
+	protected int getCode(int r) {
+		return 0;
+	}
+	
+	@Override
+	public void write(DataOutput out) throws IOException {
+		out.writeInt(_numRows);
+		out.writeInt(getNumCols());
+		
+		//write col indices
+		for( int i=0; i<_colIndexes.length; i++ )
+			out.writeInt( _colIndexes[i] );
+		
+		//write value tuple
+		for( int i=0; i<_values.length; i++ )
+			out.writeDouble(_values[i]);
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		_numRows = in.readInt();
+		int numCols = in.readInt();
+		
+		//read col indices
+		_colIndexes = new int[ numCols ];
+		for( int i=0; i<numCols; i++ )
+			_colIndexes[i] = in.readInt();
+		
+		//read value tuple
+		_values = new double[numCols];
+		for( int i=0; i<numCols; i++ )
+			_values[i] = in.readDouble();
+	}
+
+	@Override
+	public long getExactSizeOnDisk() {
+		long ret = 8; //header
+		//col indices
+		ret += 4 * _colIndexes.length; 
+		//value tuple
+		ret += 8 * _values.length;
+		
+		return ret;
+	}
+	
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru) {
+		int ncol = getNumCols();
+		for( int i = rl; i < ru; i++ )
+			for( int j=0; j<ncol; j++ )
+				target.appendValue(i, _colIndexes[j], _values[j]);
+		//note: append ok because final sort per row 
+	}
+	
+	@Override
+	public void decompressToBlock(MatrixBlock target, int colpos) {
+		int nrow = getNumRows();
+		double val = _values[colpos];
+		double[] c = target.getDenseBlock();
+		Arrays.fill(c, 0, nrow, val);
+		target.setNonZeros((val!=0) ? nrow : 0);
+	}
+	
+	@Override 
+	public int[] getCounts() {
+		return getCounts(0, getNumRows());
+	}
+	
+	@Override 
+	public int[] getCounts(int rl, int ru) {
+		return new int[]{ru-rl};
+	}
+	
+	@Override
+	protected void countNonZerosPerRow(int[] rnnz, int rl, int ru) {
+		//nnz of the value tuple applies to all rows
+		int lnnz = 0;
+		for( int j=0; j<getNumCols(); j++ )
+			lnnz += (_values[j]!=0) ? 1 : 0;
+		for( int i = rl; i < ru; i++ )
+			rnnz[i-rl] += lnnz;
+	}
+	
+	@Override
+	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		double[] b = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlock();
+		final int numCols = getNumCols();
+		
+		//prepare reduced rhs w/ relevant values
+		double[] sb = new double[numCols];
+		for (int j = 0; j < numCols; j++) {
+			sb[j] = b[_colIndexes[j]];
+		}
+		
+		//compute the dot product of the value tuple once
+		double val = sumValues(0, sb);
+		
+		//add to all output rows
+		if( val != 0 )
+			for( int i=rl; i<ru; i++ )
+				c[i] += val;
+	}
+	
+	@Override
+	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result) 
+		throws DMLRuntimeException 
+	{
+		double[] a = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlock();
+		final int nrow = getNumRows();
+		
+		//aggregate the entire input vector
+		double[] vals = new double[1];
+		for( int i=0; i<nrow; i++ )
+			vals[0] += a[i];
+		
+		//post-scaling of aggregate with value tuple
+		postScaling(vals, c);
+	}
+	
+	@Override
+	public void leftMultByRowVector(ColGroupDDC a, MatrixBlock result) 
+		throws DMLRuntimeException 
+	{
+		double[] c = result.getDenseBlock();
+		final int nrow = getNumRows();
+		
+		//aggregate the entire input vector
+		double[] vals = new double[1];
+		for( int i=0; i<nrow; i++ )
+			vals[0] += a.getData(i);
+		
+		//post-scaling of aggregate with value tuple
+		postScaling(vals, c);
+	}
+	
+	@Override
+	protected void computeSum(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		
+		//scale the value tuple by the number of rows
+		KahanObject kbuff = new KahanObject(result.quickGetValue(0, 0), result.quickGetValue(0, 1));
+		for( int j=0; j<ncol; j++ )
+			kplus.execute3(kbuff, _values[j], _numRows);
+		
+		result.quickSetValue(0, 0, kbuff._sum);
+		result.quickSetValue(0, 1, kbuff._correction);
+	}
+	
+	@Override
+	protected void computeColSums(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		
+		//scale each value by the number of rows
+		KahanObject kbuff = new KahanObject(0, 0);
+		for( int j=0; j<ncol; j++ ) {
+			kbuff.set(result.quickGetValue(0, _colIndexes[j]), 
+				result.quickGetValue(1, _colIndexes[j]));
+			kplus.execute3(kbuff, _values[j], _numRows);
+			result.quickSetValue(0, _colIndexes[j], kbuff._sum);
+			result.quickSetValue(1, _colIndexes[j], kbuff._correction);
+		}
+	}
+	
+	@Override
+	protected void computeRowSums(MatrixBlock result, KahanFunction kplus, int rl, int ru) {
+		KahanObject kbuff = new KahanObject(0, 0);
+		KahanPlus kplus2 = KahanPlus.getKahanPlusFnObject();
+		double[] c = result.getDenseBlock();
+		
+		//pre-aggregate the value tuple
+		double val = sumValues(0, kplus, kbuff);
+		
+		//add to all output rows (use kahan plus not general 
+		//KahanFunction for correctness in case of sqk+)
+		for( int i=rl; i<ru; i++ ) {
+			kbuff.set(c[2*i], c[2*i+1]);
+			kplus2.execute2(kbuff, val);
+			c[2*i] = kbuff._sum;
+			c[2*i+1] = kbuff._correction;
+		}
+	}
+	
+	@Override
+	protected void computeRowMxx(MatrixBlock result, Builtin builtin, int rl, int ru) {
+		double[] c = result.getDenseBlock();
+		
+		//pre-aggregate the value tuple
+		double val = _values[0];
+		for( int j=1; j<getNumCols(); j++ )
+			val = builtin.execute2(val, _values[j]);
+		
+		for( int i=rl; i<ru; i++ )
+			c[i] = builtin.execute2(c[i], val);
+	}
+	
+	@Override
+	public ColGroup scalarOperation(ScalarOperator op) throws DMLRuntimeException {
+		//sparse-safe and -unsafe operations only affect the value tuple
+		return new ColGroupConst(_colIndexes, _numRows, applyScalarOp(op));
+	}
+	
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) throws DMLRuntimeException {
+		//sparse-safe and -unsafe operations only affect the value tuple
+		return new ColGroupConst(_colIndexes, _numRows, applyUnaryOp(op));
+	}
+	
+	@Override
+	public ColGroup binaryRowVectorOperation(BinaryOperator op, double[] v) throws DMLRuntimeException {
+		//sparse-safe and -unsafe operations only affect the value tuple
+		return new ColGroupConst(_colIndexes, _numRows, applyBinaryRowOp(op, v));
+	}
+}
@@ -70,6 +70,18 @@ public abstract class ColGroupDDC extends ColGroupValue
 		}
 	}
 
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru, int cl, int cu) {
+		int[] cix = getColPositions(cl, cu);
+		for( int i = rl; i < ru; i++ ) {
+			for( int j : cix ) {
+				double cellVal = getData(i, j);
+				if( cellVal != 0 )
+					target.appendValue(i-rl, _colIndexes[j]-cl, cellVal);
+			}
+		}
+	}
+
 	@Override
 	public void decompressToBlock(MatrixBlock target, int[] colIndexTargets) {
 		int nrow = getNumRows();
@@ -202,6 +214,22 @@ public abstract class ColGroupDDC extends ColGroupValue
 				c[i] = builtin.execute2(c[i], getData(i, j));
 	}
 	
+	@Override
+	protected void rightMultByPreaggMatrix(double[] preagg, double[] c, int n, int rl, int ru) {
+		//scatter rows of pre-aggregates by row codes
+		for( int i=rl, cix=rl*n; i<ru; i++, cix+=n ) {
+			int valOff = getCode(i) * n;
+			for( int j=0; j<n; j++ )
+				c[cix+j] += preagg[valOff+j];
+		}
+	}
+	
+	@Override
+	protected void getRowCodes(int[] codes) {
+		for( int i=0; i<codes.length; i++ )
+			codes[i] = getCode(i);
+	}
+	
 	protected final void postScaling(double[] vals, double[] c) {
 		final int ncol = getNumCols();
 		final int numVals = getNumValues();
@@ -0,0 +1,457 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.compress;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.ConverterUtils;
+import org.apache.sysml.runtime.functionobjects.Builtin;
+import org.apache.sysml.runtime.functionobjects.Builtin.BuiltinCode;
+import org.apache.sysml.runtime.functionobjects.KahanFunction;
+import org.apache.sysml.runtime.functionobjects.KahanPlus;
+import org.apache.sysml.runtime.instructions.cp.KahanObject;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Class to encapsulate information about a single-column group of integer 
+ * values that is encoded with frame-of-reference encoding (FOR), i.e., 
+ * as offsets to the minimum value that are bit-packed with the minimal
+ * number of bits per row.
+ * 
+ * NOTE: the implicit dictionary of reference plus offsets is materialized
+ * in memory in order to reuse the value-based operations, but serialized 
+ * as reference value only. After value transformations (e.g., scalar 
+ * operations), the dictionary is serialized in full.
+ */
+public class ColGroupFOR extends ColGroupDDC 
+{
+	private static final long serialVersionUID = -1840314285640286357L;
+	
+	public static final int MAX_BITS = 16;
+	
+	private long[] _data; //bit-packed codes
+	private int _bits;    //number of bits per code
+	
+	public ColGroupFOR() {
+		super();
+	}
+	
+	public ColGroupFOR(int[] colIndices, int numRows, UncompressedBitmap ubm) {
+		super(colIndices, numRows, createDictionary(ubm, numRows));
+		
+		int numVals = ubm.getNumValues();
+		double ref = _values[0];
+		_bits = getNumBits(_values.length-1);
+		_data = new long[getDataLength(numRows, _bits)];
+		
+		//materialize offsets of zero values, if necessary
+		if( ubm.getNumOffsets() < numRows ) {
+			int zeroCode = (int)(0 - ref);
+			for( int i=0; i<numRows; i++ )
+				setData(i, zeroCode);
+		}
+		
+		//iterate over values and write codes
+		for( int i=0; i<numVals; i++ ) {
+			int code = (int)(ubm.getValues(i)[0] - ref);
+			int[] tmpList = ubm.getOffsetsList(i).extractValues();
+			int tmpListSize = ubm.getNumOffsets(i); 
+			for( int k=0; k<tmpListSize; k++ )
+				setData(tmpList[k], code);
+		}
+	}
+	
+	public ColGroupFOR(int[] colIndices, int numRows, double[] values, long[] data, int bits) {
+		super(colIndices, numRows, values);
+		_data = data;
+		_bits = bits;
+	}
+	
+	/**
+	 * Determines if the given bitmap of a single column qualifies for
+	 * frame-of-reference encoding, i.e., all values are integers and
+	 * their range (incl zero, if present) can be encoded w/ MAX_BITS.
+	 * 
+	 * @param ubm uncompressed bitmap
+	 * @param numRows number of rows
+	 * @return range of values, or -1 if not applicable
+	 */
+	public static long getValueRange(UncompressedBitmap ubm, int numRows) {
+		if( ubm.getNumColumns() != 1 )
+			return -1;
+		double[] vals = ubm.getValues();
+		double min = (ubm.getNumOffsets() < numRows) ? 0 : Double.MAX_VALUE;
+		double max = (ubm.getNumOffsets() < numRows) ? 0 : -Double.MAX_VALUE;
+		for( int i=0; i<vals.length; i++ ) {
+			if( vals[i] != Math.rint(vals[i]) || Double.isInfinite(vals[i]) )
+				return -1;
+			min = Math.min(min, vals[i]);
+			max = Math.max(max, vals[i]);
+		}
+		double range = max - min;
+		return (vals.length > 0 && range < (1 << MAX_BITS)) ? (long)range : -1;
+	}
+	
+	public static int getNumBits(long range) {
+		return Math.max(1, 64 - Long.numberOfLeadingZeros(range));
+	}
+	
+	private static int getDataLength(int numRows, int bits) {
+		return (int)(((long)numRows * bits + 63) >>> 6);
+	}
+	
+	private static double[] createDictionary(UncompressedBitmap ubm, int numRows) {
+		long range = getValueRange(ubm, numRows);
+		if( range < 0 )
+			throw new RuntimeException("Invalid construction of FOR column "
+				+ "group for non-integer or wide-range values.");
+		//reference value is the minimum incl zero, if present
+		double ref = (ubm.getNumOffsets() < numRows) ? 0 : Double.MAX_VALUE;
+		for( double val : ubm.getValues() )
+			ref = Math.min(ref, val);
+		double[] ret = new double[(int)range+1];
+		for( int k=0; k<ret.length; k++ )
+			ret[k] = ref + k;
+		return ret;
+	}
+
+	@Override
+	public CompressionType getCompType() {
+		return CompressionType.FOR;
+	}
+	
+	@Override
+	protected double getData(int r) {
+		return _values[getCode(r)];
+	}
+	
+	@Override
+	protected double getData(int r, int colIx) {
+		return _values[getCode(r)];
+	}
+	
+	@Override
+	protected void setData(int r, int code) {
+		long pos = (long)r * _bits;
+		int wix = (int)(pos >>> 6);
+		int off = (int)(pos & 63);
+		long mask = (1L << _bits) - 1;
+		_data[wix] = (_data[wix] & ~(mask << off)) | ((long)code << off);
+		if( off + _bits > 64 ) //code spans two words
+			_data[wix+1] = (_data[wix+1] & ~(mask >>> (64-off))) | ((long)code >>> (64-off));
+	}
+	
+	@Override
+	protected int getCode(int r) {
+		long pos = (long)r * _bits;
+		int wix = (int)(pos >>> 6);
+		int off = (int)(pos & 63);
+		long val = _data[wix] >>> off;
+		if( off + _bits > 64 ) //code spans two words
+			val |= _data[wix+1] << (64-off);
+		return (int)(val & ((1L << _bits) - 1));
+	}
+	
+	public long[] getCodes() {
+		return _data;
+	}
+	
+	public int getNumBits() {
+		return _bits;
+	}
+	
+	/**
+	 * Indicates if the dictionary is still the implicit dictionary of 
+	 * reference value plus consecutive integer offsets.
+	 * 
+	 * @return true if dictionary is defined by its reference value
+	 */
+	private boolean isImplicitDictionary() {
+		for( int k=1; k<_values.length; k++ )
+			if( _values[k] != _values[0] + k )
+				return false;
+		return true;
+	}
+	
+	@Override
+	public void write(DataOutput out) throws IOException {
+		int numVals = getNumValues();
+		boolean implicit = isImplicitDictionary();
+		out.writeInt(_numRows);
+		out.writeInt(_colIndexes[0]);
+		out.writeInt(numVals);
+		out.writeByte(_bits);
+		
+		//write reference value or distinct values
+		out.writeBoolean(implicit);
+		for( int i=0; i<(implicit ? 1 : numVals); i++ )
+			out.writeDouble(_values[i]);
+		
+		//write bit-packed data
+		for( int i=0; i<_data.length; i++ )
+			out.writeLong(_data[i]);
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		_numRows = in.readInt();
+		_colIndexes = new int[] { in.readInt() };
+		int numVals = in.readInt();
+		_bits = in.readByte();
+		
+		//read reference value or distinct values
+		boolean implicit = in.readBoolean();
+		_values = new double[numVals];
+		for( int i=0; i<(implicit ? 1 : numVals); i++ )
+			_values[i] = in.readDouble();
+		for( int i=1; implicit && i<numVals; i++ )
+			_values[i] = _values[0] + i;
+		
+		//read bit-packed data
+		_data = new long[getDataLength(_numRows, _bits)];
+		for( int i=0; i<_data.length; i++ )
+			_data[i] = in.readLong();
+	}
+
+	@Override
+	public long getExactSizeOnDisk() {
+		long ret = 14; //header
+		//reference value or distinct values
+		ret += isImplicitDictionary() ? 8 : 8 * _values.length;
+		//data
+		ret += 8 * _data.length;
+		
+		return ret;
+	}
+	
+	@Override
+	public long estimateInMemorySize() {
+		long size = super.estimateInMemorySize();
+		
+		//adding data size
+		if (_data != null)
+			size += 8 * _data.length + 4;
+	
+		return size;
+	}
+	
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru) {
+		int col = _colIndexes[0];
+		for( int i = rl; i < ru; i++ )
+			target.appendValue(i, col, _values[getCode(i)]);
+		//note: append ok because final sort per row 
+	}
+	
+	@Override
+	public void decompressToBlock(MatrixBlock target, int colpos) {
+		int nrow = getNumRows();
+		double[] c = target.getDenseBlock();
+		int nnz = 0;
+		for( int i = 0; i < nrow; i++ )
+			nnz += ((c[i] = _values[getCode(i)])!=0) ? 1 : 0;
+		target.setNonZeros(nnz);
+	}
+	
+	@Override 
+	public int[] getCounts() {
+		return getCounts(0, getNumRows());
+	}
+	
+	@Override 
+	public int[] getCounts(int rl, int ru) {
+		final int numVals = getNumValues();
+		int[] counts = new int[numVals];
+		for( int i=rl; i<ru; i++ )
+			counts[getCode(i)] ++;
+		return counts;
+	}
+	
+	@Override
+	protected void countNonZerosPerRow(int[] rnnz, int rl, int ru) {
+		for( int i = rl; i < ru; i++ )
+			rnnz[i-rl] += (_values[getCode(i)]!=0) ? 1 : 0;
+	}
+	
+	@Override
+	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		double[] b = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlock();
+		final int numVals = getNumValues();
+		
+		//pre-aggregate all distinct values 
+		double[] vals = preaggValues(numVals, new double[]{b[_colIndexes[0]]});
+		
+		//iterative over codes and add to output
+		for( int i=rl; i<ru; i++ )
+			c[i] += vals[getCode(i)];
+	}
+	
+	@Override
+	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result) 
+		throws DMLRuntimeException 
+	{
+		double[] a = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlock();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+		
+		if( 8*numVals < nrow ) {
+			//iterative over codes and pre-aggregate inputs per code
+			//temporary array also avoids false sharing in multi-threaded environments
+			double[] vals = allocDVector(numVals, true);
+			for( int i=0; i<nrow; i++ )
+				vals[getCode(i)] += a[i];
+			
+			//post-scaling of pre-aggregate with distinct values
+			postScaling(vals, c);
+		}
+		else { //general case
+			double cval = 0;
+			for( int i=0; i<nrow; i++ )
+				cval += a[i] * _values[getCode(i)];
+			c[_colIndexes[0]] += cval;
+		}
+	}
+	
+	@Override
+	public void leftMultByRowVector(ColGroupDDC a, MatrixBlock result) 
+		throws DMLRuntimeException 
+	{
+		double[] c = result.getDenseBlock();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+		
+		if( 8*numVals < nrow ) {
+			//iterative over codes and pre-aggregate inputs per code
+			//temporary array also avoids false sharing in multi-threaded environments
+			double[] vals = allocDVector(numVals, true);
+			for( int i=0; i<nrow; i++ )
+				vals[getCode(i)] += a.getData(i);
+			
+			//post-scaling of pre-aggregate with distinct values
+			postScaling(vals, c);
+		}
+		else { //general case
+			double cval = 0;
+			for( int i=0; i<nrow; i++ )
+				cval += a.getData(i) * _values[getCode(i)];
+			c[_colIndexes[0]] += cval;
+		}
+	}
+	
+	@Override
+	protected void computeSum(MatrixBlock result, KahanFunction kplus) {
+		final int numVals = getNumValues();
+		
+		//iterative over codes and count per code
+		int[] counts = getCounts();
+		
+		//post-scaling of pre-aggregate with distinct values
+		KahanObject kbuff = new KahanObject(result.quickGetValue(0, 0), result.quickGetValue(0, 1));
+		for( int k=0; k<numVals; k++ )
+			kplus.execute3(kbuff, _values[k], counts[k]);
+		
+		result.quickSetValue(0, 0, kbuff._sum);
+		result.quickSetValue(0, 1, kbuff._correction);
+	}
+	
+	@Override
+	protected void computeColSums(MatrixBlock result, KahanFunction kplus) {
+		//single column, hence equivalent to sum w/ column offset
+		MatrixBlock tmp = new MatrixBlock(1, 2, false);
+		tmp.quickSetValue(0, 0, result.quickGetValue(0, _colIndexes[0]));
+		tmp.quickSetValue(0, 1, result.quickGetValue(1, _colIndexes[0]));
+		computeSum(tmp, kplus);
+		result.quickSetValue(0, _colIndexes[0], tmp.quickGetValue(0, 0));
+		result.quickSetValue(1, _colIndexes[0], tmp.quickGetValue(0, 1));
+	}
+	
+	@Override
+	protected void computeRowSums(MatrixBlock result, KahanFunction kplus, int rl, int ru) {
+		KahanObject kbuff = new KahanObject(0, 0);
+		KahanPlus kplus2 = KahanPlus.getKahanPlusFnObject();
+		double[] c = result.getDenseBlock();
+		
+		//pre-aggregate nnz per value tuple
+		double[] vals = sumAllValues(kplus, kbuff, false);
+		
+		//scan data and add to result (use kahan plus not general KahanFunction
+		//for correctness in case of sqk+)
+		for( int i=rl; i<ru; i++ ) {
+			kbuff.set(c[2*i], c[2*i+1]);
+			kplus2.execute2(kbuff, vals[getCode(i)]);
+			c[2*i] = kbuff._sum;
+			c[2*i+1] = kbuff._correction;
+		}
+	}
+	
+	@Override
+	protected void computeMxx(MatrixBlock result, Builtin builtin, boolean zeros) {
+		//note: the implicit dictionary might contain unused values, 
+		//which is irrelevant for min/max but not after transformations
+		double val = computeMxx(builtin);
+		val = builtin.execute2(val, result.quickGetValue(0, 0));
+		result.quickSetValue(0, 0, val);
+	}
+	
+	@Override
+	protected void computeColMxx(MatrixBlock result, Builtin builtin, boolean zeros) {
+		result.quickSetValue(0, _colIndexes[0], computeMxx(builtin));
+	}
+	
+	private double computeMxx(Builtin builtin) {
+		double val = Double.MAX_VALUE * ((builtin.getBuiltinCode()==BuiltinCode.MAX)?-1:1);
+		int[] counts = getCounts();
+		for( int k=0; k<counts.length; k++ )
+			if( counts[k] > 0 )
+				val = builtin.execute2(val, _values[k]);
+		return val;
+	}
+	
+	@Override
+	public ColGroup scalarOperation(ScalarOperator op) throws DMLRuntimeException {
+		//fast path: sparse-safe and -unsafe operations
+		//as zero are represented, it is sufficient to simply apply the scalar op
+		return new ColGroupFOR(_colIndexes, _numRows, applyScalarOp(op), _data, _bits);
+	}
+	
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) throws DMLRuntimeException {
+		//fast path: sparse-safe and -unsafe operations
+		//as zero are represented, it is sufficient to simply apply the unary op
+		return new ColGroupFOR(_colIndexes, _numRows, applyUnaryOp(op), _data, _bits);
+	}
+	
+	@Override
+	public ColGroup binaryRowVectorOperation(BinaryOperator op, double[] v) throws DMLRuntimeException {
+		//fast path: sparse-safe and -unsafe operations
+		//as zero are represented, it is sufficient to simply apply the binary op
+		return new ColGroupFOR(_colIndexes, _numRows, applyBinaryRowOp(op, v), _data, _bits);
+	}
+}
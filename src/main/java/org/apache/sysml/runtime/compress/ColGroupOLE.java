@@ -32,7 +32,9 @@ import org.apache.sysml.runtime.functionobjects.KahanFunction;
 import org.apache.sysml.runtime.functionobjects.KahanPlus;
 import org.apache.sysml.runtime.instructions.cp.KahanObject;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class to encapsulate information about a column group that is encoded with
@@ -274,15 +276,56 @@ public class ColGroupOLE extends ColGroupOffset
 		}
 		
 		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyScalarOp(op), getZeroTuple(val0));
+	}
+	
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op)
+		throws DMLRuntimeException 
+	{
+		double val0 = op.fn.execute(0);
+		
+		//fast path: sparse-safe operations
+		// Note that bitmaps don't change and are shallow-copied
+		if( op.sparseSafe || val0==0 ) {
+			return new ColGroupOLE(_colIndexes, _numRows, _zeros, 
+					applyUnaryOp(op), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyUnaryOp(op), getZeroTuple(val0));
+	}
+	
+	@Override
+	public ColGroup binaryRowVectorOperation(BinaryOperator op, double[] v)
+		throws DMLRuntimeException 
+	{
+		double[] tuple0 = getZeroTuple(op, v);
+		
+		//fast path: zero-preserving operations (for the given vector)
+		// Note that bitmaps don't change and are shallow-copied
+		if( tuple0 == null ) {
+			return new ColGroupOLE(_colIndexes, _numRows, _zeros, 
+					applyBinaryRowOp(op, v), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyBinaryRowOp(op, v), tuple0);
+	}
+	
+	private ColGroupOLE appendZeroTuple(double[] values, double[] tuple0) 
+		throws DMLRuntimeException 
+	{
 		//note: for efficiency, we currently don't drop values that become 0
 		boolean[] lind = computeZeroIndicatorVector();
 		int[] loff = computeOffsets(lind);
 		if( loff.length==0 ) { //empty offset list: go back to fast path
-			return new ColGroupOLE(_colIndexes, _numRows, true,
-					applyScalarOp(op), _data, _ptr);
+			return new ColGroupOLE(_colIndexes, _numRows, false,
+					values, _data, _ptr);
 		}
 		
-		double[] rvalues = applyScalarOp(op, val0, getNumCols());		
+		double[] rvalues = Arrays.copyOf(values, values.length+tuple0.length);
+		System.arraycopy(tuple0, 0, rvalues, values.length, tuple0.length);
 		char[] lbitmap = BitmapEncoder.genOffsetBitmap(loff, loff.length);
 		char[] rbitmaps = Arrays.copyOf(_data, _data.length+lbitmap.length);
 		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
@@ -692,6 +735,12 @@ public class ColGroupOLE extends ColGroupOffset
 		final int numVals = getNumValues();
 		final int numCols = getNumCols();
 		
+		//pre-aggregate nnz per value tuple
+		int[] counts = new int[numVals];
+		for( int k=0, valOff=0; k<numVals; k++, valOff+=numCols )
+			for( int j=0; j<numCols; j++ )
+				counts[k] += (_values[valOff+j]!=0) ? 1 : 0;
+		
 		//current pos per OLs / output values
 		int[] apos = skipScan(numVals, rl);
 		
@@ -710,7 +759,7 @@ public class ColGroupOLE extends ColGroupOffset
 				for( int off=bi, slen=0; bix<blen && off<bimax; bix+=slen+1, off+=blksz ) {
 					slen = _data[boff+bix];
 					for (int blckIx = 1; blckIx <= slen; blckIx++) {
-						rnnz[off + _data[boff+bix + blckIx] - rl] += numCols;
+						rnnz[off + _data[boff+bix + blckIx] - rl] += counts[k];
 					}
 				}
 				
@@ -806,18 +855,11 @@ public class ColGroupOLE extends ColGroupOffset
 			int lrl = rl - rl%BitmapEncoder.BITMAP_BLOCK_SZ;
 			_bix = skipScanVal(k, lrl);
 			_start = lrl; 
+			seekSegment();
 			
 			//move position to actual rl boundary
-			if( _bix < _blen ) {
-				_slen = _data[_boff + _bix];
-				_spos = 0;
-				_rpos = _data[_boff + _bix + 1];
-				while( _rpos < rl )
-					nextRowOffset();
-			}
-			else {
-				_rpos = _ru;
-			}
+			while( _rpos < rl )
+				nextRowOffset();
 		}
 
 		@Override
@@ -842,14 +884,23 @@ public class ColGroupOLE extends ColGroupOffset
 			else {
 				_start += BitmapEncoder.BITMAP_BLOCK_SZ;
 				_bix += _slen+1;
-				if( _bix < _blen ) {
-					_slen = _data[_boff + _bix];
-					_spos = 0;
-					_rpos = _start + _data[_boff + _bix + 1];
-				}
-				else {
-					_rpos = _ru;
-				}
+				seekSegment();
+			}
+		}
+		
+		private void seekSegment() {
+			//skip empty segments (i.e., segments w/o row offsets)
+			while( _bix < _blen && _data[_boff + _bix] == 0 ) {
+				_start += BitmapEncoder.BITMAP_BLOCK_SZ;
+				_bix++;
+			}
+			if( _bix < _blen ) {
+				_slen = _data[_boff + _bix];
+				_spos = 0;
+				_rpos = _start + _data[_boff + _bix + 1];
+			}
+			else {
+				_rpos = _ru;
 			}
 		}
 	}
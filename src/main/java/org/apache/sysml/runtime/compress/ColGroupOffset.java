@@ -204,6 +204,30 @@ public abstract class ColGroupOffset extends ColGroupValue
 
 	//generic get for OLE/RLE, to be overwritten for performance
 	//potential: skip scan (segment length agg and run length) instead of decode
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru, int cl, int cu) 
+	{
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+		int[] cix = getColPositions(cl, cu);
+		if( cix.length == 0 )
+			return;
+		
+		//iterate over all values and their row offsets in [rl,ru),
+		//where the value iterators seek to rl via skip scans
+		for( int k = 0, off = 0; k < numVals; k++, off += numCols ) {
+			Iterator<Integer> decoder = getIterator(k, rl, ru);
+			while( decoder.hasNext() ) {
+				int row = decoder.next() - rl;
+				for( int j : cix ) {
+					double val = _values[off+j];
+					if( val != 0 )
+						target.appendValue(row, _colIndexes[j]-cl, val);
+				}
+			}
+		}
+	}
+	
 	@Override
 	public double get(int r, int c) {
 		//find local column index
@@ -403,6 +427,32 @@ public abstract class ColGroupOffset extends ColGroupValue
 		}
 	}
 	
+	@Override
+	protected void rightMultByPreaggMatrix(double[] preagg, double[] c, int n, int rl, int ru) {
+		//scatter rows of pre-aggregates by row offsets
+		final int numVals = getNumValues();
+		for( int k=0, valOff=0; k<numVals; k++, valOff+=n ) {
+			Iterator<Integer> iter = getIterator(k, rl, ru);
+			while( iter.hasNext() ) {
+				int cix = iter.next() * n;
+				for( int j=0; j<n; j++ )
+					c[cix+j] += preagg[valOff+j];
+			}
+		}
+	}
+	
+	@Override
+	protected void getRowCodes(int[] codes) {
+		//rows of zero values are not represented by offsets
+		Arrays.fill(codes, -1);
+		final int numVals = getNumValues();
+		for( int k=0; k<numVals; k++ ) {
+			Iterator<Integer> iter = getIterator(k);
+			while( iter.hasNext() )
+				codes[iter.next()] = k;
+		}
+	}
+	
 	protected abstract void computeSum(MatrixBlock result, KahanFunction kplus);
 	
 	protected abstract void computeRowSums(MatrixBlock result, KahanFunction kplus, int rl, int ru);
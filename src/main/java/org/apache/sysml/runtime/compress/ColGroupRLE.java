@@ -33,7 +33,9 @@ import org.apache.sysml.runtime.functionobjects.KahanPlus;
 import org.apache.sysml.runtime.instructions.cp.KahanObject;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.Pair;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 
 /** A group of columns compressed with a single run-length encoded bitmap. */
@@ -483,15 +485,56 @@ public class ColGroupRLE extends ColGroupOffset
 		}
 		
 		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyScalarOp(op), getZeroTuple(val0));
+	}
+	
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op)
+		throws DMLRuntimeException 
+	{
+		double val0 = op.fn.execute(0);
+		
+		//fast path: sparse-safe operations
+		// Note that bitmaps don't change and are shallow-copied
+		if( op.sparseSafe || val0==0 ) {
+			return new ColGroupRLE(_colIndexes, _numRows, _zeros, 
+					applyUnaryOp(op), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyUnaryOp(op), getZeroTuple(val0));
+	}
+	
+	@Override
+	public ColGroup binaryRowVectorOperation(BinaryOperator op, double[] v)
+		throws DMLRuntimeException 
+	{
+		double[] tuple0 = getZeroTuple(op, v);
+		
+		//fast path: zero-preserving operations (for the given vector)
+		// Note that bitmaps don't change and are shallow-copied
+		if( tuple0 == null ) {
+			return new ColGroupRLE(_colIndexes, _numRows, _zeros, 
+					applyBinaryRowOp(op, v), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyBinaryRowOp(op, v), tuple0);
+	}
+	
+	private ColGroupRLE appendZeroTuple(double[] values, double[] tuple0) 
+		throws DMLRuntimeException 
+	{
 		//note: for efficiency, we currently don't drop values that become 0
 		boolean[] lind = computeZeroIndicatorVector();
 		int[] loff = computeOffsets(lind);
 		if( loff.length==0 ) { //empty offset list: go back to fast path
-			return new ColGroupRLE(_colIndexes, _numRows, true,
-					applyScalarOp(op), _data, _ptr);
+			return new ColGroupRLE(_colIndexes, _numRows, false,
+					values, _data, _ptr);
 		}
 		
-		double[] rvalues = applyScalarOp(op, val0, getNumCols());		
+		double[] rvalues = Arrays.copyOf(values, values.length+tuple0.length);
+		System.arraycopy(tuple0, 0, rvalues, values.length, tuple0.length);
 		char[] lbitmap = BitmapEncoder.genRLEBitmap(loff, loff.length);
 		char[] rbitmaps = Arrays.copyOf(_data, _data.length+lbitmap.length);
 		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
@@ -702,6 +745,12 @@ public class ColGroupRLE extends ColGroupOffset
 		final int numVals = getNumValues();
 		final int numCols = getNumCols();
 		
+		//pre-aggregate nnz per value tuple
+		int[] counts = new int[numVals];
+		for( int k=0, valOff=0; k<numVals; k++, valOff+=numCols )
+			for( int j=0; j<numCols; j++ )
+				counts[k] += (_values[valOff+j]!=0) ? 1 : 0;
+		
 		//current pos / values per RLE list
 		int[] astart = new int[numVals];
 		int[] apos = skipScan(numVals, rl, astart);
@@ -717,7 +766,7 @@ public class ColGroupRLE extends ColGroupOffset
 				curRunStartOff = curRunEnd + _data[boff+bix];
 				curRunEnd = curRunStartOff + _data[boff+bix + 1];
 				for( int i=Math.max(curRunStartOff,rl); i<Math.min(curRunEnd, ru); i++ )
-					rnnz[i-rl] += numCols;
+					rnnz[i-rl] += counts[k];
 			}
 		}
 	}
@@ -813,9 +862,17 @@ public class ColGroupRLE extends ColGroupOffset
 			_ru = ru;
 			_boff = _ptr[k];
 			_blen = len(k);
-			_bix = 0; 
-			_start = 0; //init first run
-			_rpos = _data[_boff+_bix]; 
+			
+			//initialize position via run-level skip-scan
+			Pair<Integer,Integer> tmp = skipScanVal(k, rl);
+			_bix = tmp.getKey(); 
+			_start = tmp.getValue();
+			_rpos = (_bix>=_blen) ? _ru : 
+				_start + _data[_boff+_bix];
+			
+			//move position to actual rl boundary
+			if( _rpos < rl && rl < _rpos + _data[_boff+_bix+1] )
+				_rpos = rl;
 			while( _rpos < rl )
 				nextRowOffset();
 		}
@@ -0,0 +1,634 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.compress;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.ConverterUtils;
+import org.apache.sysml.runtime.functionobjects.Builtin;
+import org.apache.sysml.runtime.functionobjects.KahanFunction;
+import org.apache.sysml.runtime.functionobjects.KahanPlus;
+import org.apache.sysml.runtime.instructions.cp.KahanObject;
+import org.apache.sysml.runtime.matrix.data.IJV;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Class to encapsulate information about a column group that is encoded with
+ * a sparse dictionary encoding with default value tuple (SDC). The most 
+ * frequent value tuple (which might be non-zero) is stored once as default, 
+ * while all other rows are stored as sorted row indexes with 2 byte codes.
+ * 
+ * NOTE: the default tuple is always the last entry in the value dictionary,
+ * and zero values are included in the dictionary if necessary.
+ */
+public class ColGroupSDC extends ColGroupDDC 
+{
+	private static final long serialVersionUID = 2907418245313812754L;
+	
+	private int[] _indexes; //sorted row indexes of non-default rows
+	private char[] _data;   //codes of non-default rows
+
+	public ColGroupSDC() {
+		super();
+	}
+	
+	public ColGroupSDC(int[] colIndices, int numRows, UncompressedBitmap ubm) {
+		super(colIndices, numRows, ubm);
+		
+		int numVals = ubm.getNumValues();
+		int numCols = ubm.getNumColumns();
+		int numZeros = (int)(numRows - ubm.getNumOffsets());
+		
+		//determine the most frequent value tuple (incl zeros)
+		int defIx = -1; //zero tuple
+		int maxCnt = numZeros;
+		for( int i=0; i<numVals; i++ )
+			if( ubm.getNumOffsets(i) > maxCnt ) {
+				maxCnt = ubm.getNumOffsets(i);
+				defIx = i;
+			}
+		
+		//construct dictionary w/ default tuple at the end
+		int numVals2 = numVals + ((numZeros > 0) ? 1 : 0);
+		double[] values = new double[numVals2*numCols];
+		int[] codes = new int[numVals];
+		for( int i=0, pos=0; i<numVals; i++ )
+			if( i != defIx ) {
+				System.arraycopy(_values, i*numCols, values, pos*numCols, numCols);
+				codes[i] = pos++;
+			}
+		int defCode = numVals2-1;
+		int zeroCode = (defIx < 0) ? defCode : numVals2-2;
+		if( defIx >= 0 ) {
+			System.arraycopy(_values, defIx*numCols, values, defCode*numCols, numCols);
+			codes[defIx] = defCode;
+		}
+		_values = values;
+		
+		//materialize codes of all rows, and extract non-default rows
+		char[] tmp = new char[numRows];
+		if( numZeros > 0 )
+			Arrays.fill(tmp, (char)zeroCode);
+		for( int i=0; i<numVals; i++ ) {
+			int[] tmpList = ubm.getOffsetsList(i).extractValues();
+			int tmpListSize = ubm.getNumOffsets(i); 
+			for( int k=0; k<tmpListSize; k++ )
+				tmp[tmpList[k]] = (char)codes[i];
+		}
+		_indexes = new int[numRows-maxCnt];
+		_data = new char[numRows-maxCnt];
+		for( int i=0, pos=0; i<numRows; i++ )
+			if( tmp[i] != defCode ) {
+				_indexes[pos] = i;
+				_data[pos++] = tmp[i];
+			}
+	}
+	
+	public ColGroupSDC(int[] colIndices, int numRows, double[] values, int[] indexes, char[] data) {
+		super(colIndices, numRows, values);
+		_indexes = indexes;
+		_data = data;
+	}
+
+	@Override
+	public CompressionType getCompType() {
+		return CompressionType.SDC;
+	}
+	
+	@Override
+	protected double getData(int r) {
+		return _values[getCode(r)*getNumCols()];
+	}
+	
+	@Override
+	protected double getData(int r, int colIx) {
+		return _values[getCode(r)*getNumCols()+colIx];
+	}
+	
+	@Override
+	protected void setData(int r, int code) {
+		throw new RuntimeException("Set data not supported for SDC column groups.");
+	}
+	
+	@Override
+	protected int getCode(int r) {
+		int ix = Arrays.binarySearch(_indexes, r);
+		return (ix >= 0) ? _data[ix] : getDefaultCode();
+	}
+	
+	public int[] getIndexes() {
+		return _indexes;
+	}
+	
+	public char[] getCodes() {
+		return _data;
+	}
+	
+	/**
+	 * Obtain the dictionary code of the default value tuple.
+	 * 
+	 * @return code of default value tuple
+	 */
+	public int getDefaultCode() {
+		return getNumValues()-1;
+	}
+	
+	/**
+	 * Obtain the number of rows that differ from the default value tuple.
+	 * 
+	 * @return number of non-default rows
+	 */
+	public int getNumExceptions() {
+		return _indexes.length;
+	}
+	
+	/**
+	 * Find the position of the first non-default row greater or 
+	 * equal than the given row index.
+	 * 
+	 * @param rl row lower index
+	 * @return position in the list of non-default rows
+	 */
+	private int getIndexPos(int rl) {
+		int ix = Arrays.binarySearch(_indexes, rl);
+		return (ix >= 0) ? ix : -ix-1;
+	}
+	
+	@Override
+	public void write(DataOutput out) throws IOException {
+		int numCols = getNumCols();
+		int numVals = getNumValues();
+		out.writeInt(_numRows);
+		out.writeInt(numCols);
+		out.writeInt(numVals);
+		
+		//write col indices
+		for( int i=0; i<_colIndexes.length; i++ )
+			out.writeInt( _colIndexes[i] );
+		
+		//write distinct values
+		for( int i=0; i<_values.length; i++ )
+			out.writeDouble(_values[i]);
+
+		//write non-default rows and codes
+		out.writeInt(_indexes.length);
+		for( int i=0; i<_indexes.length; i++ ) {
+			out.writeInt(_indexes[i]);
+			out.writeChar(_data[i]);
+		}
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		_numRows = in.readInt();
+		int numCols = in.readInt();
+		int numVals = in.readInt();
+		
+		//read col indices
+		_colIndexes = new int[ numCols ];
+		for( int i=0; i<numCols; i++ )
+			_colIndexes[i] = in.readInt();
+		
+		//read distinct values
+		_values = new double[numVals*numCols];
+		for( int i=0; i<numVals*numCols; i++ )
+			_values[i] = in.readDouble();
+		
+		//read non-default rows and codes
+		int len = in.readInt();
+		_indexes = new int[len];
+		_data = new char[len];
+		for( int i=0; i<len; i++ ) {
+			_indexes[i] = in.readInt();
+			_data[i] = in.readChar();
+		}
+	}
+
+	@Override
+	public long getExactSizeOnDisk() {
+		long ret = 16; //header
+		//col indices
+		ret += 4 * _colIndexes.length; 
+		//distinct values (groups of values)
+		ret += 8 * _values.length;
+		//non-default rows and codes
+		ret += 6 * _indexes.length;
+		
+		return ret;
+	}
+	
+	@Override
+	public long estimateInMemorySize() {
+		long size = super.estimateInMemorySize();
+		
+		//adding data size
+		if (_indexes != null)
+			size += 6 * _indexes.length;
+	
+		return size;
+	}
+	
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru) {
+		final int ncol = getNumCols();
+		final int defOff = getDefaultCode()*ncol;
+		for( int i = rl, pos = getIndexPos(rl); i < ru; i++ ) {
+			int off = (pos < _indexes.length && _indexes[pos]==i) ? 
+				_data[pos++]*ncol : defOff;
+			for( int j=0; j<ncol; j++ )
+				target.appendValue(i, _colIndexes[j], _values[off+j]);
+		}
+		//note: append ok because final sort per row 
+	}
+	
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru, int cl, int cu) {
+		final int ncol = getNumCols();
+		final int defOff = getDefaultCode()*ncol;
+		int[] cix = getColPositions(cl, cu);
+		for( int i = rl, pos = getIndexPos(rl); i < ru; i++ ) {
+			int off = (pos < _indexes.length && _indexes[pos]==i) ?
+				_data[pos++]*ncol : defOff;
+			for( int j : cix )
+				target.appendValue(i-rl, _colIndexes[j]-cl, _values[off+j]);
+		}
+	}
+
+	@Override
+	public void decompressToBlock(MatrixBlock target, int[] colIndexTargets) {
+		final int nrow = getNumRows();
+		final int ncol = getNumCols();
+		final int defOff = getDefaultCode()*ncol;
+		int[] cix = new int[ncol];
+		for( int j=0; j<ncol; j++ )
+			cix[j] = colIndexTargets[_colIndexes[j]];
+		
+		//single pass over rows and sorted non-default rows
+		for( int i = 0, pos = 0; i < nrow; i++ ) {
+			int off = (pos < _indexes.length && _indexes[pos]==i) ?
+				_data[pos++]*ncol : defOff;
+			for( int j=0; j<ncol; j++ )
+				target.quickSetValue(i, cix[j], _values[off+j]);
+		}
+	}
+	
+	@Override
+	public void decompressToBlock(MatrixBlock target, int colpos) {
+		final int nrow = getNumRows();
+		final int ncol = getNumCols();
+		double[] c = target.getDenseBlock();
+		
+		//fill default values and overwrite non-default rows
+		double defVal = _values[getDefaultCode()*ncol+colpos];
+		Arrays.fill(c, 0, nrow, defVal);
+		int nnz = (defVal!=0) ? nrow-_indexes.length : 0;
+		for( int k=0; k<_indexes.length; k++ )
+			nnz += ((c[_indexes[k]] = _values[_data[k]*ncol+colpos])!=0) ? 1 : 0;
+		target.setNonZeros(nnz);
+	}
+	
+	@Override
+	public double get(int r, int c) {
+		//find local column index
+		int ix = Arrays.binarySearch(_colIndexes, c);
+		if( ix < 0 )
+			throw new RuntimeException("Column index "+c+" not in SDC group.");
+		
+		//probe sorted non-default rows, otherwise default tuple
+		int pos = getIndexPos(r);
+		int code = (pos < _indexes.length && _indexes[pos]==r) ?
+			_data[pos] : getDefaultCode();
+		return _values[code*getNumCols()+ix];
+	}
+	
+	@Override 
+	public int[] getCounts() {
+		return getCounts(0, getNumRows());
+	}
+	
+	@Override 
+	public int[] getCounts(int rl, int ru) {
+		final int numVals = getNumValues();
+		int[] counts = new int[numVals];
+		int pos = getIndexPos(rl);
+		int cnt = 0;
+		for( ; pos < _indexes.length && _indexes[pos] < ru; pos++, cnt++ )
+			counts[_data[pos]] ++;
+		counts[getDefaultCode()] += (ru-rl) - cnt;
+		return counts;
+	}
+	
+	@Override
+	protected void countNonZerosPerRow(int[] rnnz, int rl, int ru) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+		
+		//pre-aggregate nnz per value tuple
+		int[] counts = new int[numVals];
+		for( int k=0, valOff=0; k<numVals; k++, valOff+=ncol )
+			for( int j=0; j<ncol; j++ )
+				counts[k] += (_values[valOff+j]!=0) ? 1 : 0;
+		
+		//scan rows and add counts to output rows
+		final int defCnt = counts[getDefaultCode()];
+		for( int i = rl, pos = getIndexPos(rl); i < ru; i++ )
+			rnnz[i-rl] += (pos < _indexes.length && _indexes[pos]==i) ?
+				counts[_data[pos++]] : defCnt;
+	}
+	
+	@Override
+	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		double[] b = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlock();
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+		
+		//prepare reduced rhs w/ relevant values
+		double[] sb = new double[numCols];
+		for (int j = 0; j < numCols; j++) {
+			sb[j] = b[_colIndexes[j]];
+		}
+		
+		//pre-aggregate all distinct values 
+		double[] vals = preaggValues(numVals, sb);
+		final double defVal = vals[getDefaultCode()];
+		
+		//iterate over rows and add default or non-default values
+		for( int i = rl, pos = getIndexPos(rl); i < ru; i++ )
+			c[i] += (pos < _indexes.length && _indexes[pos]==i) ?
+				vals[_data[pos++]] : defVal;
+	}
+	
+	@Override
+	protected void rightMultByPreaggMatrix(double[] preagg, double[] c, int n, int rl, int ru) {
+		final int defOff = getDefaultCode() * n;
+		
+		//iterate over rows and add default or non-default rows of pre-aggregates
+		for( int i = rl, pos = getIndexPos(rl), cix = rl*n; i < ru; i++, cix+=n ) {
+			int valOff = (pos < _indexes.length && _indexes[pos]==i) ?
+				_data[pos++] * n : defOff;
+			for( int j=0; j<n; j++ )
+				c[cix+j] += preagg[valOff+j];
+		}
+	}
+	
+	@Override
+	protected void getRowCodes(int[] codes) {
+		Arrays.fill(codes, getDefaultCode());
+		for( int pos = 0; pos < _indexes.length; pos++ )
+			codes[_indexes[pos]] = _data[pos];
+	}
+	
+	@Override
+	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result) 
+		throws DMLRuntimeException 
+	{
+		double[] a = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlock();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+		final int defCode = getDefaultCode();
+		
+		//iterative over rows and pre-aggregate inputs per code
+		//temporary array also avoids false sharing in multi-threaded environments
+		double[] vals = allocDVector(numVals, true);
+		for( int i=0, pos=0; i<nrow; i++ ) {
+			int code = (pos < _indexes.length && _indexes[pos]==i) ? _data[pos++] : defCode;
+			vals[code] += a[i];
+		}
+		
+		//post-scaling of pre-aggregate with distinct values
+		postScaling(vals, c);
+	}
+	
+	@Override
+	public void leftMultByRowVector(ColGroupDDC a, MatrixBlock result) 
+		throws DMLRuntimeException 
+	{
+		double[] c = result.getDenseBlock();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+		final int defCode = getDefaultCode();
+		
+		//iterative over rows and pre-aggregate inputs per code
+		//temporary array also avoids false sharing in multi-threaded environments
+		double[] vals = allocDVector(numVals, true);
+		for( int i=0, pos=0; i<nrow; i++ ) {
+			int code = (pos < _indexes.length && _indexes[pos]==i) ? _data[pos++] : defCode;
+			vals[code] += a.getData(i);
+		}
+		
+		//post-scaling of pre-aggregate with distinct values
+		postScaling(vals, c);
+	}
+	
+	@Override
+	protected void computeSum(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+		
+		//count per code, incl default
+		int[] counts = getCounts();
+		
+		//post-scaling of pre-aggregate with distinct values
+		KahanObject kbuff = new KahanObject(result.quickGetValue(0, 0), result.quickGetValue(0, 1));
+		for( int k=0, valOff=0; k<numVals; k++, valOff+=ncol ) {
+			int cntk = counts[k];
+			for( int j=0; j<ncol; j++ )
+				kplus.execute3(kbuff, _values[ valOff+j], cntk);
+		}
+		
+		result.quickSetValue(0, 0, kbuff._sum);
+		result.quickSetValue(0, 1, kbuff._correction);
+	}
+	
+	@Override
+	protected void computeColSums(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+		
+		//count per code, incl default
+		int[] counts = getCounts();
+		
+		//post-scaling of pre-aggregate with distinct values per column
+		KahanObject kbuff = new KahanObject(0, 0);
+		for( int j=0; j<ncol; j++ ) {
+			kbuff.set(result.quickGetValue(0, _colIndexes[j]), 
+				result.quickGetValue(1, _colIndexes[j]));
+			for( int k=0; k<numVals; k++ )
+				kplus.execute3(kbuff, _values[k*ncol+j], counts[k]);
+			result.quickSetValue(0, _colIndexes[j], kbuff._sum);
+			result.quickSetValue(1, _colIndexes[j], kbuff._correction);
+		}
+	}
+	
+	@Override
+	protected void computeRowSums(MatrixBlock result, KahanFunction kplus, int rl, int ru) {
+		KahanObject kbuff = new KahanObject(0, 0);
+		KahanPlus kplus2 = KahanPlus.getKahanPlusFnObject();
+		double[] c = result.getDenseBlock();
+		
+		//pre-aggregate nnz per value tuple
+		double[] vals = sumAllValues(kplus, kbuff, false);
+		final double defVal = vals[getDefaultCode()];
+		
+		//scan rows and add to result (use kahan plus not general KahanFunction
+		//for correctness in case of sqk+)
+		for( int i = rl, pos = getIndexPos(rl); i < ru; i++ ) {
+			kbuff.set(c[2*i], c[2*i+1]);
+			kplus2.execute2(kbuff, (pos < _indexes.length && _indexes[pos]==i) ?
+				vals[_data[pos++]] : defVal);
+			c[2*i] = kbuff._sum;
+			c[2*i+1] = kbuff._correction;
+		}
+	}
+	
+	@Override
+	protected void computeRowMxx(MatrixBlock result, Builtin builtin, int rl, int ru) {
+		double[] c = result.getDenseBlock();
+		final int ncol = getNumCols();
+		final int defOff = getDefaultCode()*ncol;
+		
+		for( int i = rl, pos = getIndexPos(rl); i < ru; i++ ) {
+			int off = (pos < _indexes.length && _indexes[pos]==i) ? 
+				_data[pos++]*ncol : defOff;
+			for( int j=0; j<ncol; j++ )
+				c[i] = builtin.execute2(c[i], _values[off+j]);
+		}
+	}
+	
+	@Override
+	public ColGroup scalarOperation(ScalarOperator op) throws DMLRuntimeException {
+		//fast path: sparse-safe and -unsafe operations
+		//as zero and default values are represented, it is sufficient to simply apply the scalar op
+		return new ColGroupSDC(_colIndexes, _numRows, applyScalarOp(op), _indexes, _data);
+	}
+	
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) throws DMLRuntimeException {
+		//fast path: sparse-safe and -unsafe operations
+		//as zero and default values are represented, it is sufficient to simply apply the unary op
+		return new ColGroupSDC(_colIndexes, _numRows, applyUnaryOp(op), _indexes, _data);
+	}
+	
+	@Override
+	public ColGroup binaryRowVectorOperation(BinaryOperator op, double[] v) throws DMLRuntimeException {
+		//fast path: sparse-safe and -unsafe operations
+		//as zero and default values are represented, it is sufficient to simply apply the binary op
+		return new ColGroupSDC(_colIndexes, _numRows, applyBinaryRowOp(op, v), _indexes, _data);
+	}
+	
+	@Override
+	public Iterator<IJV> getIterator(int rl, int ru, boolean inclZeros, boolean rowMajor) {
+		//SDC iterator is always row major, so no need for custom handling
+		return new SDCIterator(rl, ru, inclZeros);
+	}
+	
+	@Override
+	public ColGroupRowIterator getRowIterator(int rl, int ru) {
+		return new SDCRowIterator(rl, ru);
+	}
+	
+	private class SDCIterator implements Iterator<IJV>
+	{
+		//iterator configuration 
+		private final int _ru;
+		private final boolean _inclZeros;
+		
+		//iterator state
+		private final IJV _buff = new IJV(); 
+		private int _rpos = -1;
+		private int _cpos = -1;
+		private int _pos = -1;
+		private int _off = -1;
+		private double _value = 0;
+		
+		public SDCIterator(int rl, int ru, boolean inclZeros) {
+			_ru = ru;
+			_inclZeros = inclZeros;
+			_rpos = rl-1;
+			_cpos = getNumCols()-1;
+			_pos = getIndexPos(rl);
+			getNextValue();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (_rpos < _ru);
+		}
+
+		@Override
+		public IJV next() {
+			_buff.set(_rpos, _colIndexes[_cpos], _value);
+			getNextValue();
+			return _buff;
+		}
+		
+		private void getNextValue() {
+			final int ncol = getNumCols();
+			do {
+				if( _cpos+1 >= ncol ) {
+					_rpos++;
+					_cpos = 0;
+					if( _rpos >= _ru )
+						return; //reached end
+					_off = (_pos < _indexes.length && _indexes[_pos]==_rpos) ?
+						_data[_pos++]*ncol : getDefaultCode()*ncol;
+				}
+				else
+					_cpos++;
+				_value = _values[_off+_cpos];
+			}
+			while( !_inclZeros && _value==0);
+		}
+	}
+	
+	private class SDCRowIterator extends ColGroupRowIterator
+	{
+		private int _pos;
+		
+		public SDCRowIterator(int rl, int ru) {
+			_pos = getIndexPos(rl);
+		}
+
+		@Override
+		public void next(double[] buff, int rowIx, int segIx, boolean last) {
+			//advance over non-default rows (increasing row indexes)
+			while( _pos < _indexes.length && _indexes[_pos] < rowIx )
+				_pos++;
+			//copy entire value tuple to output row
+			final int clen = getNumCols();
+			final int off = ((_pos < _indexes.length && _indexes[_pos]==rowIx) ?
+				_data[_pos] : getDefaultCode())*clen;
+			for(int j=0; j<clen; j++)
+				buff[_colIndexes[j]] = _values[off+j];
+		}
+	}
+}
@@ -29,6 +29,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.ConverterUtils;
 import org.apache.sysml.runtime.functionobjects.ReduceRow;
 import org.apache.sysml.runtime.matrix.data.IJV;
 import org.apache.sysml.runtime.matrix.data.LibMatrixAgg;
@@ -37,7 +38,9 @@ import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.SparseBlock;
 import org.apache.sysml.runtime.matrix.data.SparseBlock.Type;
 import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysml.runtime.util.SortUtils;
 
 
@@ -229,6 +232,21 @@ public class ColGroupUncompressed extends ColGroup
 		}
 	}
 
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru, int cl, int cu) {
+		//empty block, nothing to add to output
+		if( _data.isEmptyBlock(false) )
+			return;
+		int[] cix = getColPositions(cl, cu);
+		for (int row = rl; row < ru; row++) {
+			for (int colIx : cix) {
+				double cellVal = _data.quickGetValue(row, colIx);
+				if( cellVal != 0 )
+					target.appendValue(row-rl, _colIndexes[colIx]-cl, cellVal);
+			}
+		}
+	}
+
 	@Override
 	public void decompressToBlock(MatrixBlock target, int[] colIndexTargets) {
 		//empty block, nothing to add to output
@@ -336,6 +354,63 @@ public class ColGroupUncompressed extends ColGroup
 		}
 	}
 
+	@Override
+	public void rightMultByMatrix(MatrixBlock matrix, MatrixBlock result, int rl, int ru)
+			throws DMLRuntimeException 
+	{
+		double[] b = ConverterUtils.getDenseVector(matrix);
+		double[] c = result.getDenseBlock();
+		final int n = matrix.getNumColumns();
+		
+		if( _data.isEmptyBlock(false) )
+			return;
+		
+		// Add products of the selected rows of the matrix (adds to output)
+		if( _data.isInSparseFormat() ) {
+			SparseBlock sb = _data.getSparseBlock();
+			for( int i=rl, cix=rl*n; i<ru; i++, cix+=n ) {
+				if( sb.isEmpty(i) ) continue;
+				int apos = sb.pos(i);
+				int alen = sb.size(i);
+				int[] aix = sb.indexes(i);
+				double[] avals = sb.values(i);
+				for( int k=apos; k<apos+alen; k++ )
+					LibMatrixMult.vectMultiplyAdd(avals[k], b, c, _colIndexes[aix[k]]*n, cix, n);
+			}
+		}
+		else {
+			double[] a = _data.getDenseBlock();
+			final int clen = _colIndexes.length;
+			for( int i=rl, aix=rl*clen, cix=rl*n; i<ru; i++, aix+=clen, cix+=n )
+				for( int j=0; j<clen; j++ )
+					if( a[aix+j] != 0 )
+						LibMatrixMult.vectMultiplyAdd(a[aix+j], b, c, _colIndexes[j]*n, cix, n);
+		}
+	}
+	
+	@Override
+	public void leftMultByMatrix(MatrixBlock matrix, MatrixBlock result)
+			throws DMLRuntimeException 
+	{
+		leftMultByMatrix(matrix, result, 1);
+	}
+	
+	public void leftMultByMatrix(MatrixBlock matrix, MatrixBlock result, int k)
+			throws DMLRuntimeException 
+	{
+		MatrixBlock pret = new MatrixBlock(matrix.getNumRows(), _colIndexes.length, false);
+		LibMatrixMult.matrixMult(matrix, _data, pret, k);
+		
+		// copying partialResult to the proper indices of the result
+		if( !pret.isEmptyBlock(false) ) {
+			double[] c = result.getDenseBlock();
+			final int clen = result.getNumColumns();
+			for( int i=0, cix=0; i<pret.getNumRows(); i++, cix+=clen )
+				for( int colIx = 0; colIx < _colIndexes.length; colIx++ )
+					c[cix+_colIndexes[colIx]] = pret.quickGetValue(i, colIx);
+		}
+	}
+	
 	@Override
 	public ColGroup scalarOperation(ScalarOperator op)
 			throws DMLRuntimeException 
@@ -348,6 +423,36 @@ public class ColGroupUncompressed extends ColGroup
 		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
 	}
 	
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op)
+			throws DMLRuntimeException 
+	{
+		//execute unary operations
+		MatrixBlock retContent = (MatrixBlock) _data
+				.unaryOperations(op, new MatrixBlock());
+		
+		//construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+	
+	@Override
+	public ColGroup binaryRowVectorOperation(BinaryOperator op, double[] v)
+			throws DMLRuntimeException 
+	{
+		//project row vector to the columns of this group
+		MatrixBlock vect = new MatrixBlock(1, getNumCols(), false);
+		vect.allocateDenseBlock();
+		for( int j = 0; j < getNumCols(); j++ )
+			vect.quickSetValue(0, j, v[_colIndexes[j]]);
+		
+		//execute matrix-row vector operations
+		MatrixBlock retContent = (MatrixBlock) _data
+				.binaryOperations(op, vect, new MatrixBlock());
+		
+		//construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+	
 	@Override
 	public void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock ret)
 		throws DMLRuntimeException 
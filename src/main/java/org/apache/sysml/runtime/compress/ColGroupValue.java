@@ -22,15 +22,19 @@ package org.apache.sysml.runtime.compress;
 import java.util.Arrays;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.ConverterUtils;
 import org.apache.sysml.runtime.functionobjects.Builtin;
 import org.apache.sysml.runtime.functionobjects.Builtin.BuiltinCode;
 import org.apache.sysml.runtime.functionobjects.KahanFunction;
 import org.apache.sysml.runtime.functionobjects.KahanPlus;
 import org.apache.sysml.runtime.instructions.cp.KahanObject;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.Pair;
 import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 
 /**
@@ -313,9 +317,99 @@ public abstract class ColGroupValue extends ColGroup
 	}
 
 	//additional vector-matrix multiplication to avoid DDC uncompression
-	public abstract void leftMultByRowVector(ColGroupDDC vector, MatrixBlock result) 
+	public abstract void leftMultByRowVector(ColGroupDDC vector, MatrixBlock result)
 		throws DMLRuntimeException;
 
+	@Override
+	public void rightMultByMatrix(MatrixBlock matrix, MatrixBlock result, int rl, int ru)
+		throws DMLRuntimeException
+	{
+		double[] b = ConverterUtils.getDenseVector(matrix);
+		double[] c = result.getDenseBlock();
+		final int n = matrix.getNumColumns();
+
+		//pre-aggregate distinct value tuples with the rows of the rhs
+		//matrix once, and scatter the rows of partial results to output
+		double[] preagg = preaggValues(b, n);
+		rightMultByPreaggMatrix(preagg, c, n, rl, ru);
+	}
+
+	@Override
+	public void leftMultByMatrix(MatrixBlock matrix, MatrixBlock result)
+		throws DMLRuntimeException
+	{
+		double[] a = ConverterUtils.getDenseVector(matrix);
+		double[] c = result.getDenseBlock();
+		final int m = matrix.getNumRows();
+		final int n = getNumRows();
+		final int clen = result.getNumColumns();
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+
+		//decode row codes once for all rows of the lhs matrix
+		int[] codes = new int[n];
+		getRowCodes(codes);
+
+		double[] vals = allocDVector(numVals, false);
+		for( int i=0, aix=0, cix=0; i<m; i++, aix+=n, cix+=clen ) {
+			//pre-aggregate lhs row per distinct value tuple
+			Arrays.fill(vals, 0);
+			for( int j=0; j<n; j++ ) {
+				int code = codes[j];
+				if( code >= 0 )
+					vals[code] += a[aix+j];
+			}
+			//post-scaling of pre-aggregates with value tuples
+			for( int k=0, valOff=0; k<numVals; k++, valOff+=numCols ) {
+				double aval = vals[k];
+				if( aval != 0 )
+					for( int j=0; j<numCols; j++ )
+						c[cix+_colIndexes[j]] += aval * _values[valOff+j];
+			}
+		}
+	}
+
+	/**
+	 * Pre-aggregates all distinct value tuples with the rows of a dense
+	 * matrix that correspond to the columns of this group.
+	 *
+	 * @param b dense matrix (linearized, row-major)
+	 * @param n number of columns of the dense matrix
+	 * @return dense numVals x n matrix of partial results
+	 */
+	protected final double[] preaggValues(double[] b, int n) {
+		final int numVals = getNumValues();
+		final int numCols = getNumCols();
+		double[] ret = new double[numVals * n];
+		for( int k=0, valOff=0; k<numVals; k++, valOff+=numCols )
+			for( int j=0; j<numCols; j++ ) {
+				double val = _values[valOff+j];
+				if( val != 0 )
+					LibMatrixMult.vectMultiplyAdd(val, b, ret, _colIndexes[j]*n, k*n, n);
+			}
+		return ret;
+	}
+
+	/**
+	 * Adds the rows of pre-aggregated value tuples to the rows
+	 * rl to ru of the dense output according to the row encoding.
+	 *
+	 * @param preagg dense numVals x n matrix of pre-aggregated values
+	 * @param c dense output (linearized, row-major)
+	 * @param n number of columns of the output
+	 * @param rl row lower
+	 * @param ru row upper
+	 */
+	protected abstract void rightMultByPreaggMatrix(double[] preagg, double[] c, int n, int rl, int ru);
+
+	/**
+	 * Obtains the codes (value tuple indexes) of all rows, where rows
+	 * with all-zero values not in the dictionary are encoded as -1.
+	 *
+	 * @param codes output array of length numRows
+	 */
+	protected abstract void getRowCodes(int[] codes);
+
 	
 	/**
 	 * Method for use by subclasses. Applies a scalar operation to the value
@@ -338,21 +432,93 @@ public abstract class ColGroupValue extends ColGroup
 		return ret;
 	}
 
-	protected double[] applyScalarOp(ScalarOperator op, double newVal, int numCols)
+	/**
+	 * Method for use by subclasses. Applies a cell-wise unary operation 
+	 * to the value metadata stored in the superclass.
+	 * 
+	 * @param op
+	 *            unary operation to perform
+	 * @return transformed copy of value metadata for this column group
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	protected double[] applyUnaryOp(UnaryOperator op)
 		throws DMLRuntimeException 
 	{
 		//scan over linearized values
-		double[] ret = new double[_values.length + numCols];
-		for( int i = 0; i < _values.length; i++ ) {
-			ret[i] = op.executeScalar(_values[i]);
+		double[] ret = new double[_values.length];
+		for (int i = 0; i < _values.length; i++) {
+			ret[i] = op.fn.execute(_values[i]);
 		}
+
+		return ret;
+	}
+	
+	/**
+	 * Method for use by subclasses. Applies a binary operation with the
+	 * given row vector to the value metadata stored in the superclass.
+	 * 
+	 * @param op
+	 *            binary operation to perform
+	 * @param v
+	 *            dense row vector over all columns of the matrix
+	 * @return transformed copy of value metadata for this column group
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	protected double[] applyBinaryRowOp(BinaryOperator op, double[] v)
+		throws DMLRuntimeException 
+	{
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
 		
-		//add new value to the end
-		Arrays.fill(ret, _values.length, _values.length+numCols, newVal);
+		//scan over linearized values, value tuple at a time
+		double[] ret = new double[_values.length];
+		for( int k = 0, off = 0; k < numVals; k++, off += numCols )
+			for( int j = 0; j < numCols; j++ )
+				ret[off+j] = op.fn.execute(_values[off+j], v[_colIndexes[j]]);
 		
 		return ret;
 	}
 	
+	/**
+	 * Method for use by subclasses. Obtains the value tuple of rows
+	 * without stored values (i.e., zero rows) after applying the given 
+	 * binary operation with the given row vector.
+	 * 
+	 * @param op
+	 *            binary operation to perform
+	 * @param v
+	 *            dense row vector over all columns of the matrix
+	 * @return value tuple of zero rows, or null if all zero
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	protected double[] getZeroTuple(BinaryOperator op, double[] v)
+		throws DMLRuntimeException 
+	{
+		double[] ret = new double[getNumCols()];
+		boolean zeros = true;
+		for( int j = 0; j < ret.length; j++ ) {
+			ret[j] = op.fn.execute(0, v[_colIndexes[j]]);
+			zeros &= (ret[j] == 0);
+		}
+		return zeros ? null : ret;
+	}
+	
+	/**
+	 * Method for use by subclasses. Obtains the value tuple of rows
+	 * without stored values (i.e., zero rows) filled with a single value.
+	 * 
+	 * @param val
+	 *            value of all columns
+	 * @return value tuple of zero rows, or null if all zero
+	 */
+	protected double[] getZeroTuple(double val) {
+		if( val == 0 )
+			return null;
+		double[] ret = new double[getNumCols()];
+		Arrays.fill(ret, val);
+		return ret;
+	}
+	
 	@Override
 	public void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock result) 
 		throws DMLRuntimeException 
@@ -51,6 +51,7 @@ import org.apache.sysml.runtime.compress.ColGroup.ColGroupRowIterator;
 import org.apache.sysml.runtime.compress.ColGroup.CompressionType;
 import org.apache.sysml.runtime.compress.cocode.PlanningCoCoder;
 import org.apache.sysml.runtime.compress.estim.CompressedSizeEstimator;
+import org.apache.sysml.runtime.compress.estim.CompressedSizeEstimatorExact;
 import org.apache.sysml.runtime.compress.estim.CompressedSizeInfo;
 import org.apache.sysml.runtime.compress.estim.SizeEstimatorFactory;
 import org.apache.sysml.runtime.compress.utils.ConverterUtils;
@@ -71,6 +72,7 @@ import org.apache.sysml.runtime.instructions.cp.KahanObject;
 import org.apache.sysml.runtime.instructions.cp.ScalarObject;
 import org.apache.sysml.runtime.matrix.data.CTableMap;
 import org.apache.sysml.runtime.matrix.data.IJV;
+import org.apache.sysml.runtime.matrix.data.LibMatrixAgg;
 import org.apache.sysml.runtime.matrix.data.LibMatrixBincell;
 import org.apache.sysml.runtime.matrix.data.LibMatrixReorg;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
@@ -93,6 +95,7 @@ import org.apache.sysml.runtime.matrix.operators.QuaternaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ReorgOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
+import org.apache.sysml.runtime.util.DataConverter;
 import org.apache.sysml.runtime.util.IndexRange;
 import org.apache.sysml.runtime.util.SortUtils;
 
@@ -110,6 +113,9 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	public static final long MIN_PAR_AGG_THRESHOLD = 16*1024*1024; //16MB
 	public static final boolean INVESTIGATE_ESTIMATES = false;
 	public static boolean ALLOW_DDC_ENCODING = true;
+	public static boolean ALLOW_CONST_ENCODING = true;
+	public static boolean ALLOW_SDC_ENCODING = true;
+	public static boolean ALLOW_FOR_ENCODING = true;
 	public static final boolean ALLOW_SHARED_DDC1_DICTIONARY = true;
 	private static final boolean LDEBUG = true; //local debug flag
 	private static final Level LDEBUG_LEVEL = Level.INFO; //DEBUG/TRACE for details
@@ -164,6 +170,188 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			denseBlock = mb.getDenseBlock();
 		nonZeros = mb.getNonZeros();
 	}
+	
+	/**
+	 * Creates a shallow copy of this compressed block, which shares the
+	 * column groups of this block. Since deserialization always creates new
+	 * column groups, this is a cheap alternative to deep copies of reused 
+	 * input records.
+	 * 
+	 * @return shallow copy of this compressed block
+	 */
+	public CompressedMatrixBlock shallowCopy() {
+		CompressedMatrixBlock ret = new CompressedMatrixBlock(rlen, clen, sparse);
+		ret._colGroups = (_colGroups != null) ? new ArrayList<>(_colGroups) : null;
+		ret._sharedDDC1Dict = _sharedDDC1Dict;
+		ret.nonZeros = nonZeros;
+		return ret;
+	}
+	
+	/**
+	 * Slices the rows rl to ru (inclusive) of this compressed block into a new
+	 * compressed block with the same column group partitioning. The column groups
+	 * are re-encoded over the row range, but without co-coding and compression
+	 * planning, i.e., the encoding per group is selected by exact size information.
+	 * 
+	 * @param rl row lower index, inclusive
+	 * @param ru row upper index, inclusive
+	 * @return compressed block of the given rows
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public CompressedMatrixBlock sliceRowsCompressed(int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		if( !isCompressed() )
+			throw new DMLRuntimeException("Compressed row slicing requires a compressed block.");
+		
+		//decompress the row range into a (transposed) raw block as used for compression
+		final int numRows = ru - rl + 1;
+		MatrixBlock tmp = sliceOperations(rl, ru, 0, clen-1, new MatrixBlock());
+		MatrixBlock rawblock = !TRANSPOSE_INPUT ? tmp :
+			LibMatrixReorg.transpose(tmp, new MatrixBlock(clen, numRows, tmp.isInSparseFormat()));
+		
+		//re-encode all column groups over the row range
+		CompressedSizeEstimator estim = new CompressedSizeEstimatorExact(rawblock);
+		ArrayList<ColGroup> colGroups = new ArrayList<>();
+		for( ColGroup grp : _colGroups )
+			colGroups.add(encodeColGroup(rawblock, estim, numRows, 
+				grp.getColIndices().clone(), grp instanceof ColGroupUncompressed));
+		
+		return createCompressedBlock(numRows, clen, tmp.getNonZeros(), colGroups);
+	}
+	
+	/**
+	 * Reassembles compressed row blocks with a common column group partitioning
+	 * (e.g., as obtained via {@link #sliceRowsCompressed(int, int)}) into a single 
+	 * compressed block. Each column group is re-encoded over all rows, without 
+	 * co-coding and compression planning.
+	 * 
+	 * @param blocks compressed row blocks of equal width, ordered by rows
+	 * @param k degree of parallelism
+	 * @return compressed block of all rows, or null if the blocks do not 
+	 *         share a common column group partitioning
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static CompressedMatrixBlock rbindRowsCompressed(List<CompressedMatrixBlock> blocks, int k) 
+		throws DMLRuntimeException
+	{
+		//check for common column group partitioning
+		CompressedMatrixBlock first = blocks.get(0);
+		long rlen = 0, nnz = 0;
+		for( CompressedMatrixBlock blk : blocks ) {
+			if( !blk.isCompressed() || blk.getNumColumns() != first.getNumColumns()
+				|| blk._colGroups.size() != first._colGroups.size() )
+				return null;
+			for( int j=0; j<first._colGroups.size(); j++ )
+				if( !Arrays.equals(blk._colGroups.get(j).getColIndices(), 
+					first._colGroups.get(j).getColIndices()) )
+					return null;
+			rlen += blk.getNumRows();
+			nnz += blk.getNonZeros();
+		}
+		
+		//check that the dense buffers of the individual groups fit into arrays
+		for( ColGroup grp : first._colGroups )
+			if( rlen * grp.getNumCols() > Integer.MAX_VALUE )
+				return null;
+		
+		//re-encode all column groups over all rows
+		ArrayList<ColGroup> colGroups = new ArrayList<>();
+		int numGroups = first._colGroups.size();
+		if( k > 1 && numGroups > 1 ) {
+			try {
+				ExecutorService pool = Executors.newFixedThreadPool( Math.min(k, numGroups) );
+				ArrayList<RbindColGroupTask> tasks = new ArrayList<>();
+				for( int j=0; j<numGroups; j++ )
+					tasks.add(new RbindColGroupTask(blocks, j, (int)rlen));
+				List<Future<ColGroup>> rtask = pool.invokeAll(tasks);
+				for( Future<ColGroup> lrtask : rtask )
+					colGroups.add(lrtask.get());
+				pool.shutdown();
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+		}
+		else {
+			for( int j=0; j<numGroups; j++ )
+				colGroups.add(rbindColGroup(blocks, j, (int)rlen));
+		}
+		
+		return createCompressedBlock((int)rlen, first.getNumColumns(), nnz, colGroups);
+	}
+	
+	private static ColGroup rbindColGroup(List<CompressedMatrixBlock> blocks, int j, int rlen) 
+		throws DMLRuntimeException
+	{
+		ColGroup first = blocks.get(0)._colGroups.get(j);
+		int[] colIndexes = first.getColIndices();
+		int numCols = colIndexes.length;
+		
+		//prepare mapping to local column indexes 
+		int[] localIndexes = new int[numCols];
+		int[] colIndexTargets = new int[colIndexes[numCols-1]+1];
+		for( int i=0; i<numCols; i++ ) {
+			localIndexes[i] = i;
+			colIndexTargets[colIndexes[i]] = i;
+		}
+		
+		//decompress the group of all row blocks into a dense (transposed) raw block
+		MatrixBlock rawblock = !TRANSPOSE_INPUT ? new MatrixBlock(rlen, numCols, false) :
+			new MatrixBlock(numCols, rlen, false);
+		double[] c = rawblock.allocateDenseBlock().getDenseBlock();
+		int rowOffset = 0;
+		for( CompressedMatrixBlock blk : blocks ) {
+			int brlen = blk.getNumRows();
+			MatrixBlock tmp = new MatrixBlock(brlen, numCols, false);
+			tmp.allocateDenseBlock();
+			blk._colGroups.get(j).decompressToBlock(tmp, colIndexTargets);
+			double[] a = tmp.getDenseBlock();
+			for( int i=0, aix=0; i<brlen; i++, aix+=numCols )
+				for( int cj=0; cj<numCols; cj++ ) {
+					if( TRANSPOSE_INPUT )
+						c[cj*rlen+rowOffset+i] = a[aix+cj];
+					else
+						c[(rowOffset+i)*numCols+cj] = a[aix+cj];
+				}
+			rowOffset += brlen;
+		}
+		rawblock.recomputeNonZeros();
+		
+		//re-encode group over local column indexes and restore the original indexes
+		ColGroup ret = encodeColGroup(rawblock, new CompressedSizeEstimatorExact(rawblock),
+			rlen, localIndexes, first instanceof ColGroupUncompressed);
+		ret._colIndexes = colIndexes.clone();
+		return ret;
+	}
+	
+	private static ColGroup encodeColGroup(MatrixBlock rawblock, CompressedSizeEstimator estim, int rlen, int[] colIndexes, boolean uncompressed) 
+		throws DMLRuntimeException
+	{
+		if( uncompressed ) {
+			ArrayList<Integer> list = new ArrayList<>();
+			for( int col : colIndexes )
+				list.add(col);
+			return new ColGroupUncompressed(list, rawblock);
+		}
+		UncompressedBitmap ubm = BitmapEncoder.extractBitmap(colIndexes, rawblock);
+		return createColGroup(colIndexes, rlen, ubm, estim.estimateCompressedColGroupSize(ubm));
+	}
+	
+	private static CompressedMatrixBlock createCompressedBlock(int rlen, int clen, long nnz, ArrayList<ColGroup> colGroups) {
+		CompressedMatrixBlock ret = new CompressedMatrixBlock(rlen, clen, 
+			MatrixBlock.evalSparseFormatInMemory(rlen, clen, nnz));
+		ret._colGroups = colGroups;
+		ret.nonZeros = nnz;
+		
+		//best-effort dictionary sharing for DDC1 single-col groups
+		double[] dict = createSharedDDC1Dictionary(colGroups);
+		if( dict != null ) {
+			applySharedDDC1Dictionary(colGroups, dict);
+			ret._sharedDDC1Dict = true;
+		}
+		return ret;
+	}
 
 	/**
 	 * Obtain the column groups.
@@ -308,11 +496,13 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		// PHASE 2: Grouping columns
 		// Divide the bitmap columns into column groups.
 		List<int[]> bitmapColGrps = PlanningCoCoder.findCocodesByPartitioning(
-				bitmapSizeEstimator, colsC, sizeInfos, numRows, k);
+				bitmapSizeEstimator, colsC, sizeInfos, numRows, k, _stats);
 
 		if( LOG.isDebugEnabled() ) {
 			_stats.timePhase2 = time.stop();
 			LOG.debug("--compression phase 2: "+_stats.timePhase2);
+			LOG.debug("--co-coding partitions/merges/timeout: "+_stats.planPartitions
+					+"/"+_stats.planMerges+"/"+_stats.planTimeout);
 		}
 			
 		if( INVESTIGATE_ESTIMATES ) {
@@ -375,10 +565,13 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			int[] counts = getColGroupCounts(_colGroups);
 			LOG.debug("--compression phase 5: "+_stats.timePhase5);
 			LOG.debug("--num col groups: "+_colGroups.size());
-			LOG.debug("--col groups types (OLE,RLE,DDC1,DDC2,UC): "
-					+counts[2]+","+counts[1]+","+counts[3]+","+counts[4]+","+counts[0]);
-			LOG.debug("--col groups sizes (OLE,RLE,DDC1,DDC2,UC): "
-					+counts[7]+","+counts[6]+","+counts[8]+","+counts[9]+","+counts[5]);
+			int n = CompressionType.values().length;
+			LOG.debug("--col groups types (OLE,RLE,DDC1,DDC2,CONST,SDC,FOR,UC): "
+					+counts[2]+","+counts[1]+","+counts[3]+","+counts[4]+","
+					+counts[5]+","+counts[6]+","+counts[7]+","+counts[0]);
+			LOG.debug("--col groups sizes (OLE,RLE,DDC1,DDC2,CONST,SDC,FOR,UC): "
+					+counts[n+2]+","+counts[n+1]+","+counts[n+3]+","+counts[n+4]+","
+					+counts[n+5]+","+counts[n+6]+","+counts[n+7]+","+counts[n]);
 			LOG.debug("--compressed size: "+_stats.size);
 			LOG.debug("--compression ratio: "+_stats.ratio);
 		}
@@ -396,10 +589,11 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	 * @return counts 
 	 */
 	private static int[] getColGroupCounts(ArrayList<ColGroup> colgroups) {
-		int[] ret = new int[10]; //5 x count, 5 x num_columns
+		int n = CompressionType.values().length;
+		int[] ret = new int[2*n]; //n x count, n x num_columns
 		for( ColGroup c : colgroups ) {
 			ret[c.getCompType().ordinal()] ++;
-			ret[5+c.getCompType().ordinal()] += c.getNumCols();
+			ret[n+c.getCompType().ordinal()] += c.getNumCols();
 		}
 		return ret;
 	}
@@ -512,11 +706,25 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			return null;
 
 		//create compressed column group
+		return createColGroup(colIndexes, rlen, ubm, sizeInfo);
+	}
+	
+	private static ColGroup createColGroup(int[] colIndexes, int rlen, UncompressedBitmap ubm, CompressedSizeInfo sizeInfo) 
+	{
 		long rleSize = sizeInfo.getRLESize();
 		long oleSize = sizeInfo.getOLESize();
 		long ddcSize = sizeInfo.getDDCSize();
+		long extSize = sizeInfo.getMinExtSize();
 		
-		if( ALLOW_DDC_ENCODING && ddcSize < rleSize && ddcSize < oleSize ) {
+		if( extSize < Math.min(ddcSize, Math.min(rleSize, oleSize)) ) {
+			if( sizeInfo.getConstSize() == extSize )
+				return new ColGroupConst(colIndexes, rlen, ubm);
+			else if( sizeInfo.getFORSize() == extSize )
+				return new ColGroupFOR(colIndexes, rlen, ubm);
+			else
+				return new ColGroupSDC(colIndexes, rlen, ubm);
+		}
+		else if( ALLOW_DDC_ENCODING && ddcSize < rleSize && ddcSize < oleSize ) {
 			if( ubm.getNumValues()<=255 )
 				return new ColGroupDDC1(colIndexes, rlen, ubm);
 			else
@@ -728,6 +936,9 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		public double estSize = -1;
 		public double size = -1;
 		public double ratio = -1;
+		public int planPartitions = -1; //num co-coding partitions
+		public long planMerges = -1; //num evaluated co-coding merges
+		public boolean planTimeout = false; //co-coding cut-off by time budget
 		
 		public CompressionStatistics() {
 			//do nothing
@@ -765,8 +976,9 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	@Override
 	public long getExactSizeOnDisk() 
 	{
-		//header information
-		long ret = 12;
+		//header information (compressed flag, dims, nnz, 
+		//shared dictionary flag, num col groups)
+		long ret = 22;
 		
 		for( ColGroup grp : _colGroups ) {
 			ret += 1; //type info
@@ -784,6 +996,7 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		
 		//deserialize uncompressed block
 		if( !compressed ) {
+			_colGroups = null;
 			super.readFields(in);
 			return;
 		}
@@ -814,13 +1027,19 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 					grp = new ColGroupDDC1(); break;
 				case DDC2:
 					grp = new ColGroupDDC2(); break;
+				case CONST:
+					grp = new ColGroupConst(); break;
+				case SDC:
+					grp = new ColGroupSDC(); break;
+				case FOR:
+					grp = new ColGroupFOR(); break;
 			}
 			
 			//deserialize and add column group
 			grp.readFields(in);
 			
 			//use shared DDC1 dictionary if applicable
-			if( _sharedDDC1Dict && grp.getNumCols()==1 ) {
+			if( _sharedDDC1Dict && grp.getNumCols()==1 && grp instanceof ColGroupDDC1 ) {
 				if( sharedDict == null )
 					sharedDict = ((ColGroupDDC1)grp).getValues();
 				else
@@ -921,13 +1140,7 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 		
 		//allocate the output matrix block
-		CompressedMatrixBlock ret = null;
-		if( result==null || !(result instanceof CompressedMatrixBlock) )
-			ret = new CompressedMatrixBlock(getNumRows(), getNumColumns(), sparse);
-		else {
-			ret = (CompressedMatrixBlock) result;
-			ret.reset(rlen, clen);
-		}
+		CompressedMatrixBlock ret = allocateCompressedOutput(result);
 		
 		// Apply the operation recursively to each of the column groups.
 		// Most implementations will only modify metadata.
@@ -940,6 +1153,168 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		
 		return ret;
 	}
+	
+	@Override
+	public MatrixValue unaryOperations(UnaryOperator op, MatrixValue result) 
+		throws DMLRuntimeException
+	{
+		//call uncompressed matrix unary if necessary
+		if( !isCompressed() ) {
+			return super.unaryOperations(op, result);
+		}
+		
+		//fallback to uncompressed for non-cell-wise ops (e.g., cumsum)
+		if( !isValueLocalOperation(op) ) {
+			printDecompressWarning("unaryOperations");
+			return decompress().unaryOperations(op, result);
+		}
+		
+		//allocate the output matrix block
+		CompressedMatrixBlock ret = allocateCompressedOutput(result);
+		
+		// Apply the operation recursively to each of the column groups,
+		// which only modifies the dictionaries but shares the offsets.
+		ret._colGroups = unaryOperationsColGroups(op);
+		ret.setNonZeros(ret.recomputeNonZerosColGroups());
+		
+		return ret;
+	}
+
+	@Override
+	public void unaryOperationsInPlace(UnaryOperator op) 
+		throws DMLRuntimeException 
+	{
+		//call uncompressed matrix unary if necessary
+		if( !isCompressed() ) {
+			super.unaryOperationsInPlace(op);
+			return;
+		}
+		
+		//fallback to uncompressed for non-cell-wise ops (e.g., cumsum)
+		if( !isValueLocalOperation(op) ) {
+			printDecompressWarning("unaryOperationsInPlace");
+			decompressInPlace();
+			super.unaryOperationsInPlace(op);
+			return;
+		}
+		
+		_colGroups = unaryOperationsColGroups(op);
+		setNonZeros(recomputeNonZerosColGroups());
+	}
+	
+	@Override
+	public MatrixValue binaryOperations(BinaryOperator op, MatrixValue thatValue, MatrixValue result) 
+		throws DMLRuntimeException 
+	{
+		//call uncompressed matrix binary if necessary
+		if( !isCompressed() ) {
+			return super.binaryOperations(op, getUncompressed(thatValue), result);
+		}
+		
+		//fallback to uncompressed for all but matrix-row vector ops
+		if( !isRowVectorOperand(thatValue) ) {
+			printDecompressWarning("binaryOperations", (MatrixBlock)thatValue);
+			MatrixBlock right = getUncompressed(thatValue);
+			return decompress().binaryOperations(op, right, result);
+		}
+		
+		//allocate the output matrix block
+		CompressedMatrixBlock ret = allocateCompressedOutput(result);
+		
+		// Apply the operation recursively to each of the column groups,
+		// which only modifies the dictionaries but shares the offsets.
+		ret._colGroups = binaryOperationsColGroups(op, thatValue);
+		ret.setNonZeros(ret.recomputeNonZerosColGroups());
+		
+		return ret;
+	}
+
+	@Override
+	public void binaryOperationsInPlace(BinaryOperator op, MatrixValue thatValue) 
+		throws DMLRuntimeException 
+	{
+		//call uncompressed matrix binary if necessary
+		if( !isCompressed() ) {
+			super.binaryOperationsInPlace(op, getUncompressed(thatValue));
+			return;
+		}
+		
+		//fallback to uncompressed for all but matrix-row vector ops
+		if( !isRowVectorOperand(thatValue) ) {
+			printDecompressWarning("binaryOperationsInPlace", (MatrixBlock)thatValue);
+			MatrixBlock right = getUncompressed(thatValue);
+			decompressInPlace();
+			super.binaryOperationsInPlace(op, right);
+			return;
+		}
+		
+		_colGroups = binaryOperationsColGroups(op, thatValue);
+		setNonZeros(recomputeNonZerosColGroups());
+	}
+	
+	/**
+	 * Replaces the compressed representation of this block by its
+	 * uncompressed representation, which is used as fallback for
+	 * in-place operations that are not supported over column groups.
+	 * 
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private void decompressInPlace() 
+		throws DMLRuntimeException 
+	{
+		MatrixBlock tmp = decompress();
+		_colGroups = null;
+		_sharedDDC1Dict = false;
+		copy(tmp, tmp.isInSparseFormat());
+	}
+	
+	private long recomputeNonZerosColGroups() {
+		//note: dictionary-only ops might turn values into zeros
+		int[] rnnz = new int[rlen];
+		for( ColGroup grp : _colGroups )
+			grp.countNonZerosPerRow(rnnz, 0, rlen);
+		long nnz = 0;
+		for( int i=0; i<rlen; i++ )
+			nnz += rnnz[i];
+		return nnz;
+	}
+	
+	private CompressedMatrixBlock allocateCompressedOutput(MatrixValue result) {
+		if( result==null || !(result instanceof CompressedMatrixBlock) )
+			return new CompressedMatrixBlock(getNumRows(), getNumColumns(), sparse);
+		CompressedMatrixBlock ret = (CompressedMatrixBlock) result;
+		ret.reset(rlen, clen);
+		return ret;
+	}
+	
+	private ArrayList<ColGroup> unaryOperationsColGroups(UnaryOperator op) 
+		throws DMLRuntimeException 
+	{
+		ArrayList<ColGroup> newColGroups = new ArrayList<>();
+		for (ColGroup grp : _colGroups)
+			newColGroups.add(grp.unaryOperation(op));
+		return newColGroups;
+	}
+	
+	private ArrayList<ColGroup> binaryOperationsColGroups(BinaryOperator op, MatrixValue thatValue) 
+		throws DMLRuntimeException 
+	{
+		double[] v = DataConverter.convertToDoubleVector(getUncompressed(thatValue), false);
+		ArrayList<ColGroup> newColGroups = new ArrayList<>();
+		for (ColGroup grp : _colGroups)
+			newColGroups.add(grp.binaryRowVectorOperation(op, v));
+		return newColGroups;
+	}
+	
+	private static boolean isValueLocalOperation(UnaryOperator op) {
+		//cumulative aggregates depend on previous rows
+		return !LibMatrixAgg.isSupportedUnaryOperator(op);
+	}
+	
+	private boolean isRowVectorOperand(MatrixValue thatValue) {
+		return thatValue.getNumRows() == 1 
+			&& thatValue.getNumColumns() == getNumColumns();
+	}
 
 	@Override
 	public MatrixBlock appendOperations(MatrixBlock that, MatrixBlock ret) 
@@ -1114,6 +1489,14 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			else
 				leftMultByVectorTranspose(_colGroups, mb, ret, false, true);
 		}
+		else if( mv1 == this ) { //MM right
+			MatrixBlock mb = getDenseMatrixInput(mv2, op.getNumThreads());
+			rightMultByMatrix(mb, ret, op.getNumThreads());
+		}
+		else if( mv2 == this ) { //MM left
+			MatrixBlock mb = getDenseMatrixInput(mv1, op.getNumThreads());
+			leftMultByMatrix(mb, ret, op.getNumThreads());
+		}
 		else {
 			//NOTE: we could decompress and invoke super.aggregateBinary but for now
 			//we want to have an eager fail if this happens
@@ -1464,6 +1847,163 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 	}
 	
+	/**
+	 * Multiply this matrix block by a dense matrix on the right (i.e., X%*%W),
+	 * where each column group pre-aggregates its distinct value tuples with
+	 * the rhs once and scatters the rows of partial results to the output.
+	 * 
+	 * @param matrix dense right-hand operand of the multiplication
+	 * @param result buffer to hold the result
+	 * @param k number of threads
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private void rightMultByMatrix(MatrixBlock matrix, MatrixBlock result, int k)
+		throws DMLRuntimeException 
+	{
+		// initialize and allocate the result
+		result.allocateDenseBlock();
+		
+		if( k <= 1 ) {
+			double[][] preagg = preaggRightMultByMatrix(_colGroups, matrix, 0, _colGroups.size());
+			rightMultByMatrix(_colGroups, preagg, matrix, result, 0, getNumRows());
+			result.recomputeNonZeros();
+			return;
+		}
+		
+		//multi-threaded execution over row partitions
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool( k );
+			
+			//pre-aggregate the value tuples of each column group once, 
+			//in parallel over column groups, before the row partitioning
+			double[][] preagg = new double[_colGroups.size()][];
+			int numGroups = _colGroups.size();
+			int gblklen = (int)Math.ceil((double)numGroups/k);
+			ArrayList<RightMatrixMatrixPreaggTask> ptasks = new ArrayList<>();
+			for( int i=0; i<k & i*gblklen<numGroups; i++ )
+				ptasks.add(new RightMatrixMatrixPreaggTask(_colGroups, matrix, preagg, i*gblklen, Math.min((i+1)*gblklen,numGroups)));
+			for( Future<Object> tmp : pool.invokeAll(ptasks) )
+				tmp.get(); //error handling
+			
+			//scatter pre-aggregates into row partitions of the output
+			int rlen = getNumRows();
+			int blklen = BitmapEncoder.getAlignedBlocksize(
+				(int)(Math.ceil((double)rlen/k)));
+			ArrayList<RightMatrixMatrixMultTask> tasks = new ArrayList<>();
+			for( int i=0; i<k & i*blklen<rlen; i++ )
+				tasks.add(new RightMatrixMatrixMultTask(_colGroups, preagg, matrix, result, i*blklen, Math.min((i+1)*blklen,rlen)));
+			List<Future<Long>> ret = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//error handling and nnz aggregation
+			long lnnz = 0;
+			for( Future<Long> tmp : ret )
+				lnnz += tmp.get();
+			result.setNonZeros(lnnz);
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static double[][] preaggRightMultByMatrix(ArrayList<ColGroup> groups, MatrixBlock matrix, int gl, int gu) {
+		return preaggRightMultByMatrix(groups, matrix, new double[groups.size()][], gl, gu);
+	}
+	
+	private static double[][] preaggRightMultByMatrix(ArrayList<ColGroup> groups, MatrixBlock matrix, double[][] preagg, int gl, int gu) {
+		// pre-aggregate distinct value tuples with the rows of the rhs
+		// (uncompressed groups directly multiply their rows, w/o preagg)
+		double[] b = ConverterUtils.getDenseVector(matrix);
+		final int n = matrix.getNumColumns();
+		for( int i=gl; i<gu; i++ ) {
+			ColGroup grp = groups.get(i);
+			if( grp instanceof ColGroupValue )
+				preagg[i] = ((ColGroupValue)grp).preaggValues(b, n);
+		}
+		return preagg;
+	}
+	
+	private static void rightMultByMatrix(ArrayList<ColGroup> groups, double[][] preagg, MatrixBlock matrix, MatrixBlock ret, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		// all column groups add to the output
+		double[] c = ret.getDenseBlock();
+		final int n = matrix.getNumColumns();
+		for( int i=0; i<groups.size(); i++ ) {
+			ColGroup grp = groups.get(i);
+			if( grp instanceof ColGroupValue )
+				((ColGroupValue)grp).rightMultByPreaggMatrix(preagg[i], c, n, rl, ru);
+			else
+				grp.rightMultByMatrix(matrix, ret, rl, ru);
+		}
+	}
+	
+	/**
+	 * Multiply this matrix block by a dense matrix on the left (i.e., t(W)%*%X),
+	 * where each column group pre-aggregates the rows of the lhs per distinct
+	 * value tuple and writes the post-scaled results to its columns.
+	 * 
+	 * @param matrix dense left-hand operand of the multiplication
+	 * @param result buffer to hold the result
+	 * @param k number of threads
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private void leftMultByMatrix(MatrixBlock matrix, MatrixBlock result, int k)
+		throws DMLRuntimeException 
+	{
+		// initialize and allocate the result
+		result.allocateDenseBlock();
+		
+		if( k <= 1 ) {
+			ColGroupValue.setupThreadLocalMemory(getMaxNumValues(_colGroups));
+			for( ColGroup grp : _colGroups )
+				grp.leftMultByMatrix(matrix, result);
+			ColGroupValue.cleanupThreadLocalMemory();
+			result.recomputeNonZeros();
+			return;
+		}
+		
+		//multi-threaded execution over column groups (disjoint output columns)
+		try {
+			//compute uncompressed column group in parallel 
+			ColGroupUncompressed uc = getUncompressedColGroup();
+			if( uc != null )
+				uc.leftMultByMatrix(matrix, result, k);
+			
+			//compute remaining compressed column groups in parallel
+			ExecutorService pool = Executors.newFixedThreadPool( Math.min(_colGroups.size()-((uc!=null)?1:0), k) );
+			ArrayList<ColGroup>[] grpParts = createStaticTaskPartitioning(k, false);
+			ArrayList<LeftMatrixMatrixMultTask> tasks = new ArrayList<>();
+			for( ArrayList<ColGroup> groups : grpParts )
+				tasks.add(new LeftMatrixMatrixMultTask(groups, matrix, result));
+			List<Future<Object>> ret = pool.invokeAll(tasks);
+			pool.shutdown();
+			for( Future<Object> tmp : ret )
+				tmp.get(); //error handling
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		
+		// post-processing
+		result.recomputeNonZeros();
+	}
+	
+	private static MatrixBlock getDenseMatrixInput(MatrixValue mv, int k) 
+		throws DMLRuntimeException 
+	{
+		MatrixBlock mb = (mv instanceof CompressedMatrixBlock) ?
+			((CompressedMatrixBlock)mv).decompress(k) : (MatrixBlock) mv;
+		
+		//sparse inputs are densified once instead of per column group
+		if( mb.isInSparseFormat() ) {
+			MatrixBlock tmp = new MatrixBlock();
+			tmp.copy(mb, false);
+			mb = tmp;
+		}
+		return mb;
+	}
+	
 	private static void rightMultByVector(ArrayList<ColGroup> groups, MatrixBlock vect, MatrixBlock ret, boolean inclUC, int rl, int ru) 
 		throws DMLRuntimeException 
 	{
@@ -1765,6 +2305,81 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 	}
 	
+	private static class LeftMatrixMatrixMultTask implements Callable<Object> 
+	{
+		private final ArrayList<ColGroup> _groups;
+		private final MatrixBlock _matrix;
+		private final MatrixBlock _ret;
+		
+		protected LeftMatrixMatrixMultTask( ArrayList<ColGroup> groups, MatrixBlock matrix, MatrixBlock ret)  {
+			_groups = groups;
+			_matrix = matrix;
+			_ret = ret;
+		}
+		
+		@Override
+		public Object call() throws DMLRuntimeException 
+		{
+			// setup memory pool for reuse
+			ColGroupValue.setupThreadLocalMemory(getMaxNumValues(_groups));
+			
+			// delegate matrix-matrix operation to each column group
+			for(ColGroup grp : _groups)
+				grp.leftMultByMatrix(_matrix, _ret);
+			
+			ColGroupValue.cleanupThreadLocalMemory();
+			return null;
+		}
+	}
+	
+	private static class RightMatrixMatrixPreaggTask implements Callable<Object> 
+	{
+		private final ArrayList<ColGroup> _groups;
+		private final MatrixBlock _matrix;
+		private final double[][] _preagg;
+		private final int _gl;
+		private final int _gu;
+		
+		protected RightMatrixMatrixPreaggTask( ArrayList<ColGroup> groups, MatrixBlock matrix, double[][] preagg, int gl, int gu)  {
+			_groups = groups;
+			_matrix = matrix;
+			_preagg = preagg;
+			_gl = gl;
+			_gu = gu;
+		}
+		
+		@Override
+		public Object call() {
+			preaggRightMultByMatrix(_groups, _matrix, _preagg, _gl, _gu);
+			return null;
+		}
+	}
+	
+	private static class RightMatrixMatrixMultTask implements Callable<Long> 
+	{
+		private final ArrayList<ColGroup> _groups;
+		private final double[][] _preagg;
+		private final MatrixBlock _matrix;
+		private final MatrixBlock _ret;
+		private final int _rl;
+		private final int _ru;
+		
+		protected RightMatrixMatrixMultTask( ArrayList<ColGroup> groups, double[][] preagg, MatrixBlock matrix, MatrixBlock ret, int rl, int ru)  {
+			_groups = groups;
+			_preagg = preagg;
+			_matrix = matrix;
+			_ret = ret;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() throws DMLRuntimeException {
+			rightMultByMatrix(_groups, _preagg, _matrix, _ret, _rl, _ru);
+			return _ret.recomputeNonZeros(_rl, _ru-1, 0, _ret.getNumColumns()-1);
+		}
+	}
+	
 	private static class MatrixMultTransposeTask implements Callable<Object> 
 	{
 		private final ArrayList<ColGroup> _groups;
@@ -1858,6 +2473,24 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 	}
 	
+	private static class RbindColGroupTask implements Callable<ColGroup> 
+	{
+		private final List<CompressedMatrixBlock> _blocks;
+		private final int _j;
+		private final int _rlen;
+		
+		protected RbindColGroupTask( List<CompressedMatrixBlock> blocks, int j, int rlen )  {
+			_blocks = blocks;
+			_j = j;
+			_rlen = rlen;
+		}
+		
+		@Override
+		public ColGroup call() throws DMLRuntimeException {
+			return rbindColGroup(_blocks, _j, _rlen);
+		}
+	}
+	
 	private static class DecompressTask implements Callable<Object> 
 	{
 		private final List<ColGroup> _colGroups;
@@ -1900,40 +2533,6 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	//////////////////////////////////////////
 	// Graceful fallback to uncompressed linear algebra
 	
-	@Override
-	public MatrixValue unaryOperations(UnaryOperator op, MatrixValue result) 
-			throws DMLRuntimeException {
-		printDecompressWarning("unaryOperations");
-		MatrixBlock tmp = isCompressed() ? decompress() : this;
-		return tmp.unaryOperations(op, result);
-	}
-
-	@Override
-	public void unaryOperationsInPlace(UnaryOperator op) 
-			throws DMLRuntimeException {
-		printDecompressWarning("unaryOperationsInPlace");
-		MatrixBlock tmp = isCompressed() ? decompress() : this;
-		tmp.unaryOperationsInPlace(op);
-	}
-
-	@Override
-	public MatrixValue binaryOperations(BinaryOperator op, MatrixValue thatValue, MatrixValue result) 
-			throws DMLRuntimeException {
-		printDecompressWarning("binaryOperations", (MatrixBlock)thatValue);
-		MatrixBlock left = isCompressed() ? decompress() : this;
-		MatrixBlock right = getUncompressed(thatValue);
-		return left.binaryOperations(op, right, result);
-	}
-
-	@Override
-	public void binaryOperationsInPlace(BinaryOperator op, MatrixValue thatValue) 
-			throws DMLRuntimeException {
-		printDecompressWarning("binaryOperationsInPlace", (MatrixBlock)thatValue);
-		MatrixBlock left = isCompressed() ? decompress() : this;
-		MatrixBlock right = getUncompressed(thatValue);
-		left.binaryOperationsInPlace(op, right);
-	}
-
 	@Override
 	public void incrementalAggregate(AggregateOperator aggOp, MatrixValue correction, MatrixValue newWithCorrection)
 			throws DMLRuntimeException {
@@ -2010,10 +2609,39 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 
 	@Override
 	public MatrixBlock sliceOperations(int rl, int ru, int cl, int cu, CacheBlock ret) 
-			throws DMLRuntimeException {
-		printDecompressWarning("sliceOperations");
-		MatrixBlock tmp = isCompressed() ? decompress() : this;
-		return tmp.sliceOperations(rl, ru, cl, cu, ret);
+		throws DMLRuntimeException 
+	{
+		//call uncompressed matrix slice if necessary
+		if( !isCompressed() ) {
+			return super.sliceOperations(rl, ru, cl, cu, ret);
+		}
+		
+		// check the validity of bounds
+		if ( rl < 0 || rl >= getNumRows() || ru < rl || ru >= getNumRows()
+				|| cl < 0 || cu >= getNumColumns() || cu < cl || cu >= getNumColumns() ) {
+			throw new DMLRuntimeException("Invalid values for matrix indexing: ["+(rl+1)+":"+(ru+1)+"," + (cl+1)+":"+(cu+1)+"] " +
+							"must be within matrix dimensions ["+getNumRows()+","+getNumColumns()+"]");
+		}
+		
+		// allocate uncompressed output block, sized by the slice (assuming 
+		// a uniform distribution of non-zeros in the input)
+		MatrixBlock result = (ret instanceof MatrixBlock && !(ret instanceof CompressedMatrixBlock)) ?
+			(MatrixBlock) ret : new MatrixBlock();
+		long estnnz = (long) ((double)nonZeros/rlen/clen*(ru-rl+1)*(cu-cl+1));
+		boolean sp = MatrixBlock.evalSparseFormatInMemory(ru-rl+1, cu-cl+1, estnnz);
+		result.reset(ru-rl+1, cu-cl+1, sp, estnnz);
+		
+		// core slicing operation, which decompresses only the requested rows
+		// and columns of overlapping column groups (append if sparse)
+		for (ColGroup grp : _colGroups)
+			grp.decompressToBlock(result, rl, ru+1, cl, cu+1);
+		
+		// post-processing (for append in slice, nnz maintained by append)
+		if( result.isInSparseFormat() )
+			result.sortSparseRows();
+		result.examSparsity();
+		
+		return result;
 	}
 
 	@Override
@@ -2087,15 +2715,15 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	}
 
 	@Override
-	public MatrixValue sortOperations(MatrixValue weights, MatrixValue result)
+	public MatrixValue sortOperations(MatrixValue weights, MatrixValue result, int k)
 			throws DMLRuntimeException {
 		printDecompressWarning("sortOperations");
 		MatrixBlock right = getUncompressed(weights);
 		if( !isCompressed() )
-			return super.sortOperations(right, result);
+			return super.sortOperations(right, result, k);
 		ColGroup grp = _colGroups.get(0);
 		if( grp instanceof ColGroupUncompressed )
-			return ((ColGroupUncompressed)grp).getData().sortOperations(right, result);
+			return ((ColGroupUncompressed)grp).getData().sortOperations(right, result, k);
 		
 		if( right == null ) {
 			ColGroupValue grpVal = (ColGroupValue)grp;
@@ -2103,10 +2731,10 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			int[] counts = grpVal.getCounts(true);
 			SortUtils.sortByValue(0, vals.getNumRows(), vals.getDenseBlock(), counts);
 			MatrixBlock counts2 = ColGroupValue.getCountsAsBlock(counts);
-			return vals.sortOperations(counts2, result);
+			return vals.sortOperations(counts2, result, k);
 		}
 		else
-			return decompress().sortOperations(right, result);
+			return decompress().sortOperations(right, result, k);
 	}
 
 	@Override
@@ -27,17 +27,27 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock.CompressionStatistics;
 import org.apache.sysml.runtime.compress.estim.CompressedSizeEstimator;
 import org.apache.sysml.runtime.compress.estim.CompressedSizeInfo;
+import org.apache.sysml.runtime.util.SortUtils;
 
 public class PlanningCoCoder 
 {
 	//internal configurations 
 	private final static PartitionerType COLUMN_PARTITIONER = PartitionerType.BIN_PACKING;
+	private final static int MAX_PARTITION_SIZE = 64; //max cols per partition for brute force grouping
+	private final static int CORR_SAMPLE_SIZE = 256; //num rows for correlation-based pre-clustering
+	private final static int MIN_PAR_CANDIDATES = 16; //min candidates for parallel merge evaluation
+	
+	//time budget for co-coding planning (in ms), after which the greedy
+	//grouping is cut off with the current (valid) column groups
+	public static long PLANNING_TIME_BUDGET = 60000;
 	
 	private static final Log LOG = LogFactory.getLog(PlanningCoCoder.class.getName());
 	
@@ -47,7 +57,7 @@ public class PlanningCoCoder
 	}
 	
 	public static List<int[]> findCocodesByPartitioning(CompressedSizeEstimator sizeEstimator, List<Integer> cols, 
-			CompressedSizeInfo[] colInfos, int numRows, int k) 
+			CompressedSizeInfo[] colInfos, int numRows, int k, CompressionStatistics stats) 
 		throws DMLRuntimeException 
 	{
 		// filtering out non-groupable columns as singleton groups
@@ -66,24 +76,37 @@ public class PlanningCoCoder
 		// use column group partitioner to create partitions of columns
 		List<List<Integer>> bins = createColumnGroupPartitioner(COLUMN_PARTITIONER)
 				.partitionColumns(groupCols, groupColsInfo);
+		
+		// correlation-based pre-clustering of large partitions 
+		// (bounds the quadratic search space of brute force grouping)
+		bins = clusterLargePartitions(bins, sizeEstimator);
 
 		// brute force grouping within each partition
-		return (k > 1) ?
-				getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows, k) :
-				getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows);
+		PlanningContext ctx = new PlanningContext(sizeEstimator, numRows);
+		List<int[]> ret = (k > 1) ?
+				getCocodingGroupsBruteForce(bins, groupColsInfo, ctx, k) :
+				getCocodingGroupsBruteForce(bins, groupColsInfo, ctx);
+		
+		// maintain planning statistics
+		if( stats != null ) {
+			stats.planPartitions = bins.size();
+			stats.planMerges = ctx.numMerges.get();
+			stats.planTimeout = ctx.isTimeout();
+		}
+		if( ctx.isTimeout() )
+			LOG.warn("Co-coding planning exceeded time budget of "+PLANNING_TIME_BUDGET+"ms: "
+					+ "greedy grouping cut off for "+numCols+" columns.");
+		
+		return ret;
 	}
 
-	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen) 
+	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, PlanningContext ctx) 
 	{
 		List<int[]> retGroups = new ArrayList<>();
 		for (List<Integer> bin : bins) {
-			// building an array of singleton CoCodingGroup
-			ArrayList<PlanningCoCodingGroup> sgroups = new ArrayList<>();
-			for (Integer col : bin)
-				sgroups.add(new PlanningCoCodingGroup(col, groupColsInfo.get(col)));
 			// brute force co-coding	
 			PlanningCoCodingGroup[] outputGroups = findCocodesBruteForce(
-					estim, rlen, sgroups.toArray(new PlanningCoCodingGroup[0]));
+					ctx, createSingletonGroups(bin, groupColsInfo), null, 1);
 			for (PlanningCoCodingGroup grp : outputGroups)
 				retGroups.add(grp.getColIndices());
 		}
@@ -91,24 +114,31 @@ public class PlanningCoCoder
 		return retGroups;
 	}
 
-	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen, int k) 
+	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, PlanningContext ctx, int k) 
 		throws DMLRuntimeException 
 	{
 		List<int[]> retGroups = new ArrayList<>();
 		try {
 			ExecutorService pool = Executors.newFixedThreadPool( k );
-			ArrayList<CocodeTask> tasks = new ArrayList<>();
-			for (List<Integer> bin : bins) {
-				// building an array of singleton CoCodingGroup
-				ArrayList<PlanningCoCodingGroup> sgroups = new ArrayList<>();
-				for (Integer col : bin)
-					sgroups.add(new PlanningCoCodingGroup(col, groupColsInfo.get(col)));
-				tasks.add(new CocodeTask(estim, sgroups, rlen));
+			if( bins.size() >= k ) {
+				//parallel processing of partitions
+				ArrayList<CocodeTask> tasks = new ArrayList<>();
+				for (List<Integer> bin : bins)
+					tasks.add(new CocodeTask(ctx, createSingletonGroups(bin, groupColsInfo)));
+				List<Future<PlanningCoCodingGroup[]>> rtask = pool.invokeAll(tasks);	
+				for( Future<PlanningCoCodingGroup[]> lrtask : rtask )
+					for (PlanningCoCodingGroup grp : lrtask.get())
+						retGroups.add(grp.getColIndices());
+			}
+			else {
+				//sequential processing of few partitions w/ parallel merge evaluation
+				for (List<Integer> bin : bins) {
+					PlanningCoCodingGroup[] outputGroups = findCocodesBruteForce(
+							ctx, createSingletonGroups(bin, groupColsInfo), pool, k);
+					for (PlanningCoCodingGroup grp : outputGroups)
+						retGroups.add(grp.getColIndices());
+				}
 			}
-			List<Future<PlanningCoCodingGroup[]>> rtask = pool.invokeAll(tasks);	
-			for( Future<PlanningCoCodingGroup[]> lrtask : rtask )
-				for (PlanningCoCodingGroup grp : lrtask.get())
-					retGroups.add(grp.getColIndices());
 			pool.shutdown();
 		}
 		catch(Exception ex) {
@@ -117,20 +147,30 @@ public class PlanningCoCoder
 		
 		return retGroups;
 	}
+	
+	private static PlanningCoCodingGroup[] createSingletonGroups(List<Integer> bin, HashMap<Integer, GroupableColInfo> groupColsInfo) {
+		// building an array of singleton CoCodingGroup
+		PlanningCoCodingGroup[] sgroups = new PlanningCoCodingGroup[bin.size()];
+		for( int i=0; i<bin.size(); i++ )
+			sgroups[i] = new PlanningCoCodingGroup(bin.get(i), groupColsInfo.get(bin.get(i)));
+		return sgroups;
+	}
 
 	/**
 	 * Identify columns to code together. Uses a greedy approach that merges
 	 * pairs of column groups into larger groups. Each phase of the greedy
-	 * algorithm considers all combinations of pairs to merge.
+	 * algorithm considers all combinations of pairs to merge. If a thread pool
+	 * is given, missing merge candidates are created in parallel. Once the time
+	 * budget is exceeded, the current groups are returned as they are.
 	 * 
-	 * @param sizeEstimator compressed size estimator
-	 * @param numRowsWeight number of rows weight
-	 * @param singltonGroups planning co-coding groups
+	 * @param ctx planning context
+	 * @param singletonGroups planning co-coding groups
+	 * @param pool thread pool for parallel merge evaluation, or null
+	 * @param k degree of parallelism
 	 * @return
 	 */
-	private static PlanningCoCodingGroup[] findCocodesBruteForce(
-			CompressedSizeEstimator estim, int numRows,
-			PlanningCoCodingGroup[] singletonGroups) 
+	private static PlanningCoCodingGroup[] findCocodesBruteForce(PlanningContext ctx, 
+			PlanningCoCodingGroup[] singletonGroups, ExecutorService pool, int k) 
 	{
 		if( LOG.isTraceEnabled() )
 			LOG.trace("Cocoding: process "+singletonGroups.length);
@@ -143,7 +183,11 @@ public class PlanningCoCoder
 		
 		//process merging iterations until no more change
 		boolean changed = true;
-		while( changed && workset.size()>1 ) {
+		while( changed && workset.size()>1 && !ctx.isTimeout() ) {
+			//parallel creation of missing merge candidates
+			if( pool != null )
+				createCandidatesParallel(ctx, workset, memo, pool, k);
+			
 			//find best merge, incl memoization
 			PlanningCoCodingGroup tmp = null;
 			for( int i=0; i<workset.size(); i++ ) {
@@ -157,7 +201,7 @@ public class PlanningCoCoder
 						continue;
 					
 					//memoization or newly created group (incl bitmap extraction)
-					PlanningCoCodingGroup c1c2 = memo.getOrCreate(c1, c2, estim, numRows);
+					PlanningCoCodingGroup c1c2 = memo.getOrCreate(c1, c2, ctx.estim, ctx.numRows);
 		
 					//keep best merged group only
 					if( tmp == null || c1c2.getChangeInSize() < tmp.getChangeInSize()
@@ -186,9 +230,123 @@ public class PlanningCoCoder
 		
 		if( LOG.isTraceEnabled() )
 			LOG.trace("--stats: "+Arrays.toString(memo.getStats()));
+		ctx.numMerges.addAndGet(memo.getStats()[2]);
 		
 		return workset.toArray(new PlanningCoCodingGroup[0]);
 	}
+	
+	private static void createCandidatesParallel(PlanningContext ctx, List<PlanningCoCodingGroup> workset, 
+			PlanningMemoTable memo, ExecutorService pool, int k) 
+	{
+		//collect non-dominated candidates that are not yet memoized
+		ArrayList<PlanningCoCodingGroup[]> cands = new ArrayList<>();
+		for( int i=0; i<workset.size(); i++ )
+			for( int j=i+1; j<workset.size(); j++ ) {
+				PlanningCoCodingGroup c1 = workset.get(i);
+				PlanningCoCodingGroup c2 = workset.get(j);
+				if( -Math.min(c1.getEstSize(), c2.getEstSize()) <= memo.getOptChangeInSize()
+					&& memo.get(c1, c2) == null )
+					cands.add(new PlanningCoCodingGroup[]{c1, c2});
+			}
+		if( cands.size() < MIN_PAR_CANDIDATES )
+			return;
+		
+		//create candidates in parallel, and memoize them in order
+		try {
+			ArrayList<CreateCandidatesTask> tasks = new ArrayList<>();
+			int blklen = (int)Math.ceil((double)cands.size()/k);
+			for( int i=0; i<k && i*blklen<cands.size(); i++ )
+				tasks.add(new CreateCandidatesTask(ctx, cands.subList(i*blklen, 
+					Math.min((i+1)*blklen, cands.size()))));
+			for( Future<ArrayList<PlanningCoCodingGroup>> rtask : pool.invokeAll(tasks) )
+				for( PlanningCoCodingGroup c1c2 : rtask.get() )
+					memo.put(c1c2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * Splits partitions with more than MAX_PARTITION_SIZE columns into clusters
+	 * of correlated columns. Each cluster is seeded with the first unassigned 
+	 * column and filled with the unassigned columns of highest absolute correlation 
+	 * (computed over a small sample of rows), where constant columns are considered
+	 * as perfectly correlated because they can be co-coded without additional tuples.
+	 * 
+	 * @param bins list of partitions
+	 * @param estim compressed size estimator
+	 * @return list of partitions with bounded size
+	 */
+	private static List<List<Integer>> clusterLargePartitions(List<List<Integer>> bins, CompressedSizeEstimator estim) 
+	{
+		List<List<Integer>> ret = new ArrayList<>();
+		for( List<Integer> bin : bins ) {
+			if( bin.size() <= MAX_PARTITION_SIZE ) {
+				ret.add(bin);
+				continue;
+			}
+			
+			//extract centered and normalized column samples
+			int n = bin.size();
+			double[][] samples = new double[n][];
+			for( int i=0; i<n; i++ )
+				samples[i] = normalize(estim.getColumnSample(bin.get(i), CORR_SAMPLE_SIZE));
+			
+			//greedy leader-based clustering
+			boolean[] assigned = new boolean[n];
+			int[] cix = new int[n];
+			double[] corr = new double[n];
+			for( int i=0; i<n; i++ ) {
+				if( assigned[i] ) continue;
+				List<Integer> cluster = new ArrayList<>();
+				cluster.add(bin.get(i));
+				assigned[i] = true;
+				
+				//rank unassigned columns by descending absolute correlation
+				int m = 0;
+				for( int j=i+1; j<n; j++ )
+					if( !assigned[j] ) {
+						cix[m] = j;
+						corr[m++] = -getAbsCorrelation(samples[i], samples[j]);
+					}
+				SortUtils.sortByValue(0, m, corr, cix);
+				for( int j=0; j<Math.min(m, MAX_PARTITION_SIZE-1); j++ ) {
+					cluster.add(bin.get(cix[j]));
+					assigned[cix[j]] = true;
+				}
+				ret.add(cluster);
+			}
+		}
+		
+		return ret;
+	}
+	
+	private static double[] normalize(double[] a) {
+		double mean = 0, norm = 0;
+		for( int i=0; i<a.length; i++ )
+			mean += a[i];
+		mean /= a.length;
+		for( int i=0; i<a.length; i++ ) {
+			a[i] -= mean;
+			norm += a[i] * a[i];
+		}
+		if( norm == 0 )
+			return null; //constant column
+		norm = Math.sqrt(norm);
+		for( int i=0; i<a.length; i++ )
+			a[i] /= norm;
+		return a;
+	}
+	
+	private static double getAbsCorrelation(double[] a, double[] b) {
+		if( a == null || b == null )
+			return 1;
+		double dot = 0;
+		for( int i=0; i<a.length; i++ )
+			dot += a[i] * b[i];
+		return Math.abs(dot);
+	}
 
 	private static ColumnGroupPartitioner createColumnGroupPartitioner(PartitionerType type) {
 		switch( type ) {
@@ -213,24 +371,61 @@ public class PlanningCoCoder
 			size = lsize;
 		}
 	}
+	
+	private static class PlanningContext {
+		private final CompressedSizeEstimator estim;
+		private final int numRows;
+		private final long deadline;
+		private final AtomicLong numMerges = new AtomicLong(0);
+		private volatile boolean timeout = false;
+		
+		protected PlanningContext(CompressedSizeEstimator lestim, int lnumRows) {
+			estim = lestim;
+			numRows = lnumRows;
+			deadline = (PLANNING_TIME_BUDGET > 0) ? 
+				System.currentTimeMillis() + PLANNING_TIME_BUDGET : Long.MAX_VALUE;
+		}
+		
+		protected boolean isTimeout() {
+			if( !timeout && System.currentTimeMillis() > deadline )
+				timeout = true;
+			return timeout;
+		}
+	}
 
 	private static class CocodeTask implements Callable<PlanningCoCodingGroup[]> 
 	{
-		private CompressedSizeEstimator _estim = null;
-		private ArrayList<PlanningCoCodingGroup> _sgroups = null;
-		private int _rlen = -1;
+		private PlanningContext _ctx = null;
+		private PlanningCoCodingGroup[] _sgroups = null;
 		
-		protected CocodeTask( CompressedSizeEstimator estim, ArrayList<PlanningCoCodingGroup> sgroups, int rlen )  {
-			_estim = estim;
+		protected CocodeTask( PlanningContext ctx, PlanningCoCodingGroup[] sgroups )  {
+			_ctx = ctx;
 			_sgroups = sgroups;
-			_rlen = rlen;
 		}
 		
 		@Override
 		public PlanningCoCodingGroup[] call() throws DMLRuntimeException {
 			// brute force co-coding	
-			return findCocodesBruteForce(_estim, _rlen, 
-					_sgroups.toArray(new PlanningCoCodingGroup[0]));
+			return findCocodesBruteForce(_ctx, _sgroups, null, 1);
+		}
+	}
+	
+	private static class CreateCandidatesTask implements Callable<ArrayList<PlanningCoCodingGroup>> 
+	{
+		private PlanningContext _ctx = null;
+		private List<PlanningCoCodingGroup[]> _cands = null;
+		
+		protected CreateCandidatesTask( PlanningContext ctx, List<PlanningCoCodingGroup[]> cands )  {
+			_ctx = ctx;
+			_cands = cands;
+		}
+		
+		@Override
+		public ArrayList<PlanningCoCodingGroup> call() {
+			ArrayList<PlanningCoCodingGroup> ret = new ArrayList<>();
+			for( PlanningCoCodingGroup[] c : _cands )
+				ret.add(new PlanningCoCodingGroup(c[0], c[1], _ctx.estim, _ctx.numRows));
+			return ret;
 		}
 	}
 }
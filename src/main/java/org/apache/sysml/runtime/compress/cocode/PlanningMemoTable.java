@@ -35,24 +35,30 @@ public class PlanningMemoTable
 	
 	public PlanningCoCodingGroup getOrCreate(PlanningCoCodingGroup c1, PlanningCoCodingGroup c2, CompressedSizeEstimator estim, int numRows) 
 	{
-		ColIndexes c1c2Indexes = new ColIndexes(PlanningCoCodingGroup
-				.getMergedIndexes(c1.getColIndices(), c2.getColIndices()));	
-		
 		//probe memo table for existing column group (avoid extraction)
-		PlanningCoCodingGroup c1c2 = _memo.get(c1c2Indexes);
+		PlanningCoCodingGroup c1c2 = get(c1, c2);
 		
 		//create non-existing group and maintain global stats
 		incrStats(0, 1, 0); //probed plans
 		if( c1c2 == null ) { 
 			c1c2 = new PlanningCoCodingGroup(c1, c2, estim, numRows);
-			_memo.put(c1c2Indexes, c1c2);
-			_optChangeInSize = Math.min(_optChangeInSize, c1c2.getChangeInSize());
-			incrStats(0, 0, 1); //created plans
+			put(c1c2);
 		}
 		
 		return c1c2;
 	}
 	
+	public PlanningCoCodingGroup get(PlanningCoCodingGroup c1, PlanningCoCodingGroup c2) {
+		return _memo.get(new ColIndexes(PlanningCoCodingGroup
+				.getMergedIndexes(c1.getColIndices(), c2.getColIndices())));
+	}
+	
+	public void put(PlanningCoCodingGroup c1c2) {
+		_memo.put(new ColIndexes(c1c2.getColIndices()), c1c2);
+		_optChangeInSize = Math.min(_optChangeInSize, c1c2.getChangeInSize());
+		incrStats(0, 0, 1); //created plans
+	}
+	
 	public void remove(PlanningCoCodingGroup grp) {
 		//remove atomic groups
 		_memo.remove(new ColIndexes(grp.getColIndices()));
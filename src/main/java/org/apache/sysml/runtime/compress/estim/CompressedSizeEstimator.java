@@ -20,6 +20,7 @@
 package org.apache.sysml.runtime.compress.estim;
 
 import org.apache.sysml.runtime.compress.BitmapEncoder;
+import org.apache.sysml.runtime.compress.ColGroupFOR;
 import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysml.runtime.compress.UncompressedBitmap;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
@@ -42,6 +43,28 @@ public abstract class CompressedSizeEstimator
 		return _numRows;
 	}
 
+	/**
+	 * Obtains the values of the given column for an evenly spaced subset of
+	 * the rows available to this estimator (e.g., for cheap correlation-based
+	 * pre-clustering of columns before co-coding).
+	 *
+	 * @param col column index
+	 * @param maxRows maximum number of rows
+	 * @return array of column values
+	 */
+	public double[] getColumnSample(int col, int maxRows) {
+		int n = CompressedMatrixBlock.TRANSPOSE_INPUT ?
+			_data.getNumColumns() : _data.getNumRows();
+		int len = Math.min(n, maxRows);
+		double[] ret = new double[len];
+		for( int i=0; i<len; i++ ) {
+			int r = (int)((long)i * n / len);
+			ret[i] = CompressedMatrixBlock.TRANSPOSE_INPUT ?
+				_data.quickGetValue(col, r) : _data.quickGetValue(r, col);
+		}
+		return ret;
+	}
+
 	public abstract CompressedSizeInfo estimateCompressedColGroupSize(int[] colIndexes);
 
 	public abstract CompressedSizeInfo estimateCompressedColGroupSize(UncompressedBitmap ubm);
@@ -52,12 +75,14 @@ public abstract class CompressedSizeEstimator
 		int numOffs = 0;
 		int numSegs = 0;
 		int numSingle = 0;
+		int maxOffs = 0;
 		
 		//compute size estimation factors
 		for (int i = 0; i < numVals; i++) {
 			int[] list = ubm.getOffsetsList(i).extractValues();
 			int listSize = ubm.getNumOffsets(i);
 			numOffs += listSize;
+			maxOffs = Math.max(maxOffs, listSize);
 			numSegs += list[listSize - 1] / BitmapEncoder.BITMAP_BLOCK_SZ + 1;
 			numSingle += (listSize==1) ? 1 : 0;
 			if( inclRLE ) {
@@ -73,8 +98,39 @@ public abstract class CompressedSizeEstimator
 			}
 		}
 		
+		//compute min/max of single-column integer values
+		boolean intVals = (ubm.getNumColumns() == 1);
+		double minVal = Double.MAX_VALUE, maxVal = -Double.MAX_VALUE;
+		double[] vals = ubm.getValues();
+		for (int i = 0; i < vals.length && intVals; i++) {
+			intVals &= (vals[i] == Math.rint(vals[i]) && !Double.isInfinite(vals[i]));
+			minVal = Math.min(minVal, vals[i]);
+			maxVal = Math.max(maxVal, vals[i]);
+		}
+		
 		//construct estimation factors
-		return new SizeEstimationFactors(numVals, numSegs, numOffs, numRuns, numSingle);
+		SizeEstimationFactors ret = new SizeEstimationFactors(numVals, numSegs, numOffs, numRuns, numSingle);
+		ret.maxOffs = maxOffs;
+		ret.intVals = intVals && numVals > 0;
+		ret.minVal = minVal;
+		ret.maxVal = maxVal;
+		return ret;
+	}
+	
+	/**
+	 * Obtains the range of single-column integer values, where zero is
+	 * included if the column contains zeros.
+	 * 
+	 * @param fact size estimation factors
+	 * @param zeros indicator if column contains zeros
+	 * @return range of values or -1 if not applicable
+	 */
+	protected static long getValueRange(SizeEstimationFactors fact, boolean zeros) {
+		if( !fact.intVals )
+			return -1;
+		double min = zeros ? Math.min(fact.minVal, 0) : fact.minVal;
+		double max = zeros ? Math.max(fact.maxVal, 0) : fact.maxVal;
+		return (max - min < (1 << ColGroupFOR.MAX_BITS)) ? (long)(max - min) : -1;
 	}
 
 	/**
@@ -141,12 +197,74 @@ public abstract class CompressedSizeEstimator
 		return ret;
 	}
 
+	/**
+	 * Estimates the number of bytes needed to encode this column group 
+	 * in CONST format.
+	 * 
+	 * @param numVals number of value tuples
+	 * @param zeros indicator if group contains zero rows
+	 * @param numCols number of columns
+	 * @return number of bytes to encode column group in CONST format
+	 */
+	protected static long getConstSize(int numVals, boolean zeros, int numCols) {
+		if( numVals != 1 || zeros )
+			return Long.MAX_VALUE;
+		
+		//single value tuple [double per col]
+		return 8 * numCols;
+	}
+	
+	/**
+	 * Estimates the number of bytes needed to encode this column group 
+	 * in SDC format.
+	 * 
+	 * @param numVals number of value tuples (incl zero and default tuple)
+	 * @param numExceptions number of rows that differ from the default tuple
+	 * @param numCols number of columns
+	 * @return number of bytes to encode column group in SDC format
+	 */
+	protected static long getSDCSize(int numVals, int numExceptions, int numCols) {
+		if( numVals > Character.MAX_VALUE-1 )
+			return Long.MAX_VALUE;
+		
+		long ret = 0;
+		//distinct value tuples [double per col]
+		ret += 8L * numVals * numCols;
+		//non-default rows [int row index, char code]
+		ret += 6L * numExceptions;
+		return ret;
+	}
+	
+	/**
+	 * Estimates the number of bytes needed to encode this column group 
+	 * in FOR format.
+	 * 
+	 * @param range range of single-column integer values, or -1
+	 * @param numRows number of rows
+	 * @return number of bytes to encode column group in FOR format
+	 */
+	protected static long getFORSize(long range, int numRows) {
+		if( range < 0 )
+			return Long.MAX_VALUE;
+		
+		long ret = 0;
+		//materialized dictionary of reference plus offsets
+		ret += 8 * (range + 1);
+		//bit-packed data [long per 64 bits]
+		ret += 8 * (((long)numRows * ColGroupFOR.getNumBits(range) + 63) / 64);
+		return ret;
+	}
+
 	protected static class SizeEstimationFactors {
  		protected int numVals;   //num value tuples
  		protected int numSegs;   //num OLE segments 
  		protected int numOffs;   //num OLE offsets
  		protected int numRuns;   //num RLE runs
  		protected int numSingle; //num singletons
+ 		protected int maxOffs;   //max num offsets of a value tuple
+ 		protected boolean intVals; //single-column integer values
+ 		protected double minVal; //min value (if intVals)
+ 		protected double maxVal; //max value (if intVals)
 		
 		protected SizeEstimationFactors(int numvals, int numsegs, int numoffs, int numruns, int numsingle) {
 			numVals = numvals;
@@ -45,10 +45,18 @@ public class CompressedSizeEstimatorExact extends CompressedSizeEstimator
 		//compute size estimation factors
 		SizeEstimationFactors fact = computeSizeEstimationFactors(ubm, true);
 		
+		//compute zero and default tuple statistics
+		int numZeros = _numRows - fact.numOffs;
+		int numVals0 = fact.numVals + ((numZeros > 0) ? 1 : 0);
+		int numExcept = _numRows - Math.max(fact.maxOffs, numZeros);
+		
 		//construct new size info summary
 		return new CompressedSizeInfo(fact.numVals, fact.numOffs,
 				getRLESize(fact.numVals, fact.numRuns, ubm.getNumColumns()),
 				getOLESize(fact.numVals, fact.numOffs, fact.numSegs, ubm.getNumColumns()),
-				getDDCSize(fact.numVals, _numRows, ubm.getNumColumns()));
+				getDDCSize(fact.numVals, _numRows, ubm.getNumColumns()),
+				getConstSize(fact.numVals, numZeros > 0, ubm.getNumColumns()),
+				getSDCSize(numVals0, numExcept, ubm.getNumColumns()),
+				getFORSize(getValueRange(fact, numZeros > 0), _numRows));
 	}
 }
@@ -21,6 +21,8 @@ package org.apache.sysml.runtime.compress.estim;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,7 +51,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	private static final Log LOG = LogFactory.getLog(CompressedSizeEstimatorSample.class.getName());
     
     private int[] _sampleRows = null;
-    private HashMap<Integer, Double> _solveCache = null;
+    private Map<Integer, Double> _solveCache = null;
 	
 	public CompressedSizeEstimatorSample(MatrixBlock data, int sampleSize) 
 		throws DMLRuntimeException 
@@ -66,8 +68,8 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 					!CompressedMatrixBlock.TRANSPOSE_INPUT, select);
 		}
 		
-		//establish estimator-local cache for numeric solve
-		_solveCache = new HashMap<>();
+		//establish estimator-local cache for numeric solve (thread-safe for parallel planning)
+		_solveCache = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -108,11 +110,21 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 		int totalNumSeg = fact.numSegs + numUnseenSeg;
 		int totalNumRuns = getNumRuns(ubm, sampleSize, _numRows, sampleRows) + numUnseenSeg;
 
+		// estimate number of rows that differ from the most frequent value tuple 
+		// (incl zeros) via scaled-up frequencies of the sample
+		int numZerosEst = _numRows - numNonZeros;
+		int maxFreqEst = (int)Math.min(_numRows, (long)fact.maxOffs * _numRows / sampleSize);
+		int numExcept = _numRows - Math.max(maxFreqEst, numZerosEst);
+		int totalCardinality0 = totalCardinality + ((numZerosEst > 0) ? 1 : 0);
+		
 		//construct new size info summary
 		return new CompressedSizeInfo(totalCardinality, numNonZeros,
 				getRLESize(totalCardinality, totalNumRuns, numCols),
 				getOLESize(totalCardinality, numNonZeros, totalNumSeg, numCols),
-				getDDCSize(totalCardinality, _numRows, numCols));
+				getDDCSize(totalCardinality, _numRows, numCols),
+				getConstSize(totalCardinality, numZerosEst > 0, numCols),
+				getSDCSize(totalCardinality0, numExcept, numCols),
+				getFORSize(getValueRange(fact, numZeros > 0), _numRows));
 	}
 
 	@Override
@@ -121,15 +133,23 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 		//compute size estimation factors
 		SizeEstimationFactors fact = computeSizeEstimationFactors(ubm, true);
 		
+		//compute zero and default tuple statistics
+		int numZeros = _numRows - fact.numOffs;
+		int numVals0 = fact.numVals + ((numZeros > 0) ? 1 : 0);
+		int numExcept = _numRows - Math.max(fact.maxOffs, numZeros);
+		
 		//construct new size info summary
 		return new CompressedSizeInfo(fact.numVals, fact.numOffs,
 				getRLESize(fact.numVals, fact.numRuns, ubm.getNumColumns()),
 				getOLESize(fact.numVals, fact.numOffs, fact.numSegs, ubm.getNumColumns()),
-				getDDCSize(fact.numVals, _numRows, ubm.getNumColumns()));
+				getDDCSize(fact.numVals, _numRows, ubm.getNumColumns()),
+				getConstSize(fact.numVals, numZeros > 0, ubm.getNumColumns()),
+				getSDCSize(numVals0, numExcept, ubm.getNumColumns()),
+				getFORSize(getValueRange(fact, numZeros > 0), _numRows));
 	}
 
 	private static int getNumDistinctValues(UncompressedBitmap ubm, int numRows, int[] sampleRows, 
-			HashMap<Integer, Double> solveCache) {
+			Map<Integer, Double> solveCache) {
 		return haasAndStokes(ubm, numRows, sampleRows.length, solveCache);
 	}
 
@@ -512,7 +532,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	 * @param sampleRowsReader row reader
 	 * @return estimator
 	 */
-	private static int haasAndStokes(UncompressedBitmap ubm, int nRows, int sampleSize, HashMap<Integer, Double> solveCache)
+	private static int haasAndStokes(UncompressedBitmap ubm, int nRows, int sampleSize, Map<Integer, Double> solveCache)
 	{
 		//obtain value and frequency histograms
 		int numVals = ubm.getNumValues();
@@ -607,7 +627,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	 * 
 	 */
 	private static double getDuj2aEstimate(double q, int f[], int n, int dn, double gammaDuj1, int N, 
-			HashMap<Integer, Double> solveCache) {
+			Map<Integer, Double> solveCache) {
 		int c = HAAS_AND_STOKES_UJ2A_CUT2 ? 
 			f.length/2+1 : HAAS_AND_STOKES_UJ2A_C+1;
 		
@@ -686,7 +706,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	 * 
 	 */
 	private static double getMethodOfMomentsEstimate(int nj, double q, double min, double max, 
-		HashMap<Integer, Double> solveCache) {
+		Map<Integer, Double> solveCache) {
 		if( solveCache.containsKey(nj) )
 			return solveCache.get(nj);
 		
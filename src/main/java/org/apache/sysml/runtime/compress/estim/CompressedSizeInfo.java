@@ -32,13 +32,26 @@ public class CompressedSizeInfo
 	private final long _rleSize; 
 	private final long _oleSize;
 	private final long _ddcSize;
+	private final long _constSize;
+	private final long _sdcSize;
+	private final long _forSize;
 
 	public CompressedSizeInfo(int estCard, int estNnz, long rleSize, long oleSize, long ddcSize) {
+		this(estCard, estNnz, rleSize, oleSize, ddcSize, 
+			Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+	}
+	
+	public CompressedSizeInfo(int estCard, int estNnz, long rleSize, long oleSize, long ddcSize, 
+		long constSize, long sdcSize, long forSize) 
+	{
 		_estCard = estCard;
 		_estNnz = estNnz;
 		_rleSize = rleSize;
 		_oleSize = oleSize;
 		_ddcSize = ddcSize;
+		_constSize = constSize;
+		_sdcSize = sdcSize;
+		_forSize = forSize;
 	}
 
 	public long getRLESize() {
@@ -54,11 +67,40 @@ public class CompressedSizeInfo
 			_ddcSize : Long.MAX_VALUE; 
 	}
 
+	public long getConstSize() {
+		return CompressedMatrixBlock.ALLOW_CONST_ENCODING ? 
+			_constSize : Long.MAX_VALUE; 
+	}
+	
+	public long getSDCSize() {
+		return CompressedMatrixBlock.ALLOW_SDC_ENCODING ? 
+			_sdcSize : Long.MAX_VALUE; 
+	}
+	
+	public long getFORSize() {
+		return CompressedMatrixBlock.ALLOW_FOR_ENCODING ? 
+			_forSize : Long.MAX_VALUE; 
+	}
+
 	public long getMinSize() {
-		return Math.min(Math.min(
+		return Math.min(Math.min(Math.min(
 			getRLESize(), 
 			getOLESize()),
-			getDDCSize());
+			getDDCSize()),
+			getMinExtSize());
+	}
+	
+	/**
+	 * Obtain the minimum size of the extended encodings
+	 * (CONST, SDC, FOR).
+	 * 
+	 * @return minimum size of extended encodings
+	 */
+	public long getMinExtSize() {
+		return Math.min(Math.min(
+			getConstSize(), 
+			getSDCSize()),
+			getFORSize());
 	}
 
 	public int getEstCard() {
@@ -23,8 +23,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.apache.sysml.runtime.compress.ColGroup;
+import org.apache.sysml.runtime.compress.ColGroupConst;
+import org.apache.sysml.runtime.compress.ColGroupFOR;
 import org.apache.sysml.runtime.compress.ColGroupOLE;
 import org.apache.sysml.runtime.compress.ColGroupRLE;
+import org.apache.sysml.runtime.compress.ColGroupSDC;
 import org.apache.sysml.runtime.compress.ColGroupUncompressed;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.util.DataConverter;
@@ -60,6 +63,20 @@ public class ConverterUtils
 			ret = new ColGroupOLE(colIndices, in.getNumRows(), in.hasZeros(),
 					in.getValues(), in.getBitmaps(), in.getBitmapOffsets());
 		}
+		else if( group instanceof ColGroupConst ) {
+			ColGroupConst in = (ColGroupConst) group;
+			ret = new ColGroupConst(colIndices, in.getNumRows(), in.getValues());
+		}
+		else if( group instanceof ColGroupSDC ) {
+			ColGroupSDC in = (ColGroupSDC) group;
+			ret = new ColGroupSDC(colIndices, in.getNumRows(), 
+					in.getValues(), in.getIndexes(), in.getCodes());
+		}
+		else if( group instanceof ColGroupFOR ) {
+			ColGroupFOR in = (ColGroupFOR) group;
+			ret = new ColGroupFOR(colIndices, in.getNumRows(), 
+					in.getValues(), in.getCodes(), in.getNumBits());
+		}
 		
 		return ret;
 	}
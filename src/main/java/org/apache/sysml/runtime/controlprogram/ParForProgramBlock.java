@@ -60,6 +60,7 @@ import org.apache.sysml.runtime.controlprogram.parfor.DataPartitionerRemoteMR;
 import org.apache.sysml.runtime.controlprogram.parfor.DataPartitionerRemoteSpark;
 import org.apache.sysml.runtime.controlprogram.parfor.LocalParWorker;
 import org.apache.sysml.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysml.runtime.controlprogram.parfor.LocalWorkStealingTaskQueue;
 import org.apache.sysml.runtime.controlprogram.parfor.ParForBody;
 import org.apache.sysml.runtime.controlprogram.parfor.ProgramConverter;
 import org.apache.sysml.runtime.controlprogram.parfor.RemoteDPParForMR;
@@ -144,6 +145,12 @@ public class ParForProgramBlock extends ForProgramBlock
 		UNSPECIFIED
 	}
 	
+	// local task queue
+	public enum PTaskQueue {
+		FIFO,           //central synchronized fifo queue
+		WORKSTEALING,   //per-worker lock-free deques with (batched) stealing
+	}
+	
 	public enum PDataPartitionFormat {
 		NONE,
 		ROW_WISE,
@@ -325,6 +332,7 @@ public class ParForProgramBlock extends ForProgramBlock
 	protected int _numThreads = -1;
 	protected long _taskSize = -1;
 	protected PTaskPartitioner _taskPartitioner = null;
+	protected PTaskQueue _taskQueue = PTaskQueue.FIFO;
 	protected PDataPartitioner _dataPartitioner = null;
 	protected PResultMerge _resultMerge = null;
 	protected PExecMode _execMode = null;
@@ -408,6 +416,8 @@ public class ParForProgramBlock extends ForProgramBlock
 			_optMode         = POptMode.valueOf( getParForParam(ParForStatementBlock.OPT_MODE) );
 			_optLogLevel     = Level.toLevel( getParForParam(ParForStatementBlock.OPT_LOG) );
 			_monitor         = (Integer.parseInt(getParForParam(ParForStatementBlock.PROFILE) ) == 1);
+			if( getParForParam(ParForStatementBlock.TASK_QUEUE) != null ) //optional
+				_taskQueue   = PTaskQueue.valueOf( getParForParam(ParForStatementBlock.TASK_QUEUE) );
 		}
 		catch(Exception ex) {
 			throw new RuntimeException("Error parsing specified ParFOR parameters.",ex);
@@ -495,6 +505,11 @@ public class ParForProgramBlock extends ForProgramBlock
 		_params.put(ParForStatementBlock.TASK_PARTITIONER, String.valueOf(_taskPartitioner)); //kept up-to-date for copies
 	}
 	
+	public void setTaskQueue( PTaskQueue queue ) {
+		_taskQueue = queue;
+		_params.put(ParForStatementBlock.TASK_QUEUE, String.valueOf(_taskQueue)); //kept up-to-date for copies
+	}
+	
 	public void setTaskSize( long tasksize ) {
 		_taskSize = tasksize;
 		_params.put(ParForStatementBlock.TASK_SIZE, String.valueOf(_taskSize)); //kept up-to-date for copies
@@ -751,7 +766,8 @@ public class ParForProgramBlock extends ForProgramBlock
 		try
 		{
 			// Step 1) init parallel workers, task queue and threads
-			LocalTaskQueue<Task> queue = new LocalTaskQueue<>();
+			LocalTaskQueue<Task> queue = (_taskQueue == PTaskQueue.WORKSTEALING) ?
+				new LocalWorkStealingTaskQueue<>(_numThreads) : new LocalTaskQueue<>();
 			Thread[] threads         = new Thread[_numThreads];
 			LocalParWorker[] workers = new LocalParWorker[_numThreads];
 			for( int i=0; i<_numThreads; i++ ) {
@@ -803,6 +819,13 @@ public class ParForProgramBlock extends ForProgramBlock
 			
 			if( _monitor ) 
 				StatisticMonitor.putPFStat(_ID, Stat.PARFOR_WAIT_EXEC_T, time.stop());
+			if( queue instanceof LocalWorkStealingTaskQueue ) {
+				long numSteals = ((LocalWorkStealingTaskQueue<Task>)queue).getNumSteals();
+				if( DMLScript.STATISTICS )
+					Statistics.incrementParForTaskSteals(numSteals);
+				if( _monitor )
+					StatisticMonitor.putPFStat(_ID, Stat.PARFOR_NUMSTEALS, numSteals);
+			}
 			
 			// Step 4) collecting results from each parallel worker
 			//obtain results and cleanup other intermediates before result merge
@@ -1391,6 +1414,7 @@ public class ParForProgramBlock extends ForProgramBlock
 			ParForBody body = new ParForBody( cpChildBlocks, _resultVars, cpEc );
 			pw = new LocalParWorker( pwID, queue, body, cconf, MAX_RETRYS_ON_ERROR, _monitor );
 			pw.setFunctionNames(fnNames);
+			pw.setTaskQueuePosition(index);
 		}
 		catch(Exception ex) {
 			throw new DMLRuntimeException(ex);
@@ -30,16 +30,23 @@ import org.apache.sysml.hops.Hop;
 import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.hops.recompile.Recompiler;
 import org.apache.sysml.lops.Lop;
+import org.apache.sysml.parser.Expression.DataType;
 import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.parser.ParseInfo;
 import org.apache.sysml.parser.StatementBlock;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.DMLScriptException;
+import org.apache.sysml.runtime.controlprogram.caching.CachePrefetcher;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
 import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysml.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.instructions.Instruction;
 import org.apache.sysml.runtime.instructions.cp.BooleanObject;
+import org.apache.sysml.runtime.instructions.cp.CPOperand;
+import org.apache.sysml.runtime.instructions.cp.ComputationCPInstruction;
 import org.apache.sysml.runtime.instructions.cp.Data;
 import org.apache.sysml.runtime.instructions.cp.DoubleObject;
 import org.apache.sysml.runtime.instructions.cp.IntObject;
@@ -208,17 +215,37 @@ public class ProgramBlock implements ParseInfo
 	protected void executeInstructions(ArrayList<Instruction> inst, ExecutionContext ec)
 		throws DMLRuntimeException
 	{
+		boolean prefetch = CachePrefetcher.isEnabled();
 		for (int i = 0; i < inst.size(); i++)
 		{
 			//indexed access required due to dynamic add
 			Instruction currInst = inst.get(i);
 
+			//prefetch evicted inputs of subsequent instructions
+			if( prefetch ) {
+				int dist = CacheableData.CACHING_PREFETCH_DISTANCE;
+				for( int j=(i==0)?1:i+dist; j<=i+dist && j<inst.size(); j++ )
+					prefetchInputs(inst.get(j), ec);
+			}
+
 			//execute instruction
 			ec.updateDebugState(i);
 			executeSingleInstruction(currInst, ec);
 		}
 	}
 
+	private static void prefetchInputs(Instruction inst, ExecutionContext ec) {
+		if( !(inst instanceof ComputationCPInstruction) )
+			return;
+		ComputationCPInstruction cpinst = (ComputationCPInstruction) inst;
+		for( CPOperand input : new CPOperand[]{cpinst.input1, cpinst.input2, cpinst.input3} )
+			if( input != null && input.getDataType() == DataType.MATRIX && !input.isLiteral() ) {
+				Data dat = ec.getVariable(input.getName());
+				if( dat instanceof MatrixObject )
+					((MatrixObject)dat).prefetch();
+			}
+	}
+
 	protected ScalarObject executePredicateInstructions(ArrayList<Instruction> inst, ValueType retType, ExecutionContext ec)
 		throws DMLRuntimeException
 	{
@@ -346,6 +373,44 @@ public class ProgramBlock implements ParseInfo
 			}
 	}
 	
+	/**
+	 * Marks all cacheable data objects that are read but not updated in the 
+	 * loop body (loop-invariant according to live variable analysis) with 
+	 * a reuse hint for the cost-aware replacement policy of the buffer pool.
+	 * 
+	 * @param ec execution context
+	 * @return list of marked data objects
+	 */
+	protected ArrayList<CacheableData<?>> prepareCacheReuseHints(ExecutionContext ec)
+	{
+		if( _sb == null || _sb.variablesRead() == null 
+			|| LazyWriteBuffer.getPolicy() != RPolicy.COST )
+			return null;
+		
+		ArrayList<CacheableData<?>> ret = new ArrayList<>();
+		for( String varname : _sb.variablesRead().getVariableNames() ) {
+			if( _sb.variablesUpdated().containsVariable(varname) )
+				continue;
+			Data dat = ec.getVariable(varname);
+			if( dat instanceof CacheableData ) {
+				CacheableData<?> cd = (CacheableData<?>) dat;
+				cd.incrementCacheReuseHint();
+				ret.add(cd);
+			}
+		}
+		return ret;
+	}
+	
+	protected void resetCacheReuseHints(ArrayList<CacheableData<?>> objs)
+	{
+		if( objs == null )
+			return;
+		
+		//reset reuse hints to pre-loop status
+		for( CacheableData<?> cd : objs )
+			cd.decrementCacheReuseHint();
+	}
+	
 	private static void checkSparsity( Instruction lastInst, LocalVariableMap vars )
 		throws DMLRuntimeException
 	{
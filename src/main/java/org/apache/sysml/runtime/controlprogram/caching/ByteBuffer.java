@@ -98,17 +98,30 @@ public class ByteBuffer
 		return ret;
 	}
 
-	public void evictBuffer( String fname ) 
+	/**
+	 * Evicts the buffer to the off-heap buffer pool if enabled and 
+	 * sufficiently large, otherwise to local disk.
+	 * 
+	 * @param fname local cache file name
+	 * @return true if evicted to the off-heap buffer pool
+	 * @throws IOException if IOException occurs
+	 */
+	public boolean evictBuffer( String fname ) 
 		throws IOException
 	{
 		if( !_shallow ) {
-			//write out byte serialized array
+			//copy or write out byte serialized array
+			if( OffHeapBufferPool.writeBytes(fname, _bdata, _matrix) )
+				return true;
 			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
 		}
 		else {
-			//serialize cache block to output stream
+			//serialize cache block to off-heap buffer or output stream
+			if( OffHeapBufferPool.writeBlock(fname, _cdata) )
+				return true;
 			LocalFileUtils.writeCacheBlockToLocal(fname, _cdata);
 		}
+		return false;
 	}
 	
 	/**
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.controlprogram.caching;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+
+/**
+ * Asynchronous prefetcher that restores evicted cache blocks on a background
+ * I/O thread before they are acquired. Program blocks issue prefetch requests 
+ * for the inputs of instructions a few positions ahead (see 
+ * CacheableData.CACHING_PREFETCH_DISTANCE), and a subsequent restore of the 
+ * same cache file consumes the prefetched block (or waits for the pending read). 
+ * Prefetched but not yet consumed blocks are bounded by CACHING_PREFETCH_SIZE, 
+ * and invalidated on any write or delete of the underlying cache file.
+ */
+public class CachePrefetcher 
+{
+	//prefetched or pending blocks by cache file name
+	private static final ConcurrentHashMap<String, PrefetchEntry> _prefetched = new ConcurrentHashMap<>();
+	
+	//estimated size of prefetched blocks in bytes and its limit
+	private static final AtomicLong _size = new AtomicLong(0);
+	private static long _limit = 0;
+	
+	//single background thread for local I/O
+	private static volatile ExecutorService _pool = null;
+	
+	public static void init() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		boolean enabled = (conf != null) && conf.getBooleanValue(DMLConfig.CACHING_PREFETCH);
+		cleanup();
+		if( enabled ) {
+			_limit = (long)(CacheableData.CACHING_PREFETCH_SIZE 
+				* InfrastructureAnalyzer.getLocalMaxMemory());
+			_pool = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "SystemML-CachePrefetcher");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+	}
+	
+	public static void cleanup() {
+		ExecutorService pool = _pool;
+		_pool = null;
+		if( pool != null )
+			pool.shutdownNow();
+		for( String fname : _prefetched.keySet() )
+			invalidate(fname);
+	}
+	
+	public static boolean isEnabled() {
+		return _pool != null;
+	}
+	
+	/**
+	 * Issues an asynchronous read of the given evicted cache block, if not 
+	 * already pending and if the block fits into the prefetch budget.
+	 * 
+	 * @param fname local cache file name
+	 * @param matrix true if matrix block, false if frame block
+	 * @param size estimated in-memory size in bytes
+	 */
+	public static void prefetch( String fname, boolean matrix, long size ) {
+		ExecutorService pool = _pool;
+		if( pool == null || _prefetched.containsKey(fname) )
+			return;
+		
+		//reserve memory budget
+		if( _size.addAndGet(size) > _limit ) {
+			_size.addAndGet(-size);
+			return;
+		}
+		
+		FutureTask<CacheBlock> task = new FutureTask<>(
+			() -> LazyWriteBuffer.readBlock(fname, matrix));
+		if( _prefetched.putIfAbsent(fname, new PrefetchEntry(task, size)) != null ) {
+			_size.addAndGet(-size);
+			return;
+		}
+		
+		try {
+			pool.execute(task);
+		}
+		catch(Exception ex) {
+			//pool concurrently shut down
+			invalidate(fname);
+			return;
+		}
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementPrefetches();
+	}
+	
+	/**
+	 * Obtains and removes the prefetched cache block of the given file
+	 * name, which waits for pending reads if necessary.
+	 * 
+	 * @param fname local cache file name
+	 * @return cache block, or null if not prefetched or failed
+	 */
+	public static CacheBlock getPrefetched( String fname ) {
+		if( _prefetched.isEmpty() )
+			return null;
+		PrefetchEntry entry = _prefetched.remove(fname);
+		if( entry == null )
+			return null;
+		_size.addAndGet(-entry.size);
+		
+		CacheBlock ret = null;
+		try {
+			ret = entry.task.get();
+		}
+		catch(Exception ex) {
+			//failed or cancelled prefetch, fallback to synchronous read
+		}
+		if( DMLScript.STATISTICS ) {
+			if( ret != null )
+				CacheStatistics.incrementPrefetchHits();
+			else
+				CacheStatistics.incrementPrefetchWasted();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Invalidates the prefetched cache block of the given file name,
+	 * for example, on write or delete of the cache file.
+	 * 
+	 * @param fname local cache file name
+	 */
+	public static void invalidate( String fname ) {
+		if( _prefetched.isEmpty() )
+			return;
+		PrefetchEntry entry = _prefetched.remove(fname);
+		if( entry != null ) {
+			entry.task.cancel(false);
+			_size.addAndGet(-entry.size);
+			if( DMLScript.STATISTICS )
+				CacheStatistics.incrementPrefetchWasted();
+		}
+	}
+	
+	private static class PrefetchEntry {
+		private final FutureTask<CacheBlock> task;
+		private final long size;
+		
+		public PrefetchEntry(FutureTask<CacheBlock> t, long s) {
+			task = t;
+			size = s;
+		}
+	}
+}
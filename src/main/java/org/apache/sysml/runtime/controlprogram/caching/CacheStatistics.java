@@ -21,6 +21,8 @@ package org.apache.sysml.runtime.controlprogram.caching;
 
 import java.util.concurrent.atomic.LongAdder;
 
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+
 /**
  * This singleton provides basic caching statistics in CP.
  * 
@@ -60,6 +62,22 @@ public class CacheStatistics
 	private static final LongAdder _numWritesFS     = new LongAdder();
 	private static final LongAdder _numWritesHDFS   = new LongAdder();
 	
+	//hit and write statistics off-heap buffer
+	private static final LongAdder _numHitsOffHeap   = new LongAdder();
+	private static final LongAdder _numWritesOffHeap = new LongAdder();
+	
+	//prefetch statistics (issued, consumed, invalidated or failed)
+	private static final LongAdder _numPrefetches     = new LongAdder();
+	private static final LongAdder _numPrefetchHits   = new LongAdder();
+	private static final LongAdder _numPrefetchWasted = new LongAdder();
+	
+	//eviction statistics write buffer (per replacement policy)
+	private static final LongAdder[] _numEvictions = new LongAdder[RPolicy.values().length];
+	static {
+		for( int i=0; i<_numEvictions.length; i++ )
+			_numEvictions[i] = new LongAdder();
+	}
+	
 	//time statistics caching
 	private static final LongAdder _ctimeAcquireR   = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeAcquireM   = new LongAdder(); //in nano sec
@@ -76,6 +94,14 @@ public class CacheStatistics
 		_numWritesFS.reset();
 		_numWritesHDFS.reset();
 		
+		_numHitsOffHeap.reset();
+		_numWritesOffHeap.reset();
+		_numPrefetches.reset();
+		_numPrefetchHits.reset();
+		_numPrefetchWasted.reset();
+		for( LongAdder numEvictions : _numEvictions )
+			numEvictions.reset();
+		
 		_ctimeAcquireR.reset();
 		_ctimeAcquireM.reset();
 		_ctimeRelease.reset();
@@ -166,6 +192,54 @@ public class CacheStatistics
 		return _numWritesHDFS.longValue();
 	}
 	
+	public static void incrementOffHeapHits() {
+		_numHitsOffHeap.increment();
+	}
+	
+	public static long getOffHeapHits() {
+		return _numHitsOffHeap.longValue();
+	}
+	
+	public static void incrementOffHeapWrites() {
+		_numWritesOffHeap.increment();
+	}
+	
+	public static long getOffHeapWrites() {
+		return _numWritesOffHeap.longValue();
+	}
+	
+	public static void incrementPrefetches() {
+		_numPrefetches.increment();
+	}
+	
+	public static long getPrefetches() {
+		return _numPrefetches.longValue();
+	}
+	
+	public static void incrementPrefetchHits() {
+		_numPrefetchHits.increment();
+	}
+	
+	public static long getPrefetchHits() {
+		return _numPrefetchHits.longValue();
+	}
+	
+	public static void incrementPrefetchWasted() {
+		_numPrefetchWasted.increment();
+	}
+	
+	public static long getPrefetchWasted() {
+		return _numPrefetchWasted.longValue();
+	}
+	
+	public static void incrementEvictions(RPolicy policy, int delta) {
+		_numEvictions[policy.ordinal()].add(delta);
+	}
+	
+	public static long getEvictions(RPolicy policy) {
+		return _numEvictions[policy.ordinal()].longValue();
+	}
+	
 	public static void incrementAcquireRTime(long delta) {
 		_ctimeAcquireR.add(delta);
 	}
@@ -222,6 +296,36 @@ public class CacheStatistics
 		return sb.toString();
 	}
 	
+	public static String displayOffHeap() {	
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHitsOffHeap.longValue());
+		sb.append("/");
+		sb.append(_numWritesOffHeap.longValue());
+		
+		return sb.toString();
+	}
+	
+	public static String displayPrefetch() {	
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numPrefetches.longValue());
+		sb.append("/");
+		sb.append(_numPrefetchHits.longValue());
+		sb.append("/");
+		sb.append(_numPrefetchWasted.longValue());
+		
+		return sb.toString();
+	}
+	
+	public static String displayEvictions() {
+		StringBuilder sb = new StringBuilder();
+		for( RPolicy policy : RPolicy.values() ) {
+			if( sb.length() > 0 )
+				sb.append("/");
+			sb.append(_numEvictions[policy.ordinal()].longValue());
+		}
+		return sb.toString();
+	}
+	
 	public static String displayTime() {	
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("%.3f", ((double)_ctimeAcquireR.longValue())/1000000000)); //in sec
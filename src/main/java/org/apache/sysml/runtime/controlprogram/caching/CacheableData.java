@@ -82,6 +82,9 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	public static final double 	CACHING_BUFFER_SIZE = 0.15; 
 	public static final RPolicy CACHING_BUFFER_POLICY = RPolicy.FIFO; 
 	public static final boolean CACHING_BUFFER_PAGECACHE = false; 
+	public static final RPolicy CACHING_OFFHEAP_POLICY = RPolicy.LRU; 
+	public static final int     CACHING_PREFETCH_DISTANCE = 3; //num instructions ahead
+	public static final double  CACHING_PREFETCH_SIZE = 0.25; //max prefetched, relative to max mem
 	public static final boolean CACHING_WRITE_CACHE_ON_READ = false;	
 	public static final String  CACHING_COUNTER_GROUP_NAME    = "SystemML Caching Counters";
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
@@ -191,6 +194,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	private String  _cacheFileName = null; //local eviction file name
 	private boolean _requiresLocalWrite = false; //flag if local write for read obj
 	private boolean _isAcquireFromEmpty = false; //flag if read from status empty 
+	private int     _cacheReuseHint = 0;   //number of enclosing loops w/ read-only access
 	
 	//spark-specific handles
 	//note: we use the abstraction of LineageObjects for two reasons: (1) to keep track of cleanup
@@ -248,6 +252,24 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		return _cleanupFlag;
 	}
 
+	/**
+	 * Increments the cache reuse hint, which indicates that the data object
+	 * is read but not updated in an enclosing loop (loop-invariant) and thus 
+	 * likely reused in subsequent iterations. The hint is used by cost-aware
+	 * replacement policies of the buffer pool.
+	 */
+	public synchronized void incrementCacheReuseHint() {
+		_cacheReuseHint++;
+	}
+	
+	public synchronized void decrementCacheReuseHint() {
+		_cacheReuseHint = Math.max(_cacheReuseHint-1, 0);
+	}
+	
+	public synchronized int getCacheReuseHint() {
+		return _cacheReuseHint;
+	}
+
 	public void setVarName(String s) {
 		_varName = s;
 	}
@@ -636,7 +658,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 				try {
 					long t1 = DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS ? System.nanoTime() : 0;
 					
-					int numEvicted = LazyWriteBuffer.writeBlock(filePath, _data);
+					int numEvicted = LazyWriteBuffer.writeBlock(filePath, _data, _cacheReuseHint);
 					
 					if(DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS && opcode != null) {
 						long t2 = DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS ? System.nanoTime() : 0;
@@ -1023,9 +1045,10 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 			// Get the dimension information from the metadata stored within MatrixObject
 			MatrixCharacteristics mc = iimd.getMatrixCharacteristics ();
 			
-			// when outputFormat is binaryblock, make sure that matrixCharacteristics has correct blocking dimensions
+			// when outputFormat is (compressed) binaryblock, make sure that matrixCharacteristics has correct blocking dimensions
 			// note: this is only required if singlenode (due to binarycell default) 
-			if ( oinfo == OutputInfo.BinaryBlockOutputInfo && DMLScript.rtplatform == RUNTIME_PLATFORM.SINGLE_NODE &&
+			if ( (oinfo == OutputInfo.BinaryBlockOutputInfo || oinfo == OutputInfo.CompressedBinaryBlockOutputInfo)
+				&& DMLScript.rtplatform == RUNTIME_PLATFORM.SINGLE_NODE &&
 				(mc.getRowsPerBlock() != ConfigurationManager.getBlocksize() || mc.getColsPerBlock() != ConfigurationManager.getBlocksize()) ) 
 			{
 				mc = new MatrixCharacteristics(mc.getRows(), mc.getCols(), ConfigurationManager.getBlocksize(), ConfigurationManager.getBlocksize(), mc.getNonZeros());
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.controlprogram.caching;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+
+/**
+ * Eviction queue of &lt;filename,buffer&gt; pairs of the write buffer, which
+ * encapsulates the replacement policy. All entries are kept in a linked hash 
+ * map for (1) queue semantics and (2) constant time get/insert/delete operations. 
+ * FIFO and LRU select the first entry as victim, while the size-, frequency-, 
+ * and cost-aware policies scan the (typically small number of) buffered entries.
+ * 
+ * NOTE: the queue is not thread-safe, all accesses are synchronized by the 
+ * write buffer.
+ */
+public abstract class EvictionQueue 
+{
+	//estimated restore overhead per block (e.g., file open and seek) in bytes
+	protected static final long RESTORE_LATENCY_BYTES = 1024 * 1024;
+	//relative restore cost of deep-serialized (sparse) blocks due to deserialization
+	protected static final double RESTORE_DESERIALIZE_FACTOR = 2;
+	
+	protected final LinkedHashMap<String, QueueEntry> _entries = new LinkedHashMap<>();
+	protected long _clock = 0; //logical time of accesses
+	
+	public static EvictionQueue createEvictionQueue(RPolicy policy) {
+		switch( policy ) {
+			case FIFO:     return new FIFOQueue();
+			case LRU:      return new LRUQueue();
+			case LRU_SIZE: return new SizeLRUQueue();
+			case LFU:      return new LFUQueue();
+			case COST:     return new CostQueue();
+			default:
+				throw new RuntimeException("Unsupported eviction policy: "+policy);
+		}
+	}
+	
+	public abstract RPolicy getPolicy();
+	
+	/**
+	 * Puts a new entry into the eviction queue.
+	 * 
+	 * @param fname local cache file name
+	 * @param bbuff buffer
+	 * @param reuseHint number of enclosing loops the block is read but not updated
+	 */
+	public void addLast( String fname, ByteBuffer bbuff, int reuseHint ) {
+		QueueEntry entry = new QueueEntry(bbuff, reuseHint, ++_clock);
+		onInsert(entry);
+		_entries.put(fname, entry);
+	}
+	
+	/**
+	 * Gets the buffer of the given file name and updates the access 
+	 * statistics according to the replacement policy.
+	 * 
+	 * @param fname local cache file name
+	 * @return buffer or null if not existing
+	 */
+	public ByteBuffer get( String fname ) {
+		QueueEntry entry = _entries.get(fname);
+		if( entry == null )
+			return null;
+		entry.lastAccess = ++_clock;
+		entry.numAccess++;
+		onAccess(fname, entry);
+		return entry.buff;
+	}
+	
+	public ByteBuffer remove( String fname ) {
+		QueueEntry entry = _entries.remove(fname);
+		return (entry != null) ? entry.buff : null;
+	}
+	
+	/**
+	 * Removes the next entry to evict according to the replacement policy.
+	 * 
+	 * @return entry of filename and buffer
+	 */
+	public Entry<String, ByteBuffer> removeVictim() {
+		String fname = selectVictim();
+		QueueEntry entry = _entries.remove(fname);
+		onEvict(entry);
+		return new SimpleEntry<>(fname, entry.buff);
+	}
+	
+	public boolean isEmpty() {
+		return _entries.isEmpty();
+	}
+	
+	public int size() {
+		return _entries.size();
+	}
+	
+	public void clear() {
+		_entries.clear();
+	}
+	
+	/**
+	 * Returns a snapshot of all entries in queue order.
+	 * NOTE: use only for debugging or testing.
+	 * 
+	 * @return list of entries of filename and buffer
+	 */
+	public ArrayList<Entry<String, ByteBuffer>> getEntries() {
+		ArrayList<Entry<String, ByteBuffer>> ret = new ArrayList<>();
+		for( Entry<String, QueueEntry> e : _entries.entrySet() )
+			ret.add(new SimpleEntry<>(e.getKey(), e.getValue().buff));
+		return ret;
+	}
+	
+	protected String selectVictim() {
+		//first entry in queue order
+		return _entries.keySet().iterator().next();
+	}
+	
+	protected void onInsert(QueueEntry entry) {
+		//do nothing
+	}
+	
+	protected void onAccess(String fname, QueueEntry entry) {
+		//do nothing
+	}
+	
+	protected void onEvict(QueueEntry entry) {
+		//do nothing
+	}
+	
+	/**
+	 * Estimated cost of restoring an evicted block from local disk, 
+	 * scaled by the compiler-provided reuse hint of loop-invariant reads.
+	 * 
+	 * @param entry queue entry
+	 * @return restore cost in byte equivalents
+	 */
+	protected static double getRestoreCost(QueueEntry entry) {
+		double cost = RESTORE_LATENCY_BYTES + entry.buff.getSize();
+		if( !entry.buff.isShallow() )
+			cost *= RESTORE_DESERIALIZE_FACTOR;
+		return cost * (1 + entry.reuseHint);
+	}
+	
+	protected static class QueueEntry {
+		protected final ByteBuffer buff;
+		protected final int reuseHint;
+		protected long lastAccess;
+		protected long numAccess;
+		protected double priority;
+		
+		protected QueueEntry(ByteBuffer bbuff, int hint, long time) {
+			buff = bbuff;
+			reuseHint = hint;
+			lastAccess = time;
+			numAccess = 1;
+		}
+	}
+	
+	/**
+	 * First-in, first-out eviction, i.e., in insertion order.
+	 */
+	private static class FIFOQueue extends EvictionQueue {
+		@Override
+		public RPolicy getPolicy() {
+			return RPolicy.FIFO;
+		}
+	}
+	
+	/**
+	 * Least recently used eviction, i.e., reinsert entries on access.
+	 */
+	private static class LRUQueue extends EvictionQueue {
+		@Override
+		public RPolicy getPolicy() {
+			return RPolicy.LRU;
+		}
+		
+		@Override
+		protected void onAccess(String fname, QueueEntry entry) {
+			//reinsert entry at end of eviction queue
+			_entries.remove(fname);
+			_entries.put(fname, entry);
+		}
+	}
+	
+	/**
+	 * Size-aware least recently used eviction, which evicts the entry with
+	 * largest product of size and time since last access, i.e., it prefers 
+	 * large and old entries in order to free memory with few evictions.
+	 */
+	private static class SizeLRUQueue extends EvictionQueue {
+		@Override
+		public RPolicy getPolicy() {
+			return RPolicy.LRU_SIZE;
+		}
+		
+		@Override
+		protected String selectVictim() {
+			String ret = null;
+			double maxScore = -1;
+			for( Entry<String, QueueEntry> e : _entries.entrySet() ) {
+				QueueEntry entry = e.getValue();
+				double score = (double)(_clock - entry.lastAccess + 1) * entry.buff.getSize();
+				if( score > maxScore ) {
+					maxScore = score;
+					ret = e.getKey();
+				}
+			}
+			return ret;
+		}
+	}
+	
+	/**
+	 * Least frequently used eviction, ties resolved by least recent access.
+	 */
+	private static class LFUQueue extends EvictionQueue {
+		@Override
+		public RPolicy getPolicy() {
+			return RPolicy.LFU;
+		}
+		
+		@Override
+		protected String selectVictim() {
+			String ret = null;
+			QueueEntry min = null;
+			for( Entry<String, QueueEntry> e : _entries.entrySet() ) {
+				QueueEntry entry = e.getValue();
+				if( min == null || entry.numAccess < min.numAccess 
+					|| (entry.numAccess == min.numAccess && entry.lastAccess < min.lastAccess) ) {
+					min = entry;
+					ret = e.getKey();
+				}
+			}
+			return ret;
+		}
+	}
+	
+	/**
+	 * Cost-aware eviction according to greedy-dual-size, where the priority of an
+	 * entry is the restore cost per byte (incl. reuse hints) plus an inflation value, 
+	 * which is set to the priority of the last evicted entry in order to age entries.
+	 */
+	private static class CostQueue extends EvictionQueue {
+		private double _inflation = 0;
+		
+		@Override
+		public RPolicy getPolicy() {
+			return RPolicy.COST;
+		}
+		
+		@Override
+		protected void onInsert(QueueEntry entry) {
+			entry.priority = computePriority(entry);
+		}
+		
+		@Override
+		protected void onAccess(String fname, QueueEntry entry) {
+			entry.priority = computePriority(entry);
+		}
+		
+		@Override
+		protected void onEvict(QueueEntry entry) {
+			_inflation = entry.priority;
+		}
+		
+		@Override
+		protected String selectVictim() {
+			String ret = null;
+			double minPriority = Double.MAX_VALUE;
+			for( Entry<String, QueueEntry> e : _entries.entrySet() ) {
+				if( ret == null || e.getValue().priority < minPriority ) {
+					minPriority = e.getValue().priority;
+					ret = e.getKey();
+				}
+			}
+			return ret;
+		}
+		
+		private double computePriority(QueueEntry entry) {
+			return _inflation + getRestoreCost(entry) / Math.max(entry.buff.getSize(), 1);
+		}
+	}
+}
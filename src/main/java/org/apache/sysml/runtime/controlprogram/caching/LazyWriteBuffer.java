@@ -20,21 +20,28 @@
 package org.apache.sysml.runtime.controlprogram.caching;
 
 import java.io.IOException;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
 import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.apache.sysml.runtime.util.LocalFileUtils;
 
 public class LazyWriteBuffer 
 {
+	private static final Log LOG = LogFactory.getLog(LazyWriteBuffer.class.getName());
+	
 	public enum RPolicy {
-		FIFO, //first-in, first-out eviction
-		LRU   //least recently used eviction
+		FIFO,     //first-in, first-out eviction
+		LRU,      //least recently used eviction
+		LRU_SIZE, //size-aware least recently used eviction
+		LFU,      //least frequently used eviction
+		COST,     //cost-aware eviction (restore cost, reuse hints)
 	}
 	
 	//global size limit in bytes
@@ -43,8 +50,10 @@ public class LazyWriteBuffer
 	//current size in bytes
 	private static long _size;
 	
-	//eviction queue of <filename,buffer> pairs (implemented via linked hash map
-	//for (1) queue semantics and (2) constant time get/insert/delete operations)
+	//configured replacement policy (resolved once on init)
+	private static RPolicy _policy = CacheableData.CACHING_BUFFER_POLICY;
+	
+	//eviction queue of <filename,buffer> pairs w/ configured replacement policy
 	private static EvictionQueue _mQueue;
 	
 	//file cleaner for synchronous or asynchronous delete of evicted files
@@ -58,13 +67,31 @@ public class LazyWriteBuffer
 	
 	public static int writeBlock(String fname, CacheBlock cb)
 		throws IOException
+	{
+		return writeBlock(fname, cb, 0);
+	}
+	
+	/**
+	 * Writes the given cache block into the write buffer, which might evict 
+	 * other entries to the off-heap buffer or local disk.
+	 * 
+	 * @param fname local cache file name
+	 * @param cb cache block
+	 * @param reuseHint number of enclosing loops the block is read but not updated
+	 * @return number of evicted entries
+	 * @throws IOException if IOException occurs
+	 */
+	public static int writeBlock(String fname, CacheBlock cb, int reuseHint)
+		throws IOException
 	{
 		//obtain basic meta data of cache block
 		long lSize = cb.isShallowSerialize() ?
 			cb.getInMemorySize() : cb.getExactSerializedSize();
+		CachePrefetcher.invalidate(fname);
 		boolean requiresWrite = (lSize > _limit        //global buffer limit
 			|| !ByteBuffer.isValidCapacity(lSize, cb)); //local buffer limit
 		int numEvicted = 0;
+		int numFSWrites = 0;
 		
 		//handle caching/eviction if it fits in writebuffer
 		if( !requiresWrite ) 
@@ -78,8 +105,8 @@ public class LazyWriteBuffer
 				//evict matrices to make room (by default FIFO)
 				while( _size+lSize > _limit && !_mQueue.isEmpty() )
 				{
-					//remove first entry from eviction queue
-					Entry<String, ByteBuffer> entry = _mQueue.removeFirst();
+					//remove next victim from eviction queue
+					Entry<String, ByteBuffer> entry = _mQueue.removeVictim();
 					String ftmp = entry.getKey();
 					ByteBuffer tmp = entry.getValue();
 					
@@ -87,8 +114,9 @@ public class LazyWriteBuffer
 						//wait for pending serialization
 						tmp.checkSerialized();
 						
-						//evict matrix
-						tmp.evictBuffer(ftmp);
+						//evict matrix (to off-heap buffer or local FS)
+						if( !tmp.evictBuffer(ftmp) )
+							numFSWrites++;
 						tmp.freeMemory();
 						_size -= tmp.getSize();
 						numEvicted++;
@@ -96,7 +124,7 @@ public class LazyWriteBuffer
 				}
 				
 				//put placeholder into buffer pool (reserve mem)
-				_mQueue.addLast(fname, bbuff);
+				_mQueue.addLast(fname, bbuff, reuseHint);
 				_size += lSize;
 			}
 			
@@ -105,15 +133,17 @@ public class LazyWriteBuffer
 			
 			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSBuffWrites();
-				CacheStatistics.incrementFSWrites(numEvicted);
+				CacheStatistics.incrementFSWrites(numFSWrites);
+				CacheStatistics.incrementEvictions(_mQueue.getPolicy(), numEvicted);
 			}
 		}
 		else
 		{
-			//write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
-			if( DMLScript.STATISTICS ) {
-				CacheStatistics.incrementFSWrites();
+			//write directly to off-heap buffer or local FS (bypass buffer if too large)
+			if( !OffHeapBufferPool.writeBlock(fname, cb) ) {
+				LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+				if( DMLScript.STATISTICS )
+					CacheStatistics.incrementFSWrites();
 			}
 			numEvicted++;
 		}
@@ -124,6 +154,7 @@ public class LazyWriteBuffer
 	public static void deleteBlock(String fname)
 	{
 		boolean requiresDelete = true;
+		CachePrefetcher.invalidate(fname);
 		
 		synchronized( _mQueue )
 		{
@@ -136,8 +167,8 @@ public class LazyWriteBuffer
 			}
 		}
 		
-		//delete from FS if required
-		if( requiresDelete )
+		//delete from off-heap buffer or FS if required
+		if( requiresDelete && !OffHeapBufferPool.deleteBlock(fname) )
 			_fClean.deleteFile(fname);
 	}
 	
@@ -147,19 +178,9 @@ public class LazyWriteBuffer
 		CacheBlock cb = null;
 		ByteBuffer ldata = null;
 		
-		//probe write buffer
-		synchronized( _mQueue )
-		{
+		//probe write buffer (incl modified eviction order)
+		synchronized( _mQueue ) {
 			ldata = _mQueue.get(fname);
-			
-			//modify eviction order (accordingly to access)
-			if(    CacheableData.CACHING_BUFFER_POLICY == RPolicy.LRU
-				&& ldata != null )
-			{
-				//reinsert entry at end of eviction queue
-				_mQueue.remove( fname );
-				_mQueue.addLast( fname, ldata );
-			}
 		}
 		
 		//deserialize or read from FS if required
@@ -169,7 +190,7 @@ public class LazyWriteBuffer
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSBuffHits();
 		}
-		else
+		else if( (cb = OffHeapBufferPool.readBlock(fname)) == null )
 		{
 			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
 			if( DMLScript.STATISTICS )
@@ -180,11 +201,14 @@ public class LazyWriteBuffer
 	}
 
 	public static void init() {
-		_mQueue = new EvictionQueue();
+		_policy = resolvePolicy();
+		_mQueue = EvictionQueue.createEvictionQueue(_policy);
 		_fClean = new FileCleaner();
 		_size = 0;
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
 			PageCache.init();
+		OffHeapBufferPool.init();
+		CachePrefetcher.init();
 	}
 
 	public static void cleanup() {
@@ -194,8 +218,41 @@ public class LazyWriteBuffer
 			_fClean.close();
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
 			PageCache.clear();
+		OffHeapBufferPool.cleanup();
+		CachePrefetcher.cleanup();
 	}
 
+	/**
+	 * Obtains the replacement policy of the write buffer, as 
+	 * resolved from the configuration on init.
+	 * 
+	 * @return replacement policy
+	 */
+	public static RPolicy getPolicy() {
+		return _policy;
+	}
+	
+	/**
+	 * Resolves the configured replacement policy of the write buffer,
+	 * with fallback to the default policy for missing or invalid values.
+	 * 
+	 * @return replacement policy
+	 */
+	private static RPolicy resolvePolicy() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String policy = (conf != null) ? conf.getTextValue(DMLConfig.CACHING_BUFFER_POLICY) : null;
+		if( policy == null || policy.trim().isEmpty() )
+			return CacheableData.CACHING_BUFFER_POLICY;
+		try {
+			return RPolicy.valueOf(policy.trim().toUpperCase());
+		}
+		catch(IllegalArgumentException ex) {
+			LOG.warn("Invalid buffer pool policy '"+policy+"' ("+DMLConfig.CACHING_BUFFER_POLICY
+				+"), falling back to "+CacheableData.CACHING_BUFFER_POLICY+".");
+			return CacheableData.CACHING_BUFFER_POLICY;
+		}
+	}
+	
 	public static long getWriteBufferSize() {
 		long maxMem = InfrastructureAnalyzer.getLocalMaxMemory();
 		return (long)(CacheableData.CACHING_BUFFER_SIZE * maxMem);
@@ -214,12 +271,13 @@ public class LazyWriteBuffer
 		//print buffer meta data
 		System.out.println("\tWB: Buffer Meta Data: " +
 				     "limit="+_limit+", " +
+				     "policy="+_mQueue.getPolicy()+", " +
 				     "size[bytes]="+_size+", " +
 				     "size[elements]="+_mQueue.size()+"/"+_mQueue.size());
 		
 		//print current buffer entries
 		int count = _mQueue.size();
-		for( Entry<String, ByteBuffer> entry : _mQueue.entrySet() )
+		for( Entry<String, ByteBuffer> entry : _mQueue.getEntries() )
 		{
 			String fname = entry.getKey();
 			ByteBuffer bbuff = entry.getValue();
@@ -241,8 +299,8 @@ public class LazyWriteBuffer
 		//evict all matrices and frames
 		while( !_mQueue.isEmpty() )
 		{
-			//remove first entry from eviction queue
-			Entry<String, ByteBuffer> entry = _mQueue.removeFirst();
+			//remove next victim from eviction queue
+			Entry<String, ByteBuffer> entry = _mQueue.removeVictim();
 			ByteBuffer tmp = entry.getValue();
 			
 			if( tmp != null ) {
@@ -256,33 +314,6 @@ public class LazyWriteBuffer
 		}
 	}
 	
-	/**
-	 * Extended LinkedHashMap with convenience methods for adding and removing
-	 * last/first entries.
-	 * 
-	 */
-	private static class EvictionQueue extends LinkedHashMap<String, ByteBuffer>
-	{
-		private static final long serialVersionUID = -5208333402581364859L;
-		
-		public void addLast( String fname, ByteBuffer bbuff ) {
-			//put entry into eviction queue w/ 'addLast' semantics
-			put(fname, bbuff);
-		}
-		
-		public Entry<String, ByteBuffer> removeFirst()
-		{
-			//move iterator to first entry
-			Iterator<Entry<String, ByteBuffer>> iter = entrySet().iterator();
-			Entry<String, ByteBuffer> entry = iter.next();
-			
-			//remove current iterator entry
-			iter.remove();
-			
-			return entry;
-		}
-	}
-	
 	/**
 	 * File delete service for abstraction of synchronous and asynchronous
 	 * file cleanup on rmvar/cpvar. The threadpool for asynchronous cleanup
@@ -417,9 +417,23 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 			|| getUpdateType() == UpdateType.INPLACE_PINNED;
 	}
 	
+	/**
+	 * Issues an asynchronous restore of this matrix if it has been evicted
+	 * and is not available via the cache soft reference. 
+	 */
+	public synchronized void prefetch() {
+		if( !CachePrefetcher.isEnabled() || !isCached(false) 
+			|| _data != null || (_cache != null && _cache.get() != null) )
+			return;
+		CachePrefetcher.prefetch(getCacheFilePathAndName(), true,
+			(long)OptimizerUtils.estimateSizeExactSparsity(getMatrixCharacteristics()));
+	}
+	
 	@Override
 	protected MatrixBlock readBlobFromCache(String fname) throws IOException {
-		return (MatrixBlock)LazyWriteBuffer.readBlock(fname, true);
+		//probe prefetched blocks, otherwise synchronous read
+		MatrixBlock mb = (MatrixBlock)CachePrefetcher.getPrefetched(fname);
+		return (mb != null) ? mb : (MatrixBlock)LazyWriteBuffer.readBlock(fname, true);
 	}
 	
 
@@ -543,9 +557,10 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 			OutputInfo oinfo = (ofmt != null ? OutputInfo.stringToOutputInfo (ofmt) : 
 					InputInfo.getMatchingOutputInfo (iimd.getInputInfo ()));
 			
-			// when outputFormat is binaryblock, make sure that matrixCharacteristics has correct blocking dimensions
+			// when outputFormat is (compressed) binaryblock, make sure that matrixCharacteristics has correct blocking dimensions
 			// note: this is only required if singlenode (due to binarycell default) 
-			if ( oinfo == OutputInfo.BinaryBlockOutputInfo && DMLScript.rtplatform == RUNTIME_PLATFORM.SINGLE_NODE &&
+			if ( (oinfo == OutputInfo.BinaryBlockOutputInfo || oinfo == OutputInfo.CompressedBinaryBlockOutputInfo)
+				&& DMLScript.rtplatform == RUNTIME_PLATFORM.SINGLE_NODE &&
 				(mc.getRowsPerBlock() != ConfigurationManager.getBlocksize() || mc.getColsPerBlock() != ConfigurationManager.getBlocksize()) ) 
 			{
 				DataConverter.writeMatrixToHDFS(_data, fname, oinfo, new MatrixCharacteristics(mc.getRows(), mc.getCols(), ConfigurationManager.getBlocksize(), ConfigurationManager.getBlocksize(), mc.getNonZeros()), rep, fprop);
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.controlprogram.caching;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+
+/**
+ * Off-heap buffer pool for cache blocks that are evicted from the in-heap
+ * write buffer (see {@link LazyWriteBuffer}). Blocks are serialized into 
+ * direct byte buffers, which are not subject to garbage collection, and only
+ * spilled to local disk if the off-heap buffer exceeds its own size limit 
+ * (configured via sysml.caching.offheap.size in MB, 0 disables the buffer). 
+ * Reads deserialize directly from the off-heap memory without an intermediate
+ * byte array. The serialized format is identical to local cache files, which 
+ * allows spilling the off-heap buffers to disk without additional copies.
+ * 
+ * NOTE: lock order is write buffer queue, off-heap queue, and entry.
+ */
+public class OffHeapBufferPool 
+{
+	private static final Log LOG = LogFactory.getLog(OffHeapBufferPool.class.getName());
+	
+	//global size limit in bytes (0 if disabled)
+	private static long _limit = 0;
+	
+	//current size in bytes
+	private static long _size = 0;
+	
+	//eviction queue of <filename,buffer> pairs (linked hash map 
+	//for queue semantics and constant time get/insert/delete)
+	private static OffHeapQueue _mQueue = null;
+	
+	//handle for eagerly releasing direct buffers (null if unsupported)
+	private static final MethodHandle _cleaner = createCleaner();
+	
+	public static void init() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		long sizeMB = (conf != null) ? conf.getIntValue(DMLConfig.CACHING_OFFHEAP_SIZE) : 0;
+		_limit = Math.max(sizeMB, 0) * 1024 * 1024;
+		if( _limit > 0 && _cleaner == null ) {
+			//without explicit release, the buffer limit would not bound the
+			//allocated native memory, which is only freed on garbage collection
+			LOG.warn("Off-heap buffer pool disabled: direct buffers cannot be released explicitly.");
+			_limit = 0;
+		}
+		_mQueue = new OffHeapQueue();
+		_size = 0;
+	}
+	
+	public static void cleanup() {
+		if( _mQueue == null )
+			return;
+		synchronized( _mQueue ) {
+			for( OffHeapEntry entry : _mQueue.values() )
+				entry.free();
+			_mQueue.clear();
+			_size = 0;
+		}
+	}
+	
+	public static boolean isEnabled() {
+		return _limit > 0 && _mQueue != null;
+	}
+	
+	public static long getLimit() {
+		return _limit;
+	}
+	
+	public static long getSize() {
+		if( _mQueue == null )
+			return 0;
+		synchronized( _mQueue ) {
+			return _size;
+		}
+	}
+	
+	/**
+	 * Determines if a serialized block of the given size can be put into the
+	 * off-heap buffer, which is restricted by the buffer limit and the maximum
+	 * capacity of a single direct byte buffer.
+	 * 
+	 * @param size serialized size in bytes
+	 * @return true if valid capacity
+	 */
+	public static boolean isValidCapacity( long size ) {
+		return isEnabled() && size <= _limit && size <= Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Serializes the given cache block into a new off-heap buffer.
+	 * 
+	 * @param fname local cache file name, used as key and for spilling
+	 * @param cb cache block
+	 * @return true if the block was written to the off-heap buffer, false 
+	 *   if the caller needs to write it to local disk
+	 * @throws IOException if IOException occurs
+	 */
+	public static boolean writeBlock( String fname, CacheBlock cb )
+		throws IOException
+	{
+		long lSize = cb.getExactSerializedSize();
+		if( !isValidCapacity(lSize) )
+			return false;
+		
+		//allocate and serialize into off-heap memory (outside critical path)
+		java.nio.ByteBuffer buff = allocate((int)lSize);
+		if( buff == null )
+			return false;
+		try {
+			cb.write(new CacheOffHeapDataOutput(buff));
+		}
+		catch(Exception ex) {
+			freeDirectBuffer(buff);
+			throw new IOException("Failed to serialize cache block.", ex);
+		}
+		buff.rewind();
+		
+		putEntry(fname, new OffHeapEntry(buff, cb instanceof MatrixBlock));
+		return true;
+	}
+	
+	/**
+	 * Copies the given already serialized cache block into a new off-heap buffer.
+	 * 
+	 * @param fname local cache file name, used as key and for spilling
+	 * @param data serialized cache block
+	 * @param matrix true if matrix block, false if frame block
+	 * @return true if the block was written to the off-heap buffer, false 
+	 *   if the caller needs to write it to local disk
+	 * @throws IOException if IOException occurs
+	 */
+	public static boolean writeBytes( String fname, byte[] data, boolean matrix )
+		throws IOException
+	{
+		if( !isValidCapacity(data.length) )
+			return false;
+		
+		java.nio.ByteBuffer buff = allocate(data.length);
+		if( buff == null )
+			return false;
+		buff.put(data);
+		buff.rewind();
+		
+		putEntry(fname, new OffHeapEntry(buff, matrix));
+		return true;
+	}
+	
+	/**
+	 * Reads the cache block of the given file name from the off-heap buffer.
+	 * 
+	 * @param fname local cache file name
+	 * @return cache block, or null if not contained in the off-heap buffer
+	 * @throws IOException if IOException occurs
+	 */
+	public static CacheBlock readBlock( String fname )
+		throws IOException
+	{
+		if( !isEnabled() )
+			return null;
+		
+		OffHeapEntry entry = null;
+		synchronized( _mQueue ) {
+			entry = _mQueue.get(fname);
+			
+			//modify eviction order (accordingly to access)
+			if( CacheableData.CACHING_OFFHEAP_POLICY == RPolicy.LRU 
+				&& entry != null ) {
+				_mQueue.remove(fname);
+				_mQueue.put(fname, entry);
+			}
+		}
+		
+		//deserialize outside global lock, null if concurrently evicted to disk
+		CacheBlock cb = (entry != null) ? entry.deserializeBlock() : null;
+		if( cb != null && DMLScript.STATISTICS )
+			CacheStatistics.incrementOffHeapHits();
+		return cb;
+	}
+	
+	/**
+	 * Removes and frees the off-heap buffer of the given file name.
+	 * 
+	 * @param fname local cache file name
+	 * @return true if the entry existed in the off-heap buffer
+	 */
+	public static boolean deleteBlock( String fname ) {
+		if( !isEnabled() )
+			return false;
+		
+		OffHeapEntry entry = null;
+		synchronized( _mQueue ) {
+			entry = _mQueue.remove(fname);
+			if( entry != null )
+				_size -= entry.getSize();
+		}
+		if( entry != null )
+			entry.free();
+		return (entry != null);
+	}
+	
+	private static void putEntry( String fname, OffHeapEntry entry ) 
+		throws IOException
+	{
+		synchronized( _mQueue ) {
+			//evict entries to local disk to make room
+			while( _size+entry.getSize() > _limit && !_mQueue.isEmpty() ) {
+				Entry<String, OffHeapEntry> tmp = _mQueue.removeFirst();
+				tmp.getValue().evictBuffer(tmp.getKey());
+				_size -= tmp.getValue().getSize();
+				if( DMLScript.STATISTICS )
+					CacheStatistics.incrementFSWrites();
+			}
+			
+			//replace existing entries for robustness
+			OffHeapEntry old = _mQueue.remove(fname);
+			if( old != null ) {
+				_size -= old.getSize();
+				old.free();
+			}
+			
+			_mQueue.put(fname, entry);
+			_size += entry.getSize();
+		}
+		
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementOffHeapWrites();
+	}
+	
+	private static java.nio.ByteBuffer allocate( int size ) {
+		try {
+			return java.nio.ByteBuffer.allocateDirect(size);
+		}
+		catch(OutOfMemoryError ex) {
+			//direct memory exhausted (-XX:MaxDirectMemorySize), fallback to disk
+			LOG.warn("Failed to allocate off-heap buffer of size "+size+": "+ex.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * Eagerly releases the native memory of a direct byte buffer, which would 
+	 * otherwise be released only when the buffer object is garbage collected.
+	 * 
+	 * @param buff direct byte buffer
+	 */
+	private static void freeDirectBuffer( java.nio.ByteBuffer buff ) {
+		if( buff == null || !buff.isDirect() || _cleaner == null )
+			return;
+		try {
+			_cleaner.invoke(buff);
+		}
+		catch(Throwable ex) {
+			//should not happen as the cleaner is resolved and checked upfront
+			LOG.warn("Failed to release off-heap buffer: "+ex.getMessage());
+		}
+	}
+	
+	/**
+	 * Resolves a handle for eagerly releasing direct byte buffers. On JDK 9+, 
+	 * this uses sun.misc.Unsafe.invokeCleaner, which does not require opening 
+	 * java.nio, while older JDKs call the buffer's cleaner directly. 
+	 * 
+	 * @return method handle of type (ByteBuffer)void, or null if unsupported
+	 */
+	private static MethodHandle createCleaner() {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			//JDK 9+: sun.misc.Unsafe.invokeCleaner(ByteBuffer)
+			Class<?> cunsafe = Class.forName("sun.misc.Unsafe");
+			Method minvoke = cunsafe.getMethod("invokeCleaner", java.nio.ByteBuffer.class);
+			Field funsafe = cunsafe.getDeclaredField("theUnsafe");
+			funsafe.setAccessible(true);
+			return lookup.unreflect(minvoke).bindTo(funsafe.get(null));
+		}
+		catch(Throwable ex) {
+			//fall through to JDK 8 cleaner
+		}
+		try {
+			//JDK 8: ((DirectBuffer)buff).cleaner().clean()
+			Class<?> cbuff = Class.forName("sun.nio.ch.DirectBuffer");
+			Method mcleaner = cbuff.getMethod("cleaner");
+			Method mclean = mcleaner.getReturnType().getMethod("clean");
+			MethodHandle hclean = lookup.unreflect(mclean);
+			MethodHandle hcleaner = lookup.unreflect(mcleaner);
+			return MethodHandles.filterReturnValue(hcleaner, hclean)
+				.asType(MethodType.methodType(void.class, java.nio.ByteBuffer.class));
+		}
+		catch(Throwable ex) {
+			LOG.warn("Failed to obtain cleaner for direct buffers: "+ex.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * Indicates if the native memory of evicted or deleted buffers is 
+	 * released eagerly, which is a precondition for the buffer pool.
+	 * 
+	 * @return true if direct buffers can be released explicitly
+	 */
+	public static boolean isExplicitFreeSupported() {
+		return _cleaner != null;
+	}
+	
+	/**
+	 * Off-heap buffer entry, synchronized to prevent concurrent reads 
+	 * of buffers that are evicted and freed.
+	 */
+	private static class OffHeapEntry
+	{
+		private java.nio.ByteBuffer _buff;
+		private final boolean _matrix;
+		private final long _size;
+		
+		public OffHeapEntry(java.nio.ByteBuffer buff, boolean matrix) {
+			_buff = buff;
+			_matrix = matrix;
+			_size = buff.capacity();
+		}
+		
+		public long getSize() {
+			return _size;
+		}
+		
+		public synchronized CacheBlock deserializeBlock() 
+			throws IOException
+		{
+			if( _buff == null ) //evicted or deleted
+				return null;
+			CacheBlock ret = _matrix ? new MatrixBlock() : new FrameBlock();
+			ret.readFields(new CacheOffHeapDataInput(_buff.duplicate()));
+			return ret;
+		}
+		
+		public synchronized void evictBuffer(String fname) 
+			throws IOException
+		{
+			if( _buff == null )
+				return;
+			LocalFileUtils.writeByteBufferToLocal(fname, _buff.duplicate());
+			free();
+		}
+		
+		public synchronized void free() {
+			freeDirectBuffer(_buff);
+			_buff = null;
+		}
+	}
+	
+	private static class OffHeapQueue extends LinkedHashMap<String, OffHeapEntry>
+	{
+		private static final long serialVersionUID = 2717846429713521637L;
+		
+		public Entry<String, OffHeapEntry> removeFirst() {
+			Iterator<Entry<String, OffHeapEntry>> iter = entrySet().iterator();
+			Entry<String, OffHeapEntry> entry = iter.next();
+			iter.remove();
+			return entry;
+		}
+	}
+}
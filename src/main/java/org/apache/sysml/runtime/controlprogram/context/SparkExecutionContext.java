@@ -20,9 +20,17 @@
 package org.apache.sysml.runtime.controlprogram.context;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +42,7 @@ import org.apache.spark.SparkConf;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.spark.broadcast.Broadcast;
+import org.apache.spark.serializer.KryoSerializer;
 import org.apache.spark.storage.RDDInfo;
 import org.apache.spark.storage.StorageLevel;
 import org.apache.spark.util.LongAccumulator;
@@ -42,6 +51,7 @@ import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
 import org.apache.sysml.api.mlcontext.MLContext;
 import org.apache.sysml.api.mlcontext.MLContextUtil;
 import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
 import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.lops.Checkpoint;
 import org.apache.sysml.parser.Expression.ValueType;
@@ -57,15 +67,19 @@ import org.apache.sysml.runtime.instructions.spark.data.LineageObject;
 import org.apache.sysml.runtime.instructions.spark.data.PartitionedBlock;
 import org.apache.sysml.runtime.instructions.spark.data.PartitionedBroadcast;
 import org.apache.sysml.runtime.instructions.spark.data.RDDObject;
+import org.apache.sysml.runtime.instructions.spark.CompressionSPInstruction.CompressionFunction;
 import org.apache.sysml.runtime.instructions.spark.functions.ComputeBinaryBlockNnzFunction;
 import org.apache.sysml.runtime.instructions.spark.functions.CopyBinaryCellFunction;
 import org.apache.sysml.runtime.instructions.spark.functions.CopyFrameBlockPairFunction;
 import org.apache.sysml.runtime.instructions.spark.functions.CopyTextInputFunction;
 import org.apache.sysml.runtime.instructions.spark.functions.CreateSparseBlockFunction;
+import org.apache.sysml.runtime.instructions.spark.functions.SplitCompressedBlockFunction;
 import org.apache.sysml.runtime.instructions.spark.utils.FrameRDDConverterUtils.LongFrameToLongWritableFrameFunction;
 import org.apache.sysml.runtime.instructions.spark.utils.RDDAggregateUtils;
+import org.apache.sysml.runtime.instructions.spark.utils.SparkKryoRegistrator;
 import org.apache.sysml.runtime.instructions.spark.utils.SparkUtils;
 import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MatrixFormatMetaData;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
@@ -80,6 +94,12 @@ import org.apache.sysml.utils.MLContextProxy;
 import org.apache.sysml.utils.Statistics;
 
 import scala.Tuple2;
+import scala.collection.Iterator;
+import scala.reflect.ClassTag;
+import scala.reflect.ClassTag$;
+import scala.runtime.AbstractFunction1;
+import scala.runtime.AbstractFunction2;
+import scala.runtime.BoxedUnit;
 
 
 public class SparkExecutionContext extends ExecutionContext
@@ -262,6 +282,15 @@ public class SparkExecutionContext extends ExecutionContext
 			conf.set("spark.locality.wait", "5s");
 		}
 
+		//use kryo w/ dedicated block serializers (appended to existing registrators)
+		if( ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.SPARK_KRYO) ) {
+			String regs = conf.get("spark.kryo.registrator", "");
+			if( !regs.contains(SparkKryoRegistrator.class.getName()) )
+				regs = (regs.isEmpty() ? "" : regs + ",") + SparkKryoRegistrator.class.getName();
+			conf.set("spark.serializer", KryoSerializer.class.getName());
+			conf.set("spark.kryo.registrator", regs);
+		}
+
 		return conf;
 	}
 	
@@ -357,8 +386,12 @@ public class SparkExecutionContext extends ExecutionContext
 					OptimizerUtils.estimatePartitionedSizeExactSparsity(mc))) {
 				if( mo.isDirty() || !mo.isHDFSFileExists() ) //write if necessary
 					mo.exportData();
-				rdd = sc.hadoopFile( mo.getFileName(), inputInfo.inputFormatClass, inputInfo.inputKeyClass, inputInfo.inputValueClass);
-				rdd = SparkUtils.copyBinaryBlockMatrix((JavaPairRDD<MatrixIndexes, MatrixBlock>)rdd); //cp is workaround for read bug
+				if( isCompressedBinaryBlockFile(mo, inputInfo) )
+					rdd = readCompressedBinaryBlockMatrix(sc, mo);
+				else {
+					rdd = sc.hadoopFile( mo.getFileName(), inputInfo.inputFormatClass, inputInfo.inputKeyClass, inputInfo.inputValueClass);
+					rdd = SparkUtils.copyBinaryBlockMatrix((JavaPairRDD<MatrixIndexes, MatrixBlock>)rdd); //cp is workaround for read bug
+				}
 				fromFile = true;
 			}
 			else { //default case
@@ -378,7 +411,10 @@ public class SparkExecutionContext extends ExecutionContext
 		{
 			// parallelize hdfs-resident file
 			// For binary block, these are: SequenceFileInputFormat.class, MatrixIndexes.class, MatrixBlock.class
-			if(inputInfo == InputInfo.BinaryBlockInputInfo) {
+			if( isCompressedBinaryBlockFile(mo, inputInfo) ) {
+				rdd = readCompressedBinaryBlockMatrix(sc, mo);
+			}
+			else if(inputInfo == InputInfo.BinaryBlockInputInfo) {
 				rdd = sc.hadoopFile( mo.getFileName(), inputInfo.inputFormatClass, inputInfo.inputKeyClass, inputInfo.inputValueClass);
 				//note: this copy is still required in Spark 1.4 because spark hands out whatever the inputformat
 				//recordreader returns; the javadoc explicitly recommend to copy all key/value pairs
@@ -405,6 +441,31 @@ public class SparkExecutionContext extends ExecutionContext
 		return rdd;
 	}
 
+	private static boolean isCompressedBinaryBlockFile(MatrixObject mo, InputInfo inputInfo) {
+		return inputInfo == InputInfo.BinaryBlockInputInfo
+			&& mo.getMetaData() instanceof MatrixFormatMetaData
+			&& ((MatrixFormatMetaData)mo.getMetaData()).getInputInfo() == InputInfo.CompressedBinaryBlockInputInfo;
+	}
+	
+	/**
+	 * Creates a binary block rdd for an hdfs-resident compressed binary block file. 
+	 * Compressed blocks are kept in compressed form, while row blocks of the 
+	 * entire width (as written from CP) are split into blocks of regular size.
+	 * 
+	 * @param sc java spark context
+	 * @param mo matrix object
+	 * @return JavaPairRDD handle for the compressed matrix
+	 */
+	@SuppressWarnings("unchecked")
+	private static JavaPairRDD<MatrixIndexes,MatrixBlock> readCompressedBinaryBlockMatrix(JavaSparkContext sc, MatrixObject mo) {
+		InputInfo iinfo = InputInfo.CompressedBinaryBlockInputInfo;
+		JavaPairRDD<MatrixIndexes,MatrixBlock> rdd = (JavaPairRDD<MatrixIndexes, MatrixBlock>) sc.hadoopFile(
+			mo.getFileName(), iinfo.inputFormatClass, iinfo.inputKeyClass, iinfo.inputValueClass);
+		rdd = SparkUtils.copyBinaryBlockMatrix(rdd); //cp is workaround for read bug
+		return rdd.flatMapToPair(new SplitCompressedBlockFunction(
+			(int)mo.getNumRowsPerBlock(), (int)mo.getNumColumnsPerBlock()));
+	}
+
 	/**
 	 * FIXME: currently this implementation assumes matrix representations but frame signature
 	 * in order to support the old transform implementation.
@@ -534,8 +595,16 @@ public class SparkExecutionContext extends ExecutionContext
 
 			//create partitioned matrix block and release memory consumed by input
 			MatrixBlock mb = mo.acquireRead();
-			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(mb, brlen, bclen);
+			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(mb, brlen, bclen,
+				InfrastructureAnalyzer.getLocalParallelism());
 			mo.release();
+			
+			//compress partitioned blocks if enabled and beneficial
+			if( ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.COMPRESSED_BROADCAST) ) {
+				int ncmp = pmb.compressBlocks(InfrastructureAnalyzer.getLocalParallelism());
+				if( LOG.isDebugEnabled() )
+					LOG.debug("Compressed "+ncmp+" blocks of broadcast '"+varname+"'.");
+			}
 
 			//determine coarse-grained partitioning
 			int numPerPart = PartitionedBroadcast.computeBlocksPerPartition(mo.getNumRows(), mo.getNumColumns(), brlen, bclen);
@@ -604,7 +673,8 @@ public class SparkExecutionContext extends ExecutionContext
 
 			//create partitioned frame block and release memory consumed by input
 			FrameBlock mb = fo.acquireRead();
-			PartitionedBlock<FrameBlock> pmb = new PartitionedBlock<>(mb, brlen, bclen);
+			PartitionedBlock<FrameBlock> pmb = new PartitionedBlock<>(mb, brlen, bclen,
+				InfrastructureAnalyzer.getLocalParallelism());
 			fo.release();
 
 			//determine coarse-grained partitioning
@@ -674,37 +744,21 @@ public class SparkExecutionContext extends ExecutionContext
 		throws DMLRuntimeException
 	{
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-		LinkedList<Tuple2<MatrixIndexes,MatrixBlock>> list = new LinkedList<>();
+		List<Tuple2<MatrixIndexes,MatrixBlock>> list = null;
 
 		if(    src.getNumRows() <= brlen
 		    && src.getNumColumns() <= bclen )
 		{
-			list.addLast(new Tuple2<>(new MatrixIndexes(1,1), src));
+			list = Arrays.asList(new Tuple2<>(new MatrixIndexes(1,1), src));
 		}
 		else
 		{
-			boolean sparse = src.isInSparseFormat();
-
-			//create and write subblocks of matrix
-			for(int blockRow = 0; blockRow < (int)Math.ceil(src.getNumRows()/(double)brlen); blockRow++)
-				for(int blockCol = 0; blockCol < (int)Math.ceil(src.getNumColumns()/(double)bclen); blockCol++)
-				{
-					int maxRow = (blockRow*brlen + brlen < src.getNumRows()) ? brlen : src.getNumRows() - blockRow*brlen;
-					int maxCol = (blockCol*bclen + bclen < src.getNumColumns()) ? bclen : src.getNumColumns() - blockCol*bclen;
-
-					MatrixBlock block = new MatrixBlock(maxRow, maxCol, sparse);
-
-					int row_offset = blockRow*brlen;
-					int col_offset = blockCol*bclen;
-
-					//copy submatrix to block
-					src.sliceOperations( row_offset, row_offset+maxRow-1,
-							             col_offset, col_offset+maxCol-1, block );
-
-					//append block to sequence file
-					MatrixIndexes indexes = new MatrixIndexes(blockRow+1, blockCol+1);
-					list.addLast(new Tuple2<>(indexes, block));
-				}
+			//create subblocks of matrix (multi-threaded over disjoint ranges of block rows)
+			int nrblks = (int)Math.ceil(src.getNumRows()/(double)brlen);
+			list = new ArrayList<>();
+			for( List<Tuple2<MatrixIndexes,MatrixBlock>> part : executeRangeTasks(nrblks,
+				(rbl, rbu) -> sliceMatrixBlocks(src, rbl, rbu, brlen, bclen)) )
+				list.addAll(part);
 		}
 
 		JavaPairRDD<MatrixIndexes,MatrixBlock> result = sc.parallelizePairs(list);
@@ -720,25 +774,14 @@ public class SparkExecutionContext extends ExecutionContext
 		throws DMLRuntimeException
 	{
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-		LinkedList<Tuple2<Long,FrameBlock>> list = new LinkedList<>();
+		List<Tuple2<Long,FrameBlock>> list = new ArrayList<>();
 
-		//create and write subblocks of matrix
+		//create subblocks of frame (multi-threaded over disjoint ranges of block rows)
 		int blksize = ConfigurationManager.getBlocksize();
-		for(int blockRow = 0; blockRow < (int)Math.ceil(src.getNumRows()/(double)blksize); blockRow++)
-		{
-			int maxRow = (blockRow*blksize + blksize < src.getNumRows()) ? blksize : src.getNumRows() - blockRow*blksize;
-			int roffset = blockRow*blksize;
-
-			FrameBlock block = new FrameBlock(src.getSchema());
-
-			//copy sub frame to block, incl meta data on first
-			src.sliceOperations( roffset, roffset+maxRow-1, 0, src.getNumColumns()-1, block );
-			if( roffset == 0 )
-				block.setColumnMetadata(src.getColumnMetadata());
-
-			//append block to sequence file
-			list.addLast(new Tuple2<>((long)roffset+1, block));
-		}
+		int nrblks = (int)Math.ceil(src.getNumRows()/(double)blksize);
+		for( List<Tuple2<Long,FrameBlock>> part : executeRangeTasks(nrblks,
+			(rbl, rbu) -> sliceFrameBlocks(src, rbl, rbu, blksize)) )
+			list.addAll(part);
 
 		JavaPairRDD<Long,FrameBlock> result = sc.parallelizePairs(list);
 		if (DMLScript.STATISTICS) {
@@ -812,46 +855,36 @@ public class SparkExecutionContext extends ExecutionContext
 			long lnnz = (nnz >= 0) ? nnz : (long)rlen * clen;
 			boolean sparse = MatrixBlock.evalSparseFormatInMemory(rlen, clen, lnnz);
 
-			//create output matrix block (w/ lazy allocation)
-			out = new MatrixBlock(rlen, clen, sparse, lnnz);
-
-			List<Tuple2<MatrixIndexes,MatrixBlock>> list = rdd.collect();
-
-			//copy blocks one-at-a-time into output matrix block
-			long aNnz = 0;
-			for( Tuple2<MatrixIndexes,MatrixBlock> keyval : list )
-			{
-				//unpack index-block pair
-				MatrixIndexes ix = keyval._1();
-				MatrixBlock block = keyval._2();
-
-				//compute row/column block offsets
-				int row_offset = (int)(ix.getRowIndex()-1)*brlen;
-				int col_offset = (int)(ix.getColumnIndex()-1)*bclen;
-				int rows = block.getNumRows();
-				int cols = block.getNumColumns();
-
-				//append block
-				if( sparse ) { //SPARSE OUTPUT
-					//append block to sparse target in order to avoid shifting, where
-					//we use a shallow row copy in case of MCSR and single column blocks
-					//note: this append requires, for multiple column blocks, a final sort
-					out.appendToSparse(block, row_offset, col_offset, clen>bclen);
-				}
-				else { //DENSE OUTPUT
-					out.copy( row_offset, row_offset+rows-1,
-							  col_offset, col_offset+cols-1, block, false );
+			//create output matrix block (w/ eager allocation for concurrent copies)
+			MatrixBlock ret = new MatrixBlock(rlen, clen, sparse, lnnz);
+			if( sparse )
+				ret.allocateSparseRowsBlock();
+			else
+				ret.allocateDenseBlockUnsafe(rlen, clen);
+
+			//locks per block row for sparse appends of multiple column blocks
+			Object[] locks = new Object[(int)Math.ceil((double)rlen/brlen)];
+			for( int i=0; i<locks.length; i++ )
+				locks[i] = new Object();
+
+			//streaming collect, where the blocks of each partition are copied 
+			//(multi-threaded) into the output as soon as the partition arrives
+			long aNnz = collectPartitions(rdd, part -> {
+				long lnnz2 = 0;
+				for( Tuple2<MatrixIndexes,MatrixBlock> keyval : part ) {
+					copyBlockToMatrix(ret, keyval._1(), keyval._2(), brlen, bclen, locks);
+					lnnz2 += keyval._2().getNonZeros(); //incremental maintenance nnz
 				}
-
-				//incremental maintenance nnz
-				aNnz += block.getNonZeros();
-			}
+				return lnnz2;
+			});
 
 			//post-processing output matrix
 			if( sparse && clen>bclen )
-				out.sortSparseRows();
-			out.setNonZeros(aNnz);
-			out.examSparsity();
+				executeRangeTasks(rlen, (rl, ru) -> {
+					ret.sortSparseRows(rl, ru); return null; });
+			ret.setNonZeros(aNnz);
+			ret.examSparsity();
+			out = ret;
 		}
 
 		if (DMLScript.STATISTICS) {
@@ -931,16 +964,16 @@ public class SparkExecutionContext extends ExecutionContext
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 
 		PartitionedBlock<MatrixBlock> out = new PartitionedBlock<>(rlen, clen, brlen, bclen);
-		List<Tuple2<MatrixIndexes,MatrixBlock>> list = rdd.collect();
 
-		//copy blocks one-at-a-time into output matrix block
-		for( Tuple2<MatrixIndexes,MatrixBlock> keyval : list )
-		{
-			//unpack index-block pair
-			MatrixIndexes ix = keyval._1();
-			MatrixBlock block = keyval._2();
-			out.setBlock((int)ix.getRowIndex(), (int)ix.getColumnIndex(), block);
-		}
+		//streaming collect, where the blocks of each partition are set 
+		//(multi-threaded) into disjoint entries of the output
+		collectPartitions(rdd, part -> {
+			for( Tuple2<MatrixIndexes,MatrixBlock> keyval : part ) {
+				MatrixIndexes ix = keyval._1();
+				out.setBlock((int)ix.getRowIndex(), (int)ix.getColumnIndex(), keyval._2());
+			}
+			return 0L;
+		});
 
 		if (DMLScript.STATISTICS) {
 			Statistics.accSparkCollectTime(System.nanoTime() - t0);
@@ -970,22 +1003,23 @@ public class SparkExecutionContext extends ExecutionContext
 		FrameBlock out = new FrameBlock(schema);
 		out.ensureAllocatedColumns(rlen);
 
-		List<Tuple2<Long,FrameBlock>> list = rdd.collect();
-
-		//copy blocks one-at-a-time into output matrix block
-		for( Tuple2<Long,FrameBlock> keyval : list )
-		{
-			//unpack index-block pair
-			int ix = (int)(keyval._1() - 1);
-			FrameBlock block = keyval._2();
-
-			//copy into output frame
-			out.copy( ix, ix+block.getNumRows()-1, 0, block.getNumColumns()-1, block );
-			if( ix == 0 ) {
-				out.setColumnNames(block.getColumnNames());
-				out.setColumnMetadata(block.getColumnMetadata());
+		//streaming collect, where the blocks of each partition are copied 
+		//(multi-threaded) into disjoint row ranges of the output frame
+		collectPartitions(rdd, part -> {
+			for( Tuple2<Long,FrameBlock> keyval : part ) {
+				//unpack index-block pair
+				int ix = (int)(keyval._1() - 1);
+				FrameBlock block = keyval._2();
+
+				//copy into output frame
+				out.copy( ix, ix+block.getNumRows()-1, 0, block.getNumColumns()-1, block );
+				if( ix == 0 ) {
+					out.setColumnNames(block.getColumnNames());
+					out.setColumnMetadata(block.getColumnMetadata());
+				}
 			}
-		}
+			return 0L;
+		});
 
 		if (DMLScript.STATISTICS) {
 			Statistics.accSparkCollectTime(System.nanoTime() - t0);
@@ -1004,6 +1038,10 @@ public class SparkExecutionContext extends ExecutionContext
 		LongAccumulator aNnz = getSparkContextStatic().sc().longAccumulator("nnz");
 		lrdd = lrdd.mapValues(new ComputeBinaryBlockNnzFunction(aNnz));
 
+		//compress blocks if necessary (already compressed blocks are passed through)
+		if( oinfo == OutputInfo.CompressedBinaryBlockOutputInfo )
+			lrdd = lrdd.mapValues(new CompressionFunction());
+
 		//save file is an action which also triggers nnz maintenance
 		lrdd.saveAsHadoopFile(path,
 				oinfo.outputKeyClass,
@@ -1223,8 +1261,11 @@ public class SparkExecutionContext extends ExecutionContext
 		}
 
 		//repartition rdd (force creation of shuffled rdd via merge), note: without deep copy albeit
-		//executed on the original data, because there will be no merge, i.e., no key duplicates
-		JavaPairRDD<MatrixIndexes,MatrixBlock> out = RDDAggregateUtils.mergeByKey(in, false);
+		//executed on the original data, because there will be no merge, i.e., no key duplicates;
+		//the preferred number of partitions yields hash partitioners that are consistent with 
+		//cpmm/rmm outputs of equal size, which allows subsequent co-partitioned joins
+		JavaPairRDD<MatrixIndexes,MatrixBlock> out = RDDAggregateUtils.mergeByKey(
+			in, SparkUtils.getNumPreferredPartitions(mcIn, in), false);
 
 		//convert mcsr into memory-efficient csr if potentially sparse
 		if( OptimizerUtils.checkSparseBlockCSRConversion(mcIn) ) {
@@ -1558,6 +1599,216 @@ public class SparkExecutionContext extends ExecutionContext
 		}
 	}
 
+	private static void copyBlockToMatrix(MatrixBlock out, MatrixIndexes ix, MatrixBlock block, int brlen, int bclen, Object[] locks)
+		throws DMLRuntimeException
+	{
+		//compute row/column block offsets
+		int row_offset = (int)(ix.getRowIndex()-1)*brlen;
+		int col_offset = (int)(ix.getColumnIndex()-1)*bclen;
+		int rows = block.getNumRows();
+		int cols = block.getNumColumns();
+
+		//append block
+		if( out.isInSparseFormat() ) { //SPARSE OUTPUT
+			//append block to sparse target in order to avoid shifting, where
+			//we use a shallow row copy in case of MCSR and single column blocks
+			//note: this append requires, for multiple column blocks, a final sort
+			//and a lock per block row because blocks of other partitions share rows
+			if( cols < out.getNumColumns() ) {
+				synchronized( locks[(int)ix.getRowIndex()-1] ) {
+					out.appendToSparse(block, row_offset, col_offset, true);
+				}
+			}
+			else {
+				out.appendToSparse(block, row_offset, col_offset, false);
+			}
+		}
+		else { //DENSE OUTPUT
+			out.copy( row_offset, row_offset+rows-1,
+					  col_offset, col_offset+cols-1, block, false );
+		}
+	}
+
+	private static List<Tuple2<MatrixIndexes,MatrixBlock>> sliceMatrixBlocks(MatrixBlock src, int rbl, int rbu, int brlen, int bclen)
+		throws DMLRuntimeException
+	{
+		ArrayList<Tuple2<MatrixIndexes,MatrixBlock>> list = new ArrayList<>();
+		boolean sparse = src.isInSparseFormat();
+
+		//create and write subblocks of matrix
+		for(int blockRow = rbl; blockRow < rbu; blockRow++)
+			for(int blockCol = 0; blockCol < (int)Math.ceil(src.getNumColumns()/(double)bclen); blockCol++)
+			{
+				int maxRow = (blockRow*brlen + brlen < src.getNumRows()) ? brlen : src.getNumRows() - blockRow*brlen;
+				int maxCol = (blockCol*bclen + bclen < src.getNumColumns()) ? bclen : src.getNumColumns() - blockCol*bclen;
+
+				MatrixBlock block = new MatrixBlock(maxRow, maxCol, sparse);
+
+				int row_offset = blockRow*brlen;
+				int col_offset = blockCol*bclen;
+
+				//copy submatrix to block
+				src.sliceOperations( row_offset, row_offset+maxRow-1,
+						             col_offset, col_offset+maxCol-1, block );
+
+				//append block to sequence file
+				MatrixIndexes indexes = new MatrixIndexes(blockRow+1, blockCol+1);
+				list.add(new Tuple2<>(indexes, block));
+			}
+
+		return list;
+	}
+
+	private static List<Tuple2<Long,FrameBlock>> sliceFrameBlocks(FrameBlock src, int rbl, int rbu, int blksize)
+		throws DMLRuntimeException
+	{
+		ArrayList<Tuple2<Long,FrameBlock>> list = new ArrayList<>();
+
+		//create and write subblocks of frame
+		for(int blockRow = rbl; blockRow < rbu; blockRow++)
+		{
+			int maxRow = (blockRow*blksize + blksize < src.getNumRows()) ? blksize : src.getNumRows() - blockRow*blksize;
+			int roffset = blockRow*blksize;
+
+			FrameBlock block = new FrameBlock(src.getSchema());
+
+			//copy sub frame to block, incl meta data on first
+			src.sliceOperations( roffset, roffset+maxRow-1, 0, src.getNumColumns()-1, block );
+			if( roffset == 0 )
+				block.setColumnMetadata(src.getColumnMetadata());
+
+			//append block to sequence file
+			list.add(new Tuple2<>((long)roffset+1, block));
+		}
+
+		return list;
+	}
+
+	/**
+	 * Executes the given range task over disjoint ranges [rl,ru) of [0,len), 
+	 * multi-threaded if the local parallelism and len allow it. The results
+	 * are returned in order of the ranges.
+	 *
+	 * @param len overall length of the range
+	 * @param task range task
+	 * @param <T> result type
+	 * @return list of results in order of the ranges
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private static <T> List<T> executeRangeTasks(int len, RangeTask<T> task)
+		throws DMLRuntimeException
+	{
+		int k = Math.min(InfrastructureAnalyzer.getLocalParallelism(), len);
+		ArrayList<T> ret = new ArrayList<>();
+		try {
+			if( k <= 1 ) {
+				ret.add(task.call(0, len));
+			}
+			else {
+				ExecutorService pool = Executors.newFixedThreadPool(k);
+				try {
+					ArrayList<Callable<T>> tasks = new ArrayList<>();
+					int blklen = (int)Math.ceil((double)len/k);
+					for( int i=0; i<k & i*blklen<len; i++ ) {
+						int rl = i*blklen, ru = Math.min((i+1)*blklen, len);
+						tasks.add(() -> task.call(rl, ru));
+					}
+					for( Future<T> rt : pool.invokeAll(tasks) )
+						ret.add(rt.get());
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		return ret;
+	}
+
+	/**
+	 * Collects the given RDD in a streaming manner, where the list of records of each 
+	 * partition is passed to the given partition task as soon as the partition arrives 
+	 * at the driver (instead of after a full collect). The partition tasks are executed 
+	 * by a thread pool and hence need to be thread-safe.
+	 *
+	 * @param rdd JavaPairRDD to collect
+	 * @param task partition task
+	 * @param <K> key type
+	 * @param <V> value type
+	 * @return sum of partition task results
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <K,V> long collectPartitions(JavaPairRDD<K,V> rdd, PartitionTask<Tuple2<K,V>> task)
+		throws DMLRuntimeException
+	{
+		int k = InfrastructureAnalyzer.getLocalParallelism();
+		ExecutorService pool = Executors.newFixedThreadPool(k);
+		try {
+			//run job and submit partition tasks on arrival of partition results
+			ConcurrentLinkedQueue<Future<Long>> rt = new ConcurrentLinkedQueue<>();
+			ClassTag<ArrayList<Tuple2<K,V>>> ctag = (ClassTag) ClassTag$.MODULE$.apply(ArrayList.class);
+			rdd.context().runJob(rdd.rdd(), new CollectPartitionFunction<Tuple2<K,V>>(),
+				new SubmitPartitionTaskFunction<>(pool, task, rt), ctag);
+
+			//wait for all partition tasks and aggregate results
+			long ret = 0;
+			for( Future<Long> f : rt )
+				ret += f.get();
+			return ret;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private interface RangeTask<T> {
+		public T call(int rl, int ru) throws Exception;
+	}
+
+	private interface PartitionTask<T> {
+		public long call(List<T> part) throws Exception;
+	}
+
+	private static class CollectPartitionFunction<T> extends AbstractFunction1<Iterator<T>, ArrayList<T>> implements Serializable
+	{
+		private static final long serialVersionUID = -4195012453683291735L;
+
+		@Override
+		public ArrayList<T> apply(Iterator<T> iter) {
+			ArrayList<T> ret = new ArrayList<>();
+			while( iter.hasNext() )
+				ret.add(iter.next());
+			return ret;
+		}
+	}
+
+	private static class SubmitPartitionTaskFunction<T> extends AbstractFunction2<Object, ArrayList<T>, BoxedUnit>
+	{
+		private final ExecutorService _pool;
+		private final PartitionTask<T> _task;
+		private final Queue<Future<Long>> _rt;
+
+		public SubmitPartitionTaskFunction(ExecutorService pool, PartitionTask<T> task, Queue<Future<Long>> rt) {
+			_pool = pool;
+			_task = task;
+			_rt = rt;
+		}
+
+		@Override
+		public BoxedUnit apply(Object partIx, ArrayList<T> part) {
+			//note: called by the scheduler on partition arrival, hence only task submission
+			if( !part.isEmpty() )
+				_rt.add(_pool.submit(() -> _task.call(part)));
+			return BoxedUnit.UNIT;
+		}
+	}
+
 	private static class MemoryManagerParRDDs
 	{
 		private final long _limit;
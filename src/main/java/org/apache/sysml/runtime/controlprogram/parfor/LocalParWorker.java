@@ -30,6 +30,7 @@ import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysml.runtime.controlprogram.parfor.stat.Stat;
 import org.apache.sysml.runtime.controlprogram.parfor.stat.StatisticMonitor;
 import org.apache.sysml.runtime.controlprogram.parfor.stat.Timing;
+import org.apache.sysml.utils.Statistics;
 
 /**
  * Instances of this class can be used to execute tasks in parallel. Within each ParWorker 
@@ -42,6 +43,7 @@ import org.apache.sysml.runtime.controlprogram.parfor.stat.Timing;
 public class LocalParWorker extends ParWorker implements Runnable
 {
 	protected LocalTaskQueue<Task> _taskQueue   = null;
+	protected int _taskQueuePos = 0;
 	
 	protected Collection<String> _fnNames = null;
 	
@@ -68,6 +70,10 @@ public class LocalParWorker extends ParWorker implements Runnable
 		return _fnNames;
 	}
 	
+	public void setTaskQueuePosition(int pos) {
+		_taskQueuePos = pos;
+	}
+	
 	@Override
 	public void run() 
 	{
@@ -104,7 +110,7 @@ public class LocalParWorker extends ParWorker implements Runnable
 			//dequeue the next task (abort on NO_MORE_TASKS or error)
 			try
 			{
-				lTask = _taskQueue.dequeueTask();
+				lTask = _taskQueue.dequeueTask(_taskQueuePos);
 				
 				if( lTask == LocalTaskQueue.NO_MORE_TASKS ) // task queue closed (no more tasks)
 					break; //normal end of parallel worker
@@ -127,7 +133,10 @@ public class LocalParWorker extends ParWorker implements Runnable
 				{
 					///////
 					//core execution (see ParWorker)
+					long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 					executeTask( lTask );
+					if( DMLScript.STATISTICS )
+						Statistics.incrementParForTaskTime(System.nanoTime()-t0);
 					success = true;
 				} 
 				catch (Exception ex) 
@@ -97,6 +97,21 @@ public class LocalTaskQueue<T>
 		return t;
 	}
 	
+	/**
+	 * Read and delete of the next task for the consumer at the given position.
+	 * The central FIFO queue ignores the position, but subclasses may use it 
+	 * to maintain consumer-local tasks (e.g., for work stealing).
+	 * 
+	 * @param pos position of the consumer
+	 * @return task
+	 * @throws InterruptedException if InterruptedException occurs
+	 */
+	public T dequeueTask( int pos ) 
+		throws InterruptedException
+	{
+		return dequeueTask();
+	}
+	
 	/**
 	 * Synchronized (logical) insert of a NO_MORE_TASKS symbol at the end of the FIFO queue in order to
 	 * mark that no more tasks will be inserted into the queue.
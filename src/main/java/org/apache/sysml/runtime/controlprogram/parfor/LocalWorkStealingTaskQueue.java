@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.controlprogram.parfor;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class provides a work-stealing alternative to the central FIFO task queue
+ * for local multi-threaded parfor execution. Instead of a single monitor that all
+ * workers contend on, each worker owns a lock-free deque. The producer distributes
+ * tasks round-robin over these deques, workers take tasks from the head of their own 
+ * deque, and idle workers steal a batch of (up to half the) tasks from the tail of 
+ * other workers' deques. Only if all deques are empty and the input is not yet closed, 
+ * a worker blocks on the monitor until new tasks arrive.
+ * 
+ * Note: Unlike the central task queue, this queue does not bound the number of
+ * pending tasks, because the producer never waits for consumers.
+ * 
+ */
+public class LocalWorkStealingTaskQueue<T> extends LocalTaskQueue<T>
+{
+	private final ConcurrentLinkedDeque<T>[] _deques;
+	private final AtomicInteger _pos = new AtomicInteger(0);
+	private final AtomicInteger _numWaiting = new AtomicInteger(0);
+	private final LongAdder _numSteals = new LongAdder();
+	private volatile boolean _closed = false;
+	
+	@SuppressWarnings("unchecked")
+	public LocalWorkStealingTaskQueue(int numWorkers)
+	{
+		_deques = new ConcurrentLinkedDeque[Math.max(numWorkers, 1)];
+		for( int i=0; i<_deques.length; i++ )
+			_deques[i] = new ConcurrentLinkedDeque<>();
+	}
+	
+	/**
+	 * Lock-free insert of a new task to the end of the next worker deque (round-robin).
+	 * 
+	 * @param t task
+	 */
+	@Override
+	public void enqueueTask( T t ) 
+	{
+		int pos = Math.abs(_pos.getAndIncrement() % _deques.length);
+		_deques[pos].addLast( t );
+		
+		//notify waiting readers (only if there are any)
+		if( _numWaiting.get() > 0 )
+			synchronized( this ) { 
+				notifyAll(); 
+			}
+	}
+	
+	/**
+	 * Read and delete of a task from any worker deque, used by consumers 
+	 * that are not associated with a specific worker deque.
+	 * 
+	 * @return task
+	 * @throws InterruptedException if InterruptedException occurs
+	 */
+	@Override
+	public T dequeueTask() 
+		throws InterruptedException
+	{
+		return dequeueTask(0);
+	}
+	
+	/**
+	 * Read and delete of a task from the head of the given worker's deque, 
+	 * with fallback to stealing from other deques and blocking wait.
+	 * 
+	 * @param pos position of the consuming worker
+	 * @return task
+	 * @throws InterruptedException if InterruptedException occurs
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T dequeueTask( int pos ) 
+		throws InterruptedException
+	{
+		int lpos = pos % _deques.length;
+		while( true ) {
+			//fast path: own deque and stealing without locking
+			T t = _deques[lpos].pollFirst();
+			if( t == null )
+				t = stealTasks(lpos);
+			if( t != null )
+				return t;
+			
+			//slow path: wait for writers or close (registration before the 
+			//final check avoids lost notifications from concurrent writers)
+			synchronized( this ) {
+				_numWaiting.incrementAndGet();
+				try {
+					//read close flag first, as all tasks are enqueued before close
+					boolean closed = _closed;
+					if( isEmpty() ) {
+						if( closed )
+							return (T)NO_MORE_TASKS;
+						wait();
+					}
+				}
+				finally {
+					_numWaiting.decrementAndGet();
+				}
+			}
+		}
+	}
+	
+	@Override
+	public synchronized void closeInput()
+	{
+		_closed = true;
+		notifyAll(); //notify all waiting readers
+	}
+	
+	/**
+	 * Obtain the number of successful steals, where a single steal
+	 * transfers a batch of tasks from another worker's deque.
+	 * 
+	 * @return number of steals
+	 */
+	public long getNumSteals() {
+		return _numSteals.longValue();
+	}
+	
+	private T stealTasks(int pos) 
+	{
+		//scan other deques in round-robin order, starting at the neighbor
+		for( int i=1; i<_deques.length; i++ ) {
+			ConcurrentLinkedDeque<T> victim = _deques[(pos + i) % _deques.length];
+			T t = victim.pollLast();
+			if( t == null )
+				continue;
+			
+			//batched steal of up to half the remaining tasks into own deque
+			//(prepended in reverse steal order to preserve the task order)
+			int batch = victim.size() / 2;
+			ArrayList<T> tmp = new ArrayList<>(batch);
+			for( int j=0; j<batch; j++ ) {
+				T t2 = victim.pollLast();
+				if( t2 == null )
+					break;
+				tmp.add(t2);
+			}
+			for( T t2 : tmp )
+				_deques[pos].addFirst(t2);
+			
+			_numSteals.increment();
+			return t;
+		}
+		return null;
+	}
+	
+	private boolean isEmpty() {
+		for( ConcurrentLinkedDeque<T> deque : _deques )
+			if( !deque.isEmpty() )
+				return false;
+		return true;
+	}
+	
+	@Override
+	public synchronized String toString() 
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("WORK-STEALING TASK QUEUE (workers=");
+		sb.append(_deques.length);
+		sb.append(",close=");
+		sb.append(_closed);
+		sb.append(",steals=");
+		sb.append(getNumSteals());
+		sb.append(")\n");
+		
+		for( int i=0; i<_deques.length; i++ ) {
+			int count = 1;
+			for( T t : _deques[i] ) {
+				sb.append("  WORKER #");
+				sb.append(i);
+				sb.append(" TASK #");
+				sb.append(count++);
+				sb.append(": ");
+				sb.append(t.toString());
+				sb.append("\n");
+			}
+		}
+		
+		return sb.toString();
+	}
+}
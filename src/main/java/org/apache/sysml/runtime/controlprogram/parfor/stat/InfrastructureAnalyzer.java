@@ -260,6 +260,10 @@ public class InfrastructureAnalyzer
 		return _blocksize;
 	}
 
+	public static void setHDFSBlockSize( long blocksize ) {
+		_blocksize = blocksize;
+	}
+
 	public static boolean isYarnEnabled() {
 		if ((_remoteJVMMaxMemMap == -1) && (!LiteCheck.isLite()))
 			analyzeHadoopConfiguration();
@@ -39,6 +39,7 @@ public enum Stat
 	PARFOR_EXECMODE,	
 	PARFOR_NUMTASKS,
 	PARFOR_NUMITERS,
+	PARFOR_NUMSTEALS,
 	PARFOR_JITCOMPILE,
 	PARFOR_JVMGC_COUNT,
 	PARFOR_JVMGC_TIME,
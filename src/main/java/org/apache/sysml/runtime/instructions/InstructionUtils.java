@@ -478,51 +478,57 @@ public class InstructionUtils
 
 	public static BinaryOperator parseBinaryOperator(String opcode) 
 		throws DMLRuntimeException
+	{
+		return parseBinaryOperator(opcode, 1);
+	}
+	
+	public static BinaryOperator parseBinaryOperator(String opcode, int k) 
+		throws DMLRuntimeException
 	{
 		if(opcode.equalsIgnoreCase("=="))
-			return new BinaryOperator(Equals.getEqualsFnObject());
+			return new BinaryOperator(Equals.getEqualsFnObject(), k);
 		else if(opcode.equalsIgnoreCase("!="))
-			return new BinaryOperator(NotEquals.getNotEqualsFnObject());
+			return new BinaryOperator(NotEquals.getNotEqualsFnObject(), k);
 		else if(opcode.equalsIgnoreCase("<"))
-			return new BinaryOperator(LessThan.getLessThanFnObject());
+			return new BinaryOperator(LessThan.getLessThanFnObject(), k);
 		else if(opcode.equalsIgnoreCase(">"))
-			return new BinaryOperator(GreaterThan.getGreaterThanFnObject());
+			return new BinaryOperator(GreaterThan.getGreaterThanFnObject(), k);
 		else if(opcode.equalsIgnoreCase("<="))
-			return new BinaryOperator(LessThanEquals.getLessThanEqualsFnObject());
+			return new BinaryOperator(LessThanEquals.getLessThanEqualsFnObject(), k);
 		else if(opcode.equalsIgnoreCase(">="))
-			return new BinaryOperator(GreaterThanEquals.getGreaterThanEqualsFnObject());
+			return new BinaryOperator(GreaterThanEquals.getGreaterThanEqualsFnObject(), k);
 		else if(opcode.equalsIgnoreCase("&&"))
-			return new BinaryOperator(And.getAndFnObject());
+			return new BinaryOperator(And.getAndFnObject(), k);
 		else if(opcode.equalsIgnoreCase("||"))
-			return new BinaryOperator(Or.getOrFnObject());
+			return new BinaryOperator(Or.getOrFnObject(), k);
 		else if(opcode.equalsIgnoreCase("+"))
-			return new BinaryOperator(Plus.getPlusFnObject());
+			return new BinaryOperator(Plus.getPlusFnObject(), k);
 		else if(opcode.equalsIgnoreCase("-"))
-			return new BinaryOperator(Minus.getMinusFnObject());
+			return new BinaryOperator(Minus.getMinusFnObject(), k);
 		else if(opcode.equalsIgnoreCase("*"))
-			return new BinaryOperator(Multiply.getMultiplyFnObject());
+			return new BinaryOperator(Multiply.getMultiplyFnObject(), k);
 		else if(opcode.equalsIgnoreCase("1-*"))
-			return new BinaryOperator(Minus1Multiply.getMinus1MultiplyFnObject());
+			return new BinaryOperator(Minus1Multiply.getMinus1MultiplyFnObject(), k);
 		else if ( opcode.equalsIgnoreCase("*2") ) 
-			return new BinaryOperator(Multiply2.getMultiply2FnObject());
+			return new BinaryOperator(Multiply2.getMultiply2FnObject(), k);
 		else if(opcode.equalsIgnoreCase("/"))
-			return new BinaryOperator(Divide.getDivideFnObject());
+			return new BinaryOperator(Divide.getDivideFnObject(), k);
 		else if(opcode.equalsIgnoreCase("%%"))
-			return new BinaryOperator(Modulus.getFnObject());
+			return new BinaryOperator(Modulus.getFnObject(), k);
 		else if(opcode.equalsIgnoreCase("%/%"))
-			return new BinaryOperator(IntegerDivide.getFnObject());
+			return new BinaryOperator(IntegerDivide.getFnObject(), k);
 		else if(opcode.equalsIgnoreCase("^"))
-			return new BinaryOperator(Power.getPowerFnObject());
+			return new BinaryOperator(Power.getPowerFnObject(), k);
 		else if ( opcode.equalsIgnoreCase("^2") )
-			return new BinaryOperator(Power2.getPower2FnObject());
+			return new BinaryOperator(Power2.getPower2FnObject(), k);
 		else if ( opcode.equalsIgnoreCase("max") ) 
-			return new BinaryOperator(Builtin.getBuiltinFnObject("max"));
+			return new BinaryOperator(Builtin.getBuiltinFnObject("max"), k);
 		else if ( opcode.equalsIgnoreCase("min") ) 
-			return new BinaryOperator(Builtin.getBuiltinFnObject("min"));
+			return new BinaryOperator(Builtin.getBuiltinFnObject("min"), k);
 		else if ( opcode.equalsIgnoreCase("+*") )
-			return new BinaryOperator(PlusMultiply.getPlusMultiplyFnObject());
+			return new BinaryOperator(PlusMultiply.getPlusMultiplyFnObject(), k);
 		else if ( opcode.equalsIgnoreCase("-*") )
-			return new BinaryOperator(MinusMultiply.getMinusMultiplyFnObject());
+			return new BinaryOperator(MinusMultiply.getMinusMultiplyFnObject(), k);
 		
 		throw new DMLRuntimeException("Unknown binary opcode " + opcode);
 	}
@@ -544,6 +550,24 @@ public class InstructionUtils
 		return parseScalarBinaryOperator(opcode, arg1IsScalar, default_constant);
 	}
 	
+	/**
+	 * scalar-matrix operator
+	 * 
+	 * @param opcode the opcode
+	 * @param arg1IsScalar ?
+	 * @param k number of threads
+	 * @return scalar operator
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static ScalarOperator parseScalarBinaryOperator(String opcode, boolean arg1IsScalar, int k) 
+		throws DMLRuntimeException
+	{
+		//for all runtimes that set constant dynamically (cp)
+		double default_constant = 0;
+		
+		return parseScalarBinaryOperator(opcode, arg1IsScalar, default_constant, k);
+	}
+	
 	/**
 	 * scalar-matrix operator
 	 * 
@@ -555,103 +579,119 @@ public class InstructionUtils
 	 */
 	public static ScalarOperator parseScalarBinaryOperator(String opcode, boolean arg1IsScalar, double constant)
 		throws DMLRuntimeException
+	{
+		return parseScalarBinaryOperator(opcode, arg1IsScalar, constant, 1);
+	}
+	
+	/**
+	 * scalar-matrix operator
+	 * 
+	 * @param opcode the opcode
+	 * @param arg1IsScalar ?
+	 * @param constant ?
+	 * @param k number of threads
+	 * @return scalar operator
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static ScalarOperator parseScalarBinaryOperator(String opcode, boolean arg1IsScalar, double constant, int k)
+		throws DMLRuntimeException
 	{
 		//commutative operators
 		if ( opcode.equalsIgnoreCase("+") ){ 
-			return new RightScalarOperator(Plus.getPlusFnObject(), constant); 
+			return new RightScalarOperator(Plus.getPlusFnObject(), constant, k); 
 		}
 		else if ( opcode.equalsIgnoreCase("*") ) {
-			return new RightScalarOperator(Multiply.getMultiplyFnObject(), constant);
+			return new RightScalarOperator(Multiply.getMultiplyFnObject(), constant, k);
 		} 
 		//non-commutative operators
 		else if ( opcode.equalsIgnoreCase("-") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(Minus.getMinusFnObject(), constant);
-			else return new RightScalarOperator(Minus.getMinusFnObject(), constant);
+				return new LeftScalarOperator(Minus.getMinusFnObject(), constant, k);
+			else return new RightScalarOperator(Minus.getMinusFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("-nz") ) {
 			//no support for left scalar yet
-			return new RightScalarOperator(MinusNz.getMinusNzFnObject(), constant);
+			return new RightScalarOperator(MinusNz.getMinusNzFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("/") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(Divide.getDivideFnObject(), constant);
-			else return new RightScalarOperator(Divide.getDivideFnObject(), constant);
+				return new LeftScalarOperator(Divide.getDivideFnObject(), constant, k);
+			else return new RightScalarOperator(Divide.getDivideFnObject(), constant, k);
 		}  
 		else if ( opcode.equalsIgnoreCase("%%") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(Modulus.getFnObject(), constant);
-			else return new RightScalarOperator(Modulus.getFnObject(), constant);
+				return new LeftScalarOperator(Modulus.getFnObject(), constant, k);
+			else return new RightScalarOperator(Modulus.getFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("%/%") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(IntegerDivide.getFnObject(), constant);
-			else return new RightScalarOperator(IntegerDivide.getFnObject(), constant);
+				return new LeftScalarOperator(IntegerDivide.getFnObject(), constant, k);
+			else return new RightScalarOperator(IntegerDivide.getFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("^") ){
 			if(arg1IsScalar)
-				return new LeftScalarOperator(Power.getPowerFnObject(), constant);
-			else return new RightScalarOperator(Power.getPowerFnObject(), constant);
+				return new LeftScalarOperator(Power.getPowerFnObject(), constant, k);
+			else return new RightScalarOperator(Power.getPowerFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("max") ) {
-			return new RightScalarOperator(Builtin.getBuiltinFnObject("max"), constant);
+			return new RightScalarOperator(Builtin.getBuiltinFnObject("max"), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("min") ) {
-			return new RightScalarOperator(Builtin.getBuiltinFnObject("min"), constant);
+			return new RightScalarOperator(Builtin.getBuiltinFnObject("min"), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("log") || opcode.equalsIgnoreCase("log_nz") ){
 			if( arg1IsScalar )
-				return new LeftScalarOperator(Builtin.getBuiltinFnObject(opcode), constant);
-			return new RightScalarOperator(Builtin.getBuiltinFnObject(opcode), constant);
+				return new LeftScalarOperator(Builtin.getBuiltinFnObject(opcode), constant, k);
+			return new RightScalarOperator(Builtin.getBuiltinFnObject(opcode), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase(">") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(GreaterThan.getGreaterThanFnObject(), constant);
-			return new RightScalarOperator(GreaterThan.getGreaterThanFnObject(), constant);
+				return new LeftScalarOperator(GreaterThan.getGreaterThanFnObject(), constant, k);
+			return new RightScalarOperator(GreaterThan.getGreaterThanFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase(">=") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(GreaterThanEquals.getGreaterThanEqualsFnObject(), constant);
-			return new RightScalarOperator(GreaterThanEquals.getGreaterThanEqualsFnObject(), constant);
+				return new LeftScalarOperator(GreaterThanEquals.getGreaterThanEqualsFnObject(), constant, k);
+			return new RightScalarOperator(GreaterThanEquals.getGreaterThanEqualsFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("<") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(LessThan.getLessThanFnObject(), constant);
-			return new RightScalarOperator(LessThan.getLessThanFnObject(), constant);
+				return new LeftScalarOperator(LessThan.getLessThanFnObject(), constant, k);
+			return new RightScalarOperator(LessThan.getLessThanFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("<=") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(LessThanEquals.getLessThanEqualsFnObject(), constant);
-			return new RightScalarOperator(LessThanEquals.getLessThanEqualsFnObject(), constant);
+				return new LeftScalarOperator(LessThanEquals.getLessThanEqualsFnObject(), constant, k);
+			return new RightScalarOperator(LessThanEquals.getLessThanEqualsFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("==") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(Equals.getEqualsFnObject(), constant);
-			return new RightScalarOperator(Equals.getEqualsFnObject(), constant);
+				return new LeftScalarOperator(Equals.getEqualsFnObject(), constant, k);
+			return new RightScalarOperator(Equals.getEqualsFnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("!=") ) {
 			if(arg1IsScalar)
-				return new LeftScalarOperator(NotEquals.getNotEqualsFnObject(), constant);
-			return new RightScalarOperator(NotEquals.getNotEqualsFnObject(), constant);
+				return new LeftScalarOperator(NotEquals.getNotEqualsFnObject(), constant, k);
+			return new RightScalarOperator(NotEquals.getNotEqualsFnObject(), constant, k);
 		}
 		
 		//operations that only exist for performance purposes (all unary or commutative operators)
 		else if ( opcode.equalsIgnoreCase("*2") ) {
-			return new RightScalarOperator(Multiply2.getMultiply2FnObject(), constant);
+			return new RightScalarOperator(Multiply2.getMultiply2FnObject(), constant, k);
 		} 
 		else if ( opcode.equalsIgnoreCase("^2") ){
-			return new RightScalarOperator(Power2.getPower2FnObject(), constant);
+			return new RightScalarOperator(Power2.getPower2FnObject(), constant, k);
 		}
 		else if ( opcode.equalsIgnoreCase("1-*") ) {
-			return new RightScalarOperator(Minus1Multiply.getMinus1MultiplyFnObject(), constant);
+			return new RightScalarOperator(Minus1Multiply.getMinus1MultiplyFnObject(), constant, k);
 		}
 		
 		//operations that only exist in mr
 		else if ( opcode.equalsIgnoreCase("s-r") ) {
-			return new LeftScalarOperator(Minus.getMinusFnObject(), constant);
+			return new LeftScalarOperator(Minus.getMinusFnObject(), constant, k);
 		} 
 		else if ( opcode.equalsIgnoreCase("so") ) {
-			return new LeftScalarOperator(Divide.getDivideFnObject(), constant);
+			return new LeftScalarOperator(Divide.getDivideFnObject(), constant, k);
 		}
 		
 		throw new DMLRuntimeException("Unknown binary opcode " + opcode);
@@ -44,9 +44,10 @@ public abstract class ArithmeticBinaryCPInstruction extends BinaryCPInstruction
 		
 		checkOutputDataType(in1, in2, out);
 		
+		int k = parseNumThreads(str);
 		Operator operator = (in1.getDataType() != in2.getDataType()) ?
-					InstructionUtils.parseScalarBinaryOperator(opcode, (in1.getDataType() == DataType.SCALAR)) : 
-					InstructionUtils.parseBinaryOperator(opcode);
+					InstructionUtils.parseScalarBinaryOperator(opcode, (in1.getDataType() == DataType.SCALAR), k) : 
+					InstructionUtils.parseBinaryOperator(opcode, k);
 		
 		if( in1.getDataType() == DataType.SCALAR && in2.getDataType() == DataType.SCALAR ) 
 			return new ScalarScalarArithmeticCPInstruction(operator, in1, in2, out, opcode, str);
@@ -40,7 +40,7 @@ public abstract class BinaryCPInstruction extends ComputationCPInstruction {
 		throws DMLRuntimeException
 	{	
 		String[] parts = InstructionUtils.getInstructionPartsWithValueType(instr);
-		InstructionUtils.checkNumFields ( parts, 3 );
+		InstructionUtils.checkNumFields ( parts, 3, 4 );
 		
 		String opcode = parts[0];
 		in1.split(parts[1]);
@@ -50,6 +50,18 @@ public abstract class BinaryCPInstruction extends ComputationCPInstruction {
 		return opcode;
 	}
 	
+	/**
+	 * Obtains the degree of parallelism of matrix-matrix and matrix-scalar
+	 * binary instructions, which is an optional last field of the instruction.
+	 * 
+	 * @param instr instruction string
+	 * @return number of threads, 1 if not specified
+	 */
+	protected static int parseNumThreads(String instr) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(instr);
+		return (parts.length == 5) ? Integer.parseInt(parts[4]) : 1;
+	}
+	
 	protected static String parseBinaryInstruction(String instr, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out)
 		throws DMLRuntimeException
 	{
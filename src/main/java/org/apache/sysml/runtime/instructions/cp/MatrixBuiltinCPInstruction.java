@@ -40,7 +40,7 @@ public class MatrixBuiltinCPInstruction extends BuiltinUnaryCPInstruction {
 		
 		String opcode = getOpcode();
 		if(LibCommonsMath.isSupportedUnaryOperation(opcode)) {
-			MatrixBlock retBlock = LibCommonsMath.unaryOperations(ec.getMatrixObject(input1.getName()),getOpcode());
+			MatrixBlock retBlock = LibCommonsMath.unaryOperations(ec.getMatrixObject(input1.getName()), getOpcode(), u_op.getNumThreads());
 			ec.setMatrixOutput(output_name, retBlock, getExtendedOpcode());
 		}
 		else {
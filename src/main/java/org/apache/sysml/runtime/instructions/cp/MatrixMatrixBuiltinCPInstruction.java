@@ -41,7 +41,8 @@ public class MatrixMatrixBuiltinCPInstruction extends BuiltinBinaryCPInstruction
 		String opcode = getOpcode();
         
         if ( LibCommonsMath.isSupportedMatrixMatrixOperation(opcode) ) {
-        	MatrixBlock solution = LibCommonsMath.matrixMatrixOperations(ec.getMatrixObject(input1.getName()), (MatrixObject)ec.getVariable(input2.getName()), opcode);
+        	MatrixBlock solution = LibCommonsMath.matrixMatrixOperations(ec.getMatrixObject(input1.getName()), 
+        		(MatrixObject)ec.getVariable(input2.getName()), opcode, ((BinaryOperator)_optr).getNumThreads());
     		ec.setMatrixOutput(output.getName(), solution, getExtendedOpcode());
         	return;
         }
@@ -35,12 +35,14 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 
 	int arity;
 	protected ArrayList<CPOperand> _outputs;
+	private final int _numThreads;
 
 	private MultiReturnBuiltinCPInstruction(Operator op, CPOperand input1, ArrayList<CPOperand> outputs, String opcode,
-			String istr) {
+			String istr, int k) {
 		super(op, input1, null, outputs.get(0), opcode, istr);
 		_cptype = CPINSTRUCTION_TYPE.MultiReturnBuiltin;
 		_outputs = outputs;
+		_numThreads = k;
 	}
 
 	public int getArity() {
@@ -65,8 +67,9 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 			CPOperand in1 = new CPOperand(parts[1]);
 			outputs.add ( new CPOperand(parts[2], ValueType.DOUBLE, DataType.MATRIX) );
 			outputs.add ( new CPOperand(parts[3], ValueType.DOUBLE, DataType.MATRIX) );
+			int k = parseNumThreads(parts, 4);
 			
-			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str);
+			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str, k);
 		}
 		else if ( opcode.equalsIgnoreCase("lu") ) {
 			CPOperand in1 = new CPOperand(parts[1]);
@@ -75,8 +78,9 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 			outputs.add ( new CPOperand(parts[2], ValueType.DOUBLE, DataType.MATRIX) );
 			outputs.add ( new CPOperand(parts[3], ValueType.DOUBLE, DataType.MATRIX) );
 			outputs.add ( new CPOperand(parts[4], ValueType.DOUBLE, DataType.MATRIX) );
+			int k = parseNumThreads(parts, 5);
 			
-			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str);
+			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str, k);
 			
 		}
 		else if ( opcode.equalsIgnoreCase("eigen") ) {
@@ -84,8 +88,9 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 			CPOperand in1 = new CPOperand(parts[1]);
 			outputs.add ( new CPOperand(parts[2], ValueType.DOUBLE, DataType.MATRIX) );
 			outputs.add ( new CPOperand(parts[3], ValueType.DOUBLE, DataType.MATRIX) );
+			int k = parseNumThreads(parts, 4);
 			
-			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str);
+			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str, k);
 			
 		}
 		else if ( opcode.equalsIgnoreCase("svd") ) {
@@ -95,8 +100,9 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 			outputs.add ( new CPOperand(parts[2], ValueType.DOUBLE, DataType.MATRIX) );
 			outputs.add ( new CPOperand(parts[3], ValueType.DOUBLE, DataType.MATRIX) );
 			outputs.add ( new CPOperand(parts[4], ValueType.DOUBLE, DataType.MATRIX) );
+			int k = parseNumThreads(parts, 5);
 			
-			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str);
+			return new MultiReturnBuiltinCPInstruction(null, in1, outputs, opcode, str, k);
 
 		}
 		else {
@@ -104,6 +110,11 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 		}
 
 	}
+	
+	private static int parseNumThreads(String[] parts, int pos) {
+		//optional trailing number of threads (default: single-threaded)
+		return (parts.length > pos) ? Integer.parseInt(parts[pos]) : 1;
+	}
 
 	@Override 
 	public void processInstruction(ExecutionContext ec) 
@@ -114,7 +125,7 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 		MatrixBlock[] out = null;
 		
 		if(LibCommonsMath.isSupportedMultiReturnOperation(opcode))
-			out = LibCommonsMath.multiReturnOperations(mo, opcode);
+			out = LibCommonsMath.multiReturnOperations(mo, opcode, _numThreads);
 		else 
 			throw new DMLRuntimeException("Invalid opcode in MultiReturnBuiltin instruction: " + opcode);
 
@@ -28,25 +28,33 @@ import org.apache.sysml.runtime.instructions.InstructionUtils;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.operators.Operator;
 import org.apache.sysml.runtime.matrix.operators.SimpleOperator;
+import org.apache.sysml.runtime.util.UtilFunctions;
 
 /**
  * This class supports two variants of sort operation on a 1-dimensional input matrix. 
  * The two variants are <code> weighted </code> and <code> unweighted </code>.
  * Example instructions: 
- *     sort:mVar1:mVar2 (input=mVar1, output=mVar2)
- *     sort:mVar1:mVar2:mVar3 (input=mVar1, weights=mVar2, output=mVar3)
+ *     sort:mVar1:mVar2[:k] (input=mVar1, output=mVar2, k=num threads)
+ *     sort:mVar1:mVar2:mVar3[:k] (input=mVar1, weights=mVar2, output=mVar3, k=num threads)
  *  
  */
 public class QuantileSortCPInstruction extends UnaryCPInstruction {
 
-	private QuantileSortCPInstruction(Operator op, CPOperand in, CPOperand out, String opcode, String istr) {
-		this(op, in, null, out, opcode, istr);
+	private final int _numThreads;
+	
+	private QuantileSortCPInstruction(Operator op, CPOperand in, CPOperand out, String opcode, String istr, int k) {
+		this(op, in, null, out, opcode, istr, k);
 	}
 
 	private QuantileSortCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand out, String opcode,
-			String istr) {
+			String istr, int k) {
 		super(op, in1, in2, out, opcode, istr);
 		_cptype = CPINSTRUCTION_TYPE.QSort;
+		_numThreads = k;
+	}
+
+	public int getNumThreads() {
+		return _numThreads;
 	}
 
 	public static QuantileSortCPInstruction parseInstruction ( String str ) 
@@ -60,16 +68,23 @@ public class QuantileSortCPInstruction extends UnaryCPInstruction {
 		String opcode = parts[0];
 		
 		if ( opcode.equalsIgnoreCase(SortKeys.OPCODE) ) {
-			if ( parts.length == 3 ) {
-				// Example: sort:mVar1:mVar2 (input=mVar1, output=mVar2)
-				parseUnaryInstruction(str, in1, out);
-				return new QuantileSortCPInstruction(new SimpleOperator(null), in1, out, opcode, str);
+			//optional trailing number of threads (not present in legacy instructions)
+			boolean hasK = parts.length > 3 && UtilFunctions.isIntegerNumber(parts[parts.length-1]);
+			int k = hasK ? Integer.parseInt(parts[parts.length-1]) : 1;
+			int numOperands = hasK ? parts.length-1 : parts.length;
+			if ( numOperands == 3 ) {
+				// Example: sort:mVar1:mVar2[:k] (input=mVar1, output=mVar2)
+				in1.split(parts[1]);
+				out.split(parts[2]);
+				return new QuantileSortCPInstruction(new SimpleOperator(null), in1, out, opcode, str, k);
 			}
-			else if ( parts.length == 4 ) {
-				// Example: sort:mVar1:mVar2:mVar3 (input=mVar1, weights=mVar2, output=mVar3)
+			else if ( numOperands == 4 ) {
+				// Example: sort:mVar1:mVar2:mVar3[:k] (input=mVar1, weights=mVar2, output=mVar3)
 				in2 = new CPOperand("", ValueType.UNKNOWN, DataType.UNKNOWN);
-				parseUnaryInstruction(str, in1, in2, out);
-				return new QuantileSortCPInstruction(new SimpleOperator(null), in1, in2, out, opcode, str);
+				in1.split(parts[1]);
+				in2.split(parts[2]);
+				out.split(parts[3]);
+				return new QuantileSortCPInstruction(new SimpleOperator(null), in1, in2, out, opcode, str, k);
 			}
 			else {
 				throw new DMLRuntimeException("Invalid number of operands in instruction: " + str);
@@ -92,7 +107,7 @@ public class QuantileSortCPInstruction extends UnaryCPInstruction {
 		}
 		
  		//process core instruction
-		MatrixBlock resultBlock = (MatrixBlock) matBlock.sortOperations(wtBlock, new MatrixBlock());
+		MatrixBlock resultBlock = (MatrixBlock) matBlock.sortOperations(wtBlock, new MatrixBlock(), _numThreads);
 		
 		//release inputs
 		ec.releaseMatrixInput(input1.getName(), getExtendedOpcode());
@@ -111,7 +111,8 @@ public abstract class BinarySPInstruction extends ComputationSPInstruction {
 		if( numRepRight > 1 )
 			in2 = in2.flatMapToPair(new ReplicateVectorFunction(rowvector, numRepRight));
 		
-		//execute binary operation
+		//execute binary operation (spark's default partitioner reuses existing
+		//partitioners, i.e., co-partitioned inputs are joined w/o shuffle)
 		JavaPairRDD<MatrixIndexes,MatrixBlock> out = in1
 				.join(in2)
 				.mapValues(new MatrixMatrixBinaryOpFunction(bop));
@@ -78,6 +78,11 @@ public class CompressionSPInstruction extends UnarySPInstruction {
 		public MatrixBlock call(MatrixBlock arg0) 
 			throws Exception 
 		{
+			//pass-through already compressed blocks
+			if( arg0 instanceof CompressedMatrixBlock 
+				&& ((CompressedMatrixBlock)arg0).isCompressed() )
+				return arg0;
+			
 			CompressedMatrixBlock cmb = new CompressedMatrixBlock(arg0);
 			cmb.compress();
 			
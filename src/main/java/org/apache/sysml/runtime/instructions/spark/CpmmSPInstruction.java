@@ -33,6 +33,8 @@ import org.apache.sysml.runtime.functionobjects.Plus;
 import org.apache.sysml.runtime.instructions.InstructionUtils;
 import org.apache.sysml.runtime.instructions.cp.CPOperand;
 import org.apache.sysml.runtime.instructions.spark.utils.RDDAggregateUtils;
+import org.apache.sysml.runtime.instructions.spark.utils.SparkUtils;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysml.runtime.matrix.mapred.IndexedMatrixValue;
@@ -109,15 +111,18 @@ public class CpmmSPInstruction extends BinarySPInstruction {
 		}
 		else //DEFAULT: MULTI_BLOCK
 		{
-			out = RDDAggregateUtils.sumByKeyStable(out, false); 
+			//update output statistics if not inferred
+			MatrixCharacteristics mcOut = updateBinaryMMOutputMatrixCharacteristics(sec, true);
+			
+			//aggregate into preferred number of partitions (as rmm and checkpoints), 
+			//which allows subsequent joins with equally sized inputs w/o shuffle
+			int numPartOut = SparkUtils.getNumPreferredPartitions(mcOut, out);
+			out = RDDAggregateUtils.sumByKeyStable(out, numPartOut, false); 
 			
 			//put output RDD handle into symbol table
 			sec.setRDDHandleForVariable(output.getName(), out);
 			sec.addLineageRDD(output.getName(), input1.getName());
-			sec.addLineageRDD(output.getName(), input2.getName());		
-			
-			//update output statistics if not inferred
-			updateBinaryMMOutputMatrixCharacteristics(sec, true);
+			sec.addLineageRDD(output.getName(), input2.getName());
 		}
 	}
 
@@ -274,7 +274,7 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 			if( _type == CacheType.LEFT )
 			{
 				//get the right hand side matrix
-				MatrixBlock left = _pbc.getBlock(1, (int)ixIn.getRowIndex());
+				MatrixBlock left = _pbc.getBlock(1, (int)ixIn.getRowIndex(), false);
 				
 				//execute matrix-vector mult
 				OperationsOnMatrixValues.performAggregateBinary( 
@@ -283,7 +283,7 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 			else //if( _type == CacheType.RIGHT )
 			{
 				//get the right hand side matrix
-				MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), 1);
+				MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), 1, false);
 				
 				//execute matrix-vector mult
 				OperationsOnMatrixValues.performAggregateBinary(
@@ -326,7 +326,7 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 			if( _type == CacheType.LEFT )
 			{
 				//get the right hand side matrix
-				MatrixBlock left = _pbc.getBlock(1, (int)ixIn.getRowIndex());
+				MatrixBlock left = _pbc.getBlock(1, (int)ixIn.getRowIndex(), false);
 				
 				//execute matrix-vector mult
 				return (MatrixBlock) OperationsOnMatrixValues.performAggregateBinaryIgnoreIndexes( 
@@ -335,7 +335,7 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 			else //if( _type == CacheType.RIGHT )
 			{
 				//get the right hand side matrix
-				MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), 1);
+				MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), 1, false);
 				
 				//execute matrix-vector mult
 				return (MatrixBlock) OperationsOnMatrixValues.performAggregateBinaryIgnoreIndexes(
@@ -391,18 +391,18 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 				if( _type == CacheType.LEFT )
 				{
 					//get the right hand side matrix
-					MatrixBlock left = _pbc.getBlock(1, (int)ixIn.getRowIndex());
+					MatrixBlock left = _pbc.getBlock(1, (int)ixIn.getRowIndex(), false);
 					
 					//execute index preserving matrix multiplication
-					left.aggregateBinaryOperations(left, blkIn, blkOut, _op);
+					OperationsOnMatrixValues.performAggregateBinaryIgnoreIndexes(left, blkIn, blkOut, _op);
 				}
 				else //if( _type == CacheType.RIGHT )
 				{
 					//get the right hand side matrix
-					MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), 1);
+					MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), 1, false);
 
 					//execute index preserving matrix multiplication
-					blkIn.aggregateBinaryOperations(blkIn, right, blkOut, _op);	
+					OperationsOnMatrixValues.performAggregateBinaryIgnoreIndexes(blkIn, right, blkOut, _op);
 				}
 			
 				return new Tuple2<>(ixIn, blkOut);
@@ -443,7 +443,7 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 				int len = _pbc.getNumRowBlocks();
 				for( int i=1; i<=len; i++ ) 
 				{
-					MatrixBlock left = _pbc.getBlock(i, (int)ixIn.getRowIndex());
+					MatrixBlock left = _pbc.getBlock(i, (int)ixIn.getRowIndex(), false);
 					MatrixIndexes ixOut = new MatrixIndexes();
 					MatrixBlock blkOut = new MatrixBlock();
 					
@@ -461,7 +461,7 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 				for( int j=1; j<=len; j++ ) 
 				{
 					//get the right hand side matrix
-					MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), j);
+					MatrixBlock right = _pbc.getBlock((int)ixIn.getColumnIndex(), j, false);
 					MatrixIndexes ixOut = new MatrixIndexes();
 					MatrixBlock blkOut = new MatrixBlock();
 					
@@ -169,9 +169,9 @@ public class ReblockSPInstruction extends UnarySPInstruction {
 			sec.setRDDHandleForVariable(output.getName(), out);
 			sec.addLineageRDD(output.getName(), input1.getName());
 		}
-		else if(iinfo == InputInfo.BinaryBlockInputInfo) 
+		else if(iinfo == InputInfo.BinaryBlockInputInfo || iinfo == InputInfo.CompressedBinaryBlockInputInfo) 
 		{
-			//BINARY BLOCK <- BINARY BLOCK (different sizes)
+			//BINARY BLOCK <- (COMPRESSED) BINARY BLOCK (different sizes)
 			JavaPairRDD<MatrixIndexes, MatrixBlock> in1 = sec.getBinaryBlockRDDHandleForVariable(input1.getName());
 			
 			boolean shuffleFreeReblock = mc.dimsKnown() && mcOut.dimsKnown()
@@ -29,10 +29,16 @@ import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysml.runtime.controlprogram.caching.CacheBlockFactory;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.OperationsOnMatrixValues;
 import org.apache.sysml.runtime.matrix.data.Pair;
 import org.apache.sysml.runtime.util.FastBufferedDataInputStream;
@@ -45,6 +51,10 @@ import org.apache.sysml.runtime.util.IndexRange;
  * per task would create instance-local copies and hence replicate broadcast 
  * variables which are shared by all tasks within an executor.  
  * 
+ * Matrix blocks might be compressed (see {@link #compressBlocks(int)}), in which
+ * case the blocks are decompressed lazily on first access and the decompressed
+ * blocks are again shared by all tasks that access this partitioned block.
+ * 
  */
 public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 {
@@ -55,13 +65,29 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 	protected int _bclen = -1;
 	protected int _offset = 0;
 	
+	//lazily decompressed blocks (shared by all tasks)
+	private transient CacheBlock[] _decompBlocks = null;
+	
 	public PartitionedBlock() {
 		//do nothing (required for Externalizable)
 	}
 	
 	
-	@SuppressWarnings("unchecked")
-	public PartitionedBlock(T block, int brlen, int bclen) 
+	public PartitionedBlock(T block, int brlen, int bclen) {
+		this(block, brlen, bclen, 1);
+	}
+	
+	/**
+	 * Creates a partitioned block by slicing the given input block into blocks
+	 * of size brlen x bclen, where k&gt;1 slices disjoint ranges of block rows 
+	 * in parallel.
+	 * 
+	 * @param block input matrix or frame block
+	 * @param brlen number of rows per block
+	 * @param bclen number of columns per block
+	 * @param k degree of parallelism
+	 */
+	public PartitionedBlock(T block, int brlen, int bclen, int k) 
 	{
 		//get the input frame block
 		int rlen = block.getNumRows();
@@ -75,17 +101,31 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		int nrblks = getNumRowBlocks();
 		int ncblks = getNumColumnBlocks();
 		int code = CacheBlockFactory.getCode(block);
+		if( code == 2 ) //compressed input, sliced into uncompressed blocks
+			code = 0;
 		
 		try
 		{
 			_partBlocks = new CacheBlock[nrblks * ncblks];
-			for( int i=0, ix=0; i<nrblks; i++ )
-				for( int j=0; j<ncblks; j++, ix++ ) {
-					T tmp = (T) CacheBlockFactory.newInstance(code);
-					block.sliceOperations(i*_brlen, Math.min((i+1)*_brlen, rlen)-1, 
-							           j*_bclen, Math.min((j+1)*_bclen, clen)-1, tmp);
-					_partBlocks[ix] = tmp;
+			int k2 = Math.min(k, nrblks);
+			if( k2 <= 1 ) {
+				sliceBlocks(block, code, 0, nrblks);
+			}
+			else {
+				//slice disjoint ranges of block rows in parallel
+				ExecutorService pool = Executors.newFixedThreadPool(k2);
+				try {
+					ArrayList<SliceTask> tasks = new ArrayList<>();
+					int blklen = (int)Math.ceil((double)nrblks/k2);
+					for( int i=0; i<k2 & i*blklen<nrblks; i++ )
+						tasks.add(new SliceTask(block, code, i*blklen, Math.min((i+1)*blklen, nrblks)));
+					for( Future<Object> rt : pool.invokeAll(tasks) )
+						rt.get(); //error handling
 				}
+				finally {
+					pool.shutdown();
+				}
+			}
 		}
 		catch(Exception ex) {
 			throw new RuntimeException("Failed partitioning of broadcast variable input.", ex);
@@ -93,6 +133,20 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		
 		_offset = 0;
 	}
+	
+	@SuppressWarnings("unchecked")
+	private void sliceBlocks(CacheBlock block, int code, int rbl, int rbu) 
+		throws DMLRuntimeException
+	{
+		int ncblks = getNumColumnBlocks();
+		for( int i=rbl, ix=rbl*ncblks; i<rbu; i++ )
+			for( int j=0; j<ncblks; j++, ix++ ) {
+				T tmp = (T) CacheBlockFactory.newInstance(code);
+				block.sliceOperations(i*_brlen, (int)Math.min((i+1)*_brlen, _rlen)-1, 
+						           j*_bclen, (int)Math.min((j+1)*_bclen, _clen)-1, tmp);
+				_partBlocks[ix] = tmp;
+			}
+	}
 
 	public PartitionedBlock(int rlen, int clen, int brlen, int bclen) 
 	{
@@ -145,9 +199,25 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		return (int)Math.ceil((double)_clen/_bclen);
 	}
 
-	@SuppressWarnings("unchecked")
 	public T getBlock(int rowIndex, int colIndex) 
 		throws DMLRuntimeException 
+	{
+		return getBlock(rowIndex, colIndex, true);
+	}
+	
+	/**
+	 * Obtains the block at the given block indexes, where compressed blocks
+	 * are either returned as is, or decompressed once and shared.
+	 * 
+	 * @param rowIndex row block index (1-based)
+	 * @param colIndex column block index (1-based)
+	 * @param decompress if true, return decompressed blocks
+	 * @return block object
+	 * @throws DMLRuntimeException if block indexes out of range
+	 */
+	@SuppressWarnings("unchecked")
+	public T getBlock(int rowIndex, int colIndex, boolean decompress) 
+		throws DMLRuntimeException 
 	{
 		//check for valid block index
 		int nrblks = getNumRowBlocks();
@@ -160,8 +230,64 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		int rix = rowIndex - 1;
 		int cix = colIndex - 1;
 		int ix = rix*ncblks+cix - _offset;
+		if( decompress && _partBlocks[ix] instanceof CompressedMatrixBlock )
+			return (T)getDecompressedBlock(ix);
 		return (T)_partBlocks[ix];
 	}
+	
+	private CacheBlock getDecompressedBlock(int ix) 
+		throws DMLRuntimeException
+	{
+		synchronized( this ) {
+			if( _decompBlocks == null )
+				_decompBlocks = new CacheBlock[_partBlocks.length];
+		}
+		//decompress once, w/ block-level synchronization
+		CacheBlock block = _partBlocks[ix];
+		synchronized( block ) {
+			if( _decompBlocks[ix] == null )
+				_decompBlocks[ix] = ((CompressedMatrixBlock)block).decompress();
+			return _decompBlocks[ix];
+		}
+	}
+	
+	/**
+	 * Compresses all matrix blocks of this partitioned block, for which
+	 * compression is beneficial, i.e., the compressed size is smaller than 
+	 * the uncompressed in-memory size. Blocks with a single row or column
+	 * are kept uncompressed in order to allow matrix multiplications with 
+	 * compressed blocks as either the left or right-hand-side input.
+	 * 
+	 * @param k degree of parallelism
+	 * @return number of compressed blocks
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public int compressBlocks(int k) 
+		throws DMLRuntimeException 
+	{
+		if( _partBlocks == null || !(_partBlocks[0] instanceof MatrixBlock) )
+			return 0;
+		
+		ExecutorService pool = Executors.newFixedThreadPool(k);
+		try {
+			ArrayList<CompressTask> tasks = new ArrayList<>();
+			for( CacheBlock block : _partBlocks )
+				tasks.add(new CompressTask((MatrixBlock)block));
+			int ret = 0, ix = 0;
+			for( Future<MatrixBlock> rt : pool.invokeAll(tasks) ) {
+				_partBlocks[ix] = rt.get();
+				ret += (_partBlocks[ix++] instanceof CompressedMatrixBlock) ? 1 : 0;
+			}
+			_decompBlocks = null;
+			return ret;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
 
 	public void setBlock(int rowIndex, int colIndex, T block) 
 		throws DMLRuntimeException
@@ -272,7 +398,7 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		DataInput dis = is;
 		
 		int code = readHeader(dis);
-		if( is instanceof ObjectInputStream && code == 0) {	// Apply only for MatrixBlock at this point as a temporary workaround
+		if( is instanceof ObjectInputStream && code != 1) {	// Apply only for MatrixBlock at this point as a temporary workaround
 															// We will generalize this code by adding UTF functionality to support Frame
 			//fast deserialize of dense/sparse blocks
 			ObjectInputStream ois = (ObjectInputStream)is;
@@ -313,10 +439,19 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		dos.writeInt(_bclen);
 		dos.writeInt(_offset);
 		dos.writeInt(_partBlocks.length);
-		dos.writeByte(CacheBlockFactory.getCode(_partBlocks[0]));
 		
-		for( CacheBlock block : _partBlocks )
+		//matrix blocks w/ at least one compressed block are written as
+		//mixed compressed/uncompressed blocks w/ a flag per block
+		int code = CacheBlockFactory.getCode(_partBlocks[0]);
+		for( int i=0; i<_partBlocks.length && code==0; i++ )
+			code = CacheBlockFactory.getCode(_partBlocks[i]);
+		dos.writeByte(code);
+		
+		for( CacheBlock block : _partBlocks ) {
+			if( code == 2 )
+				dos.writeBoolean(block instanceof CompressedMatrixBlock);
 			block.write(dos);
+		}
 	}
 
 	private int readHeader(DataInput dis) 
@@ -340,8 +475,49 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 	{
 		int len = _partBlocks.length;
 		for( int i=0; i<len; i++ ) {
-			_partBlocks[i] = CacheBlockFactory.newInstance(code);
+			int bcode = (code == 2 && !dis.readBoolean()) ? 0 : code;
+			_partBlocks[i] = CacheBlockFactory.newInstance(bcode);
 			_partBlocks[i].readFields(dis);
 		}
 	}
+	
+	private class SliceTask implements Callable<Object>
+	{
+		private final CacheBlock _in;
+		private final int _code;
+		private final int _rbl;
+		private final int _rbu;
+		
+		protected SliceTask(CacheBlock in, int code, int rbl, int rbu) {
+			_in = in;
+			_code = code;
+			_rbl = rbl;
+			_rbu = rbu;
+		}
+		
+		@Override
+		public Object call() throws DMLRuntimeException {
+			sliceBlocks(_in, _code, _rbl, _rbu);
+			return null;
+		}
+	}
+	
+	private static class CompressTask implements Callable<MatrixBlock>
+	{
+		private final MatrixBlock _in;
+		
+		protected CompressTask(MatrixBlock in) {
+			_in = in;
+		}
+		
+		@Override
+		public MatrixBlock call() throws DMLRuntimeException {
+			if( _in instanceof CompressedMatrixBlock || _in.getNumRows() < 2 
+				|| _in.getNumColumns() < 2 || _in.isEmptyBlock(false) )
+				return _in;
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(_in);
+			cmb.compress();
+			return (cmb.estimateCompressedSizeInMemory() < _in.getInMemorySize()) ? cmb : _in;
+		}
+	}
 }
@@ -20,7 +20,10 @@
 package org.apache.sysml.runtime.instructions.spark.data;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.spark.SparkEnv;
 import org.apache.spark.broadcast.Broadcast;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
@@ -33,6 +36,11 @@ import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
  * we got java.lang.IllegalArgumentException: Size exceeds Integer.MAX_VALUE issue.
  * Despite various jiras, this issue still showed up in Spark 1.4/1.5. 
  * 
+ * All accesses to the partitioned blocks go through a JVM-wide registry of 
+ * deserialized broadcast values, which ensures that concurrent tasks of an 
+ * executor share a single read-only copy, even if Spark's block manager evicted 
+ * the broadcast and would otherwise deserialize it again for every task.
+ * 
  */
 public class PartitionedBroadcast<T extends CacheBlock> implements Serializable
 {
@@ -40,6 +48,14 @@ public class PartitionedBroadcast<T extends CacheBlock> implements Serializable
 
 	protected static final long BROADCAST_PARTSIZE = 200L*1024*1024; //200M cells ~ 1.6GB 
 	
+	//registry of deserialized partitions by broadcast id (weak references in 
+	//order to not interfere with the eviction and cleanup of broadcasts)
+	private static final ConcurrentHashMap<Long, WeakReference<PartitionedBlock<?>>> _shared = new ConcurrentHashMap<>();
+	//per-id locks, which serialize only the fetch of the same broadcast partition
+	private static final ConcurrentHashMap<Long, Object> _locks = new ConcurrentHashMap<>();
+	//spark environment of registered partitions (broadcast ids are only unique per context)
+	private static volatile WeakReference<SparkEnv> _sharedEnv = new WeakReference<>(null);
+	
 	private Broadcast<PartitionedBlock<T>>[] _pbc = null;
 	
 	public PartitionedBroadcast() {
@@ -56,19 +72,19 @@ public class PartitionedBroadcast<T extends CacheBlock> implements Serializable
 	}
 	
 	public long getNumRows() {
-		return _pbc[0].value().getNumRows();
+		return getPartition(0).getNumRows();
 	}
 	
 	public long getNumCols() {
-		return _pbc[0].value().getNumCols();
+		return getPartition(0).getNumCols();
 	}
 
 	public int getNumRowBlocks() {
-		return _pbc[0].value().getNumRowBlocks();
+		return getPartition(0).getNumRowBlocks();
 	}
 	
 	public int getNumColumnBlocks() {
-		return _pbc[0].value().getNumColumnBlocks();
+		return getPartition(0).getNumColumnBlocks();
 	}
 
 	public static int computeBlocksPerPartition(long rlen, long clen, long brlen, long bclen) {
@@ -78,19 +94,25 @@ public class PartitionedBroadcast<T extends CacheBlock> implements Serializable
 
 	public T getBlock(int rowIndex, int colIndex) 
 		throws DMLRuntimeException 
+	{
+		return getBlock(rowIndex, colIndex, true);
+	}
+	
+	public T getBlock(int rowIndex, int colIndex, boolean decompress) 
+		throws DMLRuntimeException 
 	{
 		int pix = 0;
 		
 		if( _pbc.length > 1 ) { 
 			//compute partition index
-			PartitionedBlock<T> tmp = _pbc[0].value();
+			PartitionedBlock<T> tmp = getPartition(0);
 			int numPerPart = computeBlocksPerPartition(tmp.getNumRows(), tmp.getNumCols(), 
 					tmp.getNumRowsPerBlock(), tmp.getNumColumnsPerBlock());
 			int ix = (rowIndex-1)*tmp.getNumColumnBlocks()+(colIndex-1);
 			pix = ix / numPerPart;
 		}
 			
-		return _pbc[pix].value().getBlock(rowIndex, colIndex);
+		return getPartition(pix).getBlock(rowIndex, colIndex, decompress);
 	}
 	
 	public T sliceOperations(long rl, long ru, long cl, long cu, T block) 
@@ -98,8 +120,8 @@ public class PartitionedBroadcast<T extends CacheBlock> implements Serializable
 	{
 		T ret = null;
 		
-		for( Broadcast<PartitionedBlock<T>> bc : _pbc ) {
-			PartitionedBlock<T> pm = bc.value();
+		for( int i=0; i<_pbc.length; i++ ) {
+			PartitionedBlock<T> pm = getPartition(i);
 			T tmp = pm.sliceOperations(rl, ru, cl, cu, block);
 			if( ret != null )
 				ret.merge(tmp, false);
@@ -115,7 +137,46 @@ public class PartitionedBroadcast<T extends CacheBlock> implements Serializable
 	 * by forward the calls to SparkExecutionContext.cleanupBroadcastVariable.
 	 */
 	public void destroy() {
-		for( Broadcast<PartitionedBlock<T>> bvar : _pbc )
+		for( Broadcast<PartitionedBlock<T>> bvar : _pbc ) {
+			_shared.remove(bvar.id());
+			_locks.remove(bvar.id());
 			SparkExecutionContext.cleanupBroadcastVariable(bvar);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private PartitionedBlock<T> getPartition(int pix) {
+		Broadcast<PartitionedBlock<T>> bc = _pbc[pix];
+		
+		//reset registry on new spark environment (e.g., context restart)
+		SparkEnv env = SparkEnv.get();
+		if( _sharedEnv.get() != env ) {
+			synchronized( _shared ) {
+				if( _sharedEnv.get() != env ) {
+					_shared.clear();
+					_locks.clear();
+					_sharedEnv = new WeakReference<>(env);
+				}
+			}
+		}
+		
+		WeakReference<PartitionedBlock<?>> ref = _shared.get(bc.id());
+		PartitionedBlock<T> ret = (ref != null) ? (PartitionedBlock<T>) ref.get() : null;
+		if( ret != null )
+			return ret;
+		
+		//obtain broadcast value once, and register it for shared use
+		//(fetches of other broadcast partitions proceed concurrently)
+		Object lock = _locks.computeIfAbsent(bc.id(), k -> new Object());
+		synchronized( lock ) {
+			ref = _shared.get(bc.id());
+			ret = (ref != null) ? (PartitionedBlock<T>) ref.get() : null;
+			if( ret == null ) {
+				_shared.values().removeIf(r -> r.get() == null);
+				ret = bc.value();
+				_shared.put(bc.id(), new WeakReference<>(ret));
+			}
+		}
+		return ret;
 	}
 }
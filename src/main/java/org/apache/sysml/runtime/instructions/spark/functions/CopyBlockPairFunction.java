@@ -25,6 +25,7 @@ import org.apache.spark.api.java.function.PairFlatMapFunction;
 import scala.Tuple2;
 
 import org.apache.sysml.lops.Checkpoint;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysml.runtime.instructions.spark.data.LazyIterableIterator;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
@@ -72,7 +73,12 @@ public class CopyBlockPairFunction implements PairFlatMapFunction<Iterator<Tuple
 				MatrixBlock block = null;
 				//always create deep copies in more memory-efficient CSR representation 
 				//if block is already in sparse format			
-				if( Checkpoint.CHECKPOINT_SPARSE_CSR && arg._2.isInSparseFormat() )
+				//compressed blocks are copied shallow because column groups are
+				//always newly created on deserialization
+				if( arg._2 instanceof CompressedMatrixBlock 
+					&& ((CompressedMatrixBlock)arg._2).isCompressed() )
+					block = ((CompressedMatrixBlock)arg._2).shallowCopy();
+				else if( Checkpoint.CHECKPOINT_SPARSE_CSR && arg._2.isInSparseFormat() )
 					block = new MatrixBlock(arg._2, SparseBlock.Type.CSR, true);
 				else
 					block = new MatrixBlock(arg._2());
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.instructions.spark.functions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.apache.spark.api.java.function.PairFlatMapFunction;
+
+import scala.Tuple2;
+
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+
+/**
+ * Splits compressed row blocks of compressed binary block files (written from CP 
+ * with row blocks of the entire width) into blocks of the given block size.
+ * Blocks of regular size, as written from Spark or from CP for matrices with up
+ * to bclen columns, are passed through without decompression. The slices are 
+ * obtained via slice operations on the compressed block, i.e., without 
+ * materializing the entire uncompressed row block.
+ */
+public class SplitCompressedBlockFunction implements PairFlatMapFunction<Tuple2<MatrixIndexes,MatrixBlock>, MatrixIndexes, MatrixBlock> 
+{
+	private static final long serialVersionUID = 3261736393178720633L;
+	
+	private final int _brlen;
+	private final int _bclen;
+	
+	public SplitCompressedBlockFunction(int brlen, int bclen) {
+		_brlen = brlen;
+		_bclen = bclen;
+	}
+	
+	@Override
+	public Iterator<Tuple2<MatrixIndexes, MatrixBlock>> call(Tuple2<MatrixIndexes, MatrixBlock> arg0) 
+		throws Exception 
+	{
+		MatrixIndexes ix = arg0._1();
+		MatrixBlock in = arg0._2();
+		int rlen = in.getNumRows();
+		int clen = in.getNumColumns();
+		
+		//pass-through blocks of regular block size
+		if( rlen <= _brlen && clen <= _bclen )
+			return Collections.singletonList(arg0).iterator();
+		
+		//split block into blocks of regular block size (w/ offsets of input block)
+		long rix = ix.getRowIndex()-1;
+		long cix = ix.getColumnIndex()-1;
+		ArrayList<Tuple2<MatrixIndexes, MatrixBlock>> ret = new ArrayList<>();
+		for( int i=0; i<rlen; i+=_brlen )
+			for( int j=0; j<clen; j+=_bclen ) {
+				MatrixBlock blk = in.sliceOperations(i, Math.min(i+_brlen, rlen)-1,
+					j, Math.min(j+_bclen, clen)-1, new MatrixBlock());
+				ret.add(new Tuple2<>(new MatrixIndexes(rix+i/_brlen+1, cix+j/_bclen+1), blk));
+			}
+		return ret.iterator();
+	}
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.instructions.spark.utils;
+
+import java.io.IOException;
+
+import org.apache.spark.serializer.KryoRegistrator;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlockDataInput;
+import org.apache.sysml.runtime.matrix.data.MatrixBlockDataOutput;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockCSR;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.KryoDataInput;
+import com.esotericsoftware.kryo.io.KryoDataOutput;
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Kryo registrator for the block and index classes that are shuffled and
+ * cached by our spark instructions. Without registration, kryo falls back 
+ * to its generic field serializer, which handles sparse blocks row-by-row 
+ * as individual objects. The dedicated serializers instead redirect to our 
+ * default hadoop writable serialization (incl all dense, sparse, ultra-sparse, 
+ * and compressed formats) but write the dense and sparse arrays in bulk.
+ * 
+ * The registrator is enabled via sysml.spark.kryo (see 
+ * SparkExecutionContext.createSystemMLSparkConf) or can be passed 
+ * explicitly via spark.kryo.registrator. 
+ */
+public class SparkKryoRegistrator implements KryoRegistrator
+{
+	@Override
+	public void registerClasses(Kryo kryo) {
+		kryo.register(MatrixIndexes.class, new MatrixIndexesSerializer());
+		kryo.register(MatrixBlock.class, new MatrixBlockSerializer());
+		kryo.register(CompressedMatrixBlock.class, new MatrixBlockSerializer());
+		kryo.register(FrameBlock.class, new FrameBlockSerializer());
+	}
+	
+	public static class MatrixIndexesSerializer extends Serializer<MatrixIndexes> 
+	{
+		@Override
+		public void write(Kryo kryo, Output output, MatrixIndexes ix) {
+			output.writeVarLong(ix.getRowIndex(), true);
+			output.writeVarLong(ix.getColumnIndex(), true);
+		}
+
+		@Override
+		public MatrixIndexes read(Kryo kryo, Input input, Class<MatrixIndexes> type) {
+			long rix = input.readVarLong(true);
+			long cix = input.readVarLong(true);
+			return new MatrixIndexes(rix, cix);
+		}
+	}
+	
+	public static class MatrixBlockSerializer extends Serializer<MatrixBlock> 
+	{
+		//reused data input/output adapters (kryo instances are thread-local)
+		private final BlockDataOutput _out = new BlockDataOutput();
+		private final BlockDataInput _in = new BlockDataInput();
+		
+		@Override
+		public void write(Kryo kryo, Output output, MatrixBlock mb) {
+			try {
+				_out.setOutput(output);
+				mb.write(_out);
+			}
+			catch(IOException ex) {
+				throw new KryoException(ex);
+			}
+			finally {
+				_out.setOutput(null);
+			}
+		}
+
+		@Override
+		public MatrixBlock read(Kryo kryo, Input input, Class<MatrixBlock> type) {
+			MatrixBlock ret = CompressedMatrixBlock.class.isAssignableFrom(type) ? 
+				new CompressedMatrixBlock() : new MatrixBlock();
+			try {
+				_in.setInput(input);
+				ret.readFields(_in);
+			}
+			catch(IOException ex) {
+				throw new KryoException(ex);
+			}
+			finally {
+				_in.setInput(null);
+			}
+			return ret;
+		}
+	}
+	
+	public static class FrameBlockSerializer extends Serializer<FrameBlock> 
+	{
+		private final BlockDataOutput _out = new BlockDataOutput();
+		private final BlockDataInput _in = new BlockDataInput();
+		
+		@Override
+		public void write(Kryo kryo, Output output, FrameBlock fb) {
+			try {
+				_out.setOutput(output);
+				fb.write(_out);
+			}
+			catch(IOException ex) {
+				throw new KryoException(ex);
+			}
+			finally {
+				_out.setOutput(null);
+			}
+		}
+
+		@Override
+		public FrameBlock read(Kryo kryo, Input input, Class<FrameBlock> type) {
+			FrameBlock ret = new FrameBlock();
+			try {
+				_in.setInput(input);
+				ret.readFields(_in);
+			}
+			catch(IOException ex) {
+				throw new KryoException(ex);
+			}
+			finally {
+				_in.setInput(null);
+			}
+			return ret;
+		}
+	}
+	
+	/**
+	 * Data output over a kryo output, which serializes dense and sparse 
+	 * blocks in bulk via a small staging buffer (same big-endian layout 
+	 * as FastBufferedDataOutputStream).
+	 */
+	private static class BlockDataOutput extends KryoDataOutput implements MatrixBlockDataOutput
+	{
+		private final byte[] _buff = new byte[8192];
+		
+		public BlockDataOutput() {
+			super(null);
+		}
+		
+		@Override
+		public void writeDoubleArray(int len, double[] varr) 
+			throws IOException 
+		{
+			for( int i=0; i<len; i+=_buff.length/8 ) {
+				int blen = Math.min(_buff.length/8, len-i);
+				for( int j=0; j<blen; j++ )
+					longToBa(Double.doubleToRawLongBits(varr[i+j]), _buff, j*8);
+				output.writeBytes(_buff, 0, blen*8);
+			}
+		}
+
+		@Override
+		public void writeSparseRows(int rlen, SparseBlock rows) 
+			throws IOException 
+		{
+			int lrlen = Math.min(rows.numRows(), rlen);
+			
+			//process existing rows
+			for( int i=0; i<lrlen; i++ ) {
+				if( rows.isEmpty(i) ) {
+					output.writeInt(0);
+					continue;
+				}
+				int apos = rows.pos(i);
+				int alen = rows.size(i);
+				int[] aix = rows.indexes(i);
+				double[] avals = rows.values(i);
+				output.writeInt(alen);
+				for( int j=0; j<alen; j+=_buff.length/12 ) {
+					int blen = Math.min(_buff.length/12, alen-j);
+					for( int k=0, off=0; k<blen; k++, off+=12 ) {
+						intToBa(aix[apos+j+k], _buff, off);
+						longToBa(Double.doubleToRawLongBits(avals[apos+j+k]), _buff, off+4);
+					}
+					output.writeBytes(_buff, 0, blen*12);
+				}
+			}
+			
+			//process remaining empty rows
+			for( int i=lrlen; i<rlen; i++ )
+				output.writeInt(0);
+		}
+		
+		private static void intToBa( final int val, byte[] ba, final int off ) {
+			ba[ off+0 ] = (byte)((val >>> 24) & 0xFF);
+			ba[ off+1 ] = (byte)((val >>> 16) & 0xFF);
+			ba[ off+2 ] = (byte)((val >>>  8) & 0xFF);
+			ba[ off+3 ] = (byte)((val >>>  0) & 0xFF);
+		}
+		
+		private static void longToBa( final long val, byte[] ba, final int off ) {
+			ba[ off+0 ] = (byte)((val >>> 56) & 0xFF);
+			ba[ off+1 ] = (byte)((val >>> 48) & 0xFF);
+			ba[ off+2 ] = (byte)((val >>> 40) & 0xFF);
+			ba[ off+3 ] = (byte)((val >>> 32) & 0xFF);
+			ba[ off+4 ] = (byte)((val >>> 24) & 0xFF);
+			ba[ off+5 ] = (byte)((val >>> 16) & 0xFF);
+			ba[ off+6 ] = (byte)((val >>>  8) & 0xFF);
+			ba[ off+7 ] = (byte)((val >>>  0) & 0xFF);
+		}
+	}
+	
+	/**
+	 * Data input over a kryo input, which deserializes dense and sparse 
+	 * blocks in bulk via a small staging buffer (same big-endian layout 
+	 * as FastBufferedDataInputStream).
+	 */
+	private static class BlockDataInput extends KryoDataInput implements MatrixBlockDataInput
+	{
+		private final byte[] _buff = new byte[8192];
+		
+		public BlockDataInput() {
+			super(null);
+		}
+		
+		@Override
+		public long readDoubleArray(int len, double[] varr) 
+			throws IOException 
+		{
+			long nnz = 0;
+			for( int i=0; i<len; i+=_buff.length/8 ) {
+				int blen = Math.min(_buff.length/8, len-i);
+				input.readBytes(_buff, 0, blen*8);
+				for( int j=0; j<blen; j++ ) {
+					varr[i+j] = Double.longBitsToDouble(baToLong(_buff, j*8));
+					nnz += (varr[i+j]!=0) ? 1 : 0;
+				}
+			}
+			return nnz;
+		}
+
+		@Override
+		public long readSparseRows(int rlen, long nnz, SparseBlock rows) 
+			throws IOException 
+		{
+			//check for CSR quick-path
+			if( rows instanceof SparseBlockCSR ) {
+				((SparseBlockCSR) rows).initSparse(rlen, (int)nnz, this);
+				return nnz;
+			}
+			
+			long gnnz = 0;
+			for( int i=0; i<rlen; i++ ) {
+				int lnnz = input.readInt();
+				if( lnnz <= 0 ) 
+					continue;
+				rows.allocate(i, lnnz);
+				for( int j=0; j<lnnz; j+=_buff.length/12 ) {
+					int blen = Math.min(_buff.length/12, lnnz-j);
+					input.readBytes(_buff, 0, blen*12);
+					for( int k=0, off=0; k<blen; k++, off+=12 )
+						rows.append(i, baToInt(_buff, off),
+							Double.longBitsToDouble(baToLong(_buff, off+4)));
+				}
+				gnnz += lnnz;
+			}
+			
+			//sanity check valid number of read nnz
+			if( gnnz != nnz )
+				throw new IOException("Invalid number of read nnz: "+gnnz+" vs "+nnz);
+			
+			return nnz;
+		}
+		
+		private static int baToInt( byte[] ba, final int off ) {
+			return ((ba[off+0] & 0xFF) << 24) + ((ba[off+1] & 0xFF) << 16)
+				+  ((ba[off+2] & 0xFF) <<  8) + ((ba[off+3] & 0xFF) <<  0);
+		}
+		
+		private static long baToLong( byte[] ba, final int off ) {
+			return ((long)(ba[off+0] & 0xFF) << 56) + ((long)(ba[off+1] & 0xFF) << 48)
+				+  ((long)(ba[off+2] & 0xFF) << 40) + ((long)(ba[off+3] & 0xFF) << 32)
+				+  ((long)(ba[off+4] & 0xFF) << 24) + ((long)(ba[off+5] & 0xFF) << 16)
+				+  ((long)(ba[off+6] & 0xFF) <<  8) + ((long)(ba[off+7] & 0xFF) <<  0);
+		}
+	}
+}
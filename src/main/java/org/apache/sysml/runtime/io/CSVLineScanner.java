@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.io;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.hadoop.io.Text;
+import org.apache.sysml.parser.Expression.ValueType;
+
+/**
+ * Allocation-free scanner for delimited text lines, which operates directly
+ * on the reused byte buffer of a Hadoop text record. Lines are split by the
+ * whole delimiter while preserving all tokens (same semantics as 
+ * {@link IOUtilFunctions#split(String, String)}), and tokens are trimmed and
+ * parsed into numbers without creating intermediate string objects.
+ * 
+ * Decimal numbers with up to 18 significant digits are converted either 
+ * exactly (Clinger's fast path) or via the Eisel-Lemire algorithm with 
+ * 128-bit powers of five, both of which are correctly rounded. All other 
+ * inputs (more significant digits, subnormals, overflow, NaN, Infinity, 
+ * hex, type suffixes, or malformed input) fall back to the regular string 
+ * parsing, which gives identical results and error semantics.
+ * 
+ */
+public class CSVLineScanner 
+{
+	//exactly representable powers of ten (10^0 to 10^22)
+	private static final double[] POW10 = new double[] {
+		1e0,  1e1,  1e2,  1e3,  1e4,  1e5,  1e6,  1e7,  1e8,  1e9,  1e10, 1e11, 
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+	private static final long MAX_EXACT_MANT = 1L << 53;
+	private static final int MAX_MANT_DIGITS = 18;
+	
+	private final byte[] _delim;
+	private byte[] _buf = null;
+	private int _lbeg = 0; //begin of trimmed line
+	private int _lend = 0; //end of trimmed line
+	private int _pos = -1; //begin of next token, -1 if none
+	private int _tbeg = 0; //begin of trimmed current token
+	private int _tend = 0; //end of trimmed current token
+	
+	public CSVLineScanner(String delim) {
+		_delim = delim.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Indicates if the given delimiter can be handled by this scanner.
+	 * 
+	 * @param delim delimiter
+	 * @return true if supported
+	 */
+	public static boolean isSupported(String delim) {
+		return delim != null && !delim.isEmpty();
+	}
+	
+	/**
+	 * Resets the scanner to the given line. Leading and trailing whitespace 
+	 * of the line is ignored, and an empty line has no tokens.
+	 * 
+	 * @param line text line (UTF-8 encoded)
+	 */
+	public void reset(Text line) {
+		reset(line.getBytes(), 0, line.getLength());
+	}
+	
+	public void reset(byte[] buf, int off, int len) {
+		int beg = off, end = off + len;
+		while( beg < end && isWhitespace(buf[beg]) )
+			beg++;
+		while( end > beg && isWhitespace(buf[end-1]) )
+			end--;
+		_buf = buf;
+		_lbeg = beg;
+		_lend = end;
+		_pos = (beg < end) ? beg : -1;
+	}
+	
+	public boolean isEmptyLine() {
+		return _lbeg == _lend;
+	}
+	
+	public boolean startsWith(byte b) {
+		return _lbeg < _lend && _buf[_lbeg] == b;
+	}
+	
+	public boolean contains(byte b) {
+		for( int i=_lbeg; i<_lend; i++ )
+			if( _buf[i] == b )
+				return true;
+		return false;
+	}
+	
+	public boolean hasNext() {
+		return _pos >= 0;
+	}
+	
+	/**
+	 * Advances to the next token of the current line.
+	 */
+	public void next() {
+		int beg = _pos;
+		int end = indexOfDelim(beg);
+		_pos = (end < _lend) ? end + _delim.length : -1;
+		//trim current token
+		while( beg < end && isWhitespace(_buf[beg]) )
+			beg++;
+		while( end > beg && isWhitespace(_buf[end-1]) )
+			end--;
+		_tbeg = beg;
+		_tend = end;
+	}
+	
+	public boolean isEmptyToken() {
+		return _tbeg == _tend;
+	}
+	
+	public String getString() {
+		return new String(_buf, _tbeg, _tend-_tbeg, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Parses the current token as double with the semantics of 
+	 * {@link Double#parseDouble(String)}.
+	 * 
+	 * @return double value
+	 */
+	public double getDouble() {
+		byte[] b = _buf;
+		int i = _tbeg, end = _tend;
+		boolean neg = false;
+		if( i < end && (b[i]=='-' || b[i]=='+') )
+			neg = (b[i++]=='-');
+		
+		//parse integer and fractional digits
+		long mant = 0;
+		int ndigits = 0, exp10 = 0;
+		boolean digits = false;
+		for( ; i < end && isDigit(b[i]); i++ ) {
+			digits = true;
+			if( mant == 0 && b[i]=='0' )
+				continue; //leading zeros
+			if( ndigits++ >= MAX_MANT_DIGITS )
+				return parseDoubleDefault();
+			mant = mant * 10 + (b[i]-'0');
+		}
+		if( i < end && b[i]=='.' ) {
+			for( i++; i < end && isDigit(b[i]); i++ ) {
+				digits = true;
+				exp10--;
+				if( mant == 0 && b[i]=='0' )
+					continue; //leading zeros
+				if( ndigits++ >= MAX_MANT_DIGITS )
+					return parseDoubleDefault();
+				mant = mant * 10 + (b[i]-'0');
+			}
+		}
+		if( !digits )
+			return parseDoubleDefault();
+		
+		//parse exponent
+		if( i < end && (b[i]=='e' || b[i]=='E') ) {
+			boolean eneg = false;
+			if( ++i < end && (b[i]=='-' || b[i]=='+') )
+				eneg = (b[i++]=='-');
+			int exp = 0, edigits = 0;
+			for( ; i < end && isDigit(b[i]); i++ ) {
+				if( edigits++ >= 4 )
+					return parseDoubleDefault();
+				exp = exp * 10 + (b[i]-'0');
+			}
+			if( edigits == 0 )
+				return parseDoubleDefault();
+			exp10 += eneg ? -exp : exp;
+		}
+		
+		//fallback for trailing characters and non-exact cases
+		if( i != end || mant > MAX_EXACT_MANT )
+			return parseDoubleDefault();
+		double ret = 0;
+		if( mant == 0 || exp10 == 0 )
+			ret = mant;
+		else if( exp10 > 0 && exp10 < POW10.length )
+			ret = mant * POW10[exp10];
+		else if( exp10 < 0 && -exp10 < POW10.length )
+			ret = mant / POW10[-exp10];
+		else {
+			long bits = computeDoubleBits(mant, exp10);
+			if( bits < 0 )
+				return parseDoubleDefault();
+			ret = Double.longBitsToDouble(bits);
+		}
+		return neg ? -ret : ret;
+	}
+	
+	/**
+	 * Parses the current token as long with the semantics of 
+	 * {@link Long#parseLong(String)}.
+	 * 
+	 * @return long value
+	 */
+	public long getLong() {
+		byte[] b = _buf;
+		int i = _tbeg, end = _tend;
+		boolean neg = false;
+		if( i < end && (b[i]=='-' || b[i]=='+') )
+			neg = (b[i++]=='-');
+		if( i == end || end - i > MAX_MANT_DIGITS )
+			return Long.parseLong(getString());
+		long ret = 0;
+		for( ; i < end; i++ ) {
+			if( !isDigit(b[i]) )
+				return Long.parseLong(getString());
+			ret = ret * 10 + (b[i]-'0');
+		}
+		return neg ? -ret : ret;
+	}
+	
+	/**
+	 * Parses the current token as boolean with the semantics of 
+	 * {@link Boolean#parseBoolean(String)}.
+	 * 
+	 * @return boolean value
+	 */
+	public boolean getBoolean() {
+		byte[] b = _buf;
+		int i = _tbeg;
+		return _tend - i == 4 && (b[i]|0x20)=='t' && (b[i+1]|0x20)=='r'
+			&& (b[i+2]|0x20)=='u' && (b[i+3]|0x20)=='e';
+	}
+	
+	/**
+	 * Parses the current token into an object of the given value type,
+	 * with the semantics of {@link org.apache.sysml.runtime.util.UtilFunctions#stringToObject}.
+	 * 
+	 * @param vt value type
+	 * @return object of given value type
+	 */
+	public Object getObject(ValueType vt) {
+		switch( vt ) {
+			case STRING:  return getString();
+			case BOOLEAN: return getBoolean();
+			case INT:     return getLong();
+			case DOUBLE:  return getDouble();
+			default: throw new RuntimeException("Unsupported value type: "+vt);
+		}
+	}
+	
+	/**
+	 * Obtains the current line as string, which is only meant for 
+	 * error messages.
+	 */
+	@Override
+	public String toString() {
+		return (_buf != null) ? new String(_buf, _lbeg, 
+			_lend-_lbeg, StandardCharsets.UTF_8) : "";
+	}
+	
+	/**
+	 * Eisel-Lemire conversion of w * 10^q (for w &gt; 0 with at most 
+	 * 18 digits) into the bits of the correctly rounded, positive and 
+	 * normal double value.
+	 * 
+	 * @param w decimal significand
+	 * @param q decimal exponent
+	 * @return double bits, or -1 if the fallback is required
+	 */
+	private static long computeDoubleBits(long w, int q) {
+		if( q < Pow5Table.MIN_Q || q > Pow5Table.MAX_Q )
+			return -1;
+		//normalize significand and multiply w/ truncated 128-bit 5^q
+		int lz = Long.numberOfLeadingZeros(w);
+		w <<= lz;
+		int ix = 2 * (q - Pow5Table.MIN_Q);
+		long hi = multiplyHighUnsigned(w, Pow5Table.POW5[ix]);
+		long lo = w * Pow5Table.POW5[ix];
+		if( (hi & 0x1FF) == 0x1FF ) {
+			long hi2 = multiplyHighUnsigned(w, Pow5Table.POW5[ix+1]);
+			lo += hi2;
+			if( Long.compareUnsigned(hi2, lo) > 0 )
+				hi++;
+			if( lo == -1 && (q < -27 || q > 55) )
+				return -1; //ambiguous lower bits
+		}
+		//extract 54 bits, round half to even, and handle carry
+		int upperbit = (int)(hi >>> 63);
+		int shift = upperbit + 9;
+		long m = hi >>> shift;
+		int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperbit - lz + 1023;
+		if( power2 <= 0 )
+			return -1; //subnormal
+		if( (lo == 0 || lo == 1) && q >= -4 && q <= 23 
+			&& (m & 3) == 1 && (m << shift) == hi )
+			m &= ~1L;
+		m = (m + (m & 1)) >>> 1;
+		if( m >= (2L << 52) ) {
+			m = 1L << 52;
+			power2++;
+		}
+		if( power2 >= 0x7FF )
+			return -1; //overflow
+		return (m & ~(1L << 52)) | ((long)power2 << 52);
+	}
+	
+	private static long multiplyHighUnsigned(long x, long y) {
+		//signed multiply high (as in JDK9+ Math.multiplyHigh), then unsigned correction
+		long x1 = x >> 32, x2 = x & 0xFFFFFFFFL;
+		long y1 = y >> 32, y2 = y & 0xFFFFFFFFL;
+		long z2 = x2 * y2;
+		long t = x1 * y2 + (z2 >>> 32);
+		long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+		long z0 = t >> 32;
+		long ret = x1 * y1 + z0 + (z1 >> 32);
+		return ret + ((x >> 63) & y) + ((y >> 63) & x);
+	}
+	
+	private double parseDoubleDefault() {
+		return IOUtilFunctions.parseDoubleParallel(getString());
+	}
+	
+	private int indexOfDelim(int from) {
+		byte[] b = _buf;
+		byte[] d = _delim;
+		byte d0 = d[0];
+		int dlen = d.length;
+		for( int i=from; i<=_lend-dlen; i++ ) {
+			if( b[i] != d0 )
+				continue;
+			int j = 1;
+			while( j < dlen && b[i+j]==d[j] )
+				j++;
+			if( j == dlen )
+				return i;
+		}
+		return _lend;
+	}
+	
+	private static boolean isWhitespace(byte b) {
+		//consistent with String.trim (chars <= ' '), i.e., bytes of multi-byte
+		//UTF-8 chars (>= 0x80) are never trimmed, incl unicode spaces like U+00A0
+		return (b & 0xff) <= ' ';
+	}
+	
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+	
+	/**
+	 * Lazily computed table of 128-bit powers of five 5^q, normalized
+	 * to a leading one bit, stored as pairs of high and low words.
+	 */
+	private static class Pow5Table {
+		private static final int MIN_Q = -342;
+		private static final int MAX_Q = 308;
+		private static final long[] POW5 = new long[2 * (MAX_Q - MIN_Q + 1)];
+		
+		static {
+			BigInteger five = BigInteger.valueOf(5);
+			for( int q = MIN_Q; q <= MAX_Q; q++ ) {
+				BigInteger c = null;
+				if( q < 0 ) {
+					//rounded-up reciprocal 2^b / 5^-q + 1
+					BigInteger p5 = five.pow(-q);
+					int z = p5.subtract(BigInteger.ONE).bitLength();
+					int b = (q >= -27) ? z + 127 : 2 * z + 128;
+					c = BigInteger.ONE.shiftLeft(b).divide(p5).add(BigInteger.ONE);
+				}
+				else {
+					c = five.pow(q);
+				}
+				//normalize to [2^127, 2^128) by shifting or truncation
+				c = c.shiftLeft(128 - c.bitLength());
+				int ix = 2 * (q - MIN_Q);
+				POW5[ix] = c.shiftRight(64).longValue();
+				POW5[ix+1] = c.longValue();
+			}
+		}
+	}
+}
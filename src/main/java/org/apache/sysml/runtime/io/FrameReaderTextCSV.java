@@ -33,6 +33,7 @@ import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.hadoop.mapred.InputFormat;
+import org.apache.sysml.conf.CompilerConfig.ConfigType;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.DMLRuntimeException;
@@ -50,9 +51,12 @@ import org.apache.sysml.runtime.util.UtilFunctions;
 public class FrameReaderTextCSV extends FrameReader
 {
 	protected CSVFileFormatProperties _props = null;
+	protected boolean _fastParse = false;
 	
 	public FrameReaderTextCSV(CSVFileFormatProperties props) {
 		_props = props;
+		_fastParse = ConfigurationManager.getCompilerConfigFlag(ConfigType.FAST_CSV_PARSING)
+			&& CSVLineScanner.isSupported(props.getDelim());
 	}
 
 	@Override
@@ -127,6 +131,7 @@ public class FrameReaderTextCSV extends FrameReader
 		double dfillValue = _props.getFillValue();
 		String sfillValue = String.valueOf(_props.getFillValue());
 		String delim = _props.getDelim();
+		CSVLineScanner scanner = _fastParse ? new CSVLineScanner(delim) : null;
 		
 		//create record reader
 		RecordReader<LongWritable, Text> reader = informat.getRecordReader(split, job, Reporter.NULL);
@@ -147,6 +152,35 @@ public class FrameReaderTextCSV extends FrameReader
 		{
 			while( reader.next(key, value) ) //foreach line
 			{
+				//byte-level parsing of lines w/o quotes and meta data
+				if( scanner != null ) {
+					scanner.reset(value);
+					if( !scanner.isEmptyLine() && !scanner.startsWith((byte)'#')
+						&& !scanner.contains((byte)'"') ) {
+						emptyValuesFound = false; col = 0;
+						while( scanner.hasNext() ) //foreach cell
+						{
+							scanner.next();
+							if( scanner.isEmptyToken() ) {
+								if( isFill && dfillValue!=0 )
+									dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
+								emptyValuesFound = true;
+							}
+							else {
+								dest.set(row, col, scanner.getObject(schema[col]));
+							}
+							col++;
+						}
+						
+						//sanity checks for empty values and number of columns
+						IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(
+							emptyValuesFound ? scanner.toString() : null, isFill, emptyValuesFound);
+						IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", scanner, col, clen);
+						row++;
+						continue;
+					}
+				}
+				
 				String cellStr = value.toString().trim();
 				emptyValuesFound = false; col = 0;
 				String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
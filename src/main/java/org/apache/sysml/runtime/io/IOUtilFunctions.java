@@ -139,6 +139,16 @@ public class IOUtilFunctions
 		}
 	}
 	
+	public static void checkAndRaiseErrorCSVNumColumns(String fname, CSVLineScanner line, int realncol, long ncol) 
+		throws IOException
+	{
+		//line string only created on errors
+		if( realncol != ncol ) {
+			throw new IOException("Invalid number of columns (" + realncol + ", expected=" + ncol + ") "
+					+ "found in delimited file (" + fname + ") for line: " + line.toString());
+		}
+	}
+	
 	/**
 	 * Splits a string by a specified delimiter into all tokens, including empty.
 	 * NOTE: This method is meant as a faster drop-in replacement of the regular 
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.mapred.IndexedMatrixValue;
+
+/**
+ * Reader for the compressed binary block format. Compressed row blocks of the 
+ * entire width (as written from CP) are reassembled into a single compressed block 
+ * (w/o decompression or compression planning), while files of regular blocks 
+ * (e.g., written by distributed operations) are decompressed into a single block.
+ * 
+ */
+public class ReaderCompressedBinaryBlock extends MatrixReader
+{
+	protected boolean _localFS = false;
+	
+	public ReaderCompressedBinaryBlock( boolean localFS ) {
+		_localFS = localFS;
+	}
+	
+	public void setLocalFS(boolean flag) {
+		_localFS = flag;
+	}
+	
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int brlen, int bclen, long estnnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( (_localFS ? "file:///" : "") + fname); 
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//check existence and non-empty file
+		checkValidInputFile(fs, path); 
+	
+		//core read of all blocks
+		ArrayList<IndexedMatrixValue> blocks = 
+			readCompressedBlocksFromHDFS(path, job, fs, rlen, clen, brlen, bclen);
+		
+		//return single compressed block or combine blocks
+		return combineBlocks(blocks, rlen, clen, brlen, bclen, estnnz, getNumThreads());
+	}
+	
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int brlen, int bclen, long estnnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+	
+	protected int getNumThreads() {
+		return 1;
+	}
+	
+	protected ArrayList<IndexedMatrixValue> readCompressedBlocksFromHDFS( Path path, JobConf job, FileSystem fs, long rlen, long clen, int brlen, int bclen ) 
+		throws IOException, DMLRuntimeException
+	{
+		ArrayList<IndexedMatrixValue> ret = new ArrayList<>();
+		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) //1..N files 
+			readCompressedBlocksFromSequenceFile(lpath, job, ret, rlen, clen, brlen, bclen);
+		return ret;
+	}
+	
+	protected static void readCompressedBlocksFromSequenceFile( Path path, JobConf job, Collection<IndexedMatrixValue> dest, long rlen, long clen, int brlen, int bclen ) 
+		throws IOException, DMLRuntimeException
+	{
+		MatrixIndexes key = new MatrixIndexes();
+		
+		//directly read from sequence files (individual partfiles)
+		SequenceFile.Reader reader = new SequenceFile
+			.Reader(job, SequenceFile.Reader.file(path));
+		
+		try
+		{
+			//note: new value per block because compressed blocks are kept as is
+			CompressedMatrixBlock value = new CompressedMatrixBlock();
+			while( reader.next(key, value) )
+			{
+				int row_offset = (int)(key.getRowIndex()-1)*brlen;
+				int col_offset = (int)(key.getColumnIndex()-1)*bclen;
+				int rows = value.getNumRows();
+				int cols = value.getNumColumns();
+				
+				//bound check per block
+				if( row_offset + rows < 0 || row_offset + rows > rlen || col_offset + cols<0 || col_offset + cols > clen ) {
+					throw new IOException("Matrix block ["+(row_offset+1)+":"+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
+						"out of overall matrix range [1:"+rlen+",1:"+clen+"].");
+				}
+				
+				//keep compressed row blocks of entire width, decompress regular blocks
+				MatrixBlock block = (cols == clen) ? value : value.decompress();
+				dest.add(new IndexedMatrixValue(key, block));
+				value = new CompressedMatrixBlock();
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+	}
+	
+	protected static MatrixBlock combineBlocks( ArrayList<IndexedMatrixValue> blocks, long rlen, long clen, int brlen, int bclen, long estnnz, int k ) 
+		throws IOException, DMLRuntimeException
+	{
+		//quick path: single block of entire matrix
+		if( blocks.size() == 1 ) {
+			MatrixBlock block = (MatrixBlock) blocks.get(0).getValue();
+			if( block.getNumRows() == rlen && block.getNumColumns() == clen )
+				return block;
+		}
+		
+		//reassemble compressed row blocks with common column groups
+		CompressedMatrixBlock cmb = combineCompressedRowBlocks(blocks, rlen, clen, brlen, k);
+		if( cmb != null )
+			return cmb;
+		
+		//allocate output matrix block
+		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, brlen, bclen, estnnz, false, false);
+		boolean sparse = ret.isInSparseFormat();
+		long lnnz = 0; //aggregate block nnz
+		
+		for( IndexedMatrixValue tmp : blocks ) {
+			MatrixIndexes key = tmp.getIndexes();
+			MatrixBlock value = (MatrixBlock) tmp.getValue();
+			if( value instanceof CompressedMatrixBlock )
+				value = ((CompressedMatrixBlock) value).decompress();
+			
+			//empty block filter (skip entire block)
+			if( value.isEmptyBlock(false) )
+				continue;
+			
+			int row_offset = (int)(key.getRowIndex()-1)*brlen;
+			int col_offset = (int)(key.getColumnIndex()-1)*bclen;
+			
+			//copy block to result
+			if( sparse ) {
+				//note: append requires final sort (but prevents repeated shifting)
+				ret.appendToSparse(value, row_offset, col_offset);
+			}
+			else {
+				ret.copy( row_offset, row_offset+value.getNumRows()-1, 
+					col_offset, col_offset+value.getNumColumns()-1, value, false );
+			}
+			
+			//maintain nnz as aggregate of block nnz
+			lnnz += value.getNonZeros();
+		}
+		
+		//post-processing
+		ret.setNonZeros( lnnz );
+		if( sparse && clen>bclen ) {
+			//no need to sort if 1 column block since always sorted
+			ret.sortSparseRows();
+		}
+		ret.examSparsity();
+		
+		return ret;
+	}
+	
+	private static CompressedMatrixBlock combineCompressedRowBlocks( ArrayList<IndexedMatrixValue> blocks, long rlen, long clen, int brlen, int k ) 
+		throws DMLRuntimeException
+	{
+		//check for complete sequence of compressed row blocks of entire width
+		int numBlocks = (int)Math.ceil((double)rlen/brlen);
+		if( blocks.size() != numBlocks )
+			return null;
+		CompressedMatrixBlock[] tmp = new CompressedMatrixBlock[numBlocks];
+		for( IndexedMatrixValue block : blocks ) {
+			MatrixIndexes key = block.getIndexes();
+			MatrixBlock value = (MatrixBlock) block.getValue();
+			int bi = (int)key.getRowIndex()-1;
+			if( !(value instanceof CompressedMatrixBlock) || key.getColumnIndex() != 1 
+				|| bi < 0 || bi >= numBlocks || tmp[bi] != null || value.getNumRows() != Math.min(brlen, rlen-(long)bi*brlen) 
+				|| value.getNumColumns() != clen )
+				return null;
+			tmp[bi] = (CompressedMatrixBlock) value;
+		}
+		
+		//reassemble column groups (null if not shared by all blocks)
+		return CompressedMatrixBlock.rbindRowsCompressed(Arrays.asList(tmp), k);
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.mapred.IndexedMatrixValue;
+
+/**
+ * Multi-threaded reader for the compressed binary block format, which reads
+ * (and decompresses regular blocks of) the individual part files in parallel,
+ * and reassembles the column groups of compressed row blocks in parallel.
+ * 
+ */
+public class ReaderCompressedBinaryBlockParallel extends ReaderCompressedBinaryBlock 
+{
+	private static int _numThreads = 1;
+	
+	public ReaderCompressedBinaryBlockParallel( boolean localFS ) {
+		super(localFS);
+		_numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
+	}
+	
+	@Override
+	protected int getNumThreads() {
+		return _numThreads;
+	}
+	
+	@Override
+	protected ArrayList<IndexedMatrixValue> readCompressedBlocksFromHDFS( Path path, JobConf job, FileSystem fs, long rlen, long clen, int brlen, int bclen ) 
+		throws IOException, DMLRuntimeException
+	{
+		Path[] files = IOUtilFunctions.getSequenceFilePaths(fs, path);
+		
+		//fall back to sequential read for single files
+		if( files.length <= 1 )
+			return super.readCompressedBlocksFromHDFS(path, job, fs, rlen, clen, brlen, bclen);
+		
+		try 
+		{
+			//create read tasks for all files
+			ExecutorService pool = Executors.newFixedThreadPool(
+				Math.max(Math.min(_numThreads, files.length), 1));
+			ArrayList<ReadFileTask> tasks = new ArrayList<>();
+			for( Path lpath : files )
+				tasks.add(new ReadFileTask(lpath, job, rlen, clen, brlen, bclen));
+			
+			//wait until all tasks have been executed
+			List<Future<ArrayList<IndexedMatrixValue>>> rt = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//check for exceptions and collect blocks
+			ArrayList<IndexedMatrixValue> ret = new ArrayList<>();
+			for( Future<ArrayList<IndexedMatrixValue>> task : rt )
+				ret.addAll(task.get());
+			return ret;
+		} 
+		catch (Exception e) {
+			throw new IOException("Failed parallel read of compressed binary block input.", e);
+		}
+	}
+	
+	private static class ReadFileTask implements Callable<ArrayList<IndexedMatrixValue>> 
+	{
+		private Path _path = null;
+		private JobConf _job = null;
+		private long _rlen = -1;
+		private long _clen = -1;
+		private int _brlen = -1;
+		private int _bclen = -1;
+		
+		public ReadFileTask(Path path, JobConf job, long rlen, long clen, int brlen, int bclen) {
+			_path = path;
+			_job = job;
+			_rlen = rlen;
+			_clen = clen;
+			_brlen = brlen;
+			_bclen = bclen;
+		}
+		
+		@Override
+		public ArrayList<IndexedMatrixValue> call() throws Exception {
+			ArrayList<IndexedMatrixValue> ret = new ArrayList<>();
+			readCompressedBlocksFromSequenceFile(_path, _job, ret, _rlen, _clen, _brlen, _bclen);
+			return ret;
+		}
+	}
+}
@@ -38,6 +38,7 @@ import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapred.TextInputFormat;
 
+import org.apache.sysml.conf.CompilerConfig.ConfigType;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.runtime.DMLRuntimeException;
@@ -53,18 +54,23 @@ import org.apache.sysml.runtime.matrix.data.MatrixBlock;
  * sparse, because splits contain row partitioned lines and hence there is no
  * danger of lost updates. Note, there is also no sorting of sparse rows
  * required because data comes in sorted order per row.
+ * If enabled, lines are tokenized and parsed directly from the reused
+ * byte buffers of the record readers (see CSVLineScanner).
  * 
  */
 public class ReaderTextCSVParallel extends MatrixReader 
 {
 	private CSVFileFormatProperties _props = null;
 	private int _numThreads = 1;
+	private boolean _fastParse = false;
 
 	private SplitOffsetInfos _offsets = null;
 
 	public ReaderTextCSVParallel(CSVFileFormatProperties props) {
 		_numThreads = OptimizerUtils.getParallelTextReadParallelism();
 		_props = props;
+		_fastParse = ConfigurationManager.getCompilerConfigFlag(ConfigType.FAST_CSV_PARSING)
+			&& CSVLineScanner.isSupported(props.getDelim());
 	}
 
 	@Override
@@ -137,7 +143,7 @@ public class ReaderTextCSVParallel extends MatrixReader
 			int splitCount = 0;
 			for (InputSplit split : splits) {
 				tasks.add( new CSVReadTask(split, _offsets, informat, job, dest, 
-					rlen, clen, hasHeader, delim, fill, fillValue, splitCount++) );
+					rlen, clen, hasHeader, delim, fill, fillValue, splitCount++, _fastParse) );
 			}
 			pool.invokeAll(tasks);
 			pool.shutdown();
@@ -321,6 +327,7 @@ public class ReaderTextCSVParallel extends MatrixReader
 		private double _fillValue = 0;
 		private String _delim = null;
 		private int _splitCount = 0;
+		private CSVLineScanner _scanner = null;
 		
 		private boolean _rc = true;
 		private Exception _exception = null;
@@ -329,7 +336,7 @@ public class ReaderTextCSVParallel extends MatrixReader
 		public CSVReadTask(InputSplit split, SplitOffsetInfos offsets,
 				TextInputFormat informat, JobConf job, MatrixBlock dest,
 				long rlen, long clen, boolean hasHeader, String delim,
-				boolean fill, double fillValue, int splitCount) 
+				boolean fill, double fillValue, int splitCount, boolean fastParse) 
 		{
 			_split = split;
 			_splitoffsets = offsets; // new SplitOffsetInfos(offsets);
@@ -346,6 +353,7 @@ public class ReaderTextCSVParallel extends MatrixReader
 			_delim = delim;
 			_rc = true;
 			_splitCount = splitCount;
+			_scanner = fastParse ? new CSVLineScanner(delim) : null;
 		}
 
 		public boolean getReturnCode() {
@@ -384,7 +392,43 @@ public class ReaderTextCSVParallel extends MatrixReader
 				row = _splitoffsets.getOffsetPerSplit(_splitCount);
 
 				try {
-					if (_sparse) // SPARSE<-value
+					if (_scanner != null) // SPARSE/DENSE<-bytes
+					{
+						while (reader.next(key, value)) // foreach line
+						{
+							_scanner.reset(value);
+							col = 0;
+
+							while (_scanner.hasNext()) // foreach cell
+							{
+								_scanner.next();
+								if (_scanner.isEmptyToken()) {
+									noFillEmpty |= !_fill;
+									cellValue = _fillValue;
+								}
+								else {
+									cellValue = _scanner.getDouble();
+								}
+
+								if( cellValue != 0 ) {
+									if( _sparse )
+										_dest.appendValue(row, col, cellValue);
+									else
+										_dest.setValueDenseUnsafe(row, col, cellValue);
+									lnnz++;
+								}
+								col++;
+							}
+
+							// sanity checks (number of columns, fill values), w/ lazy line strings
+							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(
+								noFillEmpty ? _scanner.toString() : null, _fill, noFillEmpty);
+							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), _scanner, col, _clen);
+							
+							row++;
+						}
+					}
+					else if (_sparse) // SPARSE<-value
 					{
 						while (reader.next(key, value)) // foreach line
 						{
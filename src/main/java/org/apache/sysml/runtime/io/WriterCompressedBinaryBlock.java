@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.mapred.MRConfigurationNames;
+import org.apache.sysml.runtime.util.MapReduceTool;
+
+/**
+ * Writer for the compressed binary block format, i.e., sequence files of matrix
+ * indexes and compressed matrix blocks. Compressible matrices are written as 
+ * compressed row blocks of size brlen x clen, which share the column group partitioning
+ * of the entire matrix. This allows subsequent reads to reassemble the compressed 
+ * representation without repeated compression planning, while keeping individual
+ * records small and files splittable. Large matrices are written to multiple part
+ * files in parallel. Incompressible matrices are written as regular blocks of size 
+ * brlen x bclen.
+ * 
+ */
+public class WriterCompressedBinaryBlock extends MatrixWriter
+{
+	protected int _replication = -1;
+	
+	public WriterCompressedBinaryBlock( int replication ) {
+		_replication  = replication;
+	}
+
+	@Override
+	public final void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int brlen, int bclen, long nnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//if the file already exists on HDFS, remove it.
+		MapReduceTool.deleteFileIfExistOnHDFS( fname );
+		
+		//compress a shallow copy of uncompressed inputs (input remains unchanged)
+		CompressedMatrixBlock cmb = null;
+		if( src instanceof CompressedMatrixBlock && ((CompressedMatrixBlock)src).isCompressed() )
+			cmb = (CompressedMatrixBlock) src;
+		else if( !src.isEmptyBlock(false) ) {
+			cmb = new CompressedMatrixBlock(src);
+			cmb.compress(OptimizerUtils.getConstrainedNumThreads(-1));
+		}
+		
+		//core write of single compressed block or regular blocks
+		if( cmb != null && !cmb.isSingleUncompressedGroup() )
+			writeCompressedMatrixToHDFS(path, job, fs, cmb, brlen);
+		else
+			writeBinaryBlockMatrixToSequenceFile(path, job, fs, 
+				(cmb != null) ? cmb.decompress() : src, brlen, bclen);
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public final void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int brlen, int bclen) 
+		throws IOException, DMLRuntimeException 
+	{
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		SequenceFile.Writer writer = null;
+		try {
+			writer = new SequenceFile.Writer(fs, job, path,
+				MatrixIndexes.class, CompressedMatrixBlock.class);
+			
+			MatrixIndexes index = new MatrixIndexes(1, 1);
+			CompressedMatrixBlock block = new CompressedMatrixBlock((int)Math.min(rlen, brlen),
+				(int)Math.min(clen, bclen), true);
+			writer.append(index, block);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	private void writeCompressedMatrixToHDFS( Path path, JobConf job, FileSystem fs, CompressedMatrixBlock src, int brlen ) 
+		throws IOException, DMLRuntimeException
+	{
+		int rlen = src.getNumRows();
+		
+		//estimate output size and number of output files (min 1, max number of row blocks)
+		int numPartFiles = (int)(src.getExactSizeOnDisk() / InfrastructureAnalyzer.getHDFSBlockSize());
+		numPartFiles = Math.max(Math.min(numPartFiles, (rlen+brlen-1)/brlen), 1);
+		
+		//fall back to sequential write for small outputs (e.g., <128MB) in order to create single file
+		if( numPartFiles <= 1 ) {
+			writeCompressedMatrixToSequenceFile(path, job, fs, src, brlen, 0, rlen);
+			return;
+		}
+		
+		//determine degree of parallelism
+		int numThreads = OptimizerUtils.getParallelBinaryWriteParallelism();
+		numThreads = Math.max(Math.min(numThreads, numPartFiles), 1);
+		
+		//create directory for concurrent tasks
+		MapReduceTool.createDirIfNotExistOnHDFS(path, DMLConfig.DEFAULT_SHARED_DIR_PERMISSION);
+		
+		//create and execute write tasks (one per part file)
+		try 
+		{
+			ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+			ArrayList<WriteFileTask> tasks = new ArrayList<>();
+			int blklen = (int)Math.ceil((double)rlen / brlen / numPartFiles) * brlen;
+			for(int i=0; i<numPartFiles & i*blklen<rlen; i++) {
+				Path newPath = new Path(path, IOUtilFunctions.getPartFileName(i));
+				tasks.add(new WriteFileTask(newPath, job, fs, src, brlen, i*blklen, Math.min((i+1)*blklen, rlen)));
+			}
+			
+			//wait until all tasks have been executed
+			List<Future<Object>> rt = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//check for exceptions 
+			for( Future<Object> task : rt )
+				task.get();
+			
+			// delete crc files if written to local file system
+			if (fs instanceof LocalFileSystem) {
+				for(int i=0; i<numPartFiles & i*blklen<rlen; i++) 
+					IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs,
+						new Path(path, IOUtilFunctions.getPartFileName(i)));
+			}
+		} 
+		catch (Exception e) {
+			throw new IOException("Failed parallel write of compressed binary block input.", e);
+		}
+	}
+	
+	private void writeCompressedMatrixToSequenceFile( Path path, JobConf job, FileSystem fs, CompressedMatrixBlock src, int brlen, int rl, int ru ) 
+		throws IOException, DMLRuntimeException
+	{
+		int rlen = src.getNumRows();
+		
+		SequenceFile.Writer writer = createSequenceFileWriter(path, job, fs);
+		try {
+			//write compressed row blocks of size brlen x clen, all of which 
+			//share the column group partitioning of the entire matrix
+			MatrixIndexes indexes = new MatrixIndexes();
+			for( int bi=rl; bi<ru; bi+=brlen ) {
+				int maxRow = Math.min(bi+brlen, rlen);
+				CompressedMatrixBlock block = (bi==0 && maxRow==rlen) ? 
+					src : src.sliceRowsCompressed(bi, maxRow-1);
+				indexes.setIndexes(bi/brlen+1, 1);
+				writer.append(indexes, block);
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+	}
+
+	private void writeBinaryBlockMatrixToSequenceFile( Path path, JobConf job, FileSystem fs, MatrixBlock src, int brlen, int bclen ) 
+		throws IOException, DMLRuntimeException
+	{
+		int rlen = src.getNumRows();
+		int clen = src.getNumColumns();
+		
+		SequenceFile.Writer writer = createSequenceFileWriter(path, job, fs);
+		try
+		{
+			//create and write uncompressed subblocks of matrix
+			MatrixIndexes indexes = new MatrixIndexes();
+			for(int blockRow = 0; blockRow < (int)Math.ceil(rlen/(double)brlen); blockRow++)
+				for(int blockCol = 0; blockCol < (int)Math.ceil(clen/(double)bclen); blockCol++)
+				{
+					int maxRow = (blockRow*brlen + brlen < rlen) ? brlen : rlen - blockRow*brlen;
+					int maxCol = (blockCol*bclen + bclen < clen) ? bclen : clen - blockCol*bclen;
+					int row_offset = blockRow*brlen;
+					int col_offset = blockCol*bclen;
+					
+					//copy submatrix to block
+					MatrixBlock block = src.sliceOperations( row_offset, row_offset+maxRow-1, 
+						col_offset, col_offset+maxCol-1, new MatrixBlock() );
+					
+					//append block to sequence file
+					indexes.setIndexes(blockRow+1, blockCol+1);
+					writer.append(indexes, new CompressedMatrixBlock(block));
+				}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+	}
+
+	private class WriteFileTask implements Callable<Object> 
+	{
+		private Path _path = null;
+		private JobConf _job = null;
+		private FileSystem _fs = null;
+		private CompressedMatrixBlock _src = null;
+		private int _brlen = -1;
+		private int _rl = -1;
+		private int _ru = -1;
+		
+		public WriteFileTask(Path path, JobConf job, FileSystem fs, CompressedMatrixBlock src, int brlen, int rl, int ru) {
+			_path = path;
+			_job = job;
+			_fs = fs;
+			_src = src;
+			_brlen = brlen;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() 
+			throws Exception 
+		{
+			writeCompressedMatrixToSequenceFile(_path, _job, _fs, _src, _brlen, _rl, _ru);
+			return null;
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private SequenceFile.Writer createSequenceFileWriter( Path path, JobConf job, FileSystem fs ) 
+		throws IOException
+	{
+		// create sequence file writer, with right replication factor 
+		// (config via MRConfigurationNames.DFS_REPLICATION not possible since sequence file internally calls fs.getDefaultReplication())
+		if( _replication > 0 ) { //if replication specified (otherwise default)
+			//copy of SequenceFile.Writer(fs, job, path, MatrixIndexes.class, CompressedMatrixBlock.class), except for replication
+			return new SequenceFile.Writer(fs, job, path, MatrixIndexes.class, CompressedMatrixBlock.class, 
+				job.getInt(MRConfigurationNames.IO_FILE_BUFFER_SIZE, 4096),
+				(short)_replication, fs.getDefaultBlockSize(), null, new SequenceFile.Metadata());
+		}
+		return new SequenceFile.Writer(fs, job, path, MatrixIndexes.class, CompressedMatrixBlock.class);
+	}
+}
@@ -645,7 +645,7 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		//read columns (value type, meta, data)
 		for( int j=0; j<numCols; j++ ) {
 			ValueType vt = ValueType.values()[in.readByte()];
-			String name = isDefaultMeta ? createColName(j) : in.readUTF();
+			String name = isDefaultMeta ? createColName(j+1) : in.readUTF();
 			long ndistinct = isDefaultMeta ? 0 : in.readLong();
 			String mvvalue = isDefaultMeta ? null : in.readUTF();
 			Array arr = null;
@@ -33,6 +33,7 @@ import org.apache.hadoop.mapred.SequenceFileInputFormat;
 import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.sysml.parser.DataExpression;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysml.runtime.matrix.MetaData;
 import org.apache.sysml.runtime.matrix.sort.PickFromCompactInputFormat;
 
@@ -66,6 +67,8 @@ public class InputInfo implements Serializable
 			MatrixIndexes.class, MatrixCell.class);
 	public static final InputInfo BinaryBlockInputInfo=new InputInfo(
 			SequenceFileInputFormat.class, MatrixIndexes.class, MatrixBlock.class); 
+	public static final InputInfo CompressedBinaryBlockInputInfo=new InputInfo(
+			SequenceFileInputFormat.class, MatrixIndexes.class, CompressedMatrixBlock.class); 
 	public static final InputInfo BinaryBlockFrameInputInfo=new InputInfo(
 			SequenceFileInputFormat.class, LongWritable.class, FrameBlock.class); 
 	
@@ -86,6 +89,8 @@ public class InputInfo implements Serializable
 	public static OutputInfo getMatchingOutputInfo(InputInfo ii) throws DMLRuntimeException {
 		if ( ii == InputInfo.BinaryBlockInputInfo )
 			return OutputInfo.BinaryBlockOutputInfo;
+		else if ( ii == InputInfo.CompressedBinaryBlockInputInfo )
+			return OutputInfo.CompressedBinaryBlockOutputInfo;
 		else if ( ii == InputInfo.MatrixMarketInputInfo)
 			return OutputInfo.MatrixMarketOutputInfo;
 		else if ( ii == InputInfo.BinaryCellInputInfo ) 
@@ -117,6 +122,9 @@ public class InputInfo implements Serializable
 		else if (str.equalsIgnoreCase("binaryblock")) {
 			return BinaryBlockInputInfo;
 		}
+		else if (str.equalsIgnoreCase("compressedblock")) {
+			return CompressedBinaryBlockInputInfo;
+		}
 		else if ( str.equalsIgnoreCase("sort_input"))
 			return InputInfoForSort;
 		else if ( str.equalsIgnoreCase("sort_output"))
@@ -137,6 +145,8 @@ public class InputInfo implements Serializable
 			return InputInfo.CSVInputInfo; 
 		else if( DataExpression.FORMAT_TYPE_VALUE_BINARY.equals(str) )
 			return InputInfo.BinaryBlockInputInfo; 		
+		else if( DataExpression.FORMAT_TYPE_VALUE_COMPRESSED.equals(str) )
+			return InputInfo.CompressedBinaryBlockInputInfo;
 		return null;
 	}
 	
@@ -149,6 +159,8 @@ public class InputInfo implements Serializable
 			return "binarycell";
 		else if ( ii == BinaryBlockInputInfo )
 			return "binaryblock";
+		else if ( ii == CompressedBinaryBlockInputInfo )
+			return "compressedblock";
 		else if ( ii == InputInfoForSort )
 			return "sort_input";
 		else if ( ii == InputInfoForSortOutput)
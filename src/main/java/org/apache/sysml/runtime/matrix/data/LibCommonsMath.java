@@ -37,6 +37,9 @@ import org.apache.sysml.runtime.util.DataConverter;
  * 
  * This library currently supports following operations:
  * matrix inverse, matrix decompositions (QR, LU, Eigen), solve 
+ * 
+ * Inverse, cholesky, qr, and solve over large inputs are redirected
+ * to the native multi-threaded implementations in {@link LibMatrixDecomp}.
  */
 public class LibCommonsMath 
 {	
@@ -59,6 +62,25 @@ public class LibCommonsMath
 	public static MatrixBlock unaryOperations(MatrixObject inj, String opcode) 
 		throws DMLRuntimeException 
 	{
+		return unaryOperations(inj, opcode, 1);
+	}
+	
+	public static MatrixBlock unaryOperations(MatrixObject inj, String opcode, int k) 
+		throws DMLRuntimeException 
+	{
+		//native multi-threaded decompositions for large inputs
+		MatrixBlock in = inj.acquireRead();
+		MatrixBlock ret = null;
+		if( LibMatrixDecomp.isNativeApplicable(in) ) {
+			if(opcode.equals("inverse"))
+				ret = LibMatrixDecomp.inverse(in, k);
+			else if (opcode.equals("cholesky"))
+				ret = LibMatrixDecomp.cholesky(in, k);
+		}
+		inj.release();
+		if( ret != null )
+			return ret;
+		
 		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(inj);
 		if(opcode.equals("inverse"))
 			return computeMatrixInverse(matrixInput);
@@ -69,13 +91,19 @@ public class LibCommonsMath
 	
 	public static MatrixBlock[] multiReturnOperations(MatrixObject in, String opcode) 
 		throws DMLRuntimeException 
+	{
+		return multiReturnOperations(in, opcode, 1);
+	}
+	
+	public static MatrixBlock[] multiReturnOperations(MatrixObject in, String opcode, int k) 
+		throws DMLRuntimeException 
 	{
 		if(opcode.equals("qr"))
-			return computeQR(in);
+			return computeQR(in, k);
 		else if (opcode.equals("lu"))
 			return computeLU(in);
 		else if (opcode.equals("eigen"))
-			return computeEigen(in);
+			return computeEigen(in, k);
 		else if ( opcode.equals("svd"))
 			return computeSvd(in);
 		return null;
@@ -83,9 +111,15 @@ public class LibCommonsMath
 	
 	public static MatrixBlock matrixMatrixOperations(MatrixObject in1, MatrixObject in2, String opcode) 
 		throws DMLRuntimeException 
+	{
+		return matrixMatrixOperations(in1, in2, opcode, 1);
+	}
+	
+	public static MatrixBlock matrixMatrixOperations(MatrixObject in1, MatrixObject in2, String opcode, int k) 
+		throws DMLRuntimeException 
 	{
 		if(opcode.equals("solve"))
-			return computeSolve(in1, in2);
+			return computeSolve(in1, in2, k);
 		return null;
 	}
 	
@@ -94,12 +128,24 @@ public class LibCommonsMath
 	 * 
 	 * @param in1 matrix object 1
 	 * @param in2 matrix object 2
+	 * @param k degree of parallelism
 	 * @return matrix block
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static MatrixBlock computeSolve(MatrixObject in1, MatrixObject in2) 
+	private static MatrixBlock computeSolve(MatrixObject in1, MatrixObject in2, int k) 
 		throws DMLRuntimeException 
 	{
+		//native multi-threaded solve for large (non-underdetermined) systems
+		MatrixBlock mb1 = in1.acquireRead();
+		if( LibMatrixDecomp.isNativeApplicable(mb1) && mb1.getNumRows() >= mb1.getNumColumns() ) {
+			MatrixBlock mb2 = in2.acquireRead();
+			MatrixBlock ret = LibMatrixDecomp.solve(mb1, mb2, k);
+			in2.release();
+			in1.release();
+			return ret;
+		}
+		in1.release();
+		
 		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in1);
 		Array2DRowRealMatrix vectorInput = DataConverter.convertToArray2DRowRealMatrix(in2);
 		
@@ -120,12 +166,21 @@ public class LibCommonsMath
 	 * Function to perform QR decomposition on a given matrix.
 	 * 
 	 * @param in matrix object
+	 * @param k degree of parallelism
 	 * @return array of matrix blocks
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static MatrixBlock[] computeQR(MatrixObject in) 
+	private static MatrixBlock[] computeQR(MatrixObject in, int k) 
 		throws DMLRuntimeException 
 	{
+		//native multi-threaded qr for large inputs
+		MatrixBlock mb = in.acquireRead();
+		MatrixBlock[] ret = LibMatrixDecomp.isNativeApplicable(mb) ? 
+			LibMatrixDecomp.qr(mb, k) : null;
+		in.release();
+		if( ret != null )
+			return ret;
+		
 		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
 		
 		// Perform QR decomposition
@@ -175,16 +230,26 @@ public class LibCommonsMath
 	 * Input must be a symmetric matrix.
 	 * 
 	 * @param in matrix object
+	 * @param k degree of parallelism
 	 * @return array of matrix blocks
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static MatrixBlock[] computeEigen(MatrixObject in)
+	private static MatrixBlock[] computeEigen(MatrixObject in, int k)
 		throws DMLRuntimeException 
 	{
 		if ( in.getNumRows() != in.getNumColumns() ) {
 			throw new DMLRuntimeException("Eigen Decomposition can only be done on a square matrix. Input matrix is rectangular (rows=" + in.getNumRows() + ", cols="+ in.getNumColumns() +")");
 		}
 		
+		//native multi-threaded eigen for large symmetric inputs
+		//(returns null for non-symmetric inputs, handled by commons-math)
+		MatrixBlock mb = in.acquireRead();
+		MatrixBlock[] ret = LibMatrixDecomp.isNativeApplicable(mb) ? 
+			LibMatrixDecomp.eigen(mb, k) : null;
+		in.release();
+		if( ret != null )
+			return ret;
+		
 		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
 		
 		EigenDecomposition eigendecompose = new EigenDecomposition(matrixInput);
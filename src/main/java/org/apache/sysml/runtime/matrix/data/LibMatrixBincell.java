@@ -19,7 +19,13 @@
 
 package org.apache.sysml.runtime.matrix.data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.functionobjects.Divide;
@@ -57,7 +63,8 @@ import org.apache.sysml.runtime.util.SortUtils;
  */
 public class LibMatrixBincell 
 {
-
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //Min 1M elements
+	
 	public enum BinaryAccessType {
 		MATRIX_MATRIX,
 		MATRIX_COL_VECTOR,
@@ -312,96 +319,13 @@ public class LibMatrixBincell
 					(op.fn instanceof Multiply && !m2.sparse )))
 			{
 				//specific case in order to prevent binary search on sparse inputs (see quickget and quickset)
-				ret.allocateDenseBlock();
-				final int m = ret.rlen;
-				final int n = ret.clen;
-				double[] c = ret.denseBlock;
-				
-				//1) process left input: assignment
-				
-				if( m1.sparse ) //SPARSE left
-				{
-					if( m1.sparseBlock != null )
-					{
-						SparseBlock a = m1.sparseBlock;
-						
-						for( int i=0, ix=0; i<m; i++, ix+=n ) {
-							if( !a.isEmpty(i) )
-							{
-								int apos = a.pos(i);
-								int alen = a.size(i);
-								int[] aix = a.indexes(i);
-								double[] avals = a.values(i);
-								for(int k = apos; k < apos+alen; k++) 
-									c[ix+aix[k]] = avals[k];
-							}
-						}
-					}
-				}
-				else //DENSE left
-				{
-					if( !m1.isEmptyBlock(false) ) 
-						System.arraycopy(m1.denseBlock, 0, c, 0, m*n);
-					else
-						Arrays.fill(ret.denseBlock, 0, m*n, 0); 
-				}
-				
-				//2) process right input: op.fn (+,-,*), * only if dense
-				long lnnz = 0;
-				if( m2.sparse ) //SPARSE right
-				{				
-					if(m2.sparseBlock!=null)
-					{
-						SparseBlock a = m2.sparseBlock;
-						
-						for( int i=0, ix=0; i<m; i++, ix+=n ) {
-							if( !a.isEmpty(i) ) {
-								int apos = a.pos(i);
-								int alen = a.size(i);
-								int[] aix = a.indexes(i);
-								double[] avals = a.values(i);
-								for(int k = apos; k < apos+alen; k++) 
-									c[ix+aix[k]] = op.fn.execute(c[ix+aix[k]], avals[k]);
-							}
-							//exploit temporal locality of rows
-							lnnz += ret.recomputeNonZeros(i, i, 0, clen-1);
-						}
-					}
-				}
-				else //DENSE right
-				{
-					if( !m2.isEmptyBlock(false) ) {
-						double[] a = m2.denseBlock;
-						for( int i=0; i<m*n; i++ ) {
-							c[i] = op.fn.execute(c[i], a[i]);
-							lnnz += (c[i]!=0) ? 1 : 0;
-						}
-					}
-					else if(op.fn instanceof Multiply)
-						Arrays.fill(ret.denseBlock, 0, m*n, 0); 
-				}
-				
-				//3) recompute nnz
-				ret.setNonZeros(lnnz);
+				bincellOpDense(m1, m2, ret, op);
 			}
 			else if( !ret.sparse && !m1.sparse && !m2.sparse 
 					&& m1.denseBlock!=null && m2.denseBlock!=null )
 			{
-				ret.allocateDenseBlock();
-				final int m = ret.rlen;
-				final int n = ret.clen;
-				double[] a = m1.denseBlock;
-				double[] b = m2.denseBlock;
-				double[] c = ret.denseBlock;
-				ValueFunction fn = op.fn;
-				
 				//compute dense-dense binary, maintain nnz on-the-fly
-				int lnnz = 0;
-				for( int i=0; i<m*n; i++ ) {
-					c[i] = fn.execute(a[i], b[i]);
-					lnnz += (c[i]!=0)? 1 : 0;
-				}
-				ret.setNonZeros(lnnz);
+				bincellOpDense(m1, m2, ret, op);
 			}
 			else if( skipEmpty && (m1.sparse || m2.sparse) ) 
 			{
@@ -443,28 +367,131 @@ public class LibMatrixBincell
 		}
 	}
 
+	private static long safeBinaryMMSparseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		final int n = ret.clen;
+		double[] c = ret.denseBlock;
+		
+		//1) process left input: assignment
+		
+		if( m1.sparse ) //SPARSE left
+		{
+			if( m1.sparseBlock != null )
+			{
+				SparseBlock a = m1.sparseBlock;
+				
+				for( int i=rl, ix=rl*n; i<ru; i++, ix+=n ) {
+					if( !a.isEmpty(i) )
+					{
+						int apos = a.pos(i);
+						int alen = a.size(i);
+						int[] aix = a.indexes(i);
+						double[] avals = a.values(i);
+						for(int k = apos; k < apos+alen; k++) 
+							c[ix+aix[k]] = avals[k];
+					}
+				}
+			}
+		}
+		else //DENSE left
+		{
+			if( !m1.isEmptyBlock(false) ) 
+				System.arraycopy(m1.denseBlock, rl*n, c, rl*n, (ru-rl)*n);
+			else
+				Arrays.fill(c, rl*n, ru*n, 0); 
+		}
+		
+		//2) process right input: op.fn (+,-,*), * only if dense
+		long lnnz = 0;
+		if( m2.sparse ) //SPARSE right
+		{				
+			if(m2.sparseBlock!=null)
+			{
+				SparseBlock a = m2.sparseBlock;
+				
+				for( int i=rl, ix=rl*n; i<ru; i++, ix+=n ) {
+					if( !a.isEmpty(i) ) {
+						int apos = a.pos(i);
+						int alen = a.size(i);
+						int[] aix = a.indexes(i);
+						double[] avals = a.values(i);
+						for(int k = apos; k < apos+alen; k++) 
+							c[ix+aix[k]] = op.fn.execute(c[ix+aix[k]], avals[k]);
+					}
+					//exploit temporal locality of rows
+					lnnz += ret.recomputeNonZeros(i, i, 0, n-1);
+				}
+			}
+			else
+				lnnz = ret.recomputeNonZeros(rl, ru-1, 0, n-1);
+		}
+		else //DENSE right
+		{
+			if( !m2.isEmptyBlock(false) ) {
+				double[] a = m2.denseBlock;
+				for( int i=rl*n; i<ru*n; i++ ) {
+					c[i] = op.fn.execute(c[i], a[i]);
+					lnnz += (c[i]!=0) ? 1 : 0;
+				}
+			}
+			else if(op.fn instanceof Multiply)
+				Arrays.fill(c, rl*n, ru*n, 0); 
+			else
+				lnnz = ret.recomputeNonZeros(rl, ru-1, 0, n-1);
+		}
+		
+		return lnnz;
+	}
+	
+	private static long safeBinaryMMDenseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		final int n = ret.clen;
+		double[] a = m1.denseBlock;
+		double[] b = m2.denseBlock;
+		double[] c = ret.denseBlock;
+		ValueFunction fn = op.fn;
+		
+		//compute dense-dense binary, maintain nnz on-the-fly
+		long lnnz = 0;
+		for( int i=rl*n; i<ru*n; i++ ) {
+			c[i] = fn.execute(a[i], b[i]);
+			lnnz += (c[i]!=0)? 1 : 0;
+		}
+		return lnnz;
+	}
+	
 	private static void safeBinaryMVDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
 		throws DMLRuntimeException 
 	{
 		boolean isMultiply = (op.fn instanceof Multiply);
 		boolean skipEmpty = (isMultiply);
-		BinaryAccessType atype = getBinaryAccessType(m1, m2);
-		int rlen = m1.rlen;
-		int clen = m1.clen;
 		
 		//early abort on skip and empy
 		if( skipEmpty && (m1.isEmptyBlock(false) || m2.isEmptyBlock(false) ) )
 			return; // skip entire empty block
 		
-		ret.allocateDenseBlock();
+		//compute dense-dense binary, maintain nnz on-the-fly
+		bincellOpDense(m1, m2, ret, op);
+	}
+	
+	private static long safeBinaryMVDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		boolean isMultiply = (op.fn instanceof Multiply);
+		boolean skipEmpty = (isMultiply);
+		BinaryAccessType atype = getBinaryAccessType(m1, m2);
+		int clen = m1.clen;
+		
 		double[] a = m1.denseBlock;
 		double[] b = m2.denseBlock;
 		double[] c = ret.denseBlock;
-		int nnz = 0;
+		long nnz = 0;
 		
 		if( atype == BinaryAccessType.MATRIX_COL_VECTOR )
 		{
-			for( int i=0, ix=0; i<rlen; i++, ix+=clen )
+			for( int i=rl, ix=rl*clen; i<ru; i++, ix+=clen )
 			{
 				//replicate vector value
 				double v2 = (b==null) ? 0 : b[i];
@@ -494,23 +521,23 @@ public class LibMatrixBincell
 		{
 			if( a==null && b==null ) { //both empty
 				double v = op.fn.execute( 0, 0 );
-				Arrays.fill(c, 0, rlen*clen, v);
-				nnz += (v != 0) ? rlen*clen : 0;
+				Arrays.fill(c, rl*clen, ru*clen, v);
+				nnz += (v != 0) ? (long)(ru-rl)*clen : 0;
 			}
 			else if( a==null ) //left empty
 			{
 				//compute first row
-				for( int j=0; j<clen; j++ ) {
-					c[j] = op.fn.execute( 0, b[j] );
-					nnz += (c[j] != 0) ? rlen : 0;
+				for( int j=0, ix=rl*clen; j<clen; j++ ) {
+					c[ix+j] = op.fn.execute( 0, b[j] );
+					nnz += (c[ix+j] != 0) ? (ru-rl) : 0;
 				}
 				//copy first to all other rows
-				for( int i=1, ix=clen; i<rlen; i++, ix+=clen )
-					System.arraycopy(c, 0, c, ix, clen);
+				for( int i=rl+1, ix=(rl+1)*clen; i<ru; i++, ix+=clen )
+					System.arraycopy(c, rl*clen, c, ix, clen);
 			}
 			else //default case (incl right empty) 
 			{
-				for( int i=0, ix=0; i<rlen; i++, ix+=clen )
+				for( int i=rl, ix=rl*clen; i<ru; i++, ix+=clen )
 					for( int j=0; j<clen; j++ ) {
 						c[ix+j] = op.fn.execute( a[ix+j], ((b!=null) ? b[j] : 0) );	
 						nnz += (c[ix+j] != 0) ? 1 : 0;
@@ -518,7 +545,7 @@ public class LibMatrixBincell
 			}
 		}
 		
-		ret.nonZeros = nnz;
+		return nnz;
 	}
 
 	private static void safeBinaryMVSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
@@ -813,7 +840,13 @@ public class LibMatrixBincell
 		int clen = m1.clen;
 		BinaryAccessType atype = getBinaryAccessType(m1, m2);
 		
-		if( atype == BinaryAccessType.MATRIX_COL_VECTOR ) //MATRIX - COL_VECTOR
+		if( (atype == BinaryAccessType.MATRIX_COL_VECTOR || atype == BinaryAccessType.MATRIX_ROW_VECTOR)
+			&& !m1.sparse && !m2.sparse && !ret.sparse ) //MATRIX - VECTOR (all dense)
+		{
+			//note: the dense mv kernel processes all cells
+			bincellOpDense(m1, m2, ret, op);
+		}
+		else if( atype == BinaryAccessType.MATRIX_COL_VECTOR ) //MATRIX - COL_VECTOR
 		{
 			for(int r=0; r<rlen; r++)
 			{
@@ -861,19 +894,11 @@ public class LibMatrixBincell
 		}
 		else // MATRIX - MATRIX
 		{
-			//dense non-empty vectors
-			if( m1.clen==1 && !m1.sparse && !m1.isEmptyBlock(false)   
-				&& !m2.sparse && !m2.isEmptyBlock(false)  )
+			//dense non-empty matrices/vectors
+			if( !m1.sparse && !m1.isEmptyBlock(false) && !m2.sparse 
+				&& !m2.isEmptyBlock(false) && !ret.sparse )
 			{
-				ret.allocateDenseBlock();
-				double[] a = m1.denseBlock;
-				double[] b = m2.denseBlock;
-				double[] c = ret.denseBlock;
-				for( int i=0; i<rlen; i++ ) {
-					c[i] = op.fn.execute( a[i], b[i] );
-					if( c[i] != 0 ) 
-						ret.nonZeros++;
-				}
+				bincellOpDense(m1, m2, ret, op);
 			}
 			//general case
 			else 
@@ -902,55 +927,58 @@ public class LibMatrixBincell
 		if( m1.sparse != ret.sparse )
 			throw new DMLRuntimeException("Unsupported safe binary scalar operations over different input/output representation: "+m1.sparse+" "+ret.sparse);
 		
-		boolean copyOnes = (op.fn instanceof NotEquals && op.getConstant()==0);
-		
+		//allocate output (incl clear nnz) and compute scalar operation
 		if( m1.sparse ) //SPARSE <- SPARSE
-		{	
-			//allocate sparse row structure
 			ret.allocateSparseRowsBlock();
-			SparseBlock a = m1.sparseBlock;
-			SparseBlock c = ret.sparseBlock;
-			int rlen = Math.min(m1.rlen, a.numRows());
+		else //DENSE <- DENSE
+			ret.allocateDenseBlock(true);
+		bincellOpScalar(m1, ret, op);
+	}
+	
+	private static long safeBinaryScalarSparse(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru)
+		throws DMLRuntimeException
+	{
+		boolean copyOnes = (op.fn instanceof NotEquals && op.getConstant()==0);
+		
+		SparseBlock a = m1.sparseBlock;
+		SparseBlock c = ret.sparseBlock;
+		int rlen = Math.min(ru, a.numRows());
+		
+		long nnz = 0;
+		for(int r=rl; r<rlen; r++) {
+			if( a.isEmpty(r) ) continue;
 			
-			long nnz = 0;
-			for(int r=0; r<rlen; r++) {
-				if( a.isEmpty(r) ) continue;
-				
-				int apos = a.pos(r);
-				int alen = a.size(r);
-				int[] aix = a.indexes(r);
-				double[] avals = a.values(r);
+			int apos = a.pos(r);
+			int alen = a.size(r);
+			int[] aix = a.indexes(r);
+			double[] avals = a.values(r);
+			
+			if( copyOnes ) { //SPECIAL CASE: e.g., (X != 0) 
+				//create sparse row without repeated resizing
+				SparseRowVector crow = new SparseRowVector(alen);
+				crow.setSize(alen);
 				
-				if( copyOnes ) { //SPECIAL CASE: e.g., (X != 0) 
-					//create sparse row without repeated resizing
-					SparseRowVector crow = new SparseRowVector(alen);
-					crow.setSize(alen);
-					
-					//memcopy/memset of indexes/values (sparseblock guarantees absence of 0s) 
-					System.arraycopy(aix, apos, crow.indexes(), 0, alen);
-					Arrays.fill(crow.values(), 0, alen, 1);
-					c.set(r, crow, false);
-					nnz += alen;
+				//memcopy/memset of indexes/values (sparseblock guarantees absence of 0s) 
+				System.arraycopy(aix, apos, crow.indexes(), 0, alen);
+				Arrays.fill(crow.values(), 0, alen, 1);
+				c.set(r, crow, false);
+				nnz += alen;
+			}
+			else { //GENERAL CASE
+				//create sparse row without repeated resizing for specific ops
+				if( op.fn instanceof Multiply || op.fn instanceof Multiply2 
+					|| op.fn instanceof Power2  ) {
+					c.allocate(r, alen);
 				}
-				else { //GENERAL CASE
-					//create sparse row without repeated resizing for specific ops
-					if( op.fn instanceof Multiply || op.fn instanceof Multiply2 
-						|| op.fn instanceof Power2  ) {
-						c.allocate(r, alen);
-					}
-					
-					for(int j=apos; j<apos+alen; j++) {
-						double val = op.executeScalar(avals[j]);
-						c.append(r, aix[j], val);
-						nnz += (val != 0) ? 1 : 0; 
-					}
+				
+				for(int j=apos; j<apos+alen; j++) {
+					double val = op.executeScalar(avals[j]);
+					c.append(r, aix[j], val);
+					nnz += (val != 0) ? 1 : 0; 
 				}
 			}
-			ret.nonZeros = nnz;
-		}
-		else { //DENSE <- DENSE
-			denseBinaryScalar(m1, ret, op);
 		}
+		return nnz;
 	}
 	
 	/**
@@ -977,58 +1005,54 @@ public class LibMatrixBincell
 		if( ret.sparse )
 			throw new DMLRuntimeException("Unsupported unsafe binary scalar operations over sparse output representation.");
 		
-		if( m1.sparse ) //SPARSE MATRIX
-		{
-			ret.allocateDenseBlock();
-			
-			SparseBlock a = m1.sparseBlock;
-			double[] c = ret.denseBlock;			
-			int m = m1.rlen;
-			int n = m1.clen;
-			
-			//init dense result with unsafe 0-value
-			double cval0 = op.executeScalar(0);
-			Arrays.fill(c, cval0);
-			
-			//compute non-zero input values
-			int nnz = m*n;
-			for(int i=0, cix=0; i<m; i++, cix+=n) {
-				if( !a.isEmpty(i) ) {
-					int apos = a.pos(i);
-					int alen = a.size(i);
-					int[] aix = a.indexes(i);
-					double[] avals = a.values(i);
-					for(int j=apos; j<apos+alen; j++) {
-						double val = op.executeScalar(avals[j]);
-						c[ cix+aix[j] ] = val;
-						nnz -= (val==0) ? 1 : 0;
-					}
+		//allocate dense block (if necessary), incl clear nnz
+		ret.allocateDenseBlock(true);
+		bincellOpScalar(m1, ret, op);
+	}
+	
+	private static long unsafeBinaryScalarSparse(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru)
+		throws DMLRuntimeException
+	{
+		SparseBlock a = m1.sparseBlock;
+		double[] c = ret.denseBlock;
+		int n = m1.clen;
+		
+		//init dense result with unsafe 0-value
+		double cval0 = op.executeScalar(0);
+		Arrays.fill(c, rl*n, ru*n, cval0);
+		
+		//compute non-zero input values
+		long nnz = (cval0 != 0) ? (long)(ru-rl)*n : 0;
+		for(int i=rl, cix=rl*n; i<ru; i++, cix+=n) {
+			if( !a.isEmpty(i) ) {
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				for(int j=apos; j<apos+alen; j++) {
+					double val = op.executeScalar(avals[j]);
+					c[ cix+aix[j] ] = val;
+					nnz += ((val!=0) ? 1 : 0) - ((cval0!=0) ? 1 : 0);
 				}
 			}
-			ret.nonZeros = nnz;
-		}
-		else { //DENSE MATRIX
-			denseBinaryScalar(m1, ret, op);
 		}
+		return nnz;
 	}
 
-	private static void denseBinaryScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op) 
+	private static long denseBinaryScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) 
 		throws DMLRuntimeException 
 	{
-		//allocate dense block (if necessary), incl clear nnz
-		ret.allocateDenseBlock(true);
-		
 		double[] a = m1.denseBlock;
 		double[] c = ret.denseBlock;
+		int n = m1.clen;
 		
 		//compute scalar operation, incl nnz maintenance
-		int limit = m1.rlen*m1.clen;
-		int nnz = 0;
-		for( int i=0; i<limit; i++ ) {
+		long nnz = 0;
+		for( int i=rl*n; i<ru*n; i++ ) {
 			c[i] = op.executeScalar( a[i] );
 			nnz += (c[i] != 0) ? 1 : 0;
 		}
-		ret.nonZeros = nnz;
+		return nnz;
 	}
 
 	private static void safeBinaryInPlace(MatrixBlock m1ret, MatrixBlock m2, BinaryOperator op) 
@@ -1131,6 +1155,10 @@ public class LibMatrixBincell
 				}
 			}
 		}
+		else if( isDenseInPlace(m1ret, m2) ) //both dense
+		{
+			bincellOpDense(m1ret, m2, m1ret, op);
+		}
 		else //one side dense
 		{
 			for(int r=0; r<rlen; r++)
@@ -1176,6 +1204,10 @@ public class LibMatrixBincell
 					m1ret.quickSetValue(r, c, v);
 				}
 		}
+		else if( isDenseInPlace(m1ret, m2) ) //MATRIX - MATRIX (both dense)
+		{
+			bincellOpDense(m1ret, m2, m1ret, op);
+		}
 		else // MATRIX - MATRIX
 		{
 			for(int r=0; r<rlen; r++)
@@ -1189,6 +1221,103 @@ public class LibMatrixBincell
 		}
 	}
 	
+	private static boolean isDenseInPlace(MatrixBlock m1ret, MatrixBlock m2) {
+		return !m1ret.sparse && !m2.sparse && m2.denseBlock != null
+			&& getBinaryAccessType(m1ret, m2) == BinaryAccessType.MATRIX_MATRIX;
+	}
+	
+	///////////////////////////////////////////////////
+	// single- and multi-threaded execution of dense and scalar kernels
+	
+	private static void bincellOpDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
+		throws DMLRuntimeException 
+	{
+		//allocate dense output (if necessary)
+		ret.allocateDenseBlock(false);
+		int k = op.getNumThreads();
+		
+		long nnz = 0;
+		if( !satisfiesMultiThreadingConstraints(ret, k) ) {
+			//sequential execution
+			nnz = bincellOpDense(m1, m2, ret, op, 0, ret.rlen);
+		}
+		else {
+			//parallel execution over row partitions
+			ArrayList<BincellTask> tasks = new ArrayList<BincellTask>();
+			ArrayList<Integer> blklens = LibMatrixMult.getBalancedBlockSizes(ret.rlen, k);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new BincellTask(m1, m2, ret, op, lb, lb+blklens.get(i)));
+			nnz = executeTasks(tasks, k);
+		}
+		ret.setNonZeros(nnz);
+	}
+	
+	private static long bincellOpDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		BinaryAccessType atype = getBinaryAccessType(m1, m2);
+		if( atype == BinaryAccessType.MATRIX_COL_VECTOR || atype == BinaryAccessType.MATRIX_ROW_VECTOR )
+			return safeBinaryMVDense(m1, m2, ret, op, rl, ru);
+		else if( m1.sparse || m2.sparse )
+			return safeBinaryMMSparseDenseDense(m1, m2, ret, op, rl, ru);
+		else
+			return safeBinaryMMDenseDenseDense(m1, m2, ret, op, rl, ru);
+	}
+	
+	private static void bincellOpScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op) 
+		throws DMLRuntimeException 
+	{
+		int k = op.getNumThreads();
+		
+		long nnz = 0;
+		if( !satisfiesMultiThreadingConstraints(ret, k) ) {
+			//sequential execution
+			nnz = bincellOpScalar(m1, ret, op, 0, ret.rlen);
+		}
+		else {
+			//parallel execution over row partitions
+			ArrayList<BincellScalarTask> tasks = new ArrayList<BincellScalarTask>();
+			ArrayList<Integer> blklens = LibMatrixMult.getBalancedBlockSizes(ret.rlen, k);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new BincellScalarTask(m1, ret, op, lb, lb+blklens.get(i)));
+			nnz = executeTasks(tasks, k);
+		}
+		ret.setNonZeros(nnz);
+	}
+	
+	private static long bincellOpScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		if( m1.sparse && ret.sparse ) //SPARSE <- SPARSE
+			return safeBinaryScalarSparse(m1, ret, op, rl, ru);
+		else if( m1.sparse ) //DENSE <- SPARSE
+			return unsafeBinaryScalarSparse(m1, ret, op, rl, ru);
+		else //DENSE <- DENSE
+			return denseBinaryScalar(m1, ret, op, rl, ru);
+	}
+	
+	private static boolean satisfiesMultiThreadingConstraints(MatrixBlock ret, int k) {
+		return k > 1 && (long)ret.rlen*ret.clen >= PAR_NUMCELL_THRESHOLD
+			&& ret.rlen > k/2 && ret.isThreadSafe();
+	}
+	
+	private static long executeTasks(List<? extends Callable<Long>> tasks, int k) 
+		throws DMLRuntimeException 
+	{
+		long nnz = 0;
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool( k );
+			List<Future<Long>> rtasks = pool.invokeAll(tasks);
+			pool.shutdown();
+			for( Future<Long> rtask : rtasks )
+				nnz += rtask.get();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		return nnz;
+	}
+	
 	private static void mergeForSparseBinary(BinaryOperator op, double[] values1, int[] cols1, int pos1, int size1, 
 			double[] values2, int[] cols2, int pos2, int size2, int resultRow, MatrixBlock result) 
 		throws DMLRuntimeException
@@ -1255,5 +1384,56 @@ public class LibMatrixBincell
 		}
 	}
 	
+	///////////////////////////////////////////////////////////
+	// Task Implementations for Multi-Threaded Operations
+	///////////////////////////////////////////////////////////
+	
+	private static class BincellTask implements Callable<Long> 
+	{
+		private final MatrixBlock _m1;
+		private final MatrixBlock _m2;
+		private final MatrixBlock _ret;
+		private final BinaryOperator _bop;
+		private final int _rl;
+		private final int _ru;
+
+		protected BincellTask( MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator bop, int rl, int ru ) {
+			_m1 = m1;
+			_m2 = m2;
+			_ret = ret;
+			_bop = bop;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() throws DMLRuntimeException {
+			//execute binary operation on row partition
+			return bincellOpDense(_m1, _m2, _ret, _bop, _rl, _ru);
+		}
+	}
+	
+	private static class BincellScalarTask implements Callable<Long> 
+	{
+		private final MatrixBlock _m1;
+		private final MatrixBlock _ret;
+		private final ScalarOperator _sop;
+		private final int _rl;
+		private final int _ru;
+
+		protected BincellScalarTask( MatrixBlock m1, MatrixBlock ret, ScalarOperator sop, int rl, int ru ) {
+			_m1 = m1;
+			_ret = ret;
+			_sop = sop;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() throws DMLRuntimeException {
+			//execute scalar operation on row partition
+			return bincellOpScalar(_m1, _ret, _sop, _rl, _ru);
+		}
+	}
 }
 
@@ -0,0 +1,876 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.matrix.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.linear.NonPositiveDefiniteMatrixException;
+import org.apache.commons.math3.linear.NonSymmetricMatrixException;
+import org.apache.commons.math3.linear.SingularMatrixException;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.util.DataConverter;
+
+/**
+ * Library for native, multi-threaded matrix decompositions (Cholesky,
+ * Householder QR, symmetric eigen) and derived operations (solve, inverse), 
+ * which operate directly on the row-major dense representation of matrix blocks.
+ *
+ * The algorithms follow the corresponding Apache Commons Math implementations
+ * (incl. sign conventions, thresholds, and exceptions) in order to produce
+ * consistent results, independent of the chosen implementation. Instead of
+ * converting the inputs into double[][], the QR decomposition works on the
+ * transposed input, where Householder vectors are contiguous rows.
+ *
+ * Current list of supported operations:
+ *  - cholesky (blocked, right-looking, parallel trailing update)
+ *  - qr (Householder, parallel reflection of trailing columns)
+ *  - solve (via qr, parallel over right-hand sides)
+ *  - inverse (via qr, parallel over columns of the identity)
+ *  - eigen (symmetric inputs, Householder tridiagonalization and implicit QL,
+ *    parallel trailing updates and parallel application of QL rotations)
+ */
+public class LibMatrixDecomp
+{
+	//minimum dimension for native decompositions (otherwise commons-math)
+	public static final int NATIVE_MIN_DIM = 256;
+
+	//block size of the blocked cholesky decomposition
+	private static final int CHOL_BLOCKSIZE = 64;
+
+	//thresholds consistent with commons-math cholesky decomposition
+	private static final double CHOL_REL_SYMMETRY_THRESHOLD = 1.0e-15;
+	private static final double CHOL_ABS_POSITIVITY_THRESHOLD = 1.0e-10;
+
+	//number of interleaved rows for applying the QL rotations to eigenvectors
+	private static final int EIGEN_ROTATE_BLOCKSIZE = 16;
+
+	//relative symmetry threshold consistent with commons-math eigen decomposition
+	private static final double EIGEN_REL_SYMMETRY_THRESHOLD = 10 * 0x1.0p-53;
+
+	private LibMatrixDecomp() {
+		//prevent instantiation via private constructor
+	}
+
+	/**
+	 * Indicates if the given input is large enough for the native
+	 * decompositions, where all smaller inputs use commons-math.
+	 *
+	 * @param in input matrix
+	 * @return true if native decompositions should be used
+	 */
+	public static boolean isNativeApplicable(MatrixBlock in) {
+		return Math.min(in.getNumRows(), in.getNumColumns()) >= NATIVE_MIN_DIM;
+	}
+
+	/**
+	 * Computes the Cholesky decomposition A = L %*% t(L) of a symmetric
+	 * positive-definite matrix and returns the lower triangular matrix L.
+	 *
+	 * @param in input matrix
+	 * @param k degree of parallelism
+	 * @return lower triangular matrix L
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock cholesky(MatrixBlock in, int k)
+		throws DMLRuntimeException
+	{
+		final int n = in.getNumRows();
+		if( n != in.getNumColumns() )
+			throw new DMLRuntimeException("Input to cholesky() must be square matrix -- given: a " + n + "x" + in.getNumColumns() + " matrix.");
+
+		//copy input into row-major working array (upper triangle U=t(L))
+		double[] a = DataConverter.convertToDoubleVector(in);
+
+		//check symmetry and clear lower triangle
+		for( int i=0, ix=0; i<n; i++, ix+=n )
+			for( int j=i+1; j<n; j++ ) {
+				double aij = a[ix+j];
+				double aji = a[j*n+i];
+				double maxDelta = CHOL_REL_SYMMETRY_THRESHOLD * Math.max(Math.abs(aij), Math.abs(aji));
+				if( Math.abs(aij - aji) > maxDelta )
+					throw new NonSymmetricMatrixException(i, j, CHOL_REL_SYMMETRY_THRESHOLD);
+				a[j*n+i] = 0;
+			}
+
+		ExecutorService pool = (k > 1) ? Executors.newFixedThreadPool(k) : null;
+		try {
+			for( int bi=0; bi<n; bi+=CHOL_BLOCKSIZE ) {
+				int bimin = Math.min(bi+CHOL_BLOCKSIZE, n);
+
+				//factorize row panel (final rows of U)
+				for( int i=bi, ix=bi*n; i<bimin; i++, ix+=n ) {
+					if( a[ix+i] <= CHOL_ABS_POSITIVITY_THRESHOLD )
+						throw new NonPositiveDefiniteMatrixException(a[ix+i], i, CHOL_ABS_POSITIVITY_THRESHOLD);
+					a[ix+i] = Math.sqrt(a[ix+i]);
+					double inv = 1 / a[ix+i];
+					for( int q=i+1; q<n; q++ )
+						a[ix+q] *= inv;
+					updateCholeskyRows(a, n, i, i+1, i+1, bimin, 1);
+				}
+
+				//update trailing submatrix (row-cyclic partitioning)
+				if( bimin < n ) {
+					if( pool == null || n-bimin < 2*k )
+						updateCholeskyRows(a, n, bi, bimin, bimin, n, 1);
+					else {
+						ArrayList<CholeskyUpdateTask> tasks = new ArrayList<>();
+						for( int t=0; t<k; t++ )
+							tasks.add(new CholeskyUpdateTask(a, n, bi, bimin, bimin+t, n, k));
+						executeTasks(pool, tasks);
+					}
+				}
+			}
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+
+		//create output L via transpose of U
+		MatrixBlock U = createDenseBlock(a, n, n);
+		MatrixBlock L = new MatrixBlock(n, n, false);
+		return (k > 1) ? LibMatrixReorg.transpose(U, L, k) : LibMatrixReorg.transpose(U, L);
+	}
+
+	/**
+	 * Computes the Householder QR decomposition A = Q %*% R and returns
+	 * the Householder vectors H and the upper triangular matrix R.
+	 *
+	 * @param in input matrix
+	 * @param k degree of parallelism
+	 * @return array of matrix blocks H and R
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock[] qr(MatrixBlock in, int k)
+		throws DMLRuntimeException
+	{
+		final int m = in.getNumRows();
+		final int n = in.getNumColumns();
+		QRFactors qr = computeQR(in, k);
+		double[] qrt = qr.qrt;
+		double[] rdiag = qr.rdiag;
+
+		//extract H (lower trapezoidal, m x n)
+		double[] h = new double[m*n];
+		for( int i=0, ix=0; i<m; i++, ix+=n )
+			for( int j=0; j<Math.min(i+1, n); j++ )
+				h[ix+j] = qrt[j*m+i] / -rdiag[j];
+
+		//extract R (upper trapezoidal, m x n)
+		double[] r = new double[m*n];
+		for( int i=0, ix=0; i<Math.min(m, n); i++, ix+=n ) {
+			r[ix+i] = rdiag[i];
+			for( int j=i+1; j<n; j++ )
+				r[ix+j] = qrt[j*m+i];
+		}
+
+		return new MatrixBlock[] { createDenseBlock(h, m, n), createDenseBlock(r, m, n) };
+	}
+
+	/**
+	 * Solves the (least-squares) system of equations A %*% X = B via
+	 * Householder QR decomposition of A.
+	 *
+	 * @param in1 matrix A (m x n, with m &gt;= n)
+	 * @param in2 matrix B (m x c)
+	 * @param k degree of parallelism
+	 * @return solution matrix X (n x c)
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock solve(MatrixBlock in1, MatrixBlock in2, int k)
+		throws DMLRuntimeException
+	{
+		if( in2.getNumRows() != in1.getNumRows() )
+			throw new DimensionMismatchException(in2.getNumRows(), in1.getNumRows());
+		QRFactors qr = computeQR(in1, k);
+		return solve(qr, DataConverter.convertToDoubleVector(in2), in2.getNumColumns(), k);
+	}
+
+	/**
+	 * Computes the inverse of a square matrix via Householder QR
+	 * decomposition, i.e., by solving A %*% X = I.
+	 *
+	 * @param in input matrix
+	 * @param k degree of parallelism
+	 * @return inverse matrix
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock inverse(MatrixBlock in, int k)
+		throws DMLRuntimeException
+	{
+		final int n = in.getNumRows();
+		if( n != in.getNumColumns() )
+			throw new DMLRuntimeException("Input to inv() must be square matrix -- given: a " + n + "x" + in.getNumColumns() + " matrix.");
+		QRFactors qr = computeQR(in, k);
+		double[] eye = new double[n*n];
+		for( int i=0; i<n; i++ )
+			eye[i*n+i] = 1;
+		return solve(qr, eye, n, k);
+	}
+
+	/**
+	 * Computes the eigen decomposition A = V %*% diag(E) %*% t(V) of a symmetric
+	 * matrix and returns the eigenvalues E in increasing order and the eigenvectors
+	 * V as corresponding columns. The matrix is reduced to tridiagonal form via
+	 * Householder reflections, and the tridiagonal matrix is diagonalized via
+	 * the implicit QL algorithm. Non-symmetric inputs are not supported.
+	 *
+	 * @param in input matrix
+	 * @param k degree of parallelism
+	 * @return array of matrix blocks E and V, or null if the input is not symmetric
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock[] eigen(MatrixBlock in, int k)
+		throws DMLRuntimeException
+	{
+		final int n = in.getNumRows();
+		if( n != in.getNumColumns() )
+			throw new DMLRuntimeException("Eigen Decomposition can only be done on a square matrix. Input matrix is rectangular (rows=" + n + ", cols="+ in.getNumColumns() +")");
+
+		//copy input into row-major working array and check symmetry
+		double[] a = DataConverter.convertToDoubleVector(in);
+		double eps = EIGEN_REL_SYMMETRY_THRESHOLD * n * n;
+		for( int i=0, ix=0; i<n; i++, ix+=n )
+			for( int j=i+1; j<n; j++ ) {
+				double aij = a[ix+j];
+				double aji = a[j*n+i];
+				if( Math.abs(aij - aji) > eps * Math.max(Math.abs(aij), Math.abs(aji)) )
+					return null;
+			}
+
+		double[] d = new double[n];
+		double[] e = new double[n];
+		double[] v = new double[n*n];
+		ExecutorService pool = (k > 1) ? Executors.newFixedThreadPool(k) : null;
+		try {
+			//reduce to tridiagonal form T = t(Q) %*% A %*% Q (diagonal d, subdiagonal e)
+			double[] beta = tridiagonalize(a, d, e, n, k, pool);
+
+			//accumulate Q = H_0 %*% ... %*% H_n-3 (rows are independent)
+			for( int i=0; i<n; i++ )
+				v[i*n+i] = 1;
+			for( int p=0; p<n-2; p++ ) {
+				if( beta[p] == 0 )
+					continue;
+				if( pool == null || (long)n*(n-p) < LibMatrixReorg.PAR_NUMCELL_THRESHOLD/16 )
+					accumulateReflectorRows(v, a, n, p, beta[p], 1, n);
+				else {
+					ArrayList<EigenAccumulateTask> tasks = new ArrayList<>();
+					ArrayList<Integer> blklens = LibMatrixMult.getBalancedBlockSizes(n-1, k);
+					for( int i=0, lb=1; i<blklens.size(); lb+=blklens.get(i), i++ )
+						tasks.add(new EigenAccumulateTask(v, a, n, p, beta[p], lb, lb+blklens.get(i)));
+					executeTasks(pool, tasks);
+				}
+			}
+
+			//diagonalize T and apply the rotations to Q
+			diagonalizeTridiagonal(d, e, v, n, k, pool);
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+
+		//sort eigenvalues (and vectors) in increasing order (compatible w/ LAPACK.DSYEVR())
+		Integer[] ix = new Integer[n];
+		for( int i=0; i<n; i++ )
+			ix[i] = i;
+		Arrays.sort(ix, (i1, i2) -> Double.compare(d[i1], d[i2]));
+		double[] evals = new double[n];
+		double[] evecs = new double[n*n];
+		for( int j=0; j<n; j++ )
+			evals[j] = d[ix[j]];
+		for( int i=0, rix=0; i<n; i++, rix+=n )
+			for( int j=0; j<n; j++ )
+				evecs[rix+j] = v[rix+ix[j]];
+
+		return new MatrixBlock[] { createDenseBlock(evals, n, 1), createDenseBlock(evecs, n, n) };
+	}
+
+	private static double[] tridiagonalize(double[] a, double[] d, double[] e, int n, int k, ExecutorService pool)
+		throws DMLRuntimeException
+	{
+		//note: the householder vector of step p is stored in row p of a
+		//(right of the diagonal), which is not accessed in later steps
+		double[] beta = new double[n];
+		double[] w = new double[n];
+		for( int p=0; p<n-2; p++ ) {
+			int pix = p * n;
+			d[p] = a[pix+p];
+			double xNormSqr = 0;
+			for( int j=p+1; j<n; j++ )
+				xNormSqr += a[pix+j] * a[pix+j];
+			if( xNormSqr == 0 )
+				continue; //already in tridiagonal form
+			double alpha = (a[pix+p+1] > 0) ? -Math.sqrt(xNormSqr) : Math.sqrt(xNormSqr);
+			e[p+1] = alpha;
+			a[pix+p+1] -= alpha;
+			double vNormSqr = 0;
+			for( int j=p+1; j<n; j++ )
+				vNormSqr += a[pix+j] * a[pix+j];
+			beta[p] = 2 / vNormSqr;
+
+			//compute w = beta*A22 %*% v, and w = w - (beta/2 * t(w) %*% v) * v
+			boolean par = pool != null && (long)(n-p)*(n-p) >= LibMatrixReorg.PAR_NUMCELL_THRESHOLD/16;
+			ArrayList<Integer> blklens = par ? LibMatrixMult.getBalancedBlockSizes(n-p-1, k) : null;
+			if( !par )
+				multTridiagRows(a, n, p, beta[p], w, p+1, n);
+			else {
+				ArrayList<TridiagMultTask> tasks = new ArrayList<>();
+				for( int i=0, lb=p+1; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new TridiagMultTask(a, n, p, beta[p], w, lb, lb+blklens.get(i)));
+				executeTasks(pool, tasks);
+			}
+			double wv = 0;
+			for( int j=p+1; j<n; j++ )
+				wv += w[j] * a[pix+j];
+			double K = beta[p] / 2 * wv;
+			for( int j=p+1; j<n; j++ )
+				w[j] -= K * a[pix+j];
+
+			//symmetric rank-2 update A22 = A22 - v %*% t(w) - w %*% t(v)
+			if( !par )
+				updateTridiagRows(a, n, p, w, p+1, n);
+			else {
+				ArrayList<TridiagUpdateTask> tasks = new ArrayList<>();
+				for( int i=0, lb=p+1; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new TridiagUpdateTask(a, n, p, w, lb, lb+blklens.get(i)));
+				executeTasks(pool, tasks);
+			}
+		}
+
+		//remaining diagonal and subdiagonal entries
+		for( int i=Math.max(n-2, 0); i<n; i++ )
+			d[i] = a[i*n+i];
+		if( n > 1 )
+			e[n-1] = a[(n-1)*n+n-2];
+		return beta;
+	}
+
+	private static void diagonalizeTridiagonal(double[] d, double[] e, double[] v, int n, int k, ExecutorService pool)
+		throws DMLRuntimeException
+	{
+		//implicit QL algorithm (w/ subdiagonal e shifted to e[0..n-2]),
+		//where the rotations of each sweep are recorded and then applied 
+		//to the rows of v, which are independent of each other
+		for( int i=1; i<n; i++ )
+			e[i-1] = e[i];
+		e[n-1] = 0;
+		double[] cs = new double[n];
+		double[] sn = new double[n];
+		double f = 0;
+		double tst1 = 0;
+		double eps = Math.ulp(1d);
+		for( int l=0; l<n; l++ ) {
+			//find small subdiagonal element
+			tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+			int m = l;
+			while( m < n && Math.abs(e[m]) > eps*tst1 )
+				m++;
+
+			//iterate until eigenvalue l converged
+			if( m > l ) {
+				do {
+					//compute implicit shift
+					double g = d[l];
+					double p = (d[l+1] - g) / (2 * e[l]);
+					double r = Math.hypot(p, 1);
+					if( p < 0 )
+						r = -r;
+					d[l] = e[l] / (p + r);
+					d[l+1] = e[l] * (p + r);
+					double dl1 = d[l+1];
+					double h = g - d[l];
+					for( int i=l+2; i<n; i++ )
+						d[i] -= h;
+					f += h;
+
+					//implicit QL sweep
+					p = d[m];
+					double c = 1, c2 = 1, c3 = 1;
+					double el1 = e[l+1];
+					double s = 0, s2 = 0;
+					for( int i=m-1; i>=l; i-- ) {
+						c3 = c2;
+						c2 = c;
+						s2 = s;
+						g = c * e[i];
+						h = c * p;
+						r = Math.hypot(p, e[i]);
+						e[i+1] = s * r;
+						s = e[i] / r;
+						c = p / r;
+						p = c * d[i] - s * g;
+						d[i+1] = h + s * (c * g + s * d[i]);
+						cs[i] = c;
+						sn[i] = s;
+					}
+					p = -s * s2 * c3 * el1 * e[l] / dl1;
+					e[l] = s * p;
+					d[l] = c * p;
+
+					//apply rotations of sweep to eigenvectors
+					if( pool == null || (long)n*(m-l) < LibMatrixReorg.PAR_NUMCELL_THRESHOLD/16 )
+						rotateEigenRows(v, n, l, m, cs, sn, 0, n);
+					else {
+						ArrayList<EigenRotateTask> tasks = new ArrayList<>();
+						ArrayList<Integer> blklens = LibMatrixMult.getBalancedBlockSizes(n, k);
+						for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+							tasks.add(new EigenRotateTask(v, n, l, m, cs, sn, lb, lb+blklens.get(i)));
+						executeTasks(pool, tasks);
+					}
+				}
+				while( Math.abs(e[l]) > eps*tst1 );
+			}
+			d[l] += f;
+			e[l] = 0;
+		}
+	}
+
+	private static QRFactors computeQR(MatrixBlock in, int k)
+		throws DMLRuntimeException
+	{
+		final int m = in.getNumRows();
+		final int n = in.getNumColumns();
+
+		//transpose input into contiguous columns (n x m)
+		MatrixBlock tin = new MatrixBlock(n, m, false);
+		if( k > 1 )
+			LibMatrixReorg.transpose(in, tin, k);
+		else
+			LibMatrixReorg.transpose(in, tin);
+		double[] qrt = DataConverter.convertToDoubleVector(tin, false);
+		double[] rdiag = new double[Math.min(m, n)];
+
+		ExecutorService pool = (k > 1) ? Executors.newFixedThreadPool(k) : null;
+		try {
+			for( int minor=0; minor<rdiag.length; minor++ ) {
+				int mix = minor * m;
+				double xNormSqr = 0;
+				for( int row=minor; row<m; row++ )
+					xNormSqr += qrt[mix+row] * qrt[mix+row];
+				double a = (qrt[mix+minor] > 0) ? -Math.sqrt(xNormSqr) : Math.sqrt(xNormSqr);
+				rdiag[minor] = a;
+				if( a == 0.0 )
+					continue;
+				qrt[mix+minor] -= a;
+
+				//reflect trailing columns (in parallel over column ranges)
+				int len = n - minor - 1;
+				if( pool == null || (long)len*(m-minor) < LibMatrixReorg.PAR_NUMCELL_THRESHOLD/16 )
+					reflectColumns(qrt, m, minor, a, minor+1, n);
+				else {
+					ArrayList<QRReflectTask> tasks = new ArrayList<>();
+					ArrayList<Integer> blklens = LibMatrixMult.getBalancedBlockSizes(len, k);
+					for( int i=0, lb=minor+1; i<blklens.size(); lb+=blklens.get(i), i++ )
+						tasks.add(new QRReflectTask(qrt, m, minor, a, lb, lb+blklens.get(i)));
+					executeTasks(pool, tasks);
+				}
+			}
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+
+		return new QRFactors(qrt, rdiag, m, n);
+	}
+
+	private static MatrixBlock solve(QRFactors qr, double[] y, int c, int k)
+		throws DMLRuntimeException
+	{
+		//check for singular matrices (consistent w/ commons-math solver)
+		for( double d : qr.rdiag )
+			if( Math.abs(d) <= 0 )
+				throw new SingularMatrixException();
+
+		//apply householder transforms and back substitution
+		if( k <= 1 || c < 2 )
+			solveColumns(qr, y, c, 0, c);
+		else {
+			ExecutorService pool = Executors.newFixedThreadPool(k);
+			try {
+				ArrayList<QRSolveTask> tasks = new ArrayList<>();
+				ArrayList<Integer> blklens = LibMatrixMult.getBalancedBlockSizes(c, k);
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new QRSolveTask(qr, y, c, lb, lb+blklens.get(i)));
+				executeTasks(pool, tasks);
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+
+		//create output with the first n rows
+		int n = qr.n;
+		if( y.length > n*c ) {
+			double[] tmp = new double[n*c];
+			System.arraycopy(y, 0, tmp, 0, n*c);
+			y = tmp;
+		}
+		return createDenseBlock(y, n, c);
+	}
+
+	private static void updateCholeskyRows(double[] a, int n, int il, int iu, int ql, int qu, int qinc) {
+		for( int q=ql; q<qu; q+=qinc ) {
+			int qix = q * n;
+			for( int i=il, ix=il*n; i<iu; i++, ix+=n ) {
+				double uiq = a[ix+q];
+				if( uiq == 0 ) continue;
+				for( int p=q; p<n; p++ )
+					a[qix+p] -= uiq * a[ix+p];
+			}
+		}
+	}
+
+	private static void reflectColumns(double[] qrt, int m, int minor, double a, int cl, int cu) {
+		int mix = minor * m;
+		for( int col=cl, cix=cl*m; col<cu; col++, cix+=m ) {
+			double alpha = 0;
+			for( int row=minor; row<m; row++ )
+				alpha -= qrt[cix+row] * qrt[mix+row];
+			alpha /= a * qrt[mix+minor];
+			for( int row=minor; row<m; row++ )
+				qrt[cix+row] -= alpha * qrt[mix+row];
+		}
+	}
+
+	private static void solveColumns(QRFactors qr, double[] y, int c, int cl, int cu) {
+		final int m = qr.m;
+		final double[] qrt = qr.qrt;
+		final double[] rdiag = qr.rdiag;
+		final int len = cu - cl;
+		double[] alpha = new double[len];
+
+		//apply householder transforms to solve Q %*% Y = B
+		for( int minor=0, mix=0; minor<rdiag.length; minor++, mix+=m ) {
+			double factor = 1.0 / (rdiag[minor] * qrt[mix+minor]);
+			Arrays.fill(alpha, 0);
+			for( int row=minor, yix=minor*c; row<m; row++, yix+=c ) {
+				double d = qrt[mix+row];
+				for( int j=0; j<len; j++ )
+					alpha[j] += d * y[yix+cl+j];
+			}
+			for( int j=0; j<len; j++ )
+				alpha[j] *= factor;
+			for( int row=minor, yix=minor*c; row<m; row++, yix+=c ) {
+				double d = qrt[mix+row];
+				for( int j=0; j<len; j++ )
+					y[yix+cl+j] += alpha[j] * d;
+			}
+		}
+
+		//solve triangular system R %*% X = Y
+		for( int j=rdiag.length-1; j>=0; j-- ) {
+			double factor = 1.0 / rdiag[j];
+			int jix = j * c;
+			for( int l=cl; l<cu; l++ )
+				y[jix+l] *= factor;
+			for( int i=0, iix=0; i<j; i++, iix+=c ) {
+				double rij = qrt[j*m+i];
+				for( int l=cl; l<cu; l++ )
+					y[iix+l] -= y[jix+l] * rij;
+			}
+		}
+	}
+
+	private static void multTridiagRows(double[] a, int n, int p, double beta, double[] w, int rl, int ru) {
+		int pix = p * n;
+		for( int i=rl, ix=rl*n; i<ru; i++, ix+=n ) {
+			double sum = 0;
+			for( int j=p+1; j<n; j++ )
+				sum += a[ix+j] * a[pix+j];
+			w[i] = beta * sum;
+		}
+	}
+
+	private static void updateTridiagRows(double[] a, int n, int p, double[] w, int rl, int ru) {
+		int pix = p * n;
+		for( int i=rl, ix=rl*n; i<ru; i++, ix+=n ) {
+			double vi = a[pix+i];
+			double wi = w[i];
+			for( int j=p+1; j<n; j++ )
+				a[ix+j] -= vi * w[j] + wi * a[pix+j];
+		}
+	}
+
+	private static void accumulateReflectorRows(double[] v, double[] a, int n, int p, double beta, int rl, int ru) {
+		//v = v %*% (I - beta * h %*% t(h)) with the householder vector h in row p of a
+		int pix = p * n;
+		for( int i=rl, ix=rl*n; i<ru; i++, ix+=n ) {
+			double sum = 0;
+			for( int j=p+1; j<n; j++ )
+				sum += v[ix+j] * a[pix+j];
+			sum *= beta;
+			if( sum == 0 ) continue;
+			for( int j=p+1; j<n; j++ )
+				v[ix+j] -= sum * a[pix+j];
+		}
+	}
+
+	private static void rotateEigenRows(double[] v, int n, int l, int m, double[] cs, double[] sn, int rl, int ru) {
+		//rotations within a row are sequentially dependent, hence we
+		//interleave blocks of rows for instruction-level parallelism
+		final int blksz = EIGEN_ROTATE_BLOCKSIZE;
+		for( int bi=rl; bi<ru; bi+=blksz ) {
+			int bimin = Math.min(bi+blksz, ru);
+			for( int i=m-1; i>=l; i-- ) {
+				double c = cs[i], s = sn[i];
+				for( int r=bi, rix=bi*n+i; r<bimin; r++, rix+=n ) {
+					double h = v[rix+1];
+					v[rix+1] = s * v[rix] + c * h;
+					v[rix] = c * v[rix] - s * h;
+				}
+			}
+		}
+	}
+
+	private static MatrixBlock createDenseBlock(double[] a, int m, int n) {
+		MatrixBlock ret = new MatrixBlock(m, n, false);
+		ret.denseBlock = a;
+		ret.recomputeNonZeros();
+		return ret;
+	}
+
+	private static void executeTasks(ExecutorService pool, List<? extends Callable<Object>> tasks)
+		throws DMLRuntimeException
+	{
+		try {
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
+	/**
+	 * Householder QR factors in commons-math layout, i.e., the transposed
+	 * input (n x m) with Householder vectors as rows, and the diagonal of R.
+	 */
+	private static class QRFactors
+	{
+		private final double[] qrt;
+		private final double[] rdiag;
+		private final int m;
+		private final int n;
+
+		private QRFactors(double[] qrt, double[] rdiag, int m, int n) {
+			this.qrt = qrt;
+			this.rdiag = rdiag;
+			this.m = m;
+			this.n = n;
+		}
+	}
+
+	///////////////////////////////////////////////////////////
+	// Task Implementations for Multi-Threaded Operations
+	///////////////////////////////////////////////////////////
+
+	private static class CholeskyUpdateTask implements Callable<Object>
+	{
+		private final double[] _a;
+		private final int _n;
+		private final int _il;
+		private final int _iu;
+		private final int _ql;
+		private final int _qu;
+		private final int _qinc;
+
+		protected CholeskyUpdateTask(double[] a, int n, int il, int iu, int ql, int qu, int qinc) {
+			_a = a;
+			_n = n;
+			_il = il;
+			_iu = iu;
+			_ql = ql;
+			_qu = qu;
+			_qinc = qinc;
+		}
+
+		@Override
+		public Object call() {
+			updateCholeskyRows(_a, _n, _il, _iu, _ql, _qu, _qinc);
+			return null;
+		}
+	}
+
+	private static class QRReflectTask implements Callable<Object>
+	{
+		private final double[] _qrt;
+		private final int _m;
+		private final int _minor;
+		private final double _a;
+		private final int _cl;
+		private final int _cu;
+
+		protected QRReflectTask(double[] qrt, int m, int minor, double a, int cl, int cu) {
+			_qrt = qrt;
+			_m = m;
+			_minor = minor;
+			_a = a;
+			_cl = cl;
+			_cu = cu;
+		}
+
+		@Override
+		public Object call() {
+			reflectColumns(_qrt, _m, _minor, _a, _cl, _cu);
+			return null;
+		}
+	}
+
+	private static class QRSolveTask implements Callable<Object>
+	{
+		private final QRFactors _qr;
+		private final double[] _y;
+		private final int _c;
+		private final int _cl;
+		private final int _cu;
+
+		protected QRSolveTask(QRFactors qr, double[] y, int c, int cl, int cu) {
+			_qr = qr;
+			_y = y;
+			_c = c;
+			_cl = cl;
+			_cu = cu;
+		}
+
+		@Override
+		public Object call() {
+			solveColumns(_qr, _y, _c, _cl, _cu);
+			return null;
+		}
+	}
+
+	private static class TridiagMultTask implements Callable<Object>
+	{
+		private final double[] _a;
+		private final int _n;
+		private final int _p;
+		private final double _beta;
+		private final double[] _w;
+		private final int _rl;
+		private final int _ru;
+
+		protected TridiagMultTask(double[] a, int n, int p, double beta, double[] w, int rl, int ru) {
+			_a = a;
+			_n = n;
+			_p = p;
+			_beta = beta;
+			_w = w;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Object call() {
+			multTridiagRows(_a, _n, _p, _beta, _w, _rl, _ru);
+			return null;
+		}
+	}
+
+	private static class TridiagUpdateTask implements Callable<Object>
+	{
+		private final double[] _a;
+		private final int _n;
+		private final int _p;
+		private final double[] _w;
+		private final int _rl;
+		private final int _ru;
+
+		protected TridiagUpdateTask(double[] a, int n, int p, double[] w, int rl, int ru) {
+			_a = a;
+			_n = n;
+			_p = p;
+			_w = w;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Object call() {
+			updateTridiagRows(_a, _n, _p, _w, _rl, _ru);
+			return null;
+		}
+	}
+
+	private static class EigenAccumulateTask implements Callable<Object>
+	{
+		private final double[] _v;
+		private final double[] _a;
+		private final int _n;
+		private final int _p;
+		private final double _beta;
+		private final int _rl;
+		private final int _ru;
+
+		protected EigenAccumulateTask(double[] v, double[] a, int n, int p, double beta, int rl, int ru) {
+			_v = v;
+			_a = a;
+			_n = n;
+			_p = p;
+			_beta = beta;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Object call() {
+			accumulateReflectorRows(_v, _a, _n, _p, _beta, _rl, _ru);
+			return null;
+		}
+	}
+
+	private static class EigenRotateTask implements Callable<Object>
+	{
+		private final double[] _v;
+		private final int _n;
+		private final int _l;
+		private final int _m;
+		private final double[] _cs;
+		private final double[] _sn;
+		private final int _rl;
+		private final int _ru;
+
+		protected EigenRotateTask(double[] v, int n, int l, int m, double[] cs, double[] sn, int rl, int ru) {
+			_v = v;
+			_n = n;
+			_l = l;
+			_m = m;
+			_cs = cs;
+			_sn = sn;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Object call() {
+			rotateEigenRows(_v, _n, _l, _m, _cs, _sn, _rl, _ru);
+			return null;
+		}
+	}
+}
@@ -3645,7 +3645,7 @@ public class LibMatrixMult
 		
 	}
 
-	private static ArrayList<Integer> getBalancedBlockSizes(int len, int k) {
+	protected static ArrayList<Integer> getBalancedBlockSizes(int len, int k) {
 		ArrayList<Integer> ret = new ArrayList<>();
 		int base = len / k;
 		int rest = len % k;
@@ -114,7 +114,7 @@ public class LibMatrixReorg
 				return diag(in, out); 
 			case SORT:      
 				SortIndex ix = (SortIndex) op.fn;
-				return sort(in, out, ix.getCol(), ix.getDecreasing(), ix.getIndexReturn());
+				return sort(in, out, ix.getCol(), ix.getDecreasing(), ix.getIndexReturn(), op.getNumThreads());
 			
 			default:        
 				throw new DMLRuntimeException("Unsupported reorg operator: "+op.fn);
@@ -319,6 +319,12 @@ public class LibMatrixReorg
 
 	public static MatrixBlock sort(MatrixBlock in, MatrixBlock out, int by, boolean desc, boolean ixret) 
 		throws DMLRuntimeException
+	{
+		return sort(in, out, by, desc, ixret, 1);
+	}
+	
+	public static MatrixBlock sort(MatrixBlock in, MatrixBlock out, int by, boolean desc, boolean ixret, int k) 
+		throws DMLRuntimeException
 	{
 		//meta data gathering and preparation
 		boolean sparse = in.isInSparseFormat();
@@ -327,6 +333,9 @@ public class LibMatrixReorg
 		out.sparse = (in.sparse && !ixret);
 		out.nonZeros = ixret ? rlen : in.nonZeros;
 		
+		//redirect small inputs to sequential sort
+		boolean par = (k > 1 && rlen >= PAR_NUMCELL_THRESHOLD);
+		
 		//step 1: error handling
 		if( by <= 0 || clen < by )
 			throw new DMLRuntimeException("Sort configuration issue: non-existing orderby column: "+by+" ("+rlen+"x"+clen+" input).");
@@ -340,7 +349,10 @@ public class LibMatrixReorg
 			if( !sparse && clen == 1 ) { //DENSE COLUMN VECTOR
 				//in-place quicksort, unstable (no indexes needed)
 				out.copy( in ); //dense
-				Arrays.sort(out.denseBlock);
+				if( par )
+					sortByValue(out.denseBlock, null, k);
+				else
+					Arrays.sort(out.denseBlock);
 				if( desc )
 					sortReverseDense(out);
 				return out;
@@ -367,7 +379,10 @@ public class LibMatrixReorg
 		}
 		
 		//sort index vector on extracted data (unstable)
-		SortUtils.sortByValue(0, rlen, values, vix);
+		if( par )
+			sortByValue(values, vix, k);
+		else
+			SortUtils.sortByValue(0, rlen, values, vix);
 
 		//flip order if descending requested (note that this needs to happen
 		//before we ensure stable outputs, hence we also flip values)
@@ -2020,6 +2035,88 @@ public class LibMatrixReorg
 	}
 	
 
+	/**
+	 * Multi-threaded in-place sort of the given values (and optionally
+	 * indexes) in ascending order. Blocks of balanced size are sorted 
+	 * independently, followed by rounds of parallel pairwise merges.
+	 * The merge is stable w.r.t. the sorted blocks; equal values with
+	 * indexes are made stable by the caller.
+	 * 
+	 * @param values double array of values to sort
+	 * @param indexes int array of indexes to reorder accordingly, or null
+	 * @param k degree of parallelism
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private static void sortByValue( double[] values, int[] indexes, int k ) 
+		throws DMLRuntimeException
+	{
+		int len = values.length;
+		ArrayList<Integer> blklens = LibMatrixMult.getBalancedBlockSizes(len, k);
+		int[] offsets = new int[blklens.size()+1];
+		for( int i=0; i<blklens.size(); i++ )
+			offsets[i+1] = offsets[i] + blklens.get(i);
+		
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool( k );
+			
+			//step 1: sort independent blocks
+			ArrayList<SortTask> tasks = new ArrayList<>();
+			for( int i=0; i<offsets.length-1; i++ )
+				tasks.add(new SortTask(values, indexes, offsets[i], offsets[i+1]));
+			for( Future<Object> rtask : pool.invokeAll(tasks) )
+				rtask.get();
+			
+			//step 2: rounds of pairwise merges (alternating buffers)
+			double[] vsrc = values, vdst = new double[len];
+			int[] isrc = indexes, idst = (indexes != null) ? new int[len] : null;
+			while( offsets.length > 2 ) {
+				int nruns = offsets.length-1;
+				int[] noffsets = new int[(nruns+1)/2+1];
+				ArrayList<MergeTask> mtasks = new ArrayList<>();
+				for( int i=0; i<nruns; i+=2 ) {
+					mtasks.add(new MergeTask(vsrc, isrc, vdst, idst, 
+						offsets[i], offsets[Math.min(i+1, nruns)], offsets[Math.min(i+2, nruns)]));
+					noffsets[i/2+1] = offsets[Math.min(i+2, nruns)];
+				}
+				for( Future<Object> rtask : pool.invokeAll(mtasks) )
+					rtask.get();
+				double[] vtmp = vsrc; vsrc = vdst; vdst = vtmp;
+				int[] itmp = isrc; isrc = idst; idst = itmp;
+				offsets = noffsets;
+			}
+			pool.shutdown();
+			
+			//copy result back into given arrays (if necessary)
+			if( vsrc != values ) {
+				System.arraycopy(vsrc, 0, values, 0, len);
+				if( indexes != null )
+					System.arraycopy(isrc, 0, indexes, 0, len);
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static void mergeSortedRuns( double[] vsrc, int[] isrc, double[] vdst, int[] idst, int lb, int mid, int ub )
+	{
+		int i = lb, j = mid, pos = lb;
+		while( i < mid && j < ub ) {
+			//take from right run only if strictly smaller (stable merge)
+			int ix = (Double.compare(vsrc[j], vsrc[i]) < 0) ? j++ : i++;
+			vdst[pos] = vsrc[ix];
+			if( isrc != null )
+				idst[pos] = isrc[ix];
+			pos++;
+		}
+		//copy remaining tail of left or right run
+		int rl = (i < mid) ? i : j;
+		int rlen = (i < mid) ? mid-i : ub-j;
+		System.arraycopy(vsrc, rl, vdst, pos, rlen);
+		if( isrc != null )
+			System.arraycopy(isrc, rl, idst, pos, rlen);
+	}
+
 	/**
 	 * Utility method for in-place transformation of an ascending sorted
 	 * order into a descending sorted order. This method assumes dense
@@ -2188,6 +2285,57 @@ public class LibMatrixReorg
 		}
 	}
 
+	private static class SortTask implements Callable<Object>
+	{
+		private final double[] _values;
+		private final int[] _indexes;
+		private final int _rl;
+		private final int _ru;
+		
+		protected SortTask(double[] values, int[] indexes, int rl, int ru) {
+			_values = values;
+			_indexes = indexes;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			if( _indexes != null )
+				SortUtils.sortByValue(_rl, _ru, _values, _indexes);
+			else
+				Arrays.sort(_values, _rl, _ru);
+			return null;
+		}
+	}
+	
+	private static class MergeTask implements Callable<Object>
+	{
+		private final double[] _vsrc;
+		private final int[] _isrc;
+		private final double[] _vdst;
+		private final int[] _idst;
+		private final int _lb;
+		private final int _mid;
+		private final int _ub;
+		
+		protected MergeTask(double[] vsrc, int[] isrc, double[] vdst, int[] idst, int lb, int mid, int ub) {
+			_vsrc = vsrc;
+			_isrc = isrc;
+			_vdst = vdst;
+			_idst = idst;
+			_lb = lb;
+			_mid = mid;
+			_ub = ub;
+		}
+		
+		@Override
+		public Object call() {
+			mergeSortedRuns(_vsrc, _isrc, _vdst, _idst, _lb, _mid, _ub);
+			return null;
+		}
+	}
+
 	private static class CountNnzTask implements Callable<int[]>
 	{
 		private MatrixBlock _in = null;
@@ -265,6 +265,8 @@ public class OperationsOnMatrixValues
 		//perform on the value
 		if( value2 instanceof CompressedMatrixBlock )
 			value2.aggregateBinaryOperations(value1, value2, valueOut, op);
+		else if( value1 instanceof CompressedMatrixBlock && value1.getNumRows() > 1 )
+			value1.aggregateBinaryOperations(value1, value2, valueOut, op);
 		else //default
 			value1.aggregateBinaryOperations(indexes1, value1, indexes2, value2, valueOut, op);
 	}
@@ -34,6 +34,7 @@ import org.apache.hadoop.mapred.SequenceFileOutputFormat;
 import org.apache.hadoop.mapred.TextOutputFormat;
 import org.apache.sysml.parser.DataExpression;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysml.runtime.matrix.mapred.CSVWriteReducer.RowBlockForTextOutput;
 import org.apache.sysml.runtime.matrix.sort.CompactOutputFormat;
 
@@ -60,6 +61,8 @@ public class OutputInfo implements Serializable
 			MatrixIndexes.class, MatrixCell.class);
 	public static final OutputInfo BinaryBlockOutputInfo=new OutputInfo(
 			SequenceFileOutputFormat.class, MatrixIndexes.class, MatrixBlock.class);
+	public static final OutputInfo CompressedBinaryBlockOutputInfo=new OutputInfo(
+			SequenceFileOutputFormat.class, MatrixIndexes.class, CompressedMatrixBlock.class);
 	public static final OutputInfo BinaryBlockFrameOutputInfo=new OutputInfo(
 			SequenceFileOutputFormat.class, LongWritable.class, FrameBlock.class);
 	public static final OutputInfo OutputInfoForSortInput=new OutputInfo(SequenceFileOutputFormat.class, 
@@ -74,6 +77,8 @@ public class OutputInfo implements Serializable
 	public static InputInfo getMatchingInputInfo(OutputInfo oi) throws DMLRuntimeException {
 		if ( oi == OutputInfo.BinaryBlockOutputInfo )
 			return InputInfo.BinaryBlockInputInfo;
+		else if ( oi == OutputInfo.CompressedBinaryBlockOutputInfo )
+			return InputInfo.CompressedBinaryBlockInputInfo;
 		else if ( oi == OutputInfo.MatrixMarketOutputInfo )
 			return InputInfo.MatrixMarketInputInfo;
 		else if ( oi == OutputInfo.BinaryCellOutputInfo ) 
@@ -105,6 +110,9 @@ public class OutputInfo implements Serializable
 		else if (str.equalsIgnoreCase("binaryblock")) {
 			return BinaryBlockOutputInfo;
 		}
+		else if (str.equalsIgnoreCase("compressedblock")) {
+			return CompressedBinaryBlockOutputInfo;
+		}
 		else if ( str.equalsIgnoreCase("sort_input") )
 			return OutputInfoForSortInput;
 		else if ( str.equalsIgnoreCase("sort_output"))
@@ -127,6 +135,8 @@ public class OutputInfo implements Serializable
 			return "binarycell";
 		else if ( oi == BinaryBlockOutputInfo )
 			return "binaryblock";
+		else if ( oi == CompressedBinaryBlockOutputInfo )
+			return "compressedblock";
 		else if ( oi == OutputInfoForSortInput )
 			return "sort_input";
 		else if ( oi == OutputInfoForSortOutput )
@@ -150,6 +160,8 @@ public class OutputInfo implements Serializable
 		else if( oinfo == OutputInfo.BinaryBlockOutputInfo 
 				|| oinfo == OutputInfo.BinaryCellOutputInfo )
 			return DataExpression.FORMAT_TYPE_VALUE_BINARY;
+		else if( oinfo == OutputInfo.CompressedBinaryBlockOutputInfo )
+			return DataExpression.FORMAT_TYPE_VALUE_COMPRESSED;
 		else
 			return "specialized";
 	}
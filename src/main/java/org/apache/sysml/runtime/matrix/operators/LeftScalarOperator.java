@@ -40,6 +40,10 @@ public class LeftScalarOperator extends ScalarOperator
 		super(p, cst);
 	}
 	
+	public LeftScalarOperator(ValueFunction p, double cst, int numThreads) {
+		super(p, cst, numThreads);
+	}
+	
 	@Override
 	public void setConstant(double cst) 
 	{
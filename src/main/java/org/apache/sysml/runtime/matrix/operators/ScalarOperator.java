@@ -44,13 +44,23 @@ public abstract class ScalarOperator extends Operator
 
 	public ValueFunction fn;
 	protected double _constant;
+	private final int _k; //num threads
 	
 	public ScalarOperator(ValueFunction p, double cst) {
+		this(p, cst, 1); //default single-threaded
+	}
+	
+	public ScalarOperator(ValueFunction p, double cst, int numThreads) {
 		fn = p;
+		_k = numThreads;
 		//set constant and sparse safe flag
 		setConstant(cst);
 	}
 	
+	public int getNumThreads() {
+		return _k;
+	}
+	
 	public double getConstant() {
 		return _constant;
 	}
@@ -24,6 +24,7 @@ import java.util.Arrays;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.util.UtilFunctions;
@@ -103,6 +104,20 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock encode(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Block encode: build and apply (transform encode) with a degree
+	 * of parallelism of up to k threads over row partitions.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
+		//default: single-threaded encode
+		return encode(in, out);
+	}
 
 	/**
 	 * Build the transform meta data for the given block input. This call modifies
@@ -121,6 +136,49 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock apply(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Encode the row range [rl,ru) of the input data according to existing
+	 * transform meta data. The output is expected to be preallocated; its
+	 * number of non-zeros is not maintained, which allows concurrent calls
+	 * for disjoint row ranges.
+	 * 
+	 * The default implementation applies the full-block apply to slices of
+	 * the input and output row range and copies the result back. This is
+	 * correct for all encoders whose apply is row-local (i.e., does not add
+	 * or remove rows), but encoders should override it with a direct 
+	 * row-range apply to avoid the intermediate copies.
+	 * 
+	 * @param in input frame block
+	 * @param out preallocated output matrix block
+	 * @param rl row lower index, inclusive
+	 * @param ru row upper index, exclusive
+	 */
+	public void apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		final int clen = out.getNumColumns();
+		FrameBlock in2 = null;
+		try {
+			in2 = in.sliceOperations(rl, ru-1, 0, in.getNumColumns()-1, new FrameBlock());
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+		
+		//copy row range of current output (cell-wise, as nnz is not maintained)
+		MatrixBlock out2 = new MatrixBlock(ru-rl, clen, false);
+		for( int i=rl; i<ru; i++ )
+			for( int j=0; j<clen; j++ )
+				out2.quickSetValue(i-rl, j, out.quickGetValue(i, j));
+		
+		//apply to row slices and copy back all cells (incl zeros)
+		out2 = apply(in2, out2);
+		if( out2.getNumRows() != ru-rl || out2.getNumColumns() != clen )
+			throw new RuntimeException("Row-range apply not supported by "
+				+ getClass().getSimpleName() + " (changed output dimensions).");
+		for( int i=rl; i<ru; i++ )
+			for( int j=0; j<clen; j++ )
+				setValueUnsafe(out, i, j, out2.quickGetValue(i-rl, j));
+	}
 
 	/**
 	 * Construct a frame block out of the transform meta data.
@@ -149,4 +207,20 @@ public abstract class Encoder implements Serializable
 		//default: do nothing
 		return out;
 	}
+	
+	/**
+	 * Sets a cell of a preallocated dense or MCSR sparse output block
+	 * without maintaining the number of non-zeros.
+	 * 
+	 * @param out output matrix block
+	 * @param r row index
+	 * @param c column index
+	 * @param v value
+	 */
+	protected static void setValueUnsafe(MatrixBlock out, int r, int c, double v) {
+		if( out.isInSparseFormat() )
+			out.getSparseBlock().set(r, c, v);
+		else
+			out.setValueDenseUnsafe(r, c, v);
+	}
 }
@@ -132,6 +132,20 @@ public class EncoderBin extends Encoder
 		}
 		return out;
 	}
+	
+	@Override
+	public void apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		for(int j=0; j<_colList.length; j++) {
+			int colID = _colList[j];
+			for( int i=rl; i<ru; i++ ) {
+				double inVal = UtilFunctions.objectToDouble(
+						in.getSchema()[colID-1], in.get(i, colID-1));
+				int ix = Arrays.binarySearch(_binMaxs[j], inVal);
+				int binID = ((ix < 0) ? Math.abs(ix+1) : ix) + 1;
+				setValueUnsafe(out, i, colID-1, binID);
+			}
+		}
+	}
 
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
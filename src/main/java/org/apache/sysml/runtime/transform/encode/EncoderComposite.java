@@ -19,8 +19,15 @@
 
 package org.apache.sysml.runtime.transform.encode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
@@ -36,6 +43,9 @@ public class EncoderComposite extends Encoder
 {
 	private static final long serialVersionUID = -8473768154646831882L;
 	
+	//internal configuration of multi-threaded encode
+	private static final long PAR_NUMCELL_THRESHOLD = 64*1024; //Min 64k cells
+	
 	private List<Encoder> _encoders = null;
 	private FrameBlock _meta = null;
 	
@@ -82,6 +92,83 @@ public class EncoderComposite extends Encoder
 		return out;
 	}
 
+	@Override
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
+		//sequential encode for small inputs and encoders w/o row-range apply
+		//(i.e., omit, which changes the number of output rows)
+		final int rlen = in.getNumRows();
+		if( k <= 1 || (long)rlen*in.getNumColumns() < PAR_NUMCELL_THRESHOLD
+			|| !isRowRangeApplicable() )
+			return encode(in, out);
+		
+		ExecutorService pool = Executors.newFixedThreadPool(k);
+		try {
+			//determine row partitions (at most k)
+			int blklen = (int)(Math.ceil((double)rlen/k));
+			
+			//build partial recode maps in parallel and merge in row order,
+			//which yields the same codes as the single-threaded build
+			for( Encoder encoder : _encoders ) {
+				if( encoder instanceof EncoderRecode ) {
+					EncoderRecode recode = (EncoderRecode) encoder;
+					ArrayList<RecodeBuildTask> tasks = new ArrayList<>();
+					for( int i=0; i<rlen; i+=blklen )
+						tasks.add(new RecodeBuildTask(recode, in, i, Math.min(i+blklen, rlen)));
+					for( Future<HashMap<Integer, LinkedHashSet<String>>> rt : pool.invokeAll(tasks) )
+						recode.mergePartial(rt.get());
+				}
+				else {
+					encoder.build(in);
+				}
+			}
+			
+			//propagate meta data 
+			_meta = new FrameBlock(in.getNumColumns(), ValueType.STRING);
+			for( Encoder encoder : _encoders )
+				_meta = encoder.getMetaData(_meta);
+			for( Encoder encoder : _encoders )
+				encoder.initMetaData(_meta);
+			
+			//preallocate dense intermediate and (dense/sparse) dummy coded output
+			out.reset(rlen, in.getNumColumns(), false);
+			out.allocateDenseBlock();
+			EncoderDummycode dummy = null;
+			for( Encoder encoder : _encoders )
+				if( encoder instanceof EncoderDummycode )
+					dummy = (EncoderDummycode) encoder;
+			MatrixBlock out2 = (dummy != null) ?
+				dummy.allocateOutput(rlen, in.getNumColumns()) : null;
+			
+			//apply all encoders in parallel over row partitions
+			ArrayList<ApplyTask> tasks = new ArrayList<>();
+			for( int i=0; i<rlen; i+=blklen )
+				tasks.add(new ApplyTask(_encoders, in, out, out2, i, Math.min(i+blklen, rlen)));
+			for( Future<Object> rt : pool.invokeAll(tasks) )
+				rt.get();
+			
+			//maintain nnz and ensure output in best representation
+			MatrixBlock ret = (out2 != null) ? out2 : out;
+			ret.recomputeNonZeros();
+			ret.examSparsity();
+			return ret;
+		}
+		catch(Exception ex) {
+			LOG.error("Failed multi-threaded transform-encode frame with \n" + this);
+			throw new RuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	private boolean isRowRangeApplicable() {
+		//all encoders except omit (which removes rows) apply row-local
+		for( Encoder encoder : _encoders )
+			if( encoder instanceof EncoderOmit )
+				return false;
+		return true;
+	}
+	
 	@Override
 	public void build(FrameBlock in) {
 		for( Encoder encoder : _encoders )
@@ -153,4 +240,60 @@ public class EncoderComposite extends Encoder
 		}
 		return sb.toString();
 	}
+	
+	private static class RecodeBuildTask implements Callable<HashMap<Integer, LinkedHashSet<String>>> 
+	{
+		private final EncoderRecode _encoder;
+		private final FrameBlock _in;
+		private final int _rl;
+		private final int _ru;
+		
+		protected RecodeBuildTask(EncoderRecode encoder, FrameBlock in, int rl, int ru) {
+			_encoder = encoder;
+			_in = in;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public HashMap<Integer, LinkedHashSet<String>> call() {
+			return _encoder.buildPartialRange(_in, _rl, _ru);
+		}
+	}
+	
+	private static class ApplyTask implements Callable<Object> 
+	{
+		private final List<Encoder> _encoders;
+		private final FrameBlock _in;
+		private final MatrixBlock _out;
+		private final MatrixBlock _out2;
+		private final int _rl;
+		private final int _ru;
+		
+		protected ApplyTask(List<Encoder> encoders, FrameBlock in, MatrixBlock out, MatrixBlock out2, int rl, int ru) {
+			_encoders = encoders;
+			_in = in;
+			_out = out;
+			_out2 = out2;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			//apply encoders in order, where all encoders after
+			//dummy coding write into the dummy coded output
+			MatrixBlock out = _out;
+			for( Encoder encoder : _encoders ) {
+				if( encoder instanceof EncoderDummycode ) {
+					((EncoderDummycode) encoder).apply(out, _out2, _rl, _ru);
+					out = _out2;
+				}
+				else {
+					encoder.apply(_in, out, _rl, _ru);
+				}
+			}
+			return null;
+		}
+	}
 }
@@ -21,6 +21,7 @@ package org.apache.sysml.runtime.transform.encode;
 
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
 import org.apache.sysml.runtime.transform.TfUtils;
 import org.apache.sysml.runtime.transform.meta.TfMetaUtils;
 import org.apache.wink.json4j.JSONException;
@@ -84,6 +85,63 @@ public class EncoderDummycode extends Encoder
 		return ret;
 	}
 
+	/**
+	 * Allocates the dummy coded output in dense or sparse (MCSR) format,
+	 * where each input cell produces at most one non-zero output cell.
+	 * 
+	 * @param rlen number of rows
+	 * @param clen number of columns before dummy coding
+	 * @return preallocated output matrix block
+	 */
+	public MatrixBlock allocateOutput(int rlen, int clen) {
+		final boolean sparse = MatrixBlock.evalSparseFormatInMemory(
+			rlen, getNumCols(), (long)rlen*clen);
+		MatrixBlock ret = new MatrixBlock(rlen, getNumCols(), sparse);
+		if( sparse )
+			ret.allocateAndResetSparseRowsBlock(true, SparseBlock.Type.MCSR);
+		else
+			ret.allocateDenseBlock();
+		return ret;
+	}
+	
+	/**
+	 * Dummy codes the row range [rl,ru) of the given recoded input into a 
+	 * preallocated output (see {@link #allocateOutput(int, int)}), without
+	 * maintaining the number of non-zeros of the output.
+	 * 
+	 * @param in recoded input matrix block
+	 * @param out preallocated output matrix block
+	 * @param rl row lower index, inclusive
+	 * @param ru row upper index, exclusive
+	 */
+	public void apply(MatrixBlock in, MatrixBlock out, int rl, int ru) {
+		final int clen = in.getNumColumns();
+		SparseBlock sblock = out.getSparseBlock();
+		for( int i=rl; i<ru; i++ ) {
+			if( out.isInSparseFormat() )
+				sblock.allocate(i, clen);
+			for(int colID=1, idx=0, ncolID=1; colID <= clen; colID++) {
+				double val = in.quickGetValue(i, colID-1);
+				int pos = ncolID-1;
+				if( idx < _colList.length && colID==_colList[idx] ) {
+					pos += (int)val-1;
+					val = 1;
+					ncolID += _domainSizes[idx];
+					idx ++;
+				}
+				else {
+					ncolID ++;
+				}
+				if( val == 0 )
+					continue;
+				if( out.isInSparseFormat() )
+					sblock.append(i, pos, val);
+				else
+					out.setValueDenseUnsafe(i, pos, val);
+			}
+		}
+	}
+
 	@Override
 	public FrameBlock getMetaData(FrameBlock out) {
 		return out;
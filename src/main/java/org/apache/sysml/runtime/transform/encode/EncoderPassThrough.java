@@ -64,6 +64,20 @@ public class EncoderPassThrough extends Encoder
 		
 		return out;
 	}
+	
+	@Override
+	public void apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		for( int j=0; j<_colList.length; j++ ) {
+			int col = _colList[j]-1;
+			ValueType vt = in.getSchema()[col];
+			for( int i=rl; i<ru; i++ ) {
+				Object val = in.get(i, col);
+				setValueUnsafe(out, i, col, (val==null||(vt==ValueType.STRING 
+						&& val.toString().isEmpty())) ? Double.NaN : 
+						UtilFunctions.objectToDouble(vt, val));
+			}
+		}
+	}
 
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
@@ -22,6 +22,7 @@ package org.apache.sysml.runtime.transform.encode;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map.Entry;
 
 import org.apache.sysml.lops.Lop;
@@ -124,6 +125,63 @@ public class EncoderRecode extends Encoder
 		}
 	}
 	
+	/**
+	 * Builds partial recode maps over the row range [rl,ru), i.e., the distinct
+	 * tokens per column in order of first occurrence. In contrast to 
+	 * {@link #buildPartial(FrameBlock)}, this method does not modify the
+	 * encoder state but returns the partial maps. Partial maps of disjoint row 
+	 * ranges can be built concurrently and are then merged via 
+	 * {@link #mergePartial(HashMap)}.
+	 * 
+	 * @param in input frame block
+	 * @param rl row lower index, inclusive
+	 * @param ru row upper index, exclusive
+	 * @return partial recode maps by column ID (1-based)
+	 */
+	public HashMap<Integer, LinkedHashSet<String>> buildPartialRange(FrameBlock in, int rl, int ru) {
+		HashMap<Integer, LinkedHashSet<String>> ret = new HashMap<>();
+		if( !isApplicable() )
+			return ret;
+		
+		//iterate over columns for sequential access
+		for( int j=0; j<_colList.length; j++ ) {
+			int colID = _colList[j]; //1-based
+			LinkedHashSet<String> map = new LinkedHashSet<>();
+			for( int i=rl; i<ru; i++ ) {
+				Object okey = in.get(i, colID-1);
+				String key = (okey!=null) ? okey.toString() : null;
+				if( key!=null && !key.isEmpty() )
+					map.add(key);
+			}
+			ret.put(colID, map);
+		}
+		return ret;
+	}
+	
+	/**
+	 * Merges partial recode maps into the recode maps of this encoder. Merging
+	 * the partial maps in row-range order yields the same codes as a
+	 * single-threaded build over the entire input.
+	 * 
+	 * NOTE: the merge is sequential, and for columns with very high cardinality
+	 * it performs as many hash inserts as the single-threaded build, which
+	 * limits the speedup of the parallel build to the deduplication of tokens.
+	 * 
+	 * @param part partial recode maps by column ID (1-based)
+	 */
+	public void mergePartial(HashMap<Integer, LinkedHashSet<String>> part) {
+		for( Entry<Integer, LinkedHashSet<String>> e : part.entrySet() ) {
+			//allocate column map if necessary
+			if( !_rcdMaps.containsKey(e.getKey()) )
+				_rcdMaps.put(e.getKey(), new HashMap<String,Long>());
+			//probe and extend column map
+			HashMap<String,Long> map = _rcdMaps.get(e.getKey());
+			for( String key : e.getValue() )
+				if( !map.containsKey(key) )
+					map.put(key, Long.valueOf(map.size()+1));
+		}
+	}
+	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
 		//apply recode maps column wise
@@ -140,6 +198,20 @@ public class EncoderRecode extends Encoder
 		
 		return out;
 	}
+	
+	@Override
+	public void apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		for( int j=0; j<_colList.length; j++ ) {
+			int colID = _colList[j];
+			for( int i=rl; i<ru; i++ ) {
+				Object okey = in.get(i, colID-1);
+				String key = (okey!=null) ? okey.toString() : null;
+				long code = lookupRCDMap(colID, key);
+				setValueUnsafe(out, i, colID-1,
+					(code >= 0) ? code : Double.NaN);
+			}
+		}
+	}
 
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
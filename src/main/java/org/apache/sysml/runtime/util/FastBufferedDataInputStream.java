@@ -111,7 +111,9 @@ public class FastBufferedDataInputStream extends FilterInputStream implements Da
 
 	@Override
 	public char readChar() throws IOException {
-		throw new IOException("Not supported.");
+		readFully(_buff, 0, 2);
+		
+		return (char)(((_buff[0] & 0xFF) << 8) + (_buff[1] & 0xFF));
 	}
 
 	@Override
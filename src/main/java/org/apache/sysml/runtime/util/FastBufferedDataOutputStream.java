@@ -192,7 +192,11 @@ public class FastBufferedDataOutputStream extends FilterOutputStream implements
 
 	@Override
 	public void writeChar(int v) throws IOException {
-		throw new IOException("Not supported.");
+		if (_count+2 > _bufflen) {
+		    flushBuffer();
+		}
+		shortToBa(v, _buff, _count);
+		_count += 2;
 	}
 
 	@Override
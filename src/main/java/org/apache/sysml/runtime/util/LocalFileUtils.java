@@ -258,6 +258,23 @@ public class LocalFileUtils
 		}
 	}
 
+	public static void writeByteBufferToLocal( String fname, ByteBuffer data )
+		throws IOException
+	{
+		//write (off-heap) byte buffer via java.nio file channel w/o copy into heap
+		FileChannel channel = null;
+		try {
+			Path path = Paths.get(fname);
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+			while( data.hasRemaining() )
+				channel.write(data);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
+
 	public static int readBlockSequenceFromLocal(String fname, 
 			Pair<MatrixIndexes,MatrixValue>[] outValues, HashMap<MatrixIndexes, Integer> outMap) 
 		throws IOException
@@ -25,16 +25,19 @@ import java.lang.management.ManagementFactory;
 import java.text.DecimalFormat;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.sysml.api.DMLScript;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.codegen.CodegenClassCache;
+import org.apache.sysml.runtime.controlprogram.caching.CachePrefetcher;
 import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysml.runtime.controlprogram.caching.OffHeapBufferPool;
 import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysml.runtime.instructions.Instruction;
 import org.apache.sysml.runtime.instructions.InstructionUtils;
@@ -63,9 +66,9 @@ public class Statistics
 	private static final LongAdder numCompiledSPInst = new LongAdder();
 
 	//JVM stats (low frequency updates)
-	private static long jitCompileTime = 0; //in milli sec
-	private static long jvmGCTime = 0; //in milli sec
-	private static long jvmGCCount = 0; //count
+	private static final LongAdder jitCompileTime = new LongAdder(); //in milli sec
+	private static final LongAdder jvmGCTime = new LongAdder(); //in milli sec
+	private static final LongAdder jvmGCCount = new LongAdder(); //count
 	
 	//HOP DAG recompile stats (potentially high update frequency)
 	private static final LongAdder hopRecompileTime = new LongAdder(); //in nano sec
@@ -84,6 +87,10 @@ public class Statistics
 	private static final LongAdder codegenEnumEvalP = new LongAdder(); //count
 	private static final LongAdder codegenPlanCacheHits = new LongAdder(); //count
 	private static final LongAdder codegenPlanCacheTotal = new LongAdder(); //count
+	private static final LongAdder codegenClassCacheHits = new LongAdder(); //count
+	private static final LongAdder codegenClassCacheTotal = new LongAdder(); //count
+	private static final LongAdder codegenAsyncCompile = new LongAdder(); //count
+	private static final LongAdder codegenAsyncCompileTime = new LongAdder(); //in nano
 	
 	//Function recompile stats 
 	private static final LongAdder funRecompileTime = new LongAdder(); //in nano sec
@@ -99,20 +106,22 @@ public class Statistics
 	private static final LongAdder sparkBroadcastCount = new LongAdder();
 
 	//PARFOR optimization stats (low frequency updates)
-	private static long parforOptTime = 0; //in milli sec
-	private static long parforOptCount = 0; //count
-	private static long parforInitTime = 0; //in milli sec
-	private static long parforMergeTime = 0; //in milli sec
+	private static final LongAdder parforOptTime = new LongAdder(); //in milli sec
+	private static final LongAdder parforOptCount = new LongAdder(); //count
+	private static final LongAdder parforInitTime = new LongAdder(); //in milli sec
+	private static final LongAdder parforMergeTime = new LongAdder(); //in milli sec
+	private static final LongAdder parforTaskTime = new LongAdder(); //in nano sec
+	private static final LongAdder parforTaskCount = new LongAdder(); //count
+	private static final LongAdder parforTaskSteals = new LongAdder(); //count
 	
-	//heavy hitter counts and times 
-	private static HashMap<String,Long> _cpInstTime = new HashMap<>();
-	private static HashMap<String,Long> _cpInstCounts = new HashMap<>();
+	//heavy hitter times and counts (lock-free, per opcode)
+	private static final ConcurrentHashMap<String,InstStats> _cpInstStats = new ConcurrentHashMap<>();
 
 	private static final LongAdder lTotalUIPVar = new LongAdder();
 	private static final LongAdder lTotalLix = new LongAdder();
 	private static final LongAdder lTotalLixUIP = new LongAdder();
 
-	public static synchronized long getNoOfExecutedMRJobs() {
+	public static long getNoOfExecutedMRJobs() {
 		return numExecutedMRJobs.longValue();
 	}
 	
@@ -220,16 +229,16 @@ public class Statistics
 			GPUStatistics.setNoOfExecutedGPUInst(0);
 	}
 	
-	public static synchronized void incrementJITCompileTime( long time ) {
-		jitCompileTime += time;
+	public static void incrementJITCompileTime( long time ) {
+		jitCompileTime.add(time);
 	}
 	
-	public static synchronized void incrementJVMgcTime( long time ) {
-		jvmGCTime += time;
+	public static void incrementJVMgcTime( long time ) {
+		jvmGCTime.add(time);
 	}
 	
-	public static synchronized void incrementJVMgcCount( long delta ) {
-		jvmGCCount += delta;
+	public static void incrementJVMgcCount( long delta ) {
+		jvmGCCount.add(delta);
 	}
 	
 	public static void incrementHOPRecompileTime( long delta ) {
@@ -293,6 +302,22 @@ public class Statistics
 		codegenPlanCacheTotal.increment();
 	}
 	
+	public static void incrementCodegenClassCacheHits() {
+		codegenClassCacheHits.increment();
+	}
+	
+	public static void incrementCodegenClassCacheTotal() {
+		codegenClassCacheTotal.increment();
+	}
+	
+	public static void incrementCodegenAsyncCompile() {
+		codegenAsyncCompile.increment();
+	}
+	
+	public static void incrementCodegenAsyncCompileTime(long delta) {
+		codegenAsyncCompileTime.add(delta);
+	}
+	
 	public static long getCodegenDAGCompile() {
 		return codegenHopCompile.longValue();
 	}
@@ -333,6 +358,22 @@ public class Statistics
 	public static long getCodegenPlanCacheTotal() {
 		return codegenPlanCacheTotal.longValue();
 	}
+	
+	public static long getCodegenClassCacheHits() {
+		return codegenClassCacheHits.longValue();
+	}
+	
+	public static long getCodegenClassCacheTotal() {
+		return codegenClassCacheTotal.longValue();
+	}
+	
+	public static long getCodegenAsyncCompile() {
+		return codegenAsyncCompile.longValue();
+	}
+	
+	public static long getCodegenAsyncCompileTime() {
+		return codegenAsyncCompileTime.longValue();
+	}
 
 	public static void incrementFunRecompileTime( long delta ) {
 		funRecompileTime.add(delta);
@@ -342,20 +383,29 @@ public class Statistics
 		funRecompiles.increment();
 	}
 	
-	public static synchronized void incrementParForOptimCount(){
-		parforOptCount ++;
+	public static void incrementParForOptimCount(){
+		parforOptCount.increment();
+	}
+	
+	public static void incrementParForOptimTime( long time ) {
+		parforOptTime.add(time);
+	}
+	
+	public static void incrementParForInitTime( long time ) {
+		parforInitTime.add(time);
 	}
 	
-	public static synchronized void incrementParForOptimTime( long time ) {
-		parforOptTime += time;
+	public static void incrementParForMergeTime( long time ) {
+		parforMergeTime.add(time);
 	}
 	
-	public static synchronized void incrementParForInitTime( long time ) {
-		parforInitTime += time;
+	public static void incrementParForTaskTime( long delta ) {
+		parforTaskTime.add(delta);
+		parforTaskCount.increment();
 	}
 	
-	public static synchronized void incrementParForMergeTime( long time ) {
-		parforMergeTime += time;
+	public static void incrementParForTaskSteals( long delta ) {
+		parforTaskSteals.add(delta);
 	}
 
 	public static void startCompileTimer() {
@@ -417,11 +467,18 @@ public class Statistics
 		codegenClassCompileTime.reset();
 		codegenPlanCacheHits.reset();
 		codegenPlanCacheTotal.reset();
+		codegenClassCacheHits.reset();
+		codegenClassCacheTotal.reset();
+		codegenAsyncCompile.reset();
+		codegenAsyncCompileTime.reset();
 		
-		parforOptCount = 0;
-		parforOptTime = 0;
-		parforInitTime = 0;
-		parforMergeTime = 0;
+		parforOptCount.reset();
+		parforOptTime.reset();
+		parforInitTime.reset();
+		parforMergeTime.reset();
+		parforTaskTime.reset();
+		parforTaskCount.reset();
+		parforTaskSteals.reset();
 		
 		lTotalLix.reset();
 		lTotalLixUIP.reset();
@@ -451,20 +508,25 @@ public class Statistics
 	}
 
 	public static void resetJITCompileTime(){
-		jitCompileTime = -1 * getJITCompileTime();
+		long tmp = getJITCompileTime();
+		jitCompileTime.reset();
+		jitCompileTime.add(-1 * tmp);
 	}
 	
 	public static void resetJVMgcTime(){
-		jvmGCTime = -1 * getJVMgcTime();
+		long tmp = getJVMgcTime();
+		jvmGCTime.reset();
+		jvmGCTime.add(-1 * tmp);
 	}
 	
 	public static void resetJVMgcCount(){
-		jvmGCTime = -1 * getJVMgcCount();
+		long tmp = getJVMgcCount();
+		jvmGCCount.reset();
+		jvmGCCount.add(-1 * tmp);
 	}
 
 	public static void resetCPHeavyHitters(){
-		_cpInstTime.clear();
-		_cpInstCounts.clear();
+		_cpInstStats.clear();
 	}
 
 	public static void setSparkCtxCreateTime(long ns) {
@@ -526,26 +588,31 @@ public class Statistics
 	}
 
 	/**
-	 * "Maintains" or adds time to per instruction/op timers, also increments associated count
+	 * "Maintains" or adds time to per instruction/op timers, also increments associated count.
+	 * This method is lock-free (except for the first occurrence of an opcode) because it is 
+	 * called for every executed instruction, incl concurrent calls from parfor workers.
+	 * 
 	 * @param instructionName name of the instruction/op
 	 * @param timeNanos time in nano seconds
 	 */
-	public synchronized static void maintainCPHeavyHitters( String instructionName, long timeNanos )
+	public static void maintainCPHeavyHitters( String instructionName, long timeNanos )
 	{
-		Long oldVal = _cpInstTime.getOrDefault(instructionName, 0L);
-		_cpInstTime.put(instructionName, oldVal + timeNanos);
-
-		Long oldCnt = _cpInstCounts.getOrDefault(instructionName, 0L);
-		_cpInstCounts.put(instructionName, oldCnt + 1);
+		//probe existing entry first, as computeIfAbsent locks the bin even if present
+		InstStats stats = _cpInstStats.get(instructionName);
+		if( stats == null )
+			stats = _cpInstStats.computeIfAbsent(instructionName, k -> new InstStats());
+		stats.time.add(timeNanos);
+		stats.count.increment();
 	}
 
 
 	public static Set<String> getCPHeavyHitterOpCodes() {
-		return _cpInstTime.keySet();
+		return _cpInstStats.keySet();
 	}
 	
 	public static long getCPHeavyHitterCount(String opcode) {
-		return _cpInstCounts.get(opcode);
+		InstStats stats = _cpInstStats.get(opcode);
+		return (stats != null) ? stats.count.longValue() : 0;
 	}
 
 	/**
@@ -559,15 +626,26 @@ public class Statistics
 	 *         format
 	 */
 	public static String getHeavyHitters(int num) {
-		int len = _cpInstTime.size();
+		// snapshot of concurrently maintained stats
+		@SuppressWarnings("unchecked")
+		Entry<String, InstStats>[] tmp = _cpInstStats.entrySet().toArray(new Entry[0]);
+		int len = tmp.length;
 		if (num <= 0 || len <= 0)
 			return "-";
+		long[] times = new long[len];
+		long[] counts = new long[len];
+		for (int i = 0; i < len; i++) {
+			times[i] = tmp[i].getValue().time.longValue();
+			counts[i] = tmp[i].getValue().count.longValue();
+		}
 
-		// get top k via sort
-		Entry<String, Long>[] tmp = _cpInstTime.entrySet().toArray(new Entry[len]);
-		Arrays.sort(tmp, new Comparator<Entry<String, Long>>() {
-			public int compare(Entry<String, Long> e1, Entry<String, Long> e2) {
-				return e1.getValue().compareTo(e2.getValue());
+		// get top k via sort (of positions by time)
+		Integer[] ix = new Integer[len];
+		for (int i = 0; i < len; i++)
+			ix[i] = i;
+		Arrays.sort(ix, new Comparator<Integer>() {
+			public int compare(Integer i1, Integer i2) {
+				return Long.compare(times[i1], times[i2]);
 			}
 		});
 
@@ -584,9 +662,9 @@ public class Statistics
 		int maxCountLen = countCol.length();
 		DecimalFormat sFormat = new DecimalFormat("#,##0.000");
 		for (int i = 0; i < numHittersToDisplay; i++) {
-			Entry<String, Long> hh = tmp[len - 1 - i];
-			String instruction = hh.getKey();
-			Long timeNs = hh.getValue();
+			int pos = ix[len - 1 - i];
+			String instruction = tmp[pos].getKey();
+			long timeNs = times[pos];
 			double timeS = (double) timeNs / 1000000000.0;
 
 			maxInstLen = Math.max(maxInstLen, instruction.length());
@@ -594,7 +672,7 @@ public class Statistics
 			String timeSString = sFormat.format(timeS);
 			maxTimeSLen = Math.max(maxTimeSLen, timeSString.length());
 
-			maxCountLen = Math.max(maxCountLen, String.valueOf(_cpInstCounts.get(instruction)).length());
+			maxCountLen = Math.max(maxCountLen, String.valueOf(counts[pos]).length());
 		}
 		maxInstLen = Math.min(maxInstLen, DMLScript.STATISTICS_MAX_WRAP_LEN);
 		sb.append(String.format(
@@ -606,14 +684,14 @@ public class Statistics
 		}
 		sb.append("\n");
 		for (int i = 0; i < numHittersToDisplay; i++) {
-			String instruction = tmp[len - 1 - i].getKey();
+			int pos = ix[len - 1 - i];
+			String instruction = tmp[pos].getKey();
 			String [] wrappedInstruction = wrap(instruction, maxInstLen);
 
-			Long timeNs = tmp[len - 1 - i].getValue();
-			double timeS = (double) timeNs / 1000000000.0;
+			double timeS = (double) times[pos] / 1000000000.0;
 			String timeSString = sFormat.format(timeS);
 
-			Long count = _cpInstCounts.get(instruction);
+			long count = counts[pos];
 			int numLines = wrappedInstruction.length;
 			String [] miscTimers = null;
 			
@@ -655,7 +733,7 @@ public class Statistics
 		if( cmx.isCompilationTimeMonitoringSupported() )
 		{
 			ret = cmx.getTotalCompilationTime();
-			ret += jitCompileTime; //add from remote processes
+			ret += jitCompileTime.longValue(); //add from remote processes
 		}
 		return ret;
 	}
@@ -668,7 +746,7 @@ public class Statistics
 		for( GarbageCollectorMXBean gcx : gcxs )
 			ret += gcx.getCollectionTime();
 		if( ret>0 )
-			ret += jvmGCTime;
+			ret += jvmGCTime.longValue();
 		
 		return ret;
 	}
@@ -681,7 +759,7 @@ public class Statistics
 		for( GarbageCollectorMXBean gcx : gcxs )
 			ret += gcx.getCollectionCount();
 		if( ret>0 )
-			ret += jvmGCCount;
+			ret += jvmGCCount.longValue();
 		
 		return ret;
 	}
@@ -707,19 +785,31 @@ public class Statistics
 	}
 		
 	public static long getParforOptCount(){
-		return parforOptCount;
+		return parforOptCount.longValue();
 	}
 	
 	public static long getParforOptTime(){
-		return parforOptTime;
+		return parforOptTime.longValue();
 	}
 	
 	public static long getParforInitTime(){
-		return parforInitTime;
+		return parforInitTime.longValue();
 	}
 	
 	public static long getParforMergeTime(){
-		return parforMergeTime;
+		return parforMergeTime.longValue();
+	}
+	
+	public static long getParforTaskTime(){
+		return parforTaskTime.longValue();
+	}
+	
+	public static long getParforTaskCount(){
+		return parforTaskCount.longValue();
+	}
+	
+	public static long getParforTaskSteals(){
+		return parforTaskSteals.longValue();
 	}
 
 	/**
@@ -792,6 +882,11 @@ public class Statistics
 			
 			sb.append("Cache hits (Mem, WB, FS, HDFS):\t" + CacheStatistics.displayHits() + ".\n");
 			sb.append("Cache writes (WB, FS, HDFS):\t" + CacheStatistics.displayWrites() + ".\n");
+			sb.append("Cache evictions (FIFO, LRU, LRU_SIZE, LFU, COST):\t" + CacheStatistics.displayEvictions() + ".\n");
+			if( CachePrefetcher.isEnabled() )
+				sb.append("Cache prefetch (issued, hits, wasted):\t" + CacheStatistics.displayPrefetch() + ".\n");
+			if( OffHeapBufferPool.isEnabled() )
+				sb.append("Cache off-heap (hits, writes):\t" + CacheStatistics.displayOffHeap() + ".\n");
 			sb.append("Cache times (ACQr/m, RLS, EXP):\t" + CacheStatistics.displayTime() + " sec.\n");
 			sb.append("HOP DAGs recompiled (PRED, SB):\t" + getHopRecompiledPredDAGs() + "/" + getHopRecompiledSBDAGs() + ".\n");
 			sb.append("HOP DAGs recompile time:\t" + String.format("%.3f", ((double)getHopRecompileTime())/1000000000) + " sec.\n");
@@ -807,6 +902,16 @@ public class Statistics
 				sb.append("Codegen compile times (DAG,JC):\t" + String.format("%.3f", (double)getCodegenCompileTime()/1000000000) + "/" + 
 						String.format("%.3f", (double)getCodegenClassCompileTime()/1000000000)  + " sec.\n");
 				sb.append("Codegen plan cache hits:\t" + getCodegenPlanCacheHits() + "/" + getCodegenPlanCacheTotal() + ".\n");
+				if( CodegenClassCache.isEnabled() )
+					sb.append("Codegen class cache hits:\t" + getCodegenClassCacheHits() + "/" + getCodegenClassCacheTotal() + ".\n");
+				if( getCodegenAsyncCompile() > 0 ) {
+					//hidden: background class compilation, exposed: inline class compilation
+					long hidden = getCodegenAsyncCompileTime();
+					long exposed = Math.max(getCodegenClassCompileTime() - hidden, 0);
+					sb.append("Codegen async compile (JC,hid,exp):\t" + getCodegenAsyncCompile() + "/"
+						+ String.format("%.3f", (double)hidden/1000000000) + "/"
+						+ String.format("%.3f", (double)exposed/1000000000) + " sec.\n");
+				}
 			}
 			if( OptimizerUtils.isSparkExecutionMode() ){
 				String lazy = SparkExecutionContext.isLazySparkContextCreation() ? "(lazy)" : "(eager)";
@@ -821,11 +926,15 @@ public class Statistics
 								 ((double)sparkBroadcast.longValue())*1e-9,
 								 ((double)sparkCollect.longValue())*1e-9));
 			}
-			if( parforOptCount>0 ){
+			if( getParforOptCount()>0 ){
 				sb.append("ParFor loops optimized:\t\t" + getParforOptCount() + ".\n");
 				sb.append("ParFor optimize time:\t\t" + String.format("%.3f", ((double)getParforOptTime())/1000) + " sec.\n");	
 				sb.append("ParFor initialize time:\t\t" + String.format("%.3f", ((double)getParforInitTime())/1000) + " sec.\n");	
 				sb.append("ParFor result merge time:\t" + String.format("%.3f", ((double)getParforMergeTime())/1000) + " sec.\n");	
+				if( getParforTaskCount()>0 ) {
+					sb.append("ParFor local tasks (num,steals):\t" + getParforTaskCount() + "/" + getParforTaskSteals() + ".\n");
+					sb.append("ParFor local task time:\t\t" + String.format("%.3f", ((double)getParforTaskTime())*1e-9) + " sec.\n");
+				}
 				sb.append("ParFor total update in-place:\t" + lTotalUIPVar + "/" + lTotalLixUIP + "/" + lTotalLix + "\n");
 			}
 
@@ -838,4 +947,9 @@ public class Statistics
 		
 		return sb.toString();
 	}
+	
+	private static class InstStats {
+		private final LongAdder time = new LongAdder(); //in nano sec
+		private final LongAdder count = new LongAdder();
+	}
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.binary.matrix;
+
+import java.util.HashMap;
+
+import org.apache.spark.scheduler.SparkListener;
+import org.apache.spark.scheduler.SparkListenerStageCompleted;
+import org.apache.spark.scheduler.StageInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.hops.AggBinaryOp;
+import org.apache.sysml.hops.AggBinaryOp.MMultMethod;
+import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests that binary operations over co-partitioned cpmm outputs
+ * are computed via joins without shuffle of the inputs, i.e., with
+ * the same number of shuffle stages as the cpmm outputs alone.
+ */
+public class CoPartitionedJoinTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "CoPartitionedJoinTest";
+	private final static String TEST_NAME2 = "CoPartitionedJoinTest2";
+	private final static String TEST_DIR = "functions/binary/matrix/";
+	private final static String TEST_CLASS_DIR = TEST_DIR +
+		CoPartitionedJoinTest.class.getSimpleName() + "/";
+	private final static double eps = 1e-10;
+
+	private final static int rows = 1500;
+	private final static int cols1 = 1200;
+	private final static int cols2 = 1100;
+
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.1;
+
+	@Override
+	public void setUp() {
+		addTestConfiguration( TEST_NAME,
+			new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "C" }) );
+	}
+
+	@Test
+	public void testCoPartitionedJoinDenseSP() {
+		runCoPartitionedJoinTest(false);
+	}
+
+	@Test
+	public void testCoPartitionedJoinSparseSP() {
+		runCoPartitionedJoinTest(true);
+	}
+
+	private void runCoPartitionedJoinTest( boolean sparse )
+	{
+		RUNTIME_PLATFORM platformOld = rtplatform;
+		boolean sparkConfigOld = DMLScript.USE_LOCAL_SPARK_CONFIG;
+		MMultMethod methodOld = AggBinaryOp.FORCED_MMULT_METHOD;
+
+		try
+		{
+			getAndLoadTestConfiguration(TEST_NAME);
+
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+
+			//generate actual dataset
+			double sp = sparse ? sparsity2 : sparsity1;
+			writeInputMatrixWithMTD("A", getRandomMatrix(rows, cols1, 0, 1, sp, 7), true);
+			writeInputMatrixWithMTD("B", getRandomMatrix(cols1, cols2, 0, 1, sp, 3), true);
+			writeInputMatrixWithMTD("X", getRandomMatrix(rows, cols1, 0, 1, sp, 9), true);
+			writeInputMatrixWithMTD("Y", getRandomMatrix(cols1, cols2, 0, 1, sp, 5), true);
+
+			//run reference in single-node execution
+			rtplatform = RUNTIME_PLATFORM.SINGLE_NODE;
+			programArgs = new String[]{"-args", input("A"), input("B"),
+				input("X"), input("Y"), output("R")};
+			runTest(true, false, null, -1);
+
+			//run spark w/ forced cpmm (outputs hash partitioned by equal partitioners)
+			rtplatform = RUNTIME_PLATFORM.SPARK;
+			DMLScript.USE_LOCAL_SPARK_CONFIG = true;
+			AggBinaryOp.FORCED_MMULT_METHOD = MMultMethod.CPMM;
+			programArgs = new String[]{"-args", input("A"), input("B"),
+				input("X"), input("Y"), output("C")};
+			int stagesJoin = runTestAndCountShuffleStages();
+
+			//run spark w/ forced cpmm but without join (reference shuffle stages)
+			fullDMLScriptName = HOME + TEST_NAME2 + ".dml";
+			programArgs = new String[]{"-args", input("A"), input("B"),
+				input("X"), input("Y"), output("C1"), output("C2")};
+			int stagesRef = runTestAndCountShuffleStages();
+
+			//compare matrices and check for no additional shuffle of the join inputs
+			HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromHDFS("C");
+			HashMap<CellIndex, Double> reffile = readDMLMatrixFromHDFS("R");
+			TestUtils.compareMatrices(dmlfile, reffile, eps, "Stat-SP", "Stat-CP");
+			Assert.assertTrue("No shuffle stages observed.", stagesRef > 0);
+			Assert.assertEquals("Unexpected shuffle stages of join.", stagesRef, stagesJoin);
+		}
+		finally {
+			rtplatform = platformOld;
+			DMLScript.USE_LOCAL_SPARK_CONFIG = sparkConfigOld;
+			AggBinaryOp.FORCED_MMULT_METHOD = methodOld;
+		}
+	}
+
+	private int runTestAndCountShuffleStages() {
+		//register listener w/ the spark context used by the subsequent run,
+		//which stops the context at the end and thus drains all listener events
+		ShuffleStagesListener listener = new ShuffleStagesListener();
+		SparkExecutionContext.getSparkContextStatic().sc().addSparkListener(listener);
+		runTest(true, false, null, -1);
+		return listener.numStages;
+	}
+
+	private static class ShuffleStagesListener extends SparkListener {
+		private int numStages = 0;
+
+		@Override
+		public void onStageCompleted(SparkListenerStageCompleted stageCompleted) {
+			StageInfo info = stageCompleted.stageInfo();
+			if( info.taskMetrics() != null
+				&& info.taskMetrics().shuffleWriteMetrics().recordsWritten() > 0 )
+				numStages++;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.binary.matrix_full_cellwise;
+
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares the multi-threaded binary cell-wise kernels against their
+ * single-threaded counterparts for the major dense/sparse and 
+ * matrix-matrix, matrix-vector, matrix-scalar, and in-place cases.
+ */
+public class FullParallelCellwiseOperationTest extends AutomatedTestBase
+{
+	private final static int rows = 1507;
+	private final static int cols = 1003;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.1;
+	private final static int k = 4;
+	
+	private enum InputType {
+		MATRIX,
+		COL_VECTOR,
+		ROW_VECTOR,
+	}
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testPlusDenseDense() {
+		runParallelBinaryTest("+", sparsity1, sparsity1, InputType.MATRIX);
+	}
+	
+	@Test
+	public void testMultDenseDense() {
+		runParallelBinaryTest("*", sparsity1, sparsity1, InputType.MATRIX);
+	}
+	
+	@Test
+	public void testDivDenseDense() {
+		runParallelBinaryTest("/", sparsity1, sparsity1, InputType.MATRIX);
+	}
+	
+	@Test
+	public void testGreaterDenseDense() {
+		runParallelBinaryTest(">", sparsity1, sparsity1, InputType.MATRIX);
+	}
+	
+	@Test
+	public void testPlusDenseSparse() {
+		runParallelBinaryTest("+", sparsity1, sparsity2, InputType.MATRIX);
+	}
+	
+	@Test
+	public void testMinusSparseDense() {
+		runParallelBinaryTest("-", sparsity2, sparsity1, InputType.MATRIX);
+	}
+	
+	@Test
+	public void testMultSparseDense() {
+		runParallelBinaryTest("*", sparsity2, sparsity1, InputType.MATRIX);
+	}
+	
+	@Test
+	public void testMultDenseColVector() {
+		runParallelBinaryTest("*", sparsity1, sparsity1, InputType.COL_VECTOR);
+	}
+	
+	@Test
+	public void testMinusDenseColVector() {
+		runParallelBinaryTest("-", sparsity1, sparsity1, InputType.COL_VECTOR);
+	}
+	
+	@Test
+	public void testPlusDenseRowVector() {
+		runParallelBinaryTest("+", sparsity1, sparsity1, InputType.ROW_VECTOR);
+	}
+	
+	@Test
+	public void testLessDenseRowVector() {
+		runParallelBinaryTest("<", sparsity1, sparsity1, InputType.ROW_VECTOR);
+	}
+	
+	@Test
+	public void testPlusScalarDense() {
+		runParallelScalarTest("+", sparsity1);
+	}
+	
+	@Test
+	public void testPlusScalarSparse() {
+		runParallelScalarTest("+", sparsity2);
+	}
+	
+	@Test
+	public void testMultScalarSparse() {
+		runParallelScalarTest("*", sparsity2);
+	}
+	
+	@Test
+	public void testGreaterScalarDense() {
+		runParallelScalarTest(">", sparsity1);
+	}
+	
+	@Test
+	public void testPlusInPlaceDense() {
+		runParallelInPlaceTest("+");
+	}
+	
+	@Test
+	public void testMultInPlaceDense() {
+		runParallelInPlaceTest("*");
+	}
+	
+	@Test
+	public void testMinInPlaceDense() {
+		runParallelInPlaceTest("min");
+	}
+	
+	private static void runParallelBinaryTest(String opcode, double sp1, double sp2, InputType itype)
+	{
+		try
+		{
+			int rows2 = (itype == InputType.ROW_VECTOR) ? 1 : rows;
+			int cols2 = (itype == InputType.COL_VECTOR) ? 1 : cols;
+			MatrixBlock mb1 = DataConverter.convertToMatrixBlock(
+				TestUtils.generateTestMatrix(rows, cols, -1, 1, sp1, 7));
+			MatrixBlock mb2 = DataConverter.convertToMatrixBlock(
+				TestUtils.generateTestMatrix(rows2, cols2, -1, 1, sp2, 3));
+			mb1.examSparsity();
+			mb2.examSparsity();
+			
+			//single- and multi-threaded binary operations
+			BinaryOperator bop1 = InstructionUtils.parseBinaryOperator(opcode, 1);
+			BinaryOperator bopk = InstructionUtils.parseBinaryOperator(opcode, k);
+			MatrixBlock ret1 = (MatrixBlock) mb1.binaryOperations(bop1, mb2, new MatrixBlock());
+			MatrixBlock ret2 = (MatrixBlock) mb1.binaryOperations(bopk, mb2, new MatrixBlock());
+			
+			//compare results, incl maintained nnz
+			compareResults(ret1, ret2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runParallelScalarTest(String opcode, double sp)
+	{
+		try
+		{
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(
+				TestUtils.generateTestMatrix(rows, cols, -1, 1, sp, 7));
+			mb.examSparsity();
+			
+			//single- and multi-threaded scalar operations
+			ScalarOperator sop1 = InstructionUtils.parseScalarBinaryOperator(opcode, false, 0.5, 1);
+			ScalarOperator sopk = InstructionUtils.parseScalarBinaryOperator(opcode, false, 0.5, k);
+			MatrixBlock ret1 = (MatrixBlock) mb.scalarOperations(sop1, new MatrixBlock());
+			MatrixBlock ret2 = (MatrixBlock) mb.scalarOperations(sopk, new MatrixBlock());
+			
+			//compare results, incl maintained nnz
+			compareResults(ret1, ret2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runParallelInPlaceTest(String opcode)
+	{
+		try
+		{
+			double[][] A = TestUtils.generateTestMatrix(rows, cols, -1, 1, sparsity1, 7);
+			MatrixBlock mb1 = DataConverter.convertToMatrixBlock(A);
+			MatrixBlock mb2 = DataConverter.convertToMatrixBlock(A);
+			MatrixBlock mb3 = DataConverter.convertToMatrixBlock(
+				TestUtils.generateTestMatrix(rows, cols, -1, 1, sparsity1, 3));
+			
+			//single- and multi-threaded in-place operations
+			mb1.binaryOperationsInPlace(InstructionUtils.parseBinaryOperator(opcode, 1), mb3);
+			mb2.binaryOperationsInPlace(InstructionUtils.parseBinaryOperator(opcode, k), mb3);
+			
+			//compare results, incl maintained nnz
+			compareResults(mb1, mb2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void compareResults(MatrixBlock ret1, MatrixBlock ret2) {
+		Assert.assertEquals("Wrong number of non-zeros.", ret1.getNonZeros(), ret2.getNonZeros());
+		Assert.assertEquals("Wrong number of non-zeros.", ret1.getNonZeros(), ret2.recomputeNonZeros());
+		double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+		double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+		TestUtils.compareMatrices(d1, d2, ret1.getNumRows(), ret1.getNumColumns(), 1e-14);
+	}
+}
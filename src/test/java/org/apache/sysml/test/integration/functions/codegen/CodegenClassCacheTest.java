@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.codegen;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.runtime.codegen.CodegenClassCache;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.runtime.matrix.data.Pair;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.apache.sysml.utils.Statistics;
+
+public class CodegenClassCacheTest extends AutomatedTestBase 
+{	
+	private static final String TEST_NAME1 = "ClassCache";
+	private static final String TEST_DIR = "functions/codegen/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + CodegenClassCacheTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF1 = "SystemML-config-codegen-classcache-auto.xml";
+	private final static String TEST_CONF2 = "SystemML-config-codegen-classcache-janino.xml";
+	private final static String CACHE_DIR = "target/testTemp/" + TEST_CLASS_DIR + "classcache";
+	
+	private static final int rows = 1191;
+	private static final int cols = 31;
+	private static final double eps = Math.pow(10, -10);
+	
+	private String _conf = TEST_CONF1;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration( TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
+	}
+		
+	@Test
+	public void testClassCacheJavac() {
+		testCodegenClassCache( TEST_CONF1 );
+	}
+	
+	@Test
+	public void testClassCacheJanino() {
+		testCodegenClassCache( TEST_CONF2 );
+	}
+	
+	@Test
+	public void testClassCacheEviction() {
+		try {
+			LocalFileUtils.deleteFileIfExists(CACHE_DIR);
+			CodegenClassCache.configure(CACHE_DIR, 0);
+			CodegenClassCache.putClassBytes("codegen.TMPH0", new byte[1024]);
+			Assert.assertEquals(0, new File(CACHE_DIR).list().length);
+		}
+		finally {
+			CodegenClassCache.configure(null, 0);
+		}
+	}
+	
+	@Test
+	public void testClassCacheCanonicalization() throws Exception {
+		try {
+			CodegenClassCache.configure(CACHE_DIR, 64);
+			String src1 = "class TMP3 { double[] TMP5 = TMP4vals; double TMP4 = TMP5[0]; }";
+			String src2 = "class TMP13 { double[] TMP15 = TMP14vals; double TMP14 = TMP15[0]; }";
+			Pair<String,String> c1 = CodegenClassCache.canonicalize("codegen.TMP3", src1);
+			Pair<String,String> c2 = CodegenClassCache.canonicalize("codegen.TMP13", src2);
+			Assert.assertEquals(c1.getKey(), c2.getKey());
+			Assert.assertEquals(c1.getValue(), c2.getValue());
+		}
+		finally {
+			CodegenClassCache.configure(null, 0);
+		}
+	}
+	
+	private void testCodegenClassCache(String conf)
+	{	
+		_conf = conf;
+		try
+		{
+			TestConfiguration config = getTestConfiguration(TEST_NAME1);
+			loadTestConfiguration(config);
+			LocalFileUtils.deleteFileIfExists(CACHE_DIR);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+			programArgs = new String[]{"-stats", "-args", input("X"), output("R") };
+
+			//generate input data
+			double[][] X = getRandomMatrix(rows, cols, -1, 1, 0.9, 7);
+			writeInputMatrixWithMTD("X", X, true);
+			
+			//run test with empty class cache (compile and write classes)
+			runTest(true, false, null, -1); 
+			Assert.assertTrue(Statistics.getCodegenClassCompile() > 0);
+			Assert.assertEquals(0, Statistics.getCodegenClassCacheHits());
+			Assert.assertTrue(new File(CACHE_DIR).list().length > 0);
+			
+			//run test with populated class cache (no class compilation)
+			runTest(true, false, null, -1); 
+			Assert.assertEquals(0, Statistics.getCodegenClassCompile());
+			Assert.assertTrue(Statistics.getCodegenClassCacheHits() > 0);
+			
+			//compare matrices 
+			double expected1 = 0;
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<cols; j++ )
+					expected1 += X[i][j] * X[i][j] + 2 * X[i][j];
+			HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromHDFS("R");
+			Assert.assertEquals(expected1, dmlfile.get(new CellIndex(1,1)), eps);
+			for( int i=0; i<rows; i++ ) {
+				double expected2 = 0;
+				for( int j=0; j<cols; j++ )
+					expected2 += X[i][j] * (X[i][j] - 1);
+				Double val = dmlfile.get(new CellIndex(i+2,1));
+				Assert.assertEquals(expected2, (val!=null) ? val : 0, eps);
+			}
+			Assert.assertTrue(heavyHittersContainsSubString("spoof"));
+		}
+		finally {
+			CodegenClassCache.configure(null, 0);
+		}
+	}
+
+	/**
+	 * Override default configuration with custom test configuration to ensure
+	 * scratch space and local temporary directory locations are also updated.
+	 */
+	@Override
+	protected File getConfigTemplateFile() {
+		File conf = new File(SCRIPT_DIR + TEST_DIR, _conf);
+		// Instrumentation in this test's output log to show custom configuration file used for template.
+		System.out.println("This test case overrides default configuration with " + conf.getPath());
+		return conf;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.codegen;
+
+import java.util.Random;
+
+import org.apache.sysml.runtime.codegen.LibSpoofPrimitives;
+import org.apache.sysml.runtime.codegen.VectorPrimitives;
+import org.apache.sysml.runtime.codegen.VectorPrimitivesScalar;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Compares the SIMD vector primitives against the scalar primitives of 
+ * LibSpoofPrimitives for odd lengths, offsets, and tails. The tests are only
+ * executed if the SIMD primitives are available, i.e., compiled with the 
+ * vector-api profile and run with --add-modules jdk.incubator.vector.
+ * Element-wise primitives are compared for bitwise equality, while sums and 
+ * exp use the tolerances documented in {@link VectorPrimitives}.
+ */
+public class VectorPrimitivesSIMDTest extends AutomatedTestBase 
+{
+	private static final int[] lens = new int[]{1, 3, 7, 8, 9, 15, 17, 63, 1023, 1025};
+	private static final int[] offsets = new int[]{0, 1, 5};
+	private static final int pad = 11;
+	private static final double eps = Math.pow(10, -12);
+	
+	private interface AggKernel {
+		double run(VectorPrimitives vp, double[] a, int ai, int len);
+	}
+	
+	private interface WriteKernel {
+		void run(VectorPrimitives vp, double[] a, double[] b, double[] c, int ai, int ci, int len);
+	}
+	
+	private VectorPrimitives _simd = null;
+	private VectorPrimitives _scalar = null;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		_scalar = new VectorPrimitivesScalar();
+		try {
+			_simd = (VectorPrimitives) Class.forName(VectorPrimitives.SIMD_CLASS).newInstance();
+		}
+		catch(Throwable ex) {
+			_simd = null;
+		}
+	}
+	
+	@Test
+	public void testVectSum() {
+		runAggTest((vp, a, ai, len) -> vp.vectSum(a, ai, len), true);
+	}
+	
+	@Test
+	public void testVectMin() {
+		runAggTest((vp, a, ai, len) -> vp.vectMin(a, ai, len), false);
+	}
+	
+	@Test
+	public void testVectMax() {
+		runAggTest((vp, a, ai, len) -> vp.vectMax(a, ai, len), false);
+	}
+	
+	@Test
+	public void testVectMultAdd() {
+		runWriteTest((vp, a, b, c, ai, ci, len) -> vp.vectMultAdd(a, 0.7, c, ai, ci, len), false);
+	}
+	
+	@Test
+	public void testVectMultWriteScalar() {
+		runWriteTest((vp, a, b, c, ai, ci, len) -> vp.vectMultWrite(a, 0.7, c, ai, ci, len), false);
+	}
+	
+	@Test
+	public void testVectMultWriteVector() {
+		runWriteTest((vp, a, b, c, ai, ci, len) -> vp.vectMultWrite(a, b, c, ai, ai+1, ci, len), false);
+	}
+	
+	@Test
+	public void testVectExpWrite() {
+		runWriteTest((vp, a, b, c, ai, ci, len) -> vp.vectExpWrite(a, c, ai, ci, len), true);
+	}
+	
+	@Test
+	public void testLibSpoofPrimitivesDispatch() {
+		Assume.assumeTrue("SIMD vector primitives not available", _simd != null);
+		double[] a = createInput(1025+pad, 7);
+		Assert.assertEquals(_simd.vectSum(a, 3, 1025), LibSpoofPrimitives.vectSum(a, 3, 1025), 0);
+	}
+	
+	private void runAggTest(AggKernel kernel, boolean sum) {
+		Assume.assumeTrue("SIMD vector primitives not available", _simd != null);
+		for( int len : lens )
+			for( int ai : offsets ) {
+				double[] a = createInput(ai+len+pad, len);
+				double ret1 = kernel.run(_scalar, a, ai, len);
+				double ret2 = kernel.run(_simd, a, ai, len);
+				
+				//sums: relative tolerance wrt the sum of absolute values,
+				//min/max: equal results independent of the order
+				double tol = 0;
+				if( sum ) {
+					for( int i=ai; i<ai+len; i++ )
+						tol += Math.abs(a[i]);
+					tol *= eps;
+				}
+				Assert.assertEquals("len="+len+", ai="+ai, ret1, ret2, tol);
+			}
+	}
+	
+	private void runWriteTest(WriteKernel kernel, boolean exp) {
+		Assume.assumeTrue("SIMD vector primitives not available", _simd != null);
+		for( int len : lens )
+			for( int ai : offsets ) {
+				int ci = (ai + 3) % 7;
+				double[] a = createInput(ai+len+pad, len);
+				double[] b = createInput(ai+len+pad, len+1);
+				double[] c1 = createInput(ci+len+pad, len+2);
+				double[] c2 = c1.clone();
+				kernel.run(_scalar, a, b, c1, ai, ci, len);
+				kernel.run(_simd, a, b, c2, ai, ci, len);
+				
+				//compare all cells, including untouched cells before and after the output range
+				for( int i=0; i<c1.length; i++ ) {
+					String msg = "len="+len+", ai="+ai+", ci="+ci+", i="+i;
+					if( exp ) //vectorized exp accurate to 1 ulp
+						Assert.assertEquals(msg, c1[i], c2[i], 2 * Math.ulp(c1[i]));
+					else
+						Assert.assertEquals(msg, Double.doubleToLongBits(c1[i]), Double.doubleToLongBits(c2[i]));
+				}
+			}
+	}
+	
+	private static double[] createInput(int n, long seed) {
+		Random rand = new Random(seed);
+		double[] ret = new double[n];
+		for( int i=0; i<n; i++ )
+			ret[i] = rand.nextDouble() * 40 - 20;
+		return ret;
+	}
+}
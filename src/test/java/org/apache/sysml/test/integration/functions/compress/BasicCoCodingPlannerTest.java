@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock.CompressionStatistics;
+import org.apache.sysml.runtime.compress.cocode.ColumnGroupPartitionerBinPacking;
+import org.apache.sysml.runtime.compress.cocode.PlanningCoCoder;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 
+ */
+public class BasicCoCodingPlannerTest extends AutomatedTestBase
+{	
+	private static final int rows = 2701;
+	private static final int cols = 300;
+	private static final int baseCols = 10;
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testWideCoCodingSingleThreaded() {
+		runCoCodingPlannerTest(1, false);
+	}
+	
+	@Test
+	public void testWideCoCodingParPartitions() {
+		runCoCodingPlannerTest(2, false);
+	}
+	
+	@Test
+	public void testWideCoCodingParMerges() {
+		runCoCodingPlannerTest(16, false);
+	}
+	
+	@Test
+	public void testWideCoCodingSingleThreadedTimeout() {
+		runCoCodingPlannerTest(1, true);
+	}
+	
+	@Test
+	public void testWideCoCodingParMergesTimeout() {
+		runCoCodingPlannerTest(16, true);
+	}
+	
+	private static void runCoCodingPlannerTest(int k, boolean timeout)
+	{
+		double capacity = ColumnGroupPartitionerBinPacking.BIN_CAPACITY;
+		long budget = PlanningCoCoder.PLANNING_TIME_BUDGET;
+		
+		try
+		{
+			//generate wide input data of shifted (i.e., correlated) base columns
+			//(with large value range to prevent FOR encoding of single columns)
+			double[][] base = TestUtils.round(TestUtils.generateTestMatrix(rows, baseCols, 1, 4, 1.0, 7));
+			double[][] input = new double[rows][cols];
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<cols; j++ )
+					input[i][j] = base[i][j%baseCols] * 1000 + j/baseCols;
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			
+			//force a single large partition (and optionally an exceeded time budget)
+			ColumnGroupPartitionerBinPacking.BIN_CAPACITY = Double.MAX_VALUE;
+			PlanningCoCoder.PLANNING_TIME_BUDGET = timeout ? 1 : budget;
+			
+			//compress given matrix block
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			cmb.compress(k);
+			
+			//check correlation-based pre-clustering and co-coding
+			CompressionStatistics stats = cmb.getCompressionStatistics();
+			Assert.assertTrue(stats.planPartitions > 1);
+			if( timeout )
+				Assert.assertTrue(stats.planTimeout);
+			else {
+				Assert.assertFalse(stats.planTimeout);
+				Assert.assertTrue(cmb.getNumColGroups() < cols);
+			}
+			
+			//decompress the compressed matrix block
+			MatrixBlock tmp = cmb.decompress();
+			
+			//compare result with input
+			double[][] d1 = DataConverter.convertToDoubleMatrix(mb);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(tmp);
+			TestUtils.compareMatrices(d1, d2, rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ColumnGroupPartitionerBinPacking.BIN_CAPACITY = capacity;
+			PlanningCoCoder.PLANNING_TIME_BUDGET = budget;
+		}
+	}
+}
@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import org.apache.sysml.lops.MMTSJ.MMTSJType;
+import org.apache.sysml.runtime.compress.BitmapEncoder;
+import org.apache.sysml.runtime.compress.ColGroup;
+import org.apache.sysml.runtime.compress.ColGroup.CompressionType;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.functionobjects.Minus;
+import org.apache.sysml.runtime.functionobjects.Multiply;
+import org.apache.sysml.runtime.functionobjects.Plus;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.IJV;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.AggregateBinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.AggregateOperator;
+import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the CONST, SDC and FOR column group encodings, which are
+ * created from columns of constant values, a dominating non-zero default
+ * value with few exceptions, and integers of a narrow range.
+ */
+public class BasicExtendedColGroupsTest extends AutomatedTestBase
+{	
+	private static final int rows1 = 5013; //single bitmap segment
+	private static final int rows2 = 2*BitmapEncoder.BITMAP_BLOCK_SZ + 1321;
+	private static final int cols = 3;
+	
+	public enum OpType {
+		MV_MULT,
+		VM_MULT,
+		MM_MULT_RIGHT,
+		MM_MULT_LEFT,
+		TSMM,
+		SUM,
+		ROWSUMS,
+		COLSUMS,
+		COLSUMSSQ,
+		MAX,
+		ROWMAXS,
+		COLMINS,
+		SCALAR,
+		SERIALIZE,
+		DECOMPRESS,
+		GET,
+		ITERATOR,
+		ROW_ITERATOR,
+	}
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testMatrixVectorMult() {
+		runExtendedColGroupsTest(OpType.MV_MULT, rows1);
+	}
+	
+	@Test
+	public void testMatrixVectorMultLarge() {
+		runExtendedColGroupsTest(OpType.MV_MULT, rows2);
+	}
+	
+	@Test
+	public void testVectorMatrixMult() {
+		runExtendedColGroupsTest(OpType.VM_MULT, rows1);
+	}
+	
+	@Test
+	public void testVectorMatrixMultLarge() {
+		runExtendedColGroupsTest(OpType.VM_MULT, rows2);
+	}
+	
+	@Test
+	public void testMatrixMatrixMultRight() {
+		runExtendedColGroupsTest(OpType.MM_MULT_RIGHT, rows1);
+	}
+	
+	@Test
+	public void testMatrixMatrixMultRightLarge() {
+		runExtendedColGroupsTest(OpType.MM_MULT_RIGHT, rows2);
+	}
+	
+	@Test
+	public void testMatrixMatrixMultLeft() {
+		runExtendedColGroupsTest(OpType.MM_MULT_LEFT, rows1);
+	}
+	
+	@Test
+	public void testMatrixMatrixMultLeftLarge() {
+		runExtendedColGroupsTest(OpType.MM_MULT_LEFT, rows2);
+	}
+	
+	@Test
+	public void testTransposeSelfMult() {
+		runExtendedColGroupsTest(OpType.TSMM, rows1);
+	}
+	
+	@Test
+	public void testTransposeSelfMultLarge() {
+		runExtendedColGroupsTest(OpType.TSMM, rows2);
+	}
+	
+	@Test
+	public void testSum() {
+		runExtendedColGroupsTest(OpType.SUM, rows1);
+	}
+	
+	@Test
+	public void testRowSums() {
+		runExtendedColGroupsTest(OpType.ROWSUMS, rows1);
+	}
+	
+	@Test
+	public void testRowSumsLarge() {
+		runExtendedColGroupsTest(OpType.ROWSUMS, rows2);
+	}
+	
+	@Test
+	public void testColSums() {
+		runExtendedColGroupsTest(OpType.COLSUMS, rows1);
+	}
+	
+	@Test
+	public void testColSumsSq() {
+		runExtendedColGroupsTest(OpType.COLSUMSSQ, rows1);
+	}
+	
+	@Test
+	public void testMax() {
+		runExtendedColGroupsTest(OpType.MAX, rows1);
+	}
+	
+	@Test
+	public void testRowMaxs() {
+		runExtendedColGroupsTest(OpType.ROWMAXS, rows1);
+	}
+	
+	@Test
+	public void testColMins() {
+		runExtendedColGroupsTest(OpType.COLMINS, rows1);
+	}
+	
+	@Test
+	public void testScalarOperations() {
+		runExtendedColGroupsTest(OpType.SCALAR, rows1);
+	}
+	
+	@Test
+	public void testSerialization() {
+		runExtendedColGroupsTest(OpType.SERIALIZE, rows1);
+	}
+	
+	@Test
+	public void testSerializationLarge() {
+		runExtendedColGroupsTest(OpType.SERIALIZE, rows2);
+	}
+	
+	@Test
+	public void testDecompress() {
+		runExtendedColGroupsTest(OpType.DECOMPRESS, rows1);
+	}
+	
+	@Test
+	public void testDecompressLarge() {
+		runExtendedColGroupsTest(OpType.DECOMPRESS, rows2);
+	}
+	
+	@Test
+	public void testGetValue() {
+		runExtendedColGroupsTest(OpType.GET, rows1);
+	}
+	
+	@Test
+	public void testIterator() {
+		runExtendedColGroupsTest(OpType.ITERATOR, rows1);
+	}
+	
+	@Test
+	public void testIteratorLarge() {
+		runExtendedColGroupsTest(OpType.ITERATOR, rows2);
+	}
+	
+	@Test
+	public void testRowIterator() {
+		runExtendedColGroupsTest(OpType.ROW_ITERATOR, rows1);
+	}
+	
+	@Test
+	public void testRowIteratorLarge() {
+		runExtendedColGroupsTest(OpType.ROW_ITERATOR, rows2);
+	}
+	
+	private static void runExtendedColGroupsTest(OpType type, int rows)
+	{
+		try
+		{
+			//generate input data: constant, default w/ exceptions, narrow integers
+			double[][] input = new double[rows][cols];
+			double[][] rand1 = TestUtils.round(TestUtils.generateTestMatrix(rows, 1, -10, 10, 0.05, 7));
+			double[][] rand2 = TestUtils.round(TestUtils.generateTestMatrix(rows, 1, 1000, 1030, 1.0, 3));
+			for( int i=0; i<rows; i++ ) {
+				input[i][0] = 7;
+				input[i][1] = (rand1[i][0] != 0) ? rand1[i][0] : 3;
+				input[i][2] = rand2[i][0];
+			}
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			
+			//compress given matrix block and check encodings
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			cmb.compress();
+			HashSet<CompressionType> types = new HashSet<>();
+			for( ColGroup grp : cmb.getColGroups() )
+				types.add(grp.getCompType());
+			Assert.assertTrue(types.contains(CompressionType.CONST));
+			Assert.assertTrue(types.contains(CompressionType.SDC));
+			Assert.assertTrue(types.contains(CompressionType.FOR));
+			
+			//execute operation on uncompressed and compressed blocks
+			MatrixBlock ret1 = null, ret2 = null;
+			AggregateOperator aop = new AggregateOperator(0, Plus.getPlusFnObject());
+			AggregateBinaryOperator abop = new AggregateBinaryOperator(Multiply.getMultiplyFnObject(), aop);
+			switch( type ) {
+				case MV_MULT: {
+					MatrixBlock vector = DataConverter.convertToMatrixBlock(
+						TestUtils.generateTestMatrix(cols, 1, -1, 1, 1.0, 3));
+					ret1 = (MatrixBlock)mb.aggregateBinaryOperations(mb, vector, new MatrixBlock(), abop);
+					ret2 = (MatrixBlock)cmb.aggregateBinaryOperations(cmb, vector, new MatrixBlock(), abop);
+					break;
+				}
+				case VM_MULT: {
+					MatrixBlock vector = DataConverter.convertToMatrixBlock(
+						TestUtils.generateTestMatrix(1, rows, -1, 1, 1.0, 3));
+					ret1 = (MatrixBlock)vector.aggregateBinaryOperations(vector, mb, new MatrixBlock(), abop);
+					ret2 = (MatrixBlock)cmb.aggregateBinaryOperations(vector, cmb, new MatrixBlock(), abop);
+					break;
+				}
+				case MM_MULT_RIGHT: {
+					MatrixBlock matrix = DataConverter.convertToMatrixBlock(
+						TestUtils.generateTestMatrix(cols, 7, -1, 1, 1.0, 3));
+					ret1 = (MatrixBlock)mb.aggregateBinaryOperations(mb, matrix, new MatrixBlock(), abop);
+					ret2 = (MatrixBlock)cmb.aggregateBinaryOperations(cmb, matrix, new MatrixBlock(), abop);
+					break;
+				}
+				case MM_MULT_LEFT: {
+					MatrixBlock matrix = DataConverter.convertToMatrixBlock(
+						TestUtils.generateTestMatrix(7, rows, -1, 1, 1.0, 3));
+					ret1 = (MatrixBlock)matrix.aggregateBinaryOperations(matrix, mb, new MatrixBlock(), abop);
+					ret2 = (MatrixBlock)cmb.aggregateBinaryOperations(matrix, cmb, new MatrixBlock(), abop);
+					break;
+				}
+				case TSMM:
+					ret1 = mb.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT);
+					ret2 = cmb.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT);
+					break;
+				case SCALAR:
+					ScalarOperator sop = new RightScalarOperator(Minus.getMinusFnObject(), 1015);
+					ret1 = (MatrixBlock)mb.scalarOperations(sop, new MatrixBlock());
+					ret2 = (MatrixBlock)cmb.scalarOperations(sop, new MatrixBlock());
+					Assert.assertTrue(ret2 instanceof CompressedMatrixBlock);
+					ret2 = ((CompressedMatrixBlock)ret2).decompress();
+					break;
+				case SERIALIZE: {
+					ByteArrayOutputStream bos = new ByteArrayOutputStream();
+					DataOutputStream fos = new DataOutputStream(bos);
+					cmb.write(fos);
+					Assert.assertEquals(cmb.getExactSizeOnDisk(), bos.size());
+					CompressedMatrixBlock cmb2 = new CompressedMatrixBlock();
+					cmb2.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+					ret1 = mb;
+					ret2 = cmb2.decompress();
+					break;
+				}
+				case DECOMPRESS: {
+					//decompress all groups w/ column index mapping
+					int[] colIndexTargets = new int[cols];
+					for( int j=0; j<cols; j++ )
+						colIndexTargets[j] = j;
+					ret1 = mb;
+					ret2 = new MatrixBlock(rows, cols, false);
+					ret2.allocateDenseBlock();
+					for( ColGroup grp : cmb.getColGroups() )
+						grp.decompressToBlock(ret2, colIndexTargets);
+					ret2.recomputeNonZeros();
+					break;
+				}
+				case GET: {
+					ret1 = mb;
+					ret2 = new MatrixBlock(rows, cols, false);
+					for( int i=0; i<rows; i++ )
+						for( int j=0; j<cols; j++ )
+							ret2.quickSetValue(i, j, cmb.quickGetValue(i, j));
+					break;
+				}
+				case ITERATOR: {
+					ret1 = mb;
+					ret2 = new MatrixBlock(rows, cols, false);
+					Iterator<IJV> iter = cmb.getIterator(0, rows, false);
+					while( iter.hasNext() ) {
+						IJV cell = iter.next();
+						ret2.quickSetValue(cell.getI(), cell.getJ(), cell.getV());
+					}
+					break;
+				}
+				case ROW_ITERATOR: {
+					ret1 = mb;
+					ret2 = new MatrixBlock(rows, cols, false);
+					Iterator<double[]> iter = cmb.getDenseRowIterator(0, rows);
+					for( int i=0; iter.hasNext(); i++ ) {
+						double[] row = iter.next();
+						for( int j=0; j<cols; j++ )
+							ret2.quickSetValue(i, j, row[j]);
+					}
+					break;
+				}
+				default: {
+					String opcode = null;
+					switch( type ) {
+						case SUM: opcode = "uak+"; break;
+						case ROWSUMS: opcode = "uark+"; break;
+						case COLSUMS: opcode = "uack+"; break;
+						case COLSUMSSQ: opcode = "uacsqk+"; break;
+						case MAX: opcode = "uamax"; break;
+						case ROWMAXS: opcode = "uarmax"; break;
+						case COLMINS: opcode = "uacmin"; break;
+						default: throw new RuntimeException("Unsupported op type: "+type);
+					}
+					AggregateUnaryOperator auop = InstructionUtils.parseBasicAggregateUnaryOperator(opcode);
+					ret1 = (MatrixBlock)mb.aggregateUnaryOperations(auop, new MatrixBlock(), 1000, 1000, null, true);
+					ret2 = (MatrixBlock)cmb.aggregateUnaryOperations(auop, new MatrixBlock(), 1000, 1000, null, true);
+				}
+			}
+			
+			//compare results
+			double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+			TestUtils.compareMatrices(d1, d2, ret1.getNumRows(), ret1.getNumColumns(), 0.0000001);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.functionobjects.Minus;
+import org.apache.sysml.runtime.functionobjects.Multiply;
+import org.apache.sysml.runtime.functionobjects.ValueFunction;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 
+ */
+public class BasicMatrixRowVectorOperationsTest extends AutomatedTestBase
+{	
+	private static final int rows = 1321;
+	private static final int cols = 37;
+	private static final double sparsity1 = 0.9;
+	private static final double sparsity2 = 0.1;
+	private static final double sparsity3 = 0.0;
+	
+	public enum SparsityType {
+		DENSE,
+		SPARSE,
+		EMPTY,
+	}
+	
+	public enum ValueType {
+		RAND, //UC
+		CONST, //RLE
+		RAND_ROUND_OLE, //OLE
+		RAND_ROUND_DDC, //RLE
+	}
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testDenseRandDataCompressionMult() {
+		runMatrixRowVectorOperationsTest(SparsityType.DENSE, ValueType.RAND, true, true);
+	}
+	
+	@Test
+	public void testSparseRandDataCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.SPARSE, ValueType.RAND, false, true);
+	}
+	
+	@Test
+	public void testEmptyCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.EMPTY, ValueType.RAND, false, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataOLECompressionMult() {
+		runMatrixRowVectorOperationsTest(SparsityType.DENSE, ValueType.RAND_ROUND_OLE, true, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionMult() {
+		runMatrixRowVectorOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, true, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataOLECompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.DENSE, ValueType.RAND_ROUND_OLE, false, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, false, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, false, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataDDCCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_DDC, false, true);
+	}
+	
+	@Test
+	public void testDenseConstDataCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.DENSE, ValueType.CONST, false, true);
+	}
+	
+	@Test
+	public void testSparseConstDataCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.SPARSE, ValueType.CONST, false, true);
+	}
+	
+	@Test
+	public void testDenseRandDataNoCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.DENSE, ValueType.RAND, false, false);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLENoCompressionMinus() {
+		runMatrixRowVectorOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, false, false);
+	}
+	
+	private static void runMatrixRowVectorOperationsTest(SparsityType sptype, ValueType vtype, boolean mult, boolean compress)
+	{
+		try
+		{
+			//prepare sparsity for input data
+			double sparsity = -1;
+			switch( sptype ){
+				case DENSE: sparsity = sparsity1; break;
+				case SPARSE: sparsity = sparsity2; break;
+				case EMPTY: sparsity = sparsity3; break;
+			}
+			
+			//generate input data
+			double min = (vtype==ValueType.CONST)? 10 : -10;
+			double[][] input = TestUtils.generateTestMatrix(rows, cols, min, 10, sparsity, 7);
+			if( vtype==ValueType.RAND_ROUND_OLE || vtype==ValueType.RAND_ROUND_DDC ) {
+				CompressedMatrixBlock.ALLOW_DDC_ENCODING = (vtype==ValueType.RAND_ROUND_DDC);
+				input = TestUtils.round(input);
+			}
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			MatrixBlock vect = DataConverter.convertToMatrixBlock(
+				TestUtils.generateTestMatrix(1, cols, -1, 1, 1.0, 3));
+			
+			//compress given matrix block
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			if( compress )
+				cmb.compress();
+			
+			//matrix-row vector uncompressed
+			ValueFunction fn = mult ? Multiply.getMultiplyFnObject() : Minus.getMinusFnObject();
+			BinaryOperator bop = new BinaryOperator(fn);
+			MatrixBlock ret1 = (MatrixBlock)mb.binaryOperations(bop, vect, new MatrixBlock());
+			
+			//matrix-row vector compressed (w/o decompression)
+			MatrixBlock ret2 = (MatrixBlock)cmb.binaryOperations(bop, vect, new MatrixBlock());
+			if( compress ) {
+				Assert.assertTrue(ret2 instanceof CompressedMatrixBlock);
+				Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+				ret2 = ((CompressedMatrixBlock)ret2).decompress();
+			}
+			
+			//compare result with input
+			double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+			TestUtils.compareMatrices(d1, d2, rows, cols, 0.0000001);
+			
+			//matrix-row vector in-place compressed (w/o decompression)
+			CompressedMatrixBlock cmb2 = new CompressedMatrixBlock(mb);
+			if( compress )
+				cmb2.compress();
+			cmb2.binaryOperationsInPlace(bop, vect);
+			if( compress )
+				Assert.assertEquals(ret1.getNonZeros(), cmb2.getNonZeros());
+			double[][] d3 = DataConverter.convertToDoubleMatrix(cmb2.decompress());
+			TestUtils.compareMatrices(d1, d3, rows, cols, 0.0000001);
+			
+			//matrix-matrix in-place compressed (w/ fallback to decompression)
+			MatrixBlock ret4 = (MatrixBlock)mb.binaryOperations(bop, mb, new MatrixBlock());
+			CompressedMatrixBlock cmb3 = new CompressedMatrixBlock(mb);
+			if( compress )
+				cmb3.compress();
+			cmb3.binaryOperationsInPlace(bop, mb);
+			Assert.assertFalse(cmb3.isCompressed());
+			double[][] d4 = DataConverter.convertToDoubleMatrix(ret4);
+			double[][] d5 = DataConverter.convertToDoubleMatrix(cmb3);
+			TestUtils.compareMatrices(d4, d5, rows, cols, 0.0000001);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CompressedMatrixBlock.ALLOW_DDC_ENCODING = true;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import org.apache.sysml.runtime.compress.BitmapEncoder;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 
+ */
+public class BasicMatrixSliceTest extends AutomatedTestBase
+{	
+	//multiple bitmap segments to exercise the skip scans
+	private static final int rows = 2*BitmapEncoder.BITMAP_BLOCK_SZ + 1321;
+	private static final int cols = 11;
+	private static final double sparsity1 = 0.9;
+	private static final double sparsity2 = 0.1;
+	private static final double sparsity3 = 0.0;
+	
+	public enum SparsityType {
+		DENSE,
+		SPARSE,
+		EMPTY,
+	}
+	
+	public enum ValueType {
+		RAND, //UC
+		CONST, //RLE
+		RAND_ROUND_OLE, //OLE
+		RAND_ROUND_DDC, //RLE
+	}
+	
+	public enum SliceType {
+		ROWS, //mini-batch X[beg:end,]
+		COLS, //X[,beg:end]
+		ROWS_COLS, //X[beg:end,beg:end]
+	}
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testDenseRandDataCompressionRows() {
+		runMatrixSliceTest(SparsityType.DENSE, ValueType.RAND, SliceType.ROWS, true);
+	}
+	
+	@Test
+	public void testSparseRandDataCompressionRowsCols() {
+		runMatrixSliceTest(SparsityType.SPARSE, ValueType.RAND, SliceType.ROWS_COLS, true);
+	}
+	
+	@Test
+	public void testEmptyCompressionRows() {
+		runMatrixSliceTest(SparsityType.EMPTY, ValueType.RAND, SliceType.ROWS, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataOLECompressionRows() {
+		runMatrixSliceTest(SparsityType.DENSE, ValueType.RAND_ROUND_OLE, SliceType.ROWS, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionRows() {
+		runMatrixSliceTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, SliceType.ROWS, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionCols() {
+		runMatrixSliceTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, SliceType.COLS, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataOLECompressionRowsCols() {
+		runMatrixSliceTest(SparsityType.DENSE, ValueType.RAND_ROUND_OLE, SliceType.ROWS_COLS, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCCompressionRows() {
+		runMatrixSliceTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, SliceType.ROWS, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataDDCCompressionRowsCols() {
+		runMatrixSliceTest(SparsityType.SPARSE, ValueType.RAND_ROUND_DDC, SliceType.ROWS_COLS, true);
+	}
+	
+	@Test
+	public void testDenseConstDataCompressionRows() {
+		runMatrixSliceTest(SparsityType.DENSE, ValueType.CONST, SliceType.ROWS, true);
+	}
+	
+	@Test
+	public void testSparseConstDataCompressionRows() {
+		runMatrixSliceTest(SparsityType.SPARSE, ValueType.CONST, SliceType.ROWS, true);
+	}
+	
+	@Test
+	public void testSparseConstDataCompressionCols() {
+		runMatrixSliceTest(SparsityType.SPARSE, ValueType.CONST, SliceType.COLS, true);
+	}
+	
+	@Test
+	public void testDenseRandDataNoCompressionRows() {
+		runMatrixSliceTest(SparsityType.DENSE, ValueType.RAND, SliceType.ROWS, false);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLENoCompressionRowsCols() {
+		runMatrixSliceTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, SliceType.ROWS_COLS, false);
+	}
+	
+	private static void runMatrixSliceTest(SparsityType sptype, ValueType vtype, SliceType stype, boolean compress)
+	{
+		try
+		{
+			//prepare sparsity for input data
+			double sparsity = -1;
+			switch( sptype ){
+				case DENSE: sparsity = sparsity1; break;
+				case SPARSE: sparsity = sparsity2; break;
+				case EMPTY: sparsity = sparsity3; break;
+			}
+			
+			//generate input data
+			double min = (vtype==ValueType.CONST)? 10 : -10;
+			double[][] input = TestUtils.generateTestMatrix(rows, cols, min, 10, sparsity, 7);
+			if( vtype==ValueType.RAND_ROUND_OLE || vtype==ValueType.RAND_ROUND_DDC ) {
+				CompressedMatrixBlock.ALLOW_DDC_ENCODING = (vtype==ValueType.RAND_ROUND_DDC);
+				input = TestUtils.round(input);
+			}
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			
+			//compress given matrix block
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			if( compress )
+				cmb.compress();
+			
+			//slices within and across bitmap segments, and the last rows
+			int blksz = BitmapEncoder.BITMAP_BLOCK_SZ;
+			int[][] rix = (stype==SliceType.COLS) ? new int[][]{{0, rows-1}} :
+				new int[][]{{0, 63}, {blksz-7, blksz+120}, {2*blksz+3, 2*blksz+3}, {rows-100, rows-1}};
+			int[][] cix = (stype==SliceType.ROWS) ? new int[][]{{0, cols-1}} :
+				new int[][]{{0, 0}, {2, 7}, {cols-1, cols-1}};
+			
+			for( int[] ri : rix )
+				for( int[] ci : cix ) {
+					//slice uncompressed
+					MatrixBlock ret1 = mb.sliceOperations(ri[0], ri[1], ci[0], ci[1], new MatrixBlock());
+					
+					//slice compressed (w/o full decompression)
+					MatrixBlock ret2 = cmb.sliceOperations(ri[0], ri[1], ci[0], ci[1], new MatrixBlock());
+					Assert.assertFalse(ret2 instanceof CompressedMatrixBlock);
+					Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+					
+					//compare result with input
+					double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+					double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+					TestUtils.compareMatrices(d1, d2, ri[1]-ri[0]+1, ci[1]-ci[0]+1, 0.0000001);
+				}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CompressedMatrixBlock.ALLOW_DDC_ENCODING = true;
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.functionobjects.Builtin;
+import org.apache.sysml.runtime.functionobjects.Builtin.BuiltinCode;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 
+ */
+public class BasicUnaryOperationsTest extends AutomatedTestBase
+{	
+	private static final int rows = 1321;
+	private static final int cols = 37;
+	private static final double sparsity1 = 0.9;
+	private static final double sparsity2 = 0.1;
+	private static final double sparsity3 = 0.0;
+	
+	public enum SparsityType {
+		DENSE,
+		SPARSE,
+		EMPTY,
+	}
+	
+	public enum ValueType {
+		RAND, //UC
+		CONST, //RLE
+		RAND_ROUND_OLE, //OLE
+		RAND_ROUND_DDC, //RLE
+	}
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testDenseRandDataCompressionSafe() {
+		runUnaryOperationsTest(SparsityType.DENSE, ValueType.RAND, BuiltinCode.ABS, true);
+	}
+	
+	@Test
+	public void testSparseRandDataCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.SPARSE, ValueType.RAND, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testEmptyCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.EMPTY, ValueType.RAND, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataOLECompressionSafe() {
+		runUnaryOperationsTest(SparsityType.DENSE, ValueType.RAND_ROUND_OLE, BuiltinCode.ABS, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionSafe() {
+		runUnaryOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, BuiltinCode.ABS, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataOLECompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.DENSE, ValueType.RAND_ROUND_OLE, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataDDCCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_DDC, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testDenseConstDataCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.DENSE, ValueType.CONST, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testSparseConstDataCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.SPARSE, ValueType.CONST, BuiltinCode.EXP, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionCumsum() {
+		runUnaryOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, BuiltinCode.CUMSUM, true);
+	}
+	
+	@Test
+	public void testDenseRandDataNoCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.DENSE, ValueType.RAND, BuiltinCode.EXP, false);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLENoCompressionUnsafe() {
+		runUnaryOperationsTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, BuiltinCode.EXP, false);
+	}
+	
+	private static void runUnaryOperationsTest(SparsityType sptype, ValueType vtype, BuiltinCode bcode, boolean compress)
+	{
+		try
+		{
+			//prepare sparsity for input data
+			double sparsity = -1;
+			switch( sptype ){
+				case DENSE: sparsity = sparsity1; break;
+				case SPARSE: sparsity = sparsity2; break;
+				case EMPTY: sparsity = sparsity3; break;
+			}
+			
+			//generate input data
+			double min = (vtype==ValueType.CONST)? 1 : -1;
+			double[][] input = TestUtils.generateTestMatrix(rows, cols, min, 1, sparsity, 7);
+			if( vtype==ValueType.RAND_ROUND_OLE || vtype==ValueType.RAND_ROUND_DDC ) {
+				CompressedMatrixBlock.ALLOW_DDC_ENCODING = (vtype==ValueType.RAND_ROUND_DDC);
+				input = TestUtils.round(input);
+			}
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			
+			//compress given matrix block
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			if( compress )
+				cmb.compress();
+			
+			//unary uncompressed
+			UnaryOperator uop = new UnaryOperator(Builtin.getBuiltinFnObject(bcode));
+			MatrixBlock ret1 = (MatrixBlock)mb.unaryOperations(uop, new MatrixBlock());
+			
+			//unary compressed (w/o decompression for cell-wise ops)
+			MatrixBlock ret2 = (MatrixBlock)cmb.unaryOperations(uop, new MatrixBlock());
+			if( compress && bcode != BuiltinCode.CUMSUM ) {
+				Assert.assertTrue(ret2 instanceof CompressedMatrixBlock);
+				Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+				ret2 = ((CompressedMatrixBlock)ret2).decompress();
+			}
+			
+			//compare result with input
+			double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+			TestUtils.compareMatrices(d1, d2, rows, cols, 0.0000001);
+			
+			//unary in-place compressed (cumsum not supported in-place)
+			if( bcode != BuiltinCode.CUMSUM ) {
+				CompressedMatrixBlock cmb2 = new CompressedMatrixBlock(mb);
+				if( compress )
+					cmb2.compress();
+				cmb2.unaryOperationsInPlace(uop);
+				if( compress )
+					Assert.assertEquals(ret1.getNonZeros(), cmb2.getNonZeros());
+				double[][] d3 = DataConverter.convertToDoubleMatrix(cmb2.decompress());
+				TestUtils.compareMatrices(d1, d3, rows, cols, 0.0000001);
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CompressedMatrixBlock.ALLOW_DDC_ENCODING = true;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysml.runtime.instructions.spark.data.PartitionedBlock;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 
+ */
+public class CompressedBroadcastTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME1 = "CompressedBroadcast";
+	private final static String TEST_DIR = "functions/compress/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + CompressedBroadcastTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemML-config-compress-broadcast.xml";
+	private final static File   TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+	
+	private final static double eps = 1e-8;
+	
+	private final static int rows = 1200;
+	private final static int cols = 1500;
+	private final static int cols2 = 10;
+	private final static int rows2 = 500;
+	private final static int blen = 1000;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R1", "R2" })); 
+	}
+	
+	@Test
+	public void testPartitionedBlockCompressDense() {
+		runPartitionedBlockCompressTest(1.0);
+	}
+	
+	@Test
+	public void testPartitionedBlockCompressSparse() {
+		runPartitionedBlockCompressTest(0.1);
+	}
+	
+	@Test
+	public void testCompressedBroadcastMapmmDense() {
+		runCompressedBroadcastTest(TEST_NAME1, 1.0);
+	}
+	
+	@Test
+	public void testCompressedBroadcastMapmmSparse() {
+		runCompressedBroadcastTest(TEST_NAME1, 0.1);
+	}
+	
+	private void runPartitionedBlockCompressTest(double sparsity)
+	{
+		try
+		{
+			//generate partially compressible input (rounded left half, random right half)
+			double[][] A = getRandomMatrix(2500, 1500, 0, 5, sparsity, 7);
+			for( int i=0; i<A.length; i++ )
+				for( int j=0; j<1000; j++ )
+					A[i][j] = Math.round(A[i][j]);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			
+			//partition and compress blocks
+			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(mb, blen, blen);
+			int ncompressed = pmb.compressBlocks(2);
+			Assert.assertTrue("No block compressed.", ncompressed > 0);
+			
+			//serialize and deserialize partitioned block
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			ObjectOutputStream oos = new ObjectOutputStream(bos);
+			oos.writeObject(pmb);
+			oos.close();
+			ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+			@SuppressWarnings("unchecked")
+			PartitionedBlock<MatrixBlock> pmb2 = (PartitionedBlock<MatrixBlock>) ois.readObject();
+			ois.close();
+			
+			//compare decompressed blocks with uncompressed slices
+			int ncompressed2 = 0;
+			for( int i=1; i<=pmb2.getNumRowBlocks(); i++ )
+				for( int j=1; j<=pmb2.getNumColumnBlocks(); j++ ) {
+					CacheBlock cb = pmb2.getBlock(i, j, false);
+					ncompressed2 += (cb instanceof CompressedMatrixBlock) ? 1 : 0;
+					MatrixBlock ret = (MatrixBlock) pmb2.getBlock(i, j);
+					Assert.assertFalse(ret instanceof CompressedMatrixBlock);
+					MatrixBlock expected = mb.sliceOperations((i-1)*blen, Math.min(i*blen, 2500)-1,
+						(j-1)*blen, Math.min(j*blen, 1500)-1, new MatrixBlock());
+					TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(expected),
+						DataConverter.convertToDoubleMatrix(ret), expected.getNumRows(), expected.getNumColumns(), 0);
+				}
+			Assert.assertEquals(ncompressed, ncompressed2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runCompressedBroadcastTest(String testname, double sparsity)
+	{
+		RUNTIME_PLATFORM platformOld = rtplatform;
+		rtplatform = RUNTIME_PLATFORM.SPARK;
+		boolean sparkConfigOld = DMLScript.USE_LOCAL_SPARK_CONFIG;
+		DMLScript.USE_LOCAL_SPARK_CONFIG = true;
+		
+		try
+		{
+			TestConfiguration config = getTestConfiguration(testname);
+			loadTestConfiguration(config);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + testname + ".dml";
+			programArgs = new String[]{"-explain", "-stats", "-args", input("X"), 
+				input("B"), input("A"), output("R1"), output("R2") };
+			
+			//generate actual datasets (broadcast sides with few distinct values)
+			double[][] X = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			writeInputMatrixWithMTD("X", X, true);
+			double[][] B = TestUtils.round(getRandomMatrix(cols, cols2, 0, 5, sparsity, 3));
+			writeInputMatrixWithMTD("B", B, true);
+			double[][] A = TestUtils.round(getRandomMatrix(rows2, rows, 0, 5, sparsity, 11));
+			writeInputMatrixWithMTD("A", A, true);
+			
+			runTest(true, false, null, -1); 
+			
+			//compare matrices with local results
+			MatrixBlock mX = DataConverter.convertToMatrixBlock(X);
+			MatrixBlock R1 = new MatrixBlock(rows, cols2, false);
+			MatrixBlock R2 = new MatrixBlock(rows2, cols, false);
+			LibMatrixMult.matrixMult(mX, DataConverter.convertToMatrixBlock(B), R1);
+			LibMatrixMult.matrixMult(DataConverter.convertToMatrixBlock(A), mX, R2);
+			HashMap<CellIndex, Double> dml1 = readDMLMatrixFromHDFS("R1");
+			HashMap<CellIndex, Double> dml2 = readDMLMatrixFromHDFS("R2");
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(R1),
+				TestUtils.convertHashMapToDoubleArray(dml1, rows, cols2), rows, cols2, eps);
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(R2),
+				TestUtils.convertHashMapToDoubleArray(dml2, rows2, cols), rows2, cols, eps);
+			
+			Assert.assertTrue(heavyHittersContainsSubString("sp_mapmm"));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = platformOld;
+			DMLScript.USE_LOCAL_SPARK_CONFIG = sparkConfigOld;
+		}
+	}
+
+	/**
+	 * Override default configuration with custom test configuration to ensure
+	 * scratch space and local temporary directory locations are also updated.
+	 */
+	@Override
+	protected File getConfigTemplateFile() {
+		// Instrumentation in this test's output log to show custom configuration file used for template.
+		System.out.println("This test case overrides default configuration with " + TEST_CONF_FILE.getPath());
+		return TEST_CONF_FILE;
+	}
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.lops.LopProperties.ExecType;
+import org.apache.sysml.runtime.io.MatrixReader;
+import org.apache.sysml.runtime.io.MatrixWriter;
+import org.apache.sysml.runtime.io.MatrixWriterFactory;
+import org.apache.sysml.runtime.io.ReaderCompressedBinaryBlock;
+import org.apache.sysml.runtime.io.ReaderCompressedBinaryBlockParallel;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 
+ */
+public class CompressedReadWriteTest extends AutomatedTestBase
+{	
+	private final static String TEST_NAME = "CompressedReadWriteTest";
+	private final static String TEST_NAME2 = "CompressedWrite";
+	private final static String TEST_NAME3 = "CompressedRead";
+	private final static String TEST_DIR = "functions/compress/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + CompressedReadWriteTest.class.getSimpleName() + "/";
+	
+	private static final int rows = 2701;
+	private static final int cols = 20;
+	private static final int blen = 1000;
+	private static final int blen2 = 100; //multi-part
+	private static final long hdfsBlocksize = 1024; //1KB, to force multiple part files
+	private static final double sparsity1 = 0.9;
+	private static final double sparsity2 = 0.1;
+	private static final double sparsity3 = 0.0;
+	
+	public enum SparsityType {
+		DENSE,
+		SPARSE,
+		EMPTY,
+	}
+	
+	public enum ValueType {
+		RAND, //UC
+		CONST, //RLE
+		RAND_ROUND_OLE, //OLE
+		RAND_ROUND_DDC, //RLE
+	}
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "X" }));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "X" }));
+		addTestConfiguration(TEST_NAME3, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME3, new String[] { "R1", "R2" }));
+	}
+	
+	@Test
+	public void testDenseRandDataCompression() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND, true, false, false);
+	}
+	
+	@Test
+	public void testSparseRandDataCompression() {
+		runCompressedReadWriteTest(SparsityType.SPARSE, ValueType.RAND, true, false, false);
+	}
+	
+	@Test
+	public void testEmptyCompression() {
+		runCompressedReadWriteTest(SparsityType.EMPTY, ValueType.RAND, true, false, false);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataOLECompression() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_OLE, true, false, false);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompression() {
+		runCompressedReadWriteTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, true, false, false);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCCompression() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, true, false, false);
+	}
+	
+	@Test
+	public void testDenseConstantDataCompression() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.CONST, true, false, false);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCCompressionParRead() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, true, true, false);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionParRead() {
+		runCompressedReadWriteTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, true, true, false);
+	}
+	
+	@Test
+	public void testDenseRandDataNoCompression() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND, false, false, false);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLENoCompression() {
+		runCompressedReadWriteTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, false, false, false);
+	}
+	
+	@Test
+	public void testDenseRandDataNoCompressionParRead() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND, false, true, false);
+	}
+	
+	@Test
+	public void testEmptyNoCompressionParRead() {
+		runCompressedReadWriteTest(SparsityType.EMPTY, ValueType.RAND, false, true, false);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCCompressionMultiPart() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, true, false, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCCompressionMultiPartParRead() {
+		runCompressedReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, true, true, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLECompressionMultiPartParRead() {
+		runCompressedReadWriteTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, true, true, true);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLENoCompressionMultiPartParRead() {
+		runCompressedReadWriteTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, false, true, true);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCScriptCP() {
+		runCompressedScriptReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, ExecType.CP);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLEScriptCP() {
+		runCompressedScriptReadWriteTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, ExecType.CP);
+	}
+	
+	@Test
+	public void testDenseRandDataScriptCP() {
+		runCompressedScriptReadWriteTest(SparsityType.DENSE, ValueType.RAND, ExecType.CP);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCScriptSP() {
+		runCompressedScriptReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, ExecType.SPARK);
+	}
+	
+	@Test
+	public void testSparseRoundRandDataOLEScriptSP() {
+		runCompressedScriptReadWriteTest(SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, ExecType.SPARK);
+	}
+	
+	@Test
+	public void testDenseRoundRandDataDDCScriptCPWriteSPRead() {
+		runCompressedScriptReadWriteTest(SparsityType.DENSE, ValueType.RAND_ROUND_DDC, ExecType.CP, ExecType.SPARK);
+	}
+	
+	private void runCompressedReadWriteTest(SparsityType sptype, ValueType vtype, boolean compress, boolean parRead, boolean multiPart)
+	{
+		long hdfsBlocksizeOld = InfrastructureAnalyzer.getHDFSBlockSize();
+		int brlen = multiPart ? blen2 : blen;
+		if( multiPart )
+			InfrastructureAnalyzer.setHDFSBlockSize(hdfsBlocksize);
+		
+		try
+		{
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			
+			//prepare sparsity for input data
+			double sparsity = -1;
+			switch( sptype ){
+				case DENSE: sparsity = sparsity1; break;
+				case SPARSE: sparsity = sparsity2; break;
+				case EMPTY: sparsity = sparsity3; break;
+			}
+			
+			//generate input data
+			double min = (vtype==ValueType.CONST)? 10 : -10;
+			double[][] input = TestUtils.generateTestMatrix(rows, cols, min, 10, sparsity, 7);
+			if( vtype==ValueType.RAND_ROUND_OLE || vtype==ValueType.RAND_ROUND_DDC ) {
+				CompressedMatrixBlock.ALLOW_DDC_ENCODING = (vtype==ValueType.RAND_ROUND_DDC);
+				input = TestUtils.round(input);
+			}
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			
+			//compress given matrix block (otherwise compressed by the writer)
+			MatrixBlock src = mb;
+			if( compress ) {
+				CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+				cmb.compress();
+				src = cmb;
+			}
+			
+			//write compressed binary block file
+			MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(
+				OutputInfo.CompressedBinaryBlockOutputInfo);
+			writer.writeMatrixToHDFS(src, output("X"), rows, cols, brlen, brlen, mb.getNonZeros());
+			if( multiPart )
+				Assert.assertTrue("No multi-part output.", getNumPartFiles(output("X")) > 1);
+			
+			//read compressed binary block file
+			MatrixReader reader = parRead ? new ReaderCompressedBinaryBlockParallel(false) :
+				new ReaderCompressedBinaryBlock(false);
+			MatrixBlock ret = reader.readMatrixFromHDFS(output("X"), rows, cols, brlen, brlen, -1);
+			
+			//check for compressed result if compression was beneficial
+			if( vtype==ValueType.RAND_ROUND_OLE || vtype==ValueType.RAND_ROUND_DDC || vtype==ValueType.CONST )
+				Assert.assertTrue(ret instanceof CompressedMatrixBlock 
+					&& ((CompressedMatrixBlock)ret).isCompressed());
+			if( ret instanceof CompressedMatrixBlock && ((CompressedMatrixBlock)ret).isCompressed() ) {
+				//check for reassembled row blocks w/ column groups of the written block
+				if( compress )
+					checkColGroupPartitioning((CompressedMatrixBlock)src, (CompressedMatrixBlock)ret);
+				ret = ((CompressedMatrixBlock)ret).decompress();
+			}
+			
+			//compare result with input
+			double[][] d1 = DataConverter.convertToDoubleMatrix(mb);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret);
+			TestUtils.compareMatrices(d1, d2, rows, cols, 0);
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CompressedMatrixBlock.ALLOW_DDC_ENCODING = true;
+			InfrastructureAnalyzer.setHDFSBlockSize(hdfsBlocksizeOld);
+		}
+	}
+	
+	private void runCompressedScriptReadWriteTest(SparsityType sptype, ValueType vtype, ExecType et) {
+		runCompressedScriptReadWriteTest(sptype, vtype, et, et);
+	}
+	
+	private void runCompressedScriptReadWriteTest(SparsityType sptype, ValueType vtype, ExecType etWrite, ExecType etRead)
+	{
+		RUNTIME_PLATFORM platformOld = rtplatform;
+		boolean sparkConfigOld = DMLScript.USE_LOCAL_SPARK_CONFIG;
+		long hdfsBlocksizeOld = InfrastructureAnalyzer.getHDFSBlockSize();
+		InfrastructureAnalyzer.setHDFSBlockSize(hdfsBlocksize);
+		DMLScript.USE_LOCAL_SPARK_CONFIG = true;
+		
+		try
+		{
+			//prepare sparsity for input data
+			double sparsity = -1;
+			switch( sptype ){
+				case DENSE: sparsity = sparsity1; break;
+				case SPARSE: sparsity = sparsity2; break;
+				case EMPTY: sparsity = sparsity3; break;
+			}
+			
+			//generate input data
+			double min = (vtype==ValueType.CONST)? 10 : -10;
+			double[][] input = TestUtils.generateTestMatrix(rows, cols, min, 10, sparsity, 7);
+			if( vtype==ValueType.RAND_ROUND_OLE || vtype==ValueType.RAND_ROUND_DDC ) {
+				CompressedMatrixBlock.ALLOW_DDC_ENCODING = (vtype==ValueType.RAND_ROUND_DDC);
+				input = TestUtils.round(input);
+			}
+			
+			//write compressed binary block file via format="compressed"
+			rtplatform = (etWrite == ExecType.SPARK) ? RUNTIME_PLATFORM.SPARK : RUNTIME_PLATFORM.HYBRID;
+			loadTestConfiguration(getTestConfiguration(TEST_NAME2));
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME2 + ".dml";
+			programArgs = new String[]{"-stats", "-args", input("A"), output("X") };
+			writeInputMatrixWithMTD("A", input, true);
+			runTest(true, false, null, -1);
+			String fnameX = output("X");
+			
+			//check multi-part output of CP writes with beneficial compression
+			if( etWrite == ExecType.CP && vtype != ValueType.RAND )
+				Assert.assertTrue("No multi-part output.", getNumPartFiles(fnameX) > 1);
+			
+			//read compressed binary block file via java api and compare with input
+			MatrixBlock ret = new ReaderCompressedBinaryBlockParallel(false)
+				.readMatrixFromHDFS(fnameX, rows, cols, blen, blen, -1);
+			if( ret instanceof CompressedMatrixBlock )
+				ret = ((CompressedMatrixBlock)ret).decompress();
+			TestUtils.compareMatrices(input, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+			
+			//read compressed binary block file via format="compressed" 
+			rtplatform = (etRead == ExecType.SPARK) ? RUNTIME_PLATFORM.SPARK : RUNTIME_PLATFORM.HYBRID;
+			loadTestConfiguration(getTestConfiguration(TEST_NAME3));
+			fullDMLScriptName = HOME + TEST_NAME3 + ".dml";
+			programArgs = new String[]{"-stats", "-args", fnameX, output("R1"), output("R2") };
+			runTest(true, false, null, -1);
+			
+			//compare row and column sums with local results
+			double[][] R1 = new double[rows][1];
+			double[][] R2 = new double[1][cols];
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<cols; j++ ) {
+					R1[i][0] += input[i][j];
+					R2[0][j] += input[i][j];
+				}
+			HashMap<CellIndex, Double> dml1 = readDMLMatrixFromHDFS("R1");
+			HashMap<CellIndex, Double> dml2 = readDMLMatrixFromHDFS("R2");
+			TestUtils.compareMatrices(R1, TestUtils.convertHashMapToDoubleArray(dml1, rows, 1), rows, 1, 1e-10);
+			TestUtils.compareMatrices(R2, TestUtils.convertHashMapToDoubleArray(dml2, 1, cols), 1, cols, 1e-10);
+			if( etRead == ExecType.SPARK )
+				Assert.assertTrue(heavyHittersContainsSubString("sp_uark+"));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = platformOld;
+			DMLScript.USE_LOCAL_SPARK_CONFIG = sparkConfigOld;
+			CompressedMatrixBlock.ALLOW_DDC_ENCODING = true;
+			InfrastructureAnalyzer.setHDFSBlockSize(hdfsBlocksizeOld);
+		}
+	}
+	
+	private static int getNumPartFiles(String fname) {
+		File[] files = new File(fname).listFiles();
+		int ret = 0;
+		for( int i=0; files!=null && i<files.length; i++ )
+			ret += files[i].getName().startsWith("0-m-") ? 1 : 0;
+		return ret;
+	}
+	
+	private static void checkColGroupPartitioning(CompressedMatrixBlock expected, CompressedMatrixBlock ret) {
+		Assert.assertEquals(expected.getNumColGroups(), ret.getNumColGroups());
+		for( int i=0; i<expected.getNumColGroups(); i++ )
+			Assert.assertArrayEquals(expected.getColGroups().get(i).getColIndices(),
+				ret.getColGroups().get(i).getColIndices());
+	}
+}
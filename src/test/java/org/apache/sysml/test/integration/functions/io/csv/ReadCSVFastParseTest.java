@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.io.csv;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.conf.CompilerConfig;
+import org.apache.sysml.conf.CompilerConfig.ConfigType;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.io.FrameReaderTextCSV;
+import org.apache.sysml.runtime.io.ReaderTextCSVParallel;
+import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares the byte-level csv parsing against the string-based csv parsing
+ * for matrices and frames with mixed number formats, which requires 
+ * bitwise identical results.
+ */
+public class ReadCSVFastParseTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME = "ReadCSVFastParseTest";
+	private final static String TEST_DIR = "functions/io/csv/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ReadCSVFastParseTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 1200;
+	private final static int cols = 17;
+	
+	private final static String[] SPECIALS = new String[] {"NaN", "-Infinity", "Infinity", 
+		"1e400", "-1e-400", "4.9e-324", "0x1p3", "1d", "2.5f", "-0", "-0.0", "+7", ".5", "5.", 
+		"9007199254740993", "123456789012345678901234", "0.1e-22", "1e22", "1e23", "000000000000000000000012.5"};
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"R"}));
+	}
+	
+	@Test
+	public void testMatrixDense() {
+		runMatrixTest(",", 0.9, false);
+	}
+	
+	@Test
+	public void testMatrixSparse() {
+		runMatrixTest(",", 0.05, false);
+	}
+	
+	@Test
+	public void testMatrixMultiCharDelimFill() {
+		runMatrixTest("::", 0.5, true);
+	}
+	
+	@Test
+	public void testFrameMixedSchema() {
+		runFrameTest(",");
+	}
+	
+	@Test
+	public void testFrameMultiCharDelim() {
+		runFrameTest("|;");
+	}
+	
+	private void runMatrixTest(String delim, double sparsity, boolean fill) {
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			String fname = input("X");
+			writeMatrixFile(fname, delim, sparsity, fill, 7);
+			
+			CSVFileFormatProperties props = new CSVFileFormatProperties(false, delim, fill, 0, "");
+			MatrixBlock mb1 = readMatrix(fname, props, false);
+			MatrixBlock mb2 = readMatrix(fname, props, true);
+			
+			Assert.assertEquals(mb1.getNonZeros(), mb2.getNonZeros());
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<cols; j++ )
+					assertIdentical(mb1.quickGetValue(i, j), mb2.quickGetValue(i, j));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runFrameTest(String delim) {
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			String fname = input("F");
+			ValueType[] schema = new ValueType[] {ValueType.STRING, 
+				ValueType.DOUBLE, ValueType.INT, ValueType.BOOLEAN, ValueType.DOUBLE};
+			writeFrameFile(fname, delim, 3);
+			
+			CSVFileFormatProperties props = new CSVFileFormatProperties(false, delim, true, 0, "");
+			FrameBlock fb1 = readFrame(fname, props, schema, false);
+			FrameBlock fb2 = readFrame(fname, props, schema, true);
+			
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<schema.length; j++ ) {
+					if( schema[j] == ValueType.DOUBLE )
+						assertIdentical((Double)fb1.get(i, j), (Double)fb2.get(i, j));
+					else
+						Assert.assertEquals(fb1.get(i, j), fb2.get(i, j));
+				}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static MatrixBlock readMatrix(String fname, CSVFileFormatProperties props, boolean fastParse) 
+		throws Exception 
+	{
+		CompilerConfig cconf = new CompilerConfig(ConfigurationManager.getCompilerConfig());
+		cconf.set(ConfigType.FAST_CSV_PARSING, fastParse);
+		ConfigurationManager.setLocalConfig(cconf);
+		try {
+			return new ReaderTextCSVParallel(props).readMatrixFromHDFS(fname, rows, cols, -1, -1, -1);
+		}
+		finally {
+			ConfigurationManager.clearLocalConfigs();
+		}
+	}
+	
+	private static FrameBlock readFrame(String fname, CSVFileFormatProperties props, ValueType[] schema, boolean fastParse) 
+		throws Exception 
+	{
+		CompilerConfig cconf = new CompilerConfig(ConfigurationManager.getCompilerConfig());
+		cconf.set(ConfigType.FAST_CSV_PARSING, fastParse);
+		ConfigurationManager.setLocalConfig(cconf);
+		try {
+			return new FrameReaderTextCSV(props).readFrameFromHDFS(fname, schema, rows, schema.length);
+		}
+		finally {
+			ConfigurationManager.clearLocalConfigs();
+		}
+	}
+	
+	private static void writeMatrixFile(String fname, String delim, double sparsity, boolean fill, long seed) 
+		throws IOException 
+	{
+		Random rand = new Random(seed);
+		new File(fname).getParentFile().mkdirs();
+		try( BufferedWriter bw = new BufferedWriter(new FileWriter(fname)) ) {
+			for( int i=0; i<rows; i++ ) {
+				for( int j=0; j<cols; j++ ) {
+					if( j > 0 )
+						bw.write(delim);
+					if( rand.nextDouble() < sparsity )
+						bw.write(createNumber(rand));
+					else if( fill && rand.nextDouble() < 0.3 )
+						bw.write(rand.nextBoolean() ? "" : "  ");
+					else
+						bw.write("0");
+				}
+				bw.write(rand.nextBoolean() ? "\n" : " \r\n");
+			}
+		}
+	}
+	
+	private static void writeFrameFile(String fname, String delim, long seed) 
+		throws IOException 
+	{
+		Random rand = new Random(seed);
+		new File(fname).getParentFile().mkdirs();
+		try( BufferedWriter bw = new BufferedWriter(new FileWriter(fname)) ) {
+			for( int i=0; i<rows; i++ ) {
+				bw.write(rand.nextInt(10)==0 ? "\"a"+delim+"b \"\"c\"\"\"" : 
+					rand.nextBoolean() ? " strä"+i+" " : "");
+				bw.write(delim + createNumber(rand));
+				bw.write(delim + (rand.nextBoolean() ? "" : "-") + rand.nextInt(Integer.MAX_VALUE) 
+					* (long)rand.nextInt(1000));
+				bw.write(delim + (rand.nextBoolean() ? "TRUE" : rand.nextBoolean() ? "true" : "False"));
+				bw.write(delim + (rand.nextBoolean() ? " " : createNumber(rand)));
+				bw.write("\n");
+			}
+		}
+	}
+	
+	private static String createNumber(Random rand) {
+		double v = (rand.nextDouble() - 0.5) * Math.pow(10, rand.nextInt(40) - 20);
+		switch( rand.nextInt(7) ) {
+			case 0:  return Double.toString(v);
+			case 1:  return String.valueOf((long)(v * 1e6));
+			case 2:  return String.format(Locale.US, "%.4f", v);
+			case 3:  return String.format(Locale.US, "%.12e", v);
+			case 4:  return String.format(Locale.US, "%E", v);
+			case 5:  return " " + String.format(Locale.US, "%.17g", v) + "  ";
+			default: return SPECIALS[rand.nextInt(SPECIALS.length)];
+		}
+	}
+	
+	private static void assertIdentical(double v1, double v2) {
+		Assert.assertEquals(Double.doubleToRawLongBits(v1), Double.doubleToRawLongBits(v2));
+	}
+}
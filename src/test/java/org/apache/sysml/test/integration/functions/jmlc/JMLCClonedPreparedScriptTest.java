@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.jmlc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.sysml.api.jmlc.Connection;
+import org.apache.sysml.api.jmlc.PreparedScript;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JMLCClonedPreparedScriptTest extends AutomatedTestBase 
+{
+	private final static String SCRIPT = 
+		  "scale = function(Matrix[Double] X, Matrix[Double] W) return (Matrix[Double] Y) {\n"
+		+ "  Y = X %*% W;\n"
+		+ "  if( sum(Y) > 0 )\n"
+		+ "    Y = Y * 2;\n"
+		+ "}\n"
+		+ "X = read(\"./tmp/X\", rows=-1, cols=-1);\n"
+		+ "W = read(\"./tmp/W\", rows=-1, cols=-1);\n"
+		+ "Y = scale(X, W);\n"
+		+ "write(Y, \"./tmp/Y\");";
+	
+	private final static int rows = 37;
+	private final static int cols = 23;
+	private final static int nThreads = 8;
+	private final static int nRuns = 10;
+	
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+	
+	@Test
+	public void testClonedPreparedScriptShared() throws IOException {
+		runJMLCClonedTest(false, false);
+	}
+	
+	@Test
+	public void testClonedPreparedScriptDeep() throws IOException {
+		runJMLCClonedTest(true, false);
+	}
+	
+	@Test
+	public void testClonedPreparedScriptSharedFunRecompile() throws IOException {
+		runJMLCClonedTest(false, true);
+	}
+	
+	@Test
+	public void testClonedPreparedScriptDeepFunRecompile() throws IOException {
+		runJMLCClonedTest(true, true);
+	}
+
+	private void runJMLCClonedTest(boolean deep, boolean funRecompile) 
+		throws IOException
+	{
+		double[][] W = getRandomMatrix(cols, cols, -1, 1, 0.7, 7);
+		ArrayList<double[][]> Xset = new ArrayList<>();
+		for( int i=0; i<nThreads; i++ )
+			Xset.add(getRandomMatrix(rows, cols, 0, 1, 0.9, i+1));
+		
+		Connection conn = new Connection();
+		ExecutorService pool = Executors.newFixedThreadPool(nThreads);
+		try {
+			//compile once, and bind the reused model
+			PreparedScript pstmt = conn.prepareScript(SCRIPT,
+				new String[]{"X","W"}, new String[]{"Y"}, false);
+			if( funRecompile )
+				pstmt.enableFunctionRecompile(null, "scale");
+			pstmt.setMatrix("W", W, true);
+			
+			//sequential baseline with the original prepared script
+			ArrayList<double[][]> expected = new ArrayList<>();
+			for( double[][] X : Xset ) {
+				pstmt.setMatrix("X", X);
+				expected.add(pstmt.executeScript().getMatrix("Y"));
+			}
+			
+			//concurrent scoring with per-thread copies
+			List<Future<List<double[][]>>> rt = new ArrayList<>();
+			for( double[][] X : Xset ) {
+				final PreparedScript lpstmt = pstmt.clone(deep);
+				rt.add(pool.submit(new Callable<List<double[][]>>() {
+					@Override
+					public List<double[][]> call() throws Exception {
+						List<double[][]> ret = new ArrayList<>();
+						for( int j=0; j<nRuns; j++ ) {
+							lpstmt.setMatrix("X", X);
+							ret.add(lpstmt.executeScript().getMatrix("Y"));
+						}
+						return ret;
+					}
+				}));
+			}
+			
+			//check results against sequential baseline
+			for( int i=0; i<nThreads; i++ )
+				for( double[][] Y : rt.get(i).get() )
+					TestUtils.compareMatrices(expected.get(i), Y, rows, cols, 1e-10);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+		finally {
+			pool.shutdown();
+			IOUtilFunctions.closeSilently(conn);
+		}
+	}
+}
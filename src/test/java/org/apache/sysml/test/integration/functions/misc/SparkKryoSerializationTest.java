@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.misc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.spark.SparkConf;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
+import org.apache.sysml.runtime.instructions.spark.utils.RDDAggregateUtils;
+import org.apache.sysml.runtime.instructions.spark.utils.SparkKryoRegistrator;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+import scala.Tuple2;
+
+/**
+ * Tests the dedicated kryo serializers for matrix indexes, matrix and frame 
+ * blocks, as well as the results of a local spark shuffle w/ and w/o kryo 
+ * serialization (see SparkKryoShuffleBenchmark for shuffle bytes and time).
+ */
+public class SparkKryoSerializationTest extends AutomatedTestBase 
+{
+	private final static int rows = 1000;
+	private final static int cols = 700;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.05;
+	private final static double sparsity3 = 0.0002;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testMatrixIndexes() {
+		MatrixIndexes ix = new MatrixIndexes(7, Long.MAX_VALUE/3);
+		MatrixIndexes ret = (MatrixIndexes) roundtrip(ix);
+		Assert.assertEquals(ix, ret);
+	}
+	
+	@Test
+	public void testDenseBlock() {
+		runMatrixBlockTest(sparsity1, null, false);
+	}
+	
+	@Test
+	public void testSparseBlockMCSR() {
+		runMatrixBlockTest(sparsity2, SparseBlock.Type.MCSR, false);
+	}
+	
+	@Test
+	public void testSparseBlockCSR() {
+		runMatrixBlockTest(sparsity2, SparseBlock.Type.CSR, false);
+	}
+	
+	@Test
+	public void testSparseBlockCOO() {
+		runMatrixBlockTest(sparsity2, SparseBlock.Type.COO, false);
+	}
+	
+	@Test
+	public void testUltraSparseBlock() {
+		runMatrixBlockTest(sparsity3, SparseBlock.Type.MCSR, false);
+	}
+	
+	@Test
+	public void testEmptyBlock() {
+		runMatrixBlockTest(0, null, false);
+	}
+	
+	@Test
+	public void testCompressedBlock() {
+		runMatrixBlockTest(sparsity1, null, true);
+	}
+	
+	@Test
+	public void testFrameBlock() {
+		runFrameBlockTest(false, false);
+	}
+	
+	@Test
+	public void testFrameBlockColnames() {
+		runFrameBlockTest(true, false);
+	}
+	
+	@Test
+	public void testFrameBlockDefaultColnames() {
+		runFrameBlockTest(false, true);
+	}
+	
+	@Test
+	public void testShuffleJavaVsKryo() throws Exception {
+		//local-mode shuffle of dense and sparse blocks
+		List<Tuple2<MatrixIndexes,MatrixBlock>> blocks = new ArrayList<>();
+		for( int i=0; i<48; i++ ) {
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(getRandomMatrix(
+				rows, cols, -1, 1, (i%2==0) ? sparsity1 : sparsity2, i+7));
+			blocks.add(new Tuple2<>(new MatrixIndexes(i%4+1, 1), mb));
+		}
+		
+		MatrixBlock[] ret1 = runShuffle(blocks, false);
+		MatrixBlock[] ret2 = runShuffle(blocks, true);
+		for( int i=0; i<ret1.length; i++ )
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1[i]),
+				DataConverter.convertToDoubleMatrix(ret2[i]), rows, cols, 1e-10);
+	}
+	
+	private void runMatrixBlockTest(double sparsity, SparseBlock.Type stype, boolean compress) {
+		try {
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			if( compress )
+				TestUtils.round(A);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			mb.examSparsity();
+			if( stype != null && mb.isInSparseFormat() )
+				mb = new MatrixBlock(mb, stype, true);
+			if( compress ) {
+				mb = new CompressedMatrixBlock(mb);
+				((CompressedMatrixBlock)mb).compress();
+			}
+			
+			MatrixBlock ret = (MatrixBlock) roundtrip(mb);
+			Assert.assertEquals(mb.getClass(), ret.getClass());
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			if( compress ) {
+				Assert.assertTrue(((CompressedMatrixBlock)ret).isCompressed());
+				ret = ((CompressedMatrixBlock)ret).decompress();
+			}
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runFrameBlockTest(boolean colnames, boolean defaultColnames) {
+		ValueType[] schema = new ValueType[]{ValueType.STRING, 
+			ValueType.DOUBLE, ValueType.INT, ValueType.BOOLEAN};
+		String[][] data = new String[rows][];
+		for( int i=0; i<rows; i++ )
+			data[i] = new String[]{(i%7==0) ? null : "a"+i, 
+				String.valueOf(i*0.37), String.valueOf(i), String.valueOf(i%3==0)};
+		FrameBlock fb = new FrameBlock(schema, data);
+		if( colnames )
+			fb.setColumnNames(new String[]{"name","value","id","flag"});
+		else if( defaultColnames )
+			fb.setColumnNames(FrameBlock.createColNames(schema.length));
+		
+		FrameBlock ret = (FrameBlock) roundtrip(fb);
+		Assert.assertArrayEquals(fb.getSchema(), ret.getSchema());
+		Assert.assertArrayEquals(fb.getColumnNames(), ret.getColumnNames());
+		String[][] data2 = DataConverter.convertToStringFrame(ret);
+		String[][] data1 = DataConverter.convertToStringFrame(fb);
+		for( int i=0; i<rows; i++ )
+			Assert.assertArrayEquals(data1[i], data2[i]);
+	}
+	
+	private static Object roundtrip(Object obj) {
+		Kryo kryo = new Kryo();
+		new SparkKryoRegistrator().registerClasses(kryo);
+		Output out = new Output(4096, -1);
+		kryo.writeClassAndObject(out, obj);
+		Input in = new Input(out.toBytes());
+		return kryo.readClassAndObject(in);
+	}
+	
+	private static MatrixBlock[] runShuffle(List<Tuple2<MatrixIndexes,MatrixBlock>> blocks, boolean kryo) {
+		try {
+			DMLConfig conf = new DMLConfig();
+			conf.setTextValue(DMLConfig.SPARK_KRYO, String.valueOf(kryo));
+			ConfigurationManager.setLocalConfig(conf);
+			SparkConf sconf = SparkExecutionContext.createSystemMLSparkConf()
+				.setMaster("local[4]").setAppName("Kryo shuffle test")
+				.set("spark.ui.enabled", "false");
+			Assert.assertEquals(kryo, sconf.get("spark.serializer", "").contains("Kryo"));
+			
+			JavaSparkContext sc = new JavaSparkContext(sconf);
+			try {
+				JavaPairRDD<MatrixIndexes,MatrixBlock> in = sc.parallelizePairs(blocks, 8);
+				List<Tuple2<MatrixIndexes,MatrixBlock>> out = 
+					RDDAggregateUtils.sumByKeyStable(in, 4, false).collect();
+				
+				MatrixBlock[] ret = new MatrixBlock[4];
+				for( Tuple2<MatrixIndexes,MatrixBlock> t : out )
+					ret[(int)t._1().getRowIndex()-1] = t._2();
+				return ret;
+			}
+			finally {
+				sc.stop();
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.clearLocalConfigs();
+		}
+	}
+}
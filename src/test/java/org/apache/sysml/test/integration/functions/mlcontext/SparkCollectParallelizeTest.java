@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.mlcontext;
+
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.sql.SparkSession;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
+import org.apache.sysml.runtime.instructions.spark.data.PartitionedBlock;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Round trips of in-memory matrices and frames through the multi-threaded
+ * parallelize and streaming collect of binary-block RDDs.
+ */
+public class SparkCollectParallelizeTest extends AutomatedTestBase
+{
+	private final static int rows = 3567;
+	private final static int cols1 = 2345;
+	private final static int cols2 = 745;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.05;
+	private final static double eps = 1e-10;
+
+	private static SparkSession spark;
+	private static JavaSparkContext sc;
+
+	@BeforeClass
+	public static void setUpClass() {
+		spark = createSystemMLSparkSession("SparkCollectParallelizeTest", "local[4]");
+		sc = new JavaSparkContext(spark.sparkContext());
+	}
+
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+
+	@Test
+	public void testMatrixDenseMultiColBlocks() {
+		runMatrixRoundTrip(cols1, sparsity1);
+	}
+
+	@Test
+	public void testMatrixSparseMultiColBlocks() {
+		runMatrixRoundTrip(cols1, sparsity2);
+	}
+
+	@Test
+	public void testMatrixDenseSingleColBlock() {
+		runMatrixRoundTrip(cols2, sparsity1);
+	}
+
+	@Test
+	public void testMatrixSparseSingleColBlock() {
+		runMatrixRoundTrip(cols2, sparsity2);
+	}
+
+	@Test
+	public void testPartitionedMatrixBlock() {
+		try {
+			int blksz = ConfigurationManager.getBlocksize();
+			MatrixBlock mbA = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols1, -10, 10, sparsity2, 7));
+
+			//collect into partitioned block and compare to parallel partitioning
+			JavaPairRDD<MatrixIndexes,MatrixBlock> in = SparkExecutionContext
+				.toMatrixJavaPairRDD(sc, mbA, blksz, blksz).repartition(5);
+			PartitionedBlock<MatrixBlock> pmb1 = SparkExecutionContext
+				.toPartitionedMatrixBlock(in, rows, cols1, blksz, blksz, -1);
+			PartitionedBlock<MatrixBlock> pmb2 = new PartitionedBlock<>(mbA, blksz, blksz, 3);
+			for( int i=1; i<=pmb1.getNumRowBlocks(); i++ )
+				for( int j=1; j<=pmb1.getNumColumnBlocks(); j++ ) {
+					MatrixBlock b1 = pmb1.getBlock(i, j);
+					MatrixBlock b2 = pmb2.getBlock(i, j);
+					TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(b1),
+						DataConverter.convertToDoubleMatrix(b2), b1.getNumRows(), b1.getNumColumns(), eps);
+				}
+		}
+		catch( Exception ex ) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	@Test
+	public void testFrameMultiBlocks() {
+		try {
+			ValueType[] schema = new ValueType[]{ValueType.STRING,
+				ValueType.DOUBLE, ValueType.INT, ValueType.BOOLEAN};
+			FrameBlock fbA = new FrameBlock(schema);
+			fbA.ensureAllocatedColumns(rows);
+			for( int i=0; i<rows; i++ ) {
+				fbA.set(i, 0, "s"+i);
+				fbA.set(i, 1, (double)i/7);
+				fbA.set(i, 2, (long)i);
+				fbA.set(i, 3, i%3==0);
+			}
+			fbA.setColumnNames(new String[]{"a", "b", "c", "d"});
+
+			//parallelize and collect frame
+			JavaPairRDD<Long,FrameBlock> in = SparkExecutionContext
+				.toFrameJavaPairRDD(sc, fbA).repartition(3);
+			FrameBlock fbB = SparkExecutionContext.toFrameBlock(in, schema, rows, schema.length);
+
+			//compare frame blocks
+			Assert.assertArrayEquals(fbA.getColumnNames(), fbB.getColumnNames());
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<schema.length; j++ )
+					Assert.assertEquals(fbA.get(i, j), fbB.get(i, j));
+		}
+		catch( Exception ex ) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private void runMatrixRoundTrip(int cols, double sparsity) {
+		try {
+			int blksz = ConfigurationManager.getBlocksize();
+			double[][] A = getRandomMatrix(rows, cols, -10, 10, sparsity, 2373);
+			MatrixBlock mbA = DataConverter.convertToMatrixBlock(A);
+
+			//parallelize and collect matrix (w/ known nnz if sparse, for sparse target)
+			JavaPairRDD<MatrixIndexes,MatrixBlock> in = SparkExecutionContext
+				.toMatrixJavaPairRDD(sc, mbA, blksz, blksz).repartition(7);
+			long nnz = mbA.isInSparseFormat() ? mbA.getNonZeros() : -1;
+			MatrixBlock mbB = SparkExecutionContext.toMatrixBlock(in, rows, cols, blksz, blksz, nnz);
+			Assert.assertEquals(mbA.isInSparseFormat(), mbB.isInSparseFormat());
+
+			//compare matrix blocks, incl maintained nnz
+			Assert.assertEquals(mbA.getNonZeros(), mbB.getNonZeros());
+			Assert.assertEquals(mbB.getNonZeros(), mbB.recomputeNonZeros());
+			double[][] B = DataConverter.convertToDoubleMatrix(mbB);
+			TestUtils.compareMatrices(A, B, rows, cols, eps);
+		}
+		catch( Exception ex ) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		// stop underlying spark context to allow single jvm tests (otherwise the
+		// next test that tries to create a SparkContext would fail)
+		spark.stop();
+		sc = null;
+		spark = null;
+	}
+}
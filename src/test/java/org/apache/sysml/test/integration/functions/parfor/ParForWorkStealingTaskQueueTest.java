@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.parfor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.runtime.controlprogram.ParForProgramBlock.PTaskPartitioner;
+import org.apache.sysml.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysml.runtime.controlprogram.parfor.LocalWorkStealingTaskQueue;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+
+public class ParForWorkStealingTaskQueueTest extends AutomatedTestBase 
+{
+	private final static String TEST_DIR = "functions/parfor/";
+	private final static String TEST_NAME = "parfor_workstealing";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ParForWorkStealingTaskQueueTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 1000;
+	private final static int numTasks = 200000;
+	private final static int numWorkers = 8;
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "R" }) );
+	}
+	
+	@Test
+	public void testQueueStreamingConsumers() throws Exception {
+		runTaskQueueTest(true);
+	}
+	
+	@Test
+	public void testQueuePrefilledConsumers() throws Exception {
+		runTaskQueueTest(false);
+	}
+	
+	@Test
+	public void testParForWorkStealingNaive() {
+		runParForWorkStealingTest(PTaskPartitioner.NAIVE);
+	}
+	
+	@Test
+	public void testParForWorkStealingFactoring() {
+		runParForWorkStealingTest(PTaskPartitioner.FACTORING);
+	}
+	
+	private static void runTaskQueueTest(boolean streaming) 
+		throws Exception
+	{
+		LocalWorkStealingTaskQueue<Integer> queue = new LocalWorkStealingTaskQueue<>(numWorkers);
+		AtomicIntegerArray consumed = new AtomicIntegerArray(numTasks);
+		if( !streaming ) {
+			for( int i=0; i<numTasks; i++ )
+				queue.enqueueTask(i);
+			queue.closeInput();
+		}
+		
+		//concurrent consumers with worker-local deques
+		ExecutorService pool = Executors.newFixedThreadPool(numWorkers);
+		try {
+			ArrayList<Future<?>> rt = new ArrayList<>();
+			for( int i=0; i<numWorkers; i++ ) {
+				final int pos = i;
+				rt.add(pool.submit(() -> {
+					Integer t = null;
+					while( (t = queue.dequeueTask(pos)) != LocalTaskQueue.NO_MORE_TASKS )
+						consumed.incrementAndGet(t);
+					return null;
+				}));
+			}
+			if( streaming ) {
+				for( int i=0; i<numTasks; i++ )
+					queue.enqueueTask(i);
+				queue.closeInput();
+			}
+			for( Future<?> task : rt )
+				task.get();
+		}
+		finally {
+			pool.shutdown();
+		}
+		
+		//check that every task was consumed exactly once
+		for( int i=0; i<numTasks; i++ )
+			Assert.assertEquals("Wrong consumption of task "+i, 1, consumed.get(i));
+	}
+	
+	private void runParForWorkStealingTest( PTaskPartitioner partitioner )
+	{
+		TestConfiguration config = getTestConfiguration(TEST_NAME);
+		loadTestConfiguration(config);
+		
+		String HOME = SCRIPT_DIR + TEST_DIR;
+		fullDMLScriptName = HOME + TEST_NAME + ".dml";
+		programArgs = new String[]{"-args", String.valueOf(rows), 
+			partitioner.name(), output("R") };
+		
+		//run test
+		runTest(true, false, null, -1);
+		
+		//compare with expected results
+		HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromHDFS("R");
+		HashMap<CellIndex, Double> expected = new HashMap<>();
+		for( int i=1; i<=rows; i++ ) {
+			int m = i % 7 + 1;
+			expected.put(new CellIndex(i, 1), (double)i * i);
+			expected.put(new CellIndex(i, 2), (double)m * (m+1) / 2);
+		}
+		TestUtils.compareMatrices(dmlfile, expected, 0, "DML", "Expected");
+	}
+}
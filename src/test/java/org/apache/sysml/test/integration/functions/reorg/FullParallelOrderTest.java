@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.reorg;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares the multi-threaded sort kernels of order and quantile 
+ * sorting against their single-threaded counterparts, incl stable
+ * index return over inputs with many duplicates.
+ */
+public class FullParallelOrderTest extends AutomatedTestBase
+{
+	private final static int rows = 1234567;
+	private final static int cols = 3;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.1;
+	private final static int k = 4;
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testOrderDataDenseVectorAsc() {
+		runParallelOrderTest(1, sparsity1, false, false);
+	}
+	
+	@Test
+	public void testOrderDataDenseVectorDesc() {
+		runParallelOrderTest(1, sparsity1, true, false);
+	}
+	
+	@Test
+	public void testOrderIndexDenseVectorAsc() {
+		runParallelOrderTest(1, sparsity1, false, true);
+	}
+	
+	@Test
+	public void testOrderIndexDenseVectorDesc() {
+		runParallelOrderTest(1, sparsity1, true, true);
+	}
+	
+	@Test
+	public void testOrderDataDenseMatrixAsc() {
+		runParallelOrderTest(cols, sparsity1, false, false);
+	}
+	
+	@Test
+	public void testOrderIndexSparseMatrixDesc() {
+		runParallelOrderTest(cols, sparsity2, true, true);
+	}
+	
+	@Test
+	public void testOrderDataSparseMatrixAsc() {
+		runParallelOrderTest(cols, sparsity2, false, false);
+	}
+	
+	@Test
+	public void testQuantileSortUnweighted() {
+		runParallelQuantileSortTest(false);
+	}
+	
+	@Test
+	public void testQuantileSortWeighted() {
+		runParallelQuantileSortTest(true);
+	}
+	
+	private static void runParallelOrderTest(int ncol, double sp, boolean desc, boolean ixret)
+	{
+		try
+		{
+			//generate input with many duplicates (for stable index return)
+			MatrixBlock mb = createInput(rows, ncol, sp, 7);
+			int by = ncol;
+			int ocol = ixret ? 1 : ncol;
+			
+			//single- and multi-threaded sort
+			MatrixBlock ret1 = LibMatrixReorg.sort(mb, new MatrixBlock(rows, ocol, false), by, desc, ixret, 1);
+			MatrixBlock ret2 = LibMatrixReorg.sort(mb, new MatrixBlock(rows, ocol, false), by, desc, ixret, k);
+			
+			//compare results
+			compareResults(ret1, ret2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runParallelQuantileSortTest(boolean weighted)
+	{
+		try
+		{
+			MatrixBlock mb = createInput(rows, 1, sparsity1, 7);
+			MatrixBlock wt = weighted ? createInput(rows, 1, 1.0, 3) : null;
+			
+			//single- and multi-threaded quantile sort
+			MatrixBlock ret1 = (MatrixBlock) mb.sortOperations(wt, new MatrixBlock(), 1);
+			MatrixBlock ret2 = (MatrixBlock) mb.sortOperations(wt, new MatrixBlock(), k);
+			
+			//compare results
+			compareResults(ret1, ret2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static MatrixBlock createInput(int rlen, int clen, double sp, long seed) 
+		throws DMLRuntimeException
+	{
+		double[][] A = TestUtils.generateTestMatrix(rlen, clen, 0, 100, sp, seed);
+		for( int i=0; i<rlen; i++ )
+			for( int j=0; j<clen; j++ )
+				A[i][j] = Math.ceil(A[i][j]);
+		MatrixBlock ret = DataConverter.convertToMatrixBlock(A);
+		ret.examSparsity();
+		return ret;
+	}
+	
+	private static void compareResults(MatrixBlock ret1, MatrixBlock ret2) {
+		Assert.assertEquals("Wrong number of non-zeros.", ret1.getNonZeros(), ret2.getNonZeros());
+		double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+		double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+		TestUtils.compareMatrices(d1, d2, ret1.getNumRows(), ret1.getNumColumns(), 0);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.transform.encode.Encoder;
+import org.apache.sysml.runtime.transform.encode.EncoderFactory;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+public class TransformFrameEncodeMultithreadedTest extends AutomatedTestBase
+{
+	private static final int rows = 23456;
+	private static final int numThreads = 4;
+	private static final String[] colnames = new String[]{"C1", "C2", "C3", "C4", "C5"};
+
+	private static final String SPEC_RECODE = "{ids:true, recode:[1,2,5]}";
+	private static final String SPEC_DUMMY = "{ids:true, recode:[1], dummycode:[2,5]}";
+	private static final String SPEC_DUMMY_SPARSE = "{ids:true, recode:[5], dummycode:[1,2,3]}";
+	private static final String SPEC_BIN = "{ids:true, recode:[1,5], bin:["
+		+ "{id:3, method:\"equi-width\", numbins:4}, {id:4, method:\"equi-width\", numbins:3}]}";
+	private static final String SPEC_IMPUTE = "{ids:true, recode:[1,5], impute:["
+		+ "{id:5, method:\"global_mode\"}, {id:4, method:\"global_mean\"}]}";
+
+	@Override
+	public void setUp()  {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testTransformEncodeRecode() {
+		runTransformEncodeTest(SPEC_RECODE);
+	}
+
+	@Test
+	public void testTransformEncodeDummycode() {
+		runTransformEncodeTest(SPEC_DUMMY);
+	}
+
+	@Test
+	public void testTransformEncodeDummycodeSparse() {
+		runTransformEncodeTest(SPEC_DUMMY_SPARSE);
+	}
+
+	@Test
+	public void testTransformEncodeBin() {
+		runTransformEncodeTest(SPEC_BIN);
+	}
+
+	@Test
+	public void testTransformEncodeImpute() {
+		runTransformEncodeTest(SPEC_IMPUTE);
+	}
+
+	private void runTransformEncodeTest(String spec) {
+		try {
+			//generate input data w/ low and high cardinality columns, and missing values
+			FrameBlock data = createInputFrame(rows, 7);
+
+			//execute single- and multi-threaded transform encode
+			Encoder encoder1 = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), null);
+			MatrixBlock out1 = encoder1.encode(data, new MatrixBlock(rows, data.getNumColumns(), false));
+			FrameBlock meta1 = encoder1.getMetaData(new FrameBlock(data.getNumColumns(), ValueType.STRING));
+			Encoder encoder2 = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), null);
+			MatrixBlock out2 = encoder2.encode(data, new MatrixBlock(rows, data.getNumColumns(), false), numThreads);
+			FrameBlock meta2 = encoder2.getMetaData(new FrameBlock(data.getNumColumns(), ValueType.STRING));
+
+			//check encoded outputs, incl maintained nnz
+			Assert.assertEquals(out1.getNumRows(), out2.getNumRows());
+			Assert.assertEquals(out1.getNumColumns(), out2.getNumColumns());
+			Assert.assertEquals(out1.getNonZeros(), out2.getNonZeros());
+			Assert.assertEquals(out2.recomputeNonZeros(), out2.getNonZeros());
+			for( int i=0; i<out1.getNumRows(); i++ )
+				for( int j=0; j<out1.getNumColumns(); j++ )
+					Assert.assertEquals(out1.quickGetValue(i, j), out2.quickGetValue(i, j), 0);
+
+			//check meta data (identical recode maps)
+			Assert.assertEquals(meta1.getNumRows(), meta2.getNumRows());
+			for( int j=0; j<meta1.getNumColumns(); j++ ) {
+				Assert.assertEquals(meta1.getColumnMetadata(j).getNumDistinct(),
+					meta2.getColumnMetadata(j).getNumDistinct());
+				for( int i=0; i<meta1.getNumRows(); i++ )
+					Assert.assertEquals(meta1.get(i, j), meta2.get(i, j));
+			}
+		}
+		catch (DMLRuntimeException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static FrameBlock createInputFrame(int rows, long seed) {
+		ValueType[] schema = new ValueType[]{ValueType.STRING,
+			ValueType.STRING, ValueType.INT, ValueType.DOUBLE, ValueType.STRING};
+		FrameBlock ret = new FrameBlock(schema, colnames);
+		ret.ensureAllocatedColumns(rows);
+		Random rand = new Random(seed);
+		for( int i=0; i<rows; i++ ) {
+			ret.set(i, 0, "a" + rand.nextInt(7));
+			ret.set(i, 1, "b" + rand.nextInt(1000));
+			ret.set(i, 2, (long)rand.nextInt(300));
+			ret.set(i, 3, (rand.nextDouble() < 0.3) ? 0d : rand.nextDouble());
+			int tmp = rand.nextInt(20);
+			ret.set(i, 4, (tmp==0) ? null : (tmp==1) ? "" : "c" + tmp);
+		}
+		return ret;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.unary.matrix;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.CholeskyDecomposition;
+import org.apache.commons.math3.linear.EigenDecomposition;
+import org.apache.commons.math3.linear.QRDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.LibMatrixDecomp;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares the native single- and multi-threaded decompositions of 
+ * cholesky, qr, solve, inverse, and eigen against their commons-math counterparts.
+ */
+public class FullNativeDecompositionTest extends AutomatedTestBase
+{
+	private final static int rows = 417;
+	private final static int cols = 301;
+	private final static double eps = 1e-8;
+	
+	@Override
+	public void setUp() {
+		
+	}
+	
+	@Test
+	public void testCholeskySingleThreaded() {
+		runCholeskyTest(1);
+	}
+	
+	@Test
+	public void testCholeskyMultiThreaded() {
+		runCholeskyTest(4);
+	}
+	
+	@Test
+	public void testQRSingleThreaded() {
+		runQRTest(1);
+	}
+	
+	@Test
+	public void testQRMultiThreaded() {
+		runQRTest(4);
+	}
+	
+	@Test
+	public void testSolveSingleThreaded() {
+		runSolveTest(1);
+	}
+	
+	@Test
+	public void testSolveMultiThreaded() {
+		runSolveTest(4);
+	}
+	
+	@Test
+	public void testInverseSingleThreaded() {
+		runInverseTest(1);
+	}
+	
+	@Test
+	public void testInverseMultiThreaded() {
+		runInverseTest(4);
+	}
+	
+	@Test
+	public void testEigenSingleThreaded() {
+		runEigenTest(1);
+	}
+	
+	@Test
+	public void testEigenMultiThreaded() {
+		runEigenTest(4);
+	}
+	
+	@Test
+	public void testEigenNonSymmetric() {
+		try {
+			//non-symmetric inputs are left to commons-math
+			double[][] A = TestUtils.generateTestMatrix(cols, cols, 0, 1, 1.0, 5);
+			Assert.assertNull(LibMatrixDecomp.eigen(createInput(A), 4));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runCholeskyTest(int k)
+	{
+		try
+		{
+			//symmetric positive definite input: X^T X + n I
+			double[][] X = TestUtils.generateTestMatrix(rows, cols, -1, 1, 1.0, 7);
+			double[][] A = new double[cols][cols];
+			for( int i=0; i<cols; i++ )
+				for( int j=0; j<cols; j++ ) {
+					for( int l=0; l<rows; l++ )
+						A[i][j] += X[l][i] * X[l][j];
+					A[i][j] += (i==j) ? cols : 0;
+				}
+			
+			//native and commons cholesky
+			MatrixBlock ret = LibMatrixDecomp.cholesky(createInput(A), k);
+			RealMatrix L = new CholeskyDecomposition(new Array2DRowRealMatrix(A, false)).getL();
+			compareResults(L.getData(), ret);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runQRTest(int k)
+	{
+		try
+		{
+			double[][] A = TestUtils.generateTestMatrix(rows, cols, 0, 1, 0.7, 3);
+			
+			//native and commons qr
+			MatrixBlock[] ret = LibMatrixDecomp.qr(createInput(A), k);
+			QRDecomposition qr = new QRDecomposition(new Array2DRowRealMatrix(A, false));
+			compareResults(qr.getH().getData(), ret[0]);
+			compareResults(qr.getR().getData(), ret[1]);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runSolveTest(int k)
+	{
+		try
+		{
+			double[][] A = TestUtils.generateTestMatrix(rows, cols, 0, 1, 0.7, 3);
+			double[][] y = TestUtils.generateTestMatrix(rows, 3, 0, 1, 1.0, 11);
+			
+			//native and commons least-squares solve
+			MatrixBlock ret = LibMatrixDecomp.solve(createInput(A), createInput(y), k);
+			RealMatrix x = new QRDecomposition(new Array2DRowRealMatrix(A, false))
+				.getSolver().solve(new Array2DRowRealMatrix(y, false));
+			compareResults(x.getData(), ret);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runInverseTest(int k)
+	{
+		try
+		{
+			//diagonally dominant (hence non-singular) input
+			double[][] A = TestUtils.generateTestMatrix(cols, cols, 0, 1, 1.0, 5);
+			for( int i=0; i<cols; i++ )
+				A[i][i] += cols;
+			
+			//native and commons inverse
+			MatrixBlock ret = LibMatrixDecomp.inverse(createInput(A), k);
+			RealMatrix Ainv = new QRDecomposition(new Array2DRowRealMatrix(A, false))
+				.getSolver().getInverse();
+			compareResults(Ainv.getData(), ret);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void runEigenTest(int k)
+	{
+		try
+		{
+			//symmetric input: X^T X
+			double[][] X = TestUtils.generateTestMatrix(rows, cols, -1, 1, 1.0, 7);
+			double[][] A = new double[cols][cols];
+			for( int i=0; i<cols; i++ )
+				for( int j=0; j<cols; j++ )
+					for( int l=0; l<rows; l++ )
+						A[i][j] += X[l][i] * X[l][j];
+			
+			//native eigen, compared via sorted commons eigen values
+			MatrixBlock[] ret = LibMatrixDecomp.eigen(createInput(A), k);
+			double[] evals = new EigenDecomposition(
+				new Array2DRowRealMatrix(A, false)).getRealEigenvalues();
+			double[][] E = new double[cols][1];
+			for( int i=0; i<cols; i++ )
+				E[cols-i-1][0] = evals[i]; //commons sorts descending
+			compareResults(E, ret[0]);
+			
+			//eigen vectors (unique up to sign) via residuals A V = V diag(E)
+			double[][] V = DataConverter.convertToDoubleMatrix(ret[1]);
+			double[][] AV = new double[cols][cols];
+			double[][] VE = new double[cols][cols];
+			for( int i=0; i<cols; i++ )
+				for( int j=0; j<cols; j++ ) {
+					for( int l=0; l<cols; l++ )
+						AV[i][j] += A[i][l] * V[l][j];
+					VE[i][j] = V[i][j] * E[j][0];
+				}
+			TestUtils.compareMatrices(AV, VE, cols, cols, eps);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static MatrixBlock createInput(double[][] A) 
+		throws DMLRuntimeException
+	{
+		MatrixBlock ret = DataConverter.convertToMatrixBlock(A);
+		ret.examSparsity();
+		return ret;
+	}
+	
+	private static void compareResults(double[][] expected, MatrixBlock ret) {
+		double[][] d = DataConverter.convertToDoubleMatrix(ret);
+		TestUtils.compareMatrices(expected, d, expected.length, expected[0].length, eps);
+	}
+}
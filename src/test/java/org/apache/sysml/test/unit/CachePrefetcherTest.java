@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.unit;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.runtime.controlprogram.caching.CachePrefetcher;
+import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * To test the asynchronous prefetch of evicted cache blocks,
+ * including the prefetch hit and wasted prefetch statistics.
+ */
+public class CachePrefetcherTest {
+
+	private static final int rows = 300;
+	private static final int cols = 200;
+
+	private File _dir = null;
+	private boolean _stats = false;
+
+	@Before
+	public void setUp() throws Exception {
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CACHING_PREFETCH, "true");
+		ConfigurationManager.setLocalConfig(conf);
+		LazyWriteBuffer.init();
+		_dir = Files.createTempDirectory("prefetch").toFile();
+		_stats = DMLScript.STATISTICS;
+		DMLScript.STATISTICS = true;
+		CacheStatistics.reset();
+	}
+
+	@After
+	public void tearDown() {
+		LazyWriteBuffer.cleanup();
+		ConfigurationManager.clearLocalConfigs();
+		LocalFileUtils.deleteFileIfExists(_dir.getAbsolutePath(), true);
+		DMLScript.STATISTICS = _stats;
+	}
+
+	@Test
+	public void testPrefetchHit() throws Exception {
+		Assert.assertTrue(CachePrefetcher.isEnabled());
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 0.1, -1, 1, "uniform", 3);
+		String fname = fname(1);
+		LocalFileUtils.writeCacheBlockToLocal(fname, mb);
+
+		CachePrefetcher.prefetch(fname, true, mb.getInMemorySize());
+		MatrixBlock mb2 = (MatrixBlock) CachePrefetcher.getPrefetched(fname);
+		Assert.assertNotNull(mb2);
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(mb),
+			DataConverter.convertToDoubleMatrix(mb2), rows, cols, 1e-10);
+
+		//consumed prefetch not available anymore
+		Assert.assertNull(CachePrefetcher.getPrefetched(fname));
+		Assert.assertEquals(1, CacheStatistics.getPrefetches());
+		Assert.assertEquals(1, CacheStatistics.getPrefetchHits());
+		Assert.assertEquals(0, CacheStatistics.getPrefetchWasted());
+	}
+
+	@Test
+	public void testPrefetchWastedOnDelete() throws Exception {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 7);
+		String fname = fname(2);
+		LocalFileUtils.writeCacheBlockToLocal(fname, mb);
+
+		CachePrefetcher.prefetch(fname, true, mb.getInMemorySize());
+		LazyWriteBuffer.deleteBlock(fname);
+		Assert.assertNull(CachePrefetcher.getPrefetched(fname));
+		Assert.assertEquals(1, CacheStatistics.getPrefetches());
+		Assert.assertEquals(0, CacheStatistics.getPrefetchHits());
+		Assert.assertEquals(1, CacheStatistics.getPrefetchWasted());
+	}
+
+	@Test
+	public void testPrefetchBudget() throws Exception {
+		String fname = fname(3);
+		CachePrefetcher.prefetch(fname, true, Long.MAX_VALUE/2);
+		Assert.assertNull(CachePrefetcher.getPrefetched(fname));
+		Assert.assertEquals(0, CacheStatistics.getPrefetches());
+	}
+
+	private String fname(int i) {
+		return _dir.getAbsolutePath() + File.separator + "cache" + i + ".dat";
+	}
+}
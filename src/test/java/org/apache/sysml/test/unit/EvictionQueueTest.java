@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.unit;
+
+import org.apache.sysml.runtime.controlprogram.caching.ByteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.EvictionQueue;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * To test the victim selection of the buffer pool replacement policies
+ */
+public class EvictionQueueTest {
+
+	@Test
+	public void testFIFO() {
+		EvictionQueue q = createQueue(RPolicy.FIFO, 100, 100, 100);
+		q.get("a");
+		assertVictims(q, "a", "b", "c");
+	}
+
+	@Test
+	public void testLRU() {
+		EvictionQueue q = createQueue(RPolicy.LRU, 100, 100, 100);
+		q.get("a");
+		assertVictims(q, "b", "c", "a");
+	}
+
+	@Test
+	public void testSizeLRU() {
+		EvictionQueue q = createQueue(RPolicy.LRU_SIZE, 100, 100000, 100);
+		q.get("c");
+		assertVictims(q, "b", "a", "c");
+	}
+
+	@Test
+	public void testLFU() {
+		EvictionQueue q = createQueue(RPolicy.LFU, 100, 100, 100);
+		q.get("a");
+		q.get("a");
+		q.get("c");
+		assertVictims(q, "b", "c", "a");
+	}
+
+	@Test
+	public void testCostReuseHints() {
+		EvictionQueue q = EvictionQueue.createEvictionQueue(RPolicy.COST);
+		q.addLast("a", new ByteBuffer(100), 2);
+		q.addLast("b", new ByteBuffer(100), 0);
+		q.addLast("c", new ByteBuffer(100), 1);
+		assertVictims(q, "b", "c", "a");
+	}
+
+	@Test
+	public void testCostSize() {
+		//large blocks have lower restore cost per byte
+		EvictionQueue q = createQueue(RPolicy.COST, 1000, 100000000, 1000);
+		assertVictims(q, "b", "a", "c");
+	}
+
+	@Test
+	public void testRemove() {
+		EvictionQueue q = createQueue(RPolicy.LFU, 100, 100, 100);
+		Assert.assertNotNull(q.remove("b"));
+		Assert.assertNull(q.get("b"));
+		Assert.assertEquals(2, q.size());
+		assertVictims(q, "a", "c");
+	}
+
+	private static EvictionQueue createQueue(RPolicy policy, long... sizes) {
+		EvictionQueue q = EvictionQueue.createEvictionQueue(policy);
+		Assert.assertEquals(policy, q.getPolicy());
+		for( int i=0; i<sizes.length; i++ )
+			q.addLast(String.valueOf((char)('a'+i)), new ByteBuffer(sizes[i]), 0);
+		return q;
+	}
+
+	private static void assertVictims(EvictionQueue q, String... fnames) {
+		for( String fname : fnames )
+			Assert.assertEquals(fname, q.removeVictim().getKey());
+		Assert.assertTrue(q.isEmpty());
+	}
+}
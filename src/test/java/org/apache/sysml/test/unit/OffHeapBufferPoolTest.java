@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.unit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysml.runtime.controlprogram.caching.OffHeapBufferPool;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * To test the off-heap buffer pool for evicted cache blocks, including
+ * the spilling to local disk if the off-heap buffer limit is exceeded.
+ */
+public class OffHeapBufferPoolTest {
+
+	private static final int rows = 100;
+	private static final int cols = 100;
+	private static final double eps = 1e-10;
+
+	private File _dir = null;
+
+	@Before
+	public void setUp() throws Exception {
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CACHING_OFFHEAP_SIZE, "1");
+		ConfigurationManager.setLocalConfig(conf);
+		OffHeapBufferPool.init();
+		_dir = Files.createTempDirectory("offheap").toFile();
+	}
+
+	@After
+	public void tearDown() {
+		OffHeapBufferPool.cleanup();
+		ConfigurationManager.clearLocalConfigs();
+		LocalFileUtils.deleteFileIfExists(_dir.getAbsolutePath(), true);
+	}
+
+	@Test
+	public void testExplicitFreeSupported() {
+		//required to bound the native memory by the buffer limit
+		Assert.assertTrue(OffHeapBufferPool.isExplicitFreeSupported());
+		Assert.assertTrue(OffHeapBufferPool.isEnabled());
+	}
+
+	@Test
+	public void testDenseMatrixRoundtrip() throws Exception {
+		runMatrixRoundtrip(0.9);
+	}
+
+	@Test
+	public void testSparseMatrixRoundtrip() throws Exception {
+		runMatrixRoundtrip(0.05);
+	}
+
+	@Test
+	public void testFrameRoundtrip() throws Exception {
+		ValueType[] schema = new ValueType[]{ValueType.STRING, ValueType.DOUBLE, ValueType.INT, ValueType.BOOLEAN};
+		FrameBlock fb = new FrameBlock(schema);
+		for( int i=0; i<rows; i++ )
+			fb.appendRow(new Object[]{"row"+i+"ä", (double)i/7, (long)i, i%2==0});
+		String fname = fname(0);
+		Assert.assertTrue(OffHeapBufferPool.writeBlock(fname, fb));
+		FrameBlock fb2 = (FrameBlock) OffHeapBufferPool.readBlock(fname);
+		Assert.assertEquals(rows, fb2.getNumRows());
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<schema.length; j++ )
+				Assert.assertEquals(fb.get(i, j), fb2.get(i, j));
+	}
+
+	@Test
+	public void testSpillToDisk() throws Exception {
+		//~80KB per block, i.e., ~1.6MB in total for a 1MB limit
+		int num = 20;
+		MatrixBlock[] mbs = new MatrixBlock[num];
+		for( int i=0; i<num; i++ ) {
+			mbs[i] = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", i);
+			Assert.assertTrue(OffHeapBufferPool.writeBlock(fname(i), mbs[i]));
+		}
+		Assert.assertTrue(OffHeapBufferPool.getSize() <= OffHeapBufferPool.getLimit());
+		
+		//first blocks spilled to disk, last block still off-heap
+		Assert.assertNull(OffHeapBufferPool.readBlock(fname(0)));
+		Assert.assertTrue(new File(fname(0)).exists());
+		Assert.assertFalse(new File(fname(num-1)).exists());
+		for( int i=0; i<num; i++ ) {
+			CacheBlock cb = OffHeapBufferPool.readBlock(fname(i));
+			if( cb == null )
+				cb = LocalFileUtils.readCacheBlockFromLocal(fname(i), true);
+			compare(mbs[i], (MatrixBlock)cb);
+		}
+		
+		//delete of off-heap entries
+		Assert.assertTrue(OffHeapBufferPool.deleteBlock(fname(num-1)));
+		Assert.assertNull(OffHeapBufferPool.readBlock(fname(num-1)));
+	}
+
+	private void runMatrixRoundtrip(double sparsity) throws Exception {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+		String fname = fname(0);
+		Assert.assertTrue(OffHeapBufferPool.writeBlock(fname, mb));
+		Assert.assertTrue(OffHeapBufferPool.writeBytes(fname(1), toBytes(mb), true));
+		compare(mb, (MatrixBlock)OffHeapBufferPool.readBlock(fname));
+		compare(mb, (MatrixBlock)OffHeapBufferPool.readBlock(fname(1)));
+	}
+
+	private static byte[] toBytes(MatrixBlock mb) throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		DataOutputStream dos = new DataOutputStream(bos);
+		mb.write(dos);
+		dos.flush();
+		return bos.toByteArray();
+	}
+
+	private static void compare(MatrixBlock expected, MatrixBlock actual) throws Exception {
+		Assert.assertEquals(expected.getNonZeros(), actual.getNonZeros());
+		Assert.assertEquals(expected.isInSparseFormat(), actual.isInSparseFormat());
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(expected),
+			DataConverter.convertToDoubleMatrix(actual), rows, cols, eps);
+	}
+
+	private String fname(int i) {
+		return _dir.getAbsolutePath() + File.separator + "cache" + i + ".dat";
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.unit;
+
+import org.apache.sysml.lops.Lop;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.instructions.cp.QuantileSortCPInstruction;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the parsing of sort instructions with and without the trailing
+ * number of threads, where the latter covers previously compiled plans.
+ */
+public class QuantileSortParseTest 
+{
+	@Test
+	public void testParseUnweightedLegacy() throws DMLRuntimeException {
+		QuantileSortCPInstruction inst = parse("A", "B");
+		checkOperands(inst, "A", null, "B", 1);
+	}
+	
+	@Test
+	public void testParseUnweighted() throws DMLRuntimeException {
+		QuantileSortCPInstruction inst = parse("A", "B", "7");
+		checkOperands(inst, "A", null, "B", 7);
+	}
+	
+	@Test
+	public void testParseWeightedLegacy() throws DMLRuntimeException {
+		QuantileSortCPInstruction inst = parse("A", "W", "B");
+		checkOperands(inst, "A", "W", "B", 1);
+	}
+	
+	@Test
+	public void testParseWeighted() throws DMLRuntimeException {
+		QuantileSortCPInstruction inst = parse("A", "W", "B", "7");
+		checkOperands(inst, "A", "W", "B", 7);
+	}
+	
+	@Test(expected=DMLRuntimeException.class)
+	public void testParseInvalid() throws DMLRuntimeException {
+		parse("A", "W", "V", "B", "7");
+	}
+	
+	private static QuantileSortCPInstruction parse(String... operands) 
+		throws DMLRuntimeException 
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("CP");
+		sb.append(Lop.OPERAND_DELIMITOR);
+		sb.append("sort");
+		for( String op : operands ) {
+			sb.append(Lop.OPERAND_DELIMITOR);
+			sb.append(Character.isDigit(op.charAt(0)) ? op : 
+				op + Lop.DATATYPE_PREFIX + "MATRIX" + Lop.VALUETYPE_PREFIX + "DOUBLE");
+		}
+		return QuantileSortCPInstruction.parseInstruction(sb.toString());
+	}
+	
+	private static void checkOperands(QuantileSortCPInstruction inst, 
+		String in1, String in2, String out, int k) 
+	{
+		Assert.assertEquals(in1, inst.input1.getName());
+		if( in2 != null )
+			Assert.assertEquals(in2, inst.input2.getName());
+		else
+			Assert.assertNull(inst.input2);
+		Assert.assertEquals(out, inst.output.getName());
+		Assert.assertEquals(k, inst.getNumThreads());
+	}
+}
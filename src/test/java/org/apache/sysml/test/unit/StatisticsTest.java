@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.unit;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.sysml.utils.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * To test the concurrent maintenance of heavy hitter statistics
+ */
+public class StatisticsTest {
+
+	private static final int numThreads = 8;
+	private static final int numIterations = 100000;
+	private static final String[] opcodes = new String[]{"ba+*", "uak+", "rand", "+"};
+
+	@Test
+	public void testConcurrentHeavyHitters() throws Exception {
+		Statistics.resetCPHeavyHitters();
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		try {
+			ArrayList<Future<?>> rt = new ArrayList<>();
+			for( int i=0; i<numThreads; i++ )
+				rt.add(pool.submit(() -> {
+					for( int j=0; j<numIterations; j++ )
+						Statistics.maintainCPHeavyHitters(opcodes[j % opcodes.length], opcodes.length - j % opcodes.length);
+				}));
+			for( Future<?> task : rt )
+				task.get();
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		Assert.assertEquals(opcodes.length, Statistics.getCPHeavyHitterOpCodes().size());
+		for( String opcode : opcodes )
+			Assert.assertEquals((long)numThreads*numIterations/opcodes.length,
+				Statistics.getCPHeavyHitterCount(opcode));
+		String hh = Statistics.getHeavyHitters(2);
+		Assert.assertTrue(hh.contains("ba+*") && hh.contains("uak+") && !hh.contains("rand"));
+		Statistics.resetCPHeavyHitters();
+	}
+
+	@Test
+	public void testMissingHeavyHitter() {
+		Statistics.resetCPHeavyHitters();
+		Assert.assertEquals(0, Statistics.getCPHeavyHitterCount("ba+*"));
+		Assert.assertEquals("-", Statistics.getHeavyHitters(10));
+	}
+}
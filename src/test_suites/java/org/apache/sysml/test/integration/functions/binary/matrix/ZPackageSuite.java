@@ -28,6 +28,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	BinUaggChainTest.class,
 	CentralMomentTest.class,
+	CoPartitionedJoinTest.class,
 	CovarianceTest.class,
 	DiagMatrixMultiplicationTest.class,
 	ElementwiseAdditionMultiplicationTest.class,
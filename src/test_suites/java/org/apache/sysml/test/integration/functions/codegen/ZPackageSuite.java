@@ -38,6 +38,8 @@ import org.junit.runners.Suite;
 	AlgorithmPNMF.class,
 	APICodegenTest.class,
 	CellwiseTmplTest.class,
+	CodegenAsyncCompileTest.class,
+	CodegenClassCacheTest.class,
 	CompressedCellwiseTest.class,
 	CompressedMultiAggregateTest.class,
 	CompressedOuterProductTest.class,
@@ -52,6 +54,7 @@ import org.junit.runners.Suite;
 	RowAggTmplTest.class,
 	RowVectorComparisonTest.class,
 	SumProductChainTest.class,
+	VectorPrimitivesSIMDTest.class,
 })
 
 
@@ -26,21 +26,29 @@ import org.junit.runners.Suite;
  *  won't run two of them at once. */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+	BasicCoCodingPlannerTest.class,
 	BasicCompressionTest.class,
+	BasicExtendedColGroupsTest.class,
 	BasicGetValueTest.class,
 	BasicMatrixAppendTest.class,
 	BasicMatrixCentralMomentTest.class,
 	BasicMatrixMultChainTest.class,
+	BasicMatrixMultTest.class,
 	BasicMatrixQuantileTest.class,
+	BasicMatrixRowVectorOperationsTest.class,
+	BasicMatrixSliceTest.class,
 	BasicMatrixTransposeSelfMultTest.class,
 	BasicMatrixVectorMultTest.class,
 	BasicScalarOperationsSparseUnsafeTest.class,
 	BasicScalarOperationsTest.class,
 	BasicTransposeSelfLeftMatrixMultTest.class,
 	BasicUnaryAggregateTest.class,
+	BasicUnaryOperationsTest.class,
 	BasicVectorMatrixMultTest.class,
+	CompressedBroadcastTest.class,
 	CompressedL2SVM.class,
 	CompressedLinregCG.class,
+	CompressedReadWriteTest.class,
 	CompressedSerializationTest.class,
 	LargeCompressionTest.class,
 	LargeMatrixVectorMultTest.class,
@@ -49,6 +57,7 @@ import org.junit.runners.Suite;
 	LargeVectorMatrixMultTest.class,
 	ParCompressionTest.class,
 	ParMatrixMultChainTest.class,
+	ParMatrixMultTest.class,
 	ParMatrixVectorMultTest.class,
 	ParTransposeSelfLeftMatrixMultTest.class,
 	ParUnaryAggregateTest.class,
@@ -42,6 +42,7 @@ import org.junit.runners.Suite;
 	ParForRowwiseDataPartitioningTest.class,
 	ParForRulebasedOptimizerTest.class,
 	ParForSerialRemoteResultMergeTest.class,
+	ParForWorkStealingTaskQueueTest.class,
 })
 
 
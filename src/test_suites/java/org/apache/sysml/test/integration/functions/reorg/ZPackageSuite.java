@@ -28,6 +28,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	DiagV2MTest.class,
 	FullOrderTest.class,
+	FullParallelOrderTest.class,
 	FullReverseTest.class,
 	FullTransposeTest.class,
 	MatrixReshapeTest.class,
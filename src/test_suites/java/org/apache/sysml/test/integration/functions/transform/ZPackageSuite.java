@@ -36,6 +36,7 @@ import org.junit.runners.Suite;
 	TransformFrameEncodeColmapTest.class,
 	TransformFrameEncodeDecodeTest.class,
 	TransformFrameEncodeDecodeTokenTest.class,
+	TransformFrameEncodeMultithreadedTest.class,
 })
 
 
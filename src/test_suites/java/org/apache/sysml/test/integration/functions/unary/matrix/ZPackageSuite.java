@@ -33,6 +33,7 @@ import org.junit.runners.Suite;
 	CastAsScalarTest.class,
 	CosTest.class,
 	DiagTest.class,
+	FullNativeDecompositionTest.class,
 	EigenFactorizeTest.class,
 	FullCummaxTest.class,
 	FullCumminTest.class,